@@ -6,7 +6,9 @@ import static auth.AuthUtils.SESSION_COOKIE_GMS_TOKEN_NAME;
 import akka.actor.ActorSystem;
 import akka.stream.ActorMaterializer;
 import akka.stream.Materializer;
+import akka.stream.javadsl.Source;
 import akka.util.ByteString;
+import akka.util.ByteStringBuilder;
 import auth.Authenticator;
 import com.datahub.authentication.AuthenticationConstants;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -31,10 +33,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import play.Environment;
 import play.http.HttpEntity;
+import play.libs.F;
 import play.libs.Json;
-import play.libs.ws.InMemoryBodyWritable;
+import play.libs.streams.Accumulator;
+import play.libs.ws.SourceBodyWritable;
 import play.libs.ws.StandaloneWSClient;
+import play.libs.ws.StandaloneWSRequest;
 import play.libs.ws.ahc.StandaloneAhcWSClient;
+import play.mvc.BodyParser;
 import play.mvc.Controller;
 import play.mvc.Http;
 import play.mvc.Http.Cookie;
@@ -52,12 +58,50 @@ public class Application extends Controller {
   private final Config config;
   private final StandaloneWSClient ws;
   private final Environment environment;
+  // Resolved once, the proxy runs for every GraphQL and API request
+  private final String metadataServiceBaseUrl;
+  private final boolean verboseGraphQLLogging;
+  private final int verboseGraphQLLongQueryMillis;
+
+  /**
+   * Hands the request body to the action as a stream, so the proxy can forward it to the Metadata
+   * Service without buffering it first.
+   */
+  public static class StreamedBody implements BodyParser<Source<ByteString, ?>> {
+    @Override
+    public Accumulator<ByteString, F.Either<Result, Source<ByteString, ?>>> apply(
+        Http.RequestHeader request) {
+      return Accumulator.<ByteString>source().map(F.Either::Right, Runnable::run);
+    }
+  }
 
   @Inject
   public Application(Environment environment, @Nonnull Config config) {
     this.config = config;
     ws = createWsClient();
     this.environment = environment;
+
+    final String metadataServiceHost =
+        ConfigUtil.getString(
+            config,
+            ConfigUtil.METADATA_SERVICE_HOST_CONFIG_PATH,
+            ConfigUtil.DEFAULT_METADATA_SERVICE_HOST);
+    final int metadataServicePort =
+        ConfigUtil.getInt(
+            config,
+            ConfigUtil.METADATA_SERVICE_PORT_CONFIG_PATH,
+            ConfigUtil.DEFAULT_METADATA_SERVICE_PORT);
+    final boolean metadataServiceUseSsl =
+        ConfigUtil.getBoolean(
+            config,
+            ConfigUtil.METADATA_SERVICE_USE_SSL_CONFIG_PATH,
+            ConfigUtil.DEFAULT_METADATA_SERVICE_USE_SSL);
+    // TODO: Fully support custom internal SSL.
+    final String protocol = metadataServiceUseSsl ? "https" : "http";
+    metadataServiceBaseUrl =
+        String.format("%s://%s:%s", protocol, metadataServiceHost, metadataServicePort);
+    verboseGraphQLLogging = config.getBoolean("graphql.verbose.logging");
+    verboseGraphQLLongQueryMillis = config.getInt("graphql.verbose.slowQueryMillis");
   }
 
   /**
@@ -99,30 +143,12 @@ public class Application extends Controller {
    * <p>TODO: Investigate using mutual SSL authentication to call Metadata Service.
    */
   @Security.Authenticated(Authenticator.class)
+  @BodyParser.Of(StreamedBody.class)
   public CompletableFuture<Result> proxy(String path, Http.Request request)
       throws ExecutionException, InterruptedException {
     final String authorizationHeaderValue = getAuthorizationHeaderValueToProxy(request);
     final String resolvedUri = mapPath(request.uri());
 
-    final String metadataServiceHost =
-        ConfigUtil.getString(
-            config,
-            ConfigUtil.METADATA_SERVICE_HOST_CONFIG_PATH,
-            ConfigUtil.DEFAULT_METADATA_SERVICE_HOST);
-    final int metadataServicePort =
-        ConfigUtil.getInt(
-            config,
-            ConfigUtil.METADATA_SERVICE_PORT_CONFIG_PATH,
-            ConfigUtil.DEFAULT_METADATA_SERVICE_PORT);
-    final boolean metadataServiceUseSsl =
-        ConfigUtil.getBoolean(
-            config,
-            ConfigUtil.METADATA_SERVICE_USE_SSL_CONFIG_PATH,
-            ConfigUtil.DEFAULT_METADATA_SERVICE_USE_SSL);
-
-    // TODO: Fully support custom internal SSL.
-    final String protocol = metadataServiceUseSsl ? "https" : "http";
-
     final Map<String, List<String>> headers = request.getHeaders().toMap();
 
     if (headers.containsKey(Http.HeaderNames.HOST)
@@ -139,42 +165,65 @@ public class Application extends Controller {
     // Get the current time to measure the duration of the request
     Instant start = Instant.now();
 
-    return ws.url(
-            String.format(
-                "%s://%s:%s%s", protocol, metadataServiceHost, metadataServicePort, resolvedUri))
-        .setMethod(request.method())
-        .setHeaders(
-            headers.entrySet().stream()
-                // Remove X-DataHub-Actor to prevent malicious delegation.
-                .filter(
-                    entry ->
-                        !AuthenticationConstants.LEGACY_X_DATAHUB_ACTOR_HEADER.equalsIgnoreCase(
-                            entry.getKey()))
-                .filter(entry -> !Http.HeaderNames.CONTENT_LENGTH.equalsIgnoreCase(entry.getKey()))
-                .filter(entry -> !Http.HeaderNames.CONTENT_TYPE.equalsIgnoreCase(entry.getKey()))
-                .filter(entry -> !Http.HeaderNames.AUTHORIZATION.equalsIgnoreCase(entry.getKey()))
-                // Remove Host s.th. service meshes do not route to wrong host
-                .filter(entry -> !Http.HeaderNames.HOST.equalsIgnoreCase(entry.getKey()))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)))
-        .addHeader(Http.HeaderNames.AUTHORIZATION, authorizationHeaderValue)
-        .addHeader(
-            AuthenticationConstants.LEGACY_X_DATAHUB_ACTOR_HEADER, getDataHubActorHeader(request))
-        .setBody(
-            new InMemoryBodyWritable(
-                ByteString.fromByteBuffer(request.body().asBytes().asByteBuffer()),
-                request.contentType().orElse("application/json")))
-        .setRequestTimeout(Duration.ofSeconds(120))
-        .execute()
+    final StandaloneWSRequest proxyRequest =
+        ws.url(metadataServiceBaseUrl + resolvedUri)
+            .setMethod(request.method())
+            .setHeaders(
+                headers.entrySet().stream()
+                    // Remove X-DataHub-Actor to prevent malicious delegation.
+                    .filter(
+                        entry ->
+                            !AuthenticationConstants.LEGACY_X_DATAHUB_ACTOR_HEADER
+                                .equalsIgnoreCase(entry.getKey()))
+                    .filter(
+                        entry -> !Http.HeaderNames.CONTENT_LENGTH.equalsIgnoreCase(entry.getKey()))
+                    .filter(
+                        entry -> !Http.HeaderNames.CONTENT_TYPE.equalsIgnoreCase(entry.getKey()))
+                    .filter(
+                        entry -> !Http.HeaderNames.AUTHORIZATION.equalsIgnoreCase(entry.getKey()))
+                    // Remove Host s.th. service meshes do not route to wrong host
+                    .filter(entry -> !Http.HeaderNames.HOST.equalsIgnoreCase(entry.getKey()))
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)))
+            .addHeader(Http.HeaderNames.AUTHORIZATION, authorizationHeaderValue)
+            .addHeader(
+                AuthenticationConstants.LEGACY_X_DATAHUB_ACTOR_HEADER,
+                getDataHubActorHeader(request))
+            .setRequestTimeout(Duration.ofSeconds(120));
+    // Only kept for the slow query log
+    final ByteStringBuilder loggedBody = new ByteStringBuilder();
+    if (request.hasBody()) {
+      // Forward the request body as it arrives instead of buffering it
+      Source<ByteString, ?> body = request.body().as(Source.class);
+      if (verboseGraphQLLogging) {
+        body =
+            body.map(
+                bytes -> {
+                  synchronized (loggedBody) {
+                    loggedBody.append(bytes);
+                  }
+                  return bytes;
+                });
+      }
+      proxyRequest
+          .addHeader(
+              Http.HeaderNames.CONTENT_TYPE, request.contentType().orElse("application/json"))
+          .setBody(new SourceBodyWritable(body));
+    }
+
+    return proxyRequest
+        .stream()
         .thenApply(
             apiResponse -> {
               // Log the query if it takes longer than the configured threshold and verbose logging
               // is enabled
-              boolean verboseGraphQLLogging = config.getBoolean("graphql.verbose.logging");
-              int verboseGraphQLLongQueryMillis = config.getInt("graphql.verbose.slowQueryMillis");
               Instant finish = Instant.now();
               long timeElapsed = Duration.between(start, finish).toMillis();
               if (verboseGraphQLLogging && timeElapsed >= verboseGraphQLLongQueryMillis) {
-                logSlowQuery(request, resolvedUri, timeElapsed);
+                final String requestBody;
+                synchronized (loggedBody) {
+                  requestBody = loggedBody.result().utf8String();
+                }
+                logSlowQuery(request, requestBody, resolvedUri, timeElapsed);
               }
 
               final ResponseHeader header =
@@ -189,9 +238,13 @@ public class Application extends Controller {
                                   !Http.HeaderNames.CONTENT_TYPE.equalsIgnoreCase(entry.getKey()))
                           .map(entry -> Pair.of(entry.getKey(), String.join(";", entry.getValue())))
                           .collect(Collectors.toMap(Pair::getFirst, Pair::getSecond)));
+              // Stream the response body, the GzipFilter compresses JSON responses on the way out
               final HttpEntity body =
-                  new HttpEntity.Strict(
-                      apiResponse.getBodyAsBytes(),
+                  new HttpEntity.Streamed(
+                      apiResponse.getBodyAsSource(),
+                      apiResponse
+                          .getSingleHeader(Http.HeaderNames.CONTENT_LENGTH)
+                          .map(Long::parseLong),
                       Optional.ofNullable(apiResponse.getContentType()));
               return new Result(header, body);
             })
@@ -385,14 +438,15 @@ public class Application extends Controller {
    * @param resolvedUri URI that was requested
    * @param duration How long the query took to complete
    */
-  private void logSlowQuery(Http.Request request, String resolvedUri, float duration) {
+  private void logSlowQuery(
+      Http.Request request, String requestBody, String resolvedUri, float duration) {
     StringBuilder jsonBody = new StringBuilder();
     Optional<Cookie> actorCookie = request.getCookie("actor");
     String actorValue = actorCookie.isPresent() ? actorCookie.get().value() : "N/A";
 
     try {
       ObjectMapper mapper = new ObjectMapper();
-      JsonNode jsonNode = request.body().asJson();
+      JsonNode jsonNode = mapper.readTree(requestBody);
       ((ObjectNode) jsonNode).remove("query");
       jsonBody.append(mapper.writerWithDefaultPrettyPrinter().writeValueAsString(jsonNode));
     } catch (Exception e) {
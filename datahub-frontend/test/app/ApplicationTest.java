@@ -1,5 +1,6 @@
 package app;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static play.mvc.Http.Status.NOT_FOUND;
@@ -12,6 +13,8 @@ import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.JWTParser;
 import controllers.routes;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.InetAddress;
 import java.net.URL;
@@ -28,8 +31,10 @@ import no.nav.security.mock.oauth2.http.OAuth2HttpResponse;
 import no.nav.security.mock.oauth2.http.Route;
 import no.nav.security.mock.oauth2.token.DefaultOAuth2TokenCallback;
 import okhttp3.Headers;
+import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.awaitility.Awaitility;
 import org.awaitility.Durations;
 import org.jetbrains.annotations.NotNull;
@@ -319,6 +324,65 @@ public class ApplicationTest extends WithBrowser {
     assertEquals(++requestCount, gmsServer.getRequestCount());
   }
 
+  @Test
+  public void testProxyStreamsPostBody() throws Exception {
+    testHappyPathOidc();
+    final String requestBody = "{\"query\":\"{ me { corpUser { urn } } }\"}";
+    final String responseBody =
+        String.format("{\"data\":{\"me\":{\"corpUser\":{\"urn\":\"%s\"}}}}", TEST_USER);
+
+    final CompletableFuture<RecordedRequest> proxied = new CompletableFuture<>();
+    final Dispatcher queueDispatcher = gmsServer.getDispatcher();
+    gmsServer.setDispatcher(
+        new Dispatcher() {
+          @NotNull
+          @Override
+          public MockResponse dispatch(@NotNull RecordedRequest recordedRequest) {
+            if (!"/api/graphql".equals(recordedRequest.getPath())) {
+              return new MockResponse().setResponseCode(404);
+            }
+            proxied.complete(recordedRequest);
+            return new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setHeader("X-Test-Response", "gms")
+                .setChunkedBody(responseBody, 8);
+          }
+        });
+    try {
+      HttpURLConnection conn =
+          (HttpURLConnection)
+              new URL("http://localhost:" + providePort() + "/api/v2/graphql").openConnection();
+      conn.setRequestMethod("POST");
+      conn.setDoOutput(true);
+      // Send the body in chunks, without a content length
+      conn.setChunkedStreamingMode(8);
+      conn.setRequestProperty("Content-Type", "application/json");
+      conn.setRequestProperty("X-Test-Request", "frontend");
+      conn.setRequestProperty(
+          "Cookie", "PLAY_SESSION=" + browser.getCookie("PLAY_SESSION").getValue());
+      try (OutputStream out = conn.getOutputStream()) {
+        out.write(requestBody.getBytes(UTF_8));
+      }
+
+      assertEquals(OK, conn.getResponseCode());
+      assertEquals("gms", conn.getHeaderField("X-Test-Response"));
+      assertTrue(conn.getContentType().startsWith("application/json"));
+      try (InputStream in = conn.getInputStream()) {
+        assertEquals(responseBody, new String(in.readAllBytes(), UTF_8));
+      }
+
+      RecordedRequest recordedRequest = proxied.get(10, TimeUnit.SECONDS);
+      assertEquals("POST", recordedRequest.getMethod());
+      assertEquals(requestBody, recordedRequest.getBody().readUtf8());
+      assertTrue(recordedRequest.getHeader("Content-Type").startsWith("application/json"));
+      assertEquals("frontend", recordedRequest.getHeader("X-Test-Request"));
+      assertEquals("Bearer " + TEST_TOKEN, recordedRequest.getHeader("Authorization"));
+      assertEquals(TEST_USER, recordedRequest.getHeader("X-DataHub-Actor"));
+    } finally {
+      gmsServer.setDispatcher(queueDispatcher);
+    }
+  }
+
   @Test
   public void testOidcRedirectToRequestedUrl() {
     browser.goTo("/authenticate?redirect_uri=%2Fcontainer%2Furn%3Ali%3Acontainer%3ADATABASE");
@@ -332,6 +332,8 @@ import com.linkedin.datahub.graphql.resolvers.view.DeleteViewResolver;
 import com.linkedin.datahub.graphql.resolvers.view.ListGlobalViewsResolver;
 import com.linkedin.datahub.graphql.resolvers.view.ListMyViewsResolver;
 import com.linkedin.datahub.graphql.resolvers.view.UpdateViewResolver;
+import com.linkedin.datahub.graphql.types.AspectProjectingType;
+import com.linkedin.datahub.graphql.types.AspectProjectionUtils;
 import com.linkedin.datahub.graphql.types.BrowsableEntityType;
 import com.linkedin.datahub.graphql.types.EntityType;
 import com.linkedin.datahub.graphql.types.LoadableType;
@@ -433,6 +435,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -440,6 +443,7 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.IOUtils;
 import org.dataloader.BatchLoaderContextProvider;
+import org.dataloader.CacheKey;
 import org.dataloader.DataLoader;
 import org.dataloader.DataLoaderOptions;
 
@@ -546,6 +550,7 @@ public class GmsGraphQLEngine {
   private final int graphQLQueryComplexityLimit;
   private final int graphQLQueryDepthLimit;
   private final boolean graphQLQueryIntrospectionEnabled;
+  private final int graphQLDocumentCacheSize;
 
   private final BusinessAttributeType businessAttributeType;
 
@@ -668,6 +673,7 @@ public class GmsGraphQLEngine {
     this.graphQLQueryComplexityLimit = args.graphQLQueryComplexityLimit;
     this.graphQLQueryDepthLimit = args.graphQLQueryDepthLimit;
     this.graphQLQueryIntrospectionEnabled = args.graphQLQueryIntrospectionEnabled;
+    this.graphQLDocumentCacheSize = args.graphQLDocumentCacheSize;
 
     this.businessAttributeType = new BusinessAttributeType(entityClient);
     // Init Lists
@@ -892,6 +898,7 @@ public class GmsGraphQLEngine {
         .setGraphQLQueryComplexityLimit(graphQLQueryComplexityLimit)
         .setGraphQLQueryDepthLimit(graphQLQueryDepthLimit)
         .setGraphQLQueryIntrospectionEnabled(graphQLQueryIntrospectionEnabled)
+        .setGraphQLDocumentCacheSize(graphQLDocumentCacheSize)
         .configureRuntimeWiring(this::configureRuntimeWiring);
     return builder;
   }
@@ -3150,6 +3157,23 @@ public class GmsGraphQLEngine {
     BatchLoaderContextProvider contextProvider = () -> queryContext;
     DataLoaderOptions loaderOptions =
         DataLoaderOptions.newOptions().setBatchLoaderContextProvider(contextProvider);
+    if (graphType instanceof AspectProjectingType) {
+      // Values depend on the selection set they were loaded for, so they are cached per key and
+      // required aspects: a value is never reused for a selection needing other aspects.
+      final AspectProjectingType<T, K> projectingType = (AspectProjectingType<T, K>) graphType;
+      loaderOptions.setCacheKeyFunction(
+          new CacheKey<K>() {
+            @Override
+            public Object getKey(K input) {
+              return AspectProjectionUtils.getCacheKey(projectingType, input, null);
+            }
+
+            @Override
+            public Object getKeyWithContext(K input, Object context) {
+              return AspectProjectionUtils.getCacheKey(projectingType, input, context);
+            }
+          });
+    }
     return DataLoader.newDataLoader(
         (keys, context) ->
             GraphQLConcurrencyUtils.supplyAsync(
@@ -3159,6 +3183,16 @@ public class GmsGraphQLEngine {
                         String.format(
                             "Batch loading entities of type: %s, keys: %s",
                             graphType.name(), keys));
+                    if (graphType instanceof AspectProjectingType) {
+                      final AspectProjectingType<T, K> projectingType =
+                          (AspectProjectingType<T, K>) graphType;
+                      final Set<String> aspectNames =
+                          AspectProjectionUtils.getRequiredAspects(
+                              projectingType, context.getKeyContextsList());
+                      if (aspectNames != null) {
+                        return projectingType.batchLoad(keys, context.getContext(), aspectNames);
+                      }
+                    }
                     return graphType.batchLoad(keys, context.getContext());
                   } catch (Exception e) {
                     log.error(
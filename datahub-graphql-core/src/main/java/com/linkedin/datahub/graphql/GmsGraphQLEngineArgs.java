@@ -86,6 +86,7 @@ public class GmsGraphQLEngineArgs {
   int graphQLQueryComplexityLimit;
   int graphQLQueryDepthLimit;
   boolean graphQLQueryIntrospectionEnabled;
+  int graphQLDocumentCacheSize;
   BusinessAttributeService businessAttributeService;
   ConnectionService connectionService;
   AssertionService assertionService;
@@ -46,6 +46,7 @@ public class GraphQLEngine {
   private final int graphQLQueryComplexityLimit;
   private final int graphQLQueryDepthLimit;
   private final boolean graphQLQueryIntrospectionEnabled;
+  @Nullable private final PreparsedDocumentCache preparsedDocumentCache;
 
   private GraphQLEngine(
       @Nonnull final List<String> schemas,
@@ -53,7 +54,8 @@ public class GraphQLEngine {
       @Nonnull final Map<String, Function<QueryContext, DataLoader<?, ?>>> dataLoaderSuppliers,
       @Nonnull final int graphQLQueryComplexityLimit,
       @Nonnull final int graphQLQueryDepthLimit,
-      @Nonnull final boolean graphQLQueryIntrospectionEnabled) {
+      @Nonnull final boolean graphQLQueryIntrospectionEnabled,
+      final int graphQLDocumentCacheSize) {
     this.graphQLQueryComplexityLimit = graphQLQueryComplexityLimit;
     this.graphQLQueryDepthLimit = graphQLQueryDepthLimit;
     this.graphQLQueryIntrospectionEnabled = graphQLQueryIntrospectionEnabled;
@@ -84,11 +86,22 @@ public class GraphQLEngine {
         new MaxQueryComplexityInstrumentation(
             graphQLQueryComplexityLimit, new DataHubFieldComplexityCalculator()));
     ChainedInstrumentation chainedInstrumentation = new ChainedInstrumentation(instrumentations);
-    _graphQL =
+    GraphQL.Builder graphQLBuilder =
         new GraphQL.Builder(graphQLSchema)
             .defaultDataFetcherExceptionHandler(new DataHubDataFetcherExceptionHandler())
-            .instrumentation(chainedInstrumentation)
-            .build();
+            .instrumentation(chainedInstrumentation);
+
+    /*
+     * Cache parsed & validated documents, the UI sends the same handful of large queries over and
+     * over again.
+     */
+    if (graphQLDocumentCacheSize > 0) {
+      preparsedDocumentCache = new PreparsedDocumentCache(graphQLDocumentCacheSize);
+      graphQLBuilder.preparsedDocumentProvider(preparsedDocumentCache);
+    } else {
+      preparsedDocumentCache = null;
+    }
+    _graphQL = graphQLBuilder.build();
   }
 
   public ExecutionResult execute(
@@ -123,6 +136,11 @@ public class GraphQLEngine {
     return _graphQL;
   }
 
+  @Nullable
+  public PreparsedDocumentCache getPreparsedDocumentCache() {
+    return preparsedDocumentCache;
+  }
+
   public static Builder builder() {
     return new Builder();
   }
@@ -137,6 +155,7 @@ public class GraphQLEngine {
     private int graphQLQueryComplexityLimit = 2000;
     private int graphQLQueryDepthLimit = 50;
     private boolean graphQLQueryIntrospectionEnabled = true;
+    private int graphQLDocumentCacheSize = 0;
 
     /**
      * Used to add a schema file containing the GQL types resolved by the engine.
@@ -206,6 +225,15 @@ public class GraphQLEngine {
       return this;
     }
 
+    /**
+     * Maximum number of parsed & validated query documents to cache, 0 to parse and validate every
+     * request.
+     */
+    public Builder setGraphQLDocumentCacheSize(final int documentCacheSize) {
+      this.graphQLDocumentCacheSize = documentCacheSize;
+      return this;
+    }
+
     /** Builds a {@link GraphQLEngine}. */
     public GraphQLEngine build() {
       return new GraphQLEngine(
@@ -214,7 +242,8 @@ public class GraphQLEngine {
           _loaderSuppliers,
           graphQLQueryComplexityLimit,
           graphQLQueryDepthLimit,
-          graphQLQueryIntrospectionEnabled);
+          graphQLQueryIntrospectionEnabled,
+          graphQLDocumentCacheSize);
     }
   }
 }
@@ -0,0 +1,74 @@
+package com.linkedin.datahub.graphql;
+
+import com.codahale.metrics.Counter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Bounded LRU cache of parsed and validated GraphQL documents.
+ *
+ * <p>Documents are keyed by the query text, the parsed document does not depend on the operation
+ * name or variables of the request. Only documents that parsed and validated without errors are
+ * cached, so invalid queries are re-validated on every request and can not push valid ones out of
+ * the cache.
+ */
+public class PreparsedDocumentCache implements PreparsedDocumentProvider {
+  private final Cache<String, PreparsedDocumentEntry> documents;
+  private final Counter hitCounter = MetricUtils.counter(getClass(), "hit");
+  private final Counter missCounter = MetricUtils.counter(getClass(), "miss");
+  private final Counter evictionCounter = MetricUtils.counter(getClass(), "eviction");
+
+  public PreparsedDocumentCache(final long maximumSize) {
+    this.documents =
+        CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .<String, PreparsedDocumentEntry>removalListener(
+                notification -> {
+                  if (notification.getCause() == RemovalCause.SIZE) {
+                    evictionCounter.inc();
+                  }
+                })
+            .build();
+  }
+
+  @Override
+  public PreparsedDocumentEntry getDocument(
+      final ExecutionInput executionInput,
+      final Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+    final String key = executionInput.getQuery();
+    final PreparsedDocumentEntry cached = documents.getIfPresent(key);
+    if (cached != null) {
+      hitCounter.inc();
+      return cached;
+    }
+    missCounter.inc();
+    final PreparsedDocumentEntry entry = parseAndValidateFunction.apply(executionInput);
+    if (!entry.hasErrors()) {
+      documents.put(key, entry);
+    }
+    return entry;
+  }
+
+  @Override
+  public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(
+      final ExecutionInput executionInput,
+      final Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+    return CompletableFuture.completedFuture(
+        getDocument(executionInput, parseAndValidateFunction));
+  }
+
+  public long size() {
+    return documents.size();
+  }
+
+  public void invalidateAll() {
+    documents.invalidateAll();
+  }
+}
@@ -64,6 +64,7 @@ public class EntityTypeResolver implements DataFetcher<CompletableFuture<Entity>
         environment.getDataLoaderRegistry().getDataLoader(filteredEntity.name());
     final Object key = filteredEntity.getKeyProvider().apply(resolvedEntity);
 
-    return loader.load(key);
+    // The selection set lets loaders that project aspects fetch only what the query needs
+    return loader.load(key, environment.getSelectionSet());
   }
 }
@@ -38,6 +38,6 @@ public class LoadableTypeResolver<T, K> implements DataFetcher<CompletableFuture
     }
     final DataLoader<K, T> loader =
         environment.getDataLoaderRegistry().getDataLoader(_loadableType.name());
-    return loader.load(key);
+    return loader.load(key, environment.getSelectionSet());
   }
 }
@@ -0,0 +1,41 @@
+package com.linkedin.datahub.graphql.types;
+
+import com.linkedin.datahub.graphql.QueryContext;
+import graphql.execution.DataFetcherResult;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nonnull;
+
+/**
+ * A {@link LoadableType} that can fetch only the aspects backing the fields a query selects.
+ *
+ * <p>Fields that are missing from {@link #getAspectsByField()} are assumed to need every aspect,
+ * so a field added to the schema without updating the map falls back to a full fetch.
+ *
+ * @param <T>: The GraphQL object type corresponding to the type.
+ * @param <K> the key type for the DataLoader
+ */
+public interface AspectProjectingType<T, K> extends LoadableType<T, K> {
+
+  /**
+   * Returns the aspects needed to resolve each top-level field of the type. Fields resolved
+   * entirely by their own data fetcher map to an empty set.
+   */
+  @Nonnull
+  Map<String, Set<String>> getAspectsByField();
+
+  /**
+   * Retrieves a list of entities, fetching only the provided aspects in addition to any aspect the
+   * type always needs to build a valid object.
+   *
+   * @param keys to retrieve
+   * @param context the {@link QueryContext} corresponding to the request.
+   * @param aspectNames the aspects required by the selected fields
+   */
+  List<DataFetcherResult<T>> batchLoad(
+      @Nonnull final List<K> keys,
+      @Nonnull final QueryContext context,
+      @Nonnull final Set<String> aspectNames)
+      throws Exception;
+}
@@ -0,0 +1,62 @@
+package com.linkedin.datahub.graphql.types;
+
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.SelectedField;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+public class AspectProjectionUtils {
+
+  private AspectProjectionUtils() {}
+
+  /**
+   * Returns the union of the aspects needed by the selection sets passed as key contexts to a
+   * {@link org.dataloader.DataLoader} batch, or null if any key must be loaded with every aspect.
+   *
+   * <p>Only fields selected on the type itself are considered, so fragments on other entity types
+   * of a search or lineage result do not widen the projection.
+   */
+  @Nullable
+  public static Set<String> getRequiredAspects(
+      @Nonnull final AspectProjectingType<?, ?> type, @Nonnull final List<Object> keyContexts) {
+    final String typeName = type.name();
+    final Map<String, Set<String>> aspectsByField = type.getAspectsByField();
+    final Set<String> aspectNames = new HashSet<>();
+    for (Object keyContext : keyContexts) {
+      if (!(keyContext instanceof DataFetchingFieldSelectionSet)) {
+        return null;
+      }
+      for (SelectedField field :
+          ((DataFetchingFieldSelectionSet) keyContext).getImmediateFields()) {
+        if (!field.getObjectTypeNames().contains(typeName)) {
+          continue;
+        }
+        final Set<String> fieldAspects = aspectsByField.get(field.getName());
+        if (fieldAspects == null) {
+          return null;
+        }
+        aspectNames.addAll(fieldAspects);
+      }
+    }
+    return aspectNames;
+  }
+
+  /**
+   * Returns the {@link org.dataloader.DataLoader} cache key of a key loaded for a selection set,
+   * the key together with the aspects the selection needs. Loads of the same key needing the same
+   * aspects share one value within a request, loads needing other aspects are fetched again.
+   */
+  @Nonnull
+  public static Object getCacheKey(
+      @Nonnull final AspectProjectingType<?, ?> type,
+      @Nonnull final Object key,
+      @Nullable final Object keyContext) {
+    return Arrays.asList(key, getRequiredAspects(type, Collections.singletonList(keyContext)));
+  }
+}
@@ -6,7 +6,9 @@ import static com.linkedin.metadata.Constants.*;
 import com.datahub.authorization.ConjunctivePrivilegeGroup;
 import com.datahub.authorization.DisjunctivePrivilegeGroup;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
 import com.linkedin.common.urn.ChartUrn;
 import com.linkedin.common.urn.CorpuserUrn;
 import com.linkedin.common.urn.Urn;
@@ -25,6 +27,7 @@ import com.linkedin.datahub.graphql.generated.EntityType;
 import com.linkedin.datahub.graphql.generated.FacetFilterInput;
 import com.linkedin.datahub.graphql.generated.SearchResults;
 import com.linkedin.datahub.graphql.resolvers.ResolverUtils;
+import com.linkedin.datahub.graphql.types.AspectProjectingType;
 import com.linkedin.datahub.graphql.types.BrowsableEntityType;
 import com.linkedin.datahub.graphql.types.MutableType;
 import com.linkedin.datahub.graphql.types.SearchableEntityType;
@@ -59,6 +62,7 @@ import javax.annotation.Nullable;
 public class ChartType
     implements SearchableEntityType<Chart, String>,
         BrowsableEntityType<Chart, String>,
+        AspectProjectingType<Chart, String>,
         MutableType<ChartUpdateInput, Chart> {
 
   private static final Set<String> ASPECTS_TO_RESOLVE =
@@ -83,6 +87,52 @@ public class ChartType
           SUB_TYPES_ASPECT_NAME,
           STRUCTURED_PROPERTIES_ASPECT_NAME,
           FORMS_ASPECT_NAME);
+
+  /** The key provides the tool, chart id and platform that every Chart must have. */
+  private static final Set<String> ALWAYS_RESOLVED_ASPECTS = ImmutableSet.of(CHART_KEY_ASPECT_NAME);
+
+  /** Aspects read by {@link ChartMapper} for each field. */
+  private static final Map<String, Set<String>> ASPECTS_BY_FIELD =
+      ImmutableMap.<String, Set<String>>builder()
+          .put("__typename", ImmutableSet.of())
+          .put("urn", ImmutableSet.of())
+          .put("type", ImmutableSet.of())
+          .put("tool", ImmutableSet.of(CHART_KEY_ASPECT_NAME))
+          .put("chartId", ImmutableSet.of(CHART_KEY_ASPECT_NAME))
+          .put("platform", ImmutableSet.of(CHART_KEY_ASPECT_NAME))
+          .put("properties", ImmutableSet.of(CHART_INFO_ASPECT_NAME))
+          .put("info", ImmutableSet.of(CHART_INFO_ASPECT_NAME))
+          .put("query", ImmutableSet.of(CHART_QUERY_ASPECT_NAME))
+          .put("editableProperties", ImmutableSet.of(EDITABLE_CHART_PROPERTIES_ASPECT_NAME))
+          .put("editableInfo", ImmutableSet.of(EDITABLE_CHART_PROPERTIES_ASPECT_NAME))
+          .put("ownership", ImmutableSet.of(OWNERSHIP_ASPECT_NAME))
+          .put("status", ImmutableSet.of(STATUS_ASPECT_NAME))
+          .put("deprecation", ImmutableSet.of(DEPRECATION_ASPECT_NAME))
+          .put("embed", ImmutableSet.of(EMBED_ASPECT_NAME))
+          .put("tags", ImmutableSet.of(GLOBAL_TAGS_ASPECT_NAME))
+          .put("globalTags", ImmutableSet.of(GLOBAL_TAGS_ASPECT_NAME))
+          .put("institutionalMemory", ImmutableSet.of(INSTITUTIONAL_MEMORY_ASPECT_NAME))
+          .put("glossaryTerms", ImmutableSet.of(GLOSSARY_TERMS_ASPECT_NAME))
+          .put("domain", ImmutableSet.of(DOMAINS_ASPECT_NAME))
+          .put("dataPlatformInstance", ImmutableSet.of(DATA_PLATFORM_INSTANCE_ASPECT_NAME))
+          .put("container", ImmutableSet.of(CONTAINER_ASPECT_NAME))
+          .put("browsePathV2", ImmutableSet.of(BROWSE_PATHS_V2_ASPECT_NAME))
+          .put("inputFields", ImmutableSet.of(INPUT_FIELDS_ASPECT_NAME))
+          .put("subTypes", ImmutableSet.of(SUB_TYPES_ASPECT_NAME))
+          .put("structuredProperties", ImmutableSet.of(STRUCTURED_PROPERTIES_ASPECT_NAME))
+          .put("forms", ImmutableSet.of(FORMS_ASPECT_NAME))
+          .put("parentContainers", ImmutableSet.of())
+          .put("statsSummary", ImmutableSet.of())
+          .put("relationships", ImmutableSet.of())
+          .put("lineage", ImmutableSet.of())
+          .put("browsePaths", ImmutableSet.of())
+          .put("privileges", ImmutableSet.of())
+          .put("exists", ImmutableSet.of())
+          .put("aspects", ImmutableSet.of())
+          .put("health", ImmutableSet.of())
+          .put("incidents", ImmutableSet.of())
+          .build();
+
   private static final Set<String> FACET_FIELDS =
       ImmutableSet.of("access", "queryType", "tool", "type");
 
@@ -112,9 +162,36 @@ public class ChartType
     return Chart.class;
   }
 
+  @Nonnull
+  @Override
+  public Map<String, Set<String>> getAspectsByField() {
+    return ASPECTS_BY_FIELD;
+  }
+
   @Override
   public List<DataFetcherResult<Chart>> batchLoad(
       @Nonnull List<String> urnStrs, @Nonnull QueryContext context) throws Exception {
+    return batchLoadAspects(urnStrs, context, ASPECTS_TO_RESOLVE);
+  }
+
+  @Override
+  public List<DataFetcherResult<Chart>> batchLoad(
+      @Nonnull List<String> urnStrs,
+      @Nonnull QueryContext context,
+      @Nonnull Set<String> aspectNames)
+      throws Exception {
+    return batchLoadAspects(
+        urnStrs,
+        context,
+        ImmutableSet.copyOf(
+            Sets.intersection(
+                Sets.union(ALWAYS_RESOLVED_ASPECTS, aspectNames), ASPECTS_TO_RESOLVE)));
+  }
+
+  private List<DataFetcherResult<Chart>> batchLoadAspects(
+      @Nonnull List<String> urnStrs,
+      @Nonnull QueryContext context,
+      @Nonnull Set<String> aspectNames) {
     final List<Urn> urns = urnStrs.stream().map(UrnUtils::getUrn).collect(Collectors.toList());
     try {
 
@@ -123,7 +200,7 @@ public class ChartType
               context.getOperationContext(),
               CHART_ENTITY_NAME,
               new HashSet<>(urns),
-              ASPECTS_TO_RESOLVE);
+              aspectNames);
 
       final List<EntityResponse> gmsResults = new ArrayList<>(urnStrs.size());
       for (Urn urn : urns) {
@@ -7,6 +7,9 @@ import static com.linkedin.metadata.Constants.*;
 import com.datahub.authorization.ConjunctivePrivilegeGroup;
 import com.datahub.authorization.DisjunctivePrivilegeGroup;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
 import com.linkedin.common.UrnArray;
 import com.linkedin.common.url.Url;
 import com.linkedin.common.urn.Urn;
@@ -26,6 +29,7 @@ import com.linkedin.datahub.graphql.generated.Entity;
 import com.linkedin.datahub.graphql.generated.EntityType;
 import com.linkedin.datahub.graphql.generated.FacetFilterInput;
 import com.linkedin.datahub.graphql.generated.SearchResults;
+import com.linkedin.datahub.graphql.types.AspectProjectingType;
 import com.linkedin.datahub.graphql.types.MutableType;
 import com.linkedin.datahub.graphql.types.SearchableEntityType;
 import com.linkedin.datahub.graphql.types.corpuser.mappers.CorpUserMapper;
@@ -46,13 +50,44 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 public class CorpUserType
-    implements SearchableEntityType<CorpUser, String>, MutableType<CorpUserUpdateInput, CorpUser> {
+    implements SearchableEntityType<CorpUser, String>,
+        AspectProjectingType<CorpUser, String>,
+        MutableType<CorpUserUpdateInput, CorpUser> {
+
+  /** The key provides the username that every CorpUser must have. */
+  private static final Set<String> ALWAYS_RESOLVED_ASPECTS =
+      ImmutableSet.of(CORP_USER_KEY_ASPECT_NAME);
+
+  /** Aspects read by {@link CorpUserMapper} for each field. */
+  private static final Map<String, Set<String>> ASPECTS_BY_FIELD =
+      ImmutableMap.<String, Set<String>>builder()
+          .put("__typename", ImmutableSet.of())
+          .put("urn", ImmutableSet.of())
+          .put("type", ImmutableSet.of())
+          .put("username", ImmutableSet.of(CORP_USER_KEY_ASPECT_NAME))
+          .put("properties", ImmutableSet.of(CORP_USER_INFO_ASPECT_NAME))
+          .put("info", ImmutableSet.of(CORP_USER_INFO_ASPECT_NAME))
+          .put("editableProperties", ImmutableSet.of(CORP_USER_EDITABLE_INFO_ASPECT_NAME))
+          .put("editableInfo", ImmutableSet.of(CORP_USER_EDITABLE_INFO_ASPECT_NAME))
+          .put("status", ImmutableSet.of(CORP_USER_STATUS_ASPECT_NAME))
+          .put("tags", ImmutableSet.of(GLOBAL_TAGS_ASPECT_NAME))
+          .put("globalTags", ImmutableSet.of(GLOBAL_TAGS_ASPECT_NAME))
+          .put("isNativeUser", ImmutableSet.of(CORP_USER_CREDENTIALS_ASPECT_NAME))
+          .put("settings", ImmutableSet.of(CORP_USER_SETTINGS_ASPECT_NAME))
+          .put("structuredProperties", ImmutableSet.of(STRUCTURED_PROPERTIES_ASPECT_NAME))
+          .put("forms", ImmutableSet.of(FORMS_ASPECT_NAME))
+          .put("relationships", ImmutableSet.of())
+          .put("privileges", ImmutableSet.of())
+          .put("exists", ImmutableSet.of())
+          .put("aspects", ImmutableSet.of())
+          .build();
 
   private final EntityClient _entityClient;
   private final FeatureFlags _featureFlags;
@@ -77,9 +112,32 @@ public class CorpUserType
     return Entity::getUrn;
   }
 
+  @Nonnull
+  @Override
+  public Map<String, Set<String>> getAspectsByField() {
+    return ASPECTS_BY_FIELD;
+  }
+
   @Override
   public List<DataFetcherResult<CorpUser>> batchLoad(
       final List<String> urns, final QueryContext context) {
+    return batchLoadAspects(urns, context, null);
+  }
+
+  @Override
+  public List<DataFetcherResult<CorpUser>> batchLoad(
+      @Nonnull final List<String> urns,
+      @Nonnull final QueryContext context,
+      @Nonnull final Set<String> aspectNames) {
+    return batchLoadAspects(
+        urns, context, ImmutableSet.copyOf(Sets.union(ALWAYS_RESOLVED_ASPECTS, aspectNames)));
+  }
+
+  /** Loads the given aspects, or every aspect of the users if aspectNames is null. */
+  private List<DataFetcherResult<CorpUser>> batchLoadAspects(
+      final List<String> urns,
+      final QueryContext context,
+      @Nullable final Set<String> aspectNames) {
     try {
       final List<Urn> corpUserUrns =
           urns.stream().map(UrnUtils::getUrn).collect(Collectors.toList());
@@ -89,7 +147,7 @@ public class CorpUserType
               context.getOperationContext(),
               CORP_USER_ENTITY_NAME,
               new HashSet<>(corpUserUrns),
-              null);
+              aspectNames);
 
       final List<EntityResponse> results = new ArrayList<>(urns.size());
       for (Urn urn : corpUserUrns) {
@@ -6,7 +6,9 @@ import static com.linkedin.metadata.Constants.*;
 import com.datahub.authorization.ConjunctivePrivilegeGroup;
 import com.datahub.authorization.DisjunctivePrivilegeGroup;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
 import com.linkedin.common.urn.CorpuserUrn;
 import com.linkedin.common.urn.DataJobUrn;
 import com.linkedin.common.urn.Urn;
@@ -25,6 +27,7 @@ import com.linkedin.datahub.graphql.generated.EntityType;
 import com.linkedin.datahub.graphql.generated.FacetFilterInput;
 import com.linkedin.datahub.graphql.generated.SearchResults;
 import com.linkedin.datahub.graphql.resolvers.ResolverUtils;
+import com.linkedin.datahub.graphql.types.AspectProjectingType;
 import com.linkedin.datahub.graphql.types.BrowsableEntityType;
 import com.linkedin.datahub.graphql.types.MutableType;
 import com.linkedin.datahub.graphql.types.SearchableEntityType;
@@ -59,6 +62,7 @@ import javax.annotation.Nullable;
 public class DataJobType
     implements SearchableEntityType<DataJob, String>,
         BrowsableEntityType<DataJob, String>,
+        AspectProjectingType<DataJob, String>,
         MutableType<DataJobUpdateInput, DataJob> {
 
   private static final Set<String> ASPECTS_TO_RESOLVE =
@@ -82,6 +86,50 @@ public class DataJobType
           STRUCTURED_PROPERTIES_ASPECT_NAME,
           FORMS_ASPECT_NAME,
           DATA_TRANSFORM_LOGIC_ASPECT_NAME);
+
+  /** The key provides the job id and parent flow that every DataJob must have. */
+  private static final Set<String> ALWAYS_RESOLVED_ASPECTS =
+      ImmutableSet.of(DATA_JOB_KEY_ASPECT_NAME);
+
+  /** Aspects read by {@link DataJobMapper} for each field. */
+  private static final Map<String, Set<String>> ASPECTS_BY_FIELD =
+      ImmutableMap.<String, Set<String>>builder()
+          .put("__typename", ImmutableSet.of())
+          .put("urn", ImmutableSet.of())
+          .put("type", ImmutableSet.of())
+          .put("dataFlow", ImmutableSet.of(DATA_JOB_KEY_ASPECT_NAME))
+          .put("jobId", ImmutableSet.of(DATA_JOB_KEY_ASPECT_NAME))
+          .put("properties", ImmutableSet.of(DATA_JOB_INFO_ASPECT_NAME))
+          .put("info", ImmutableSet.of(DATA_JOB_INFO_ASPECT_NAME))
+          .put("inputOutput", ImmutableSet.of(DATA_JOB_INPUT_OUTPUT_ASPECT_NAME))
+          .put("editableProperties", ImmutableSet.of(EDITABLE_DATA_JOB_PROPERTIES_ASPECT_NAME))
+          .put("ownership", ImmutableSet.of(OWNERSHIP_ASPECT_NAME))
+          .put("status", ImmutableSet.of(STATUS_ASPECT_NAME))
+          .put("deprecation", ImmutableSet.of(DEPRECATION_ASPECT_NAME))
+          .put("tags", ImmutableSet.of(GLOBAL_TAGS_ASPECT_NAME))
+          .put("globalTags", ImmutableSet.of(GLOBAL_TAGS_ASPECT_NAME))
+          .put("institutionalMemory", ImmutableSet.of(INSTITUTIONAL_MEMORY_ASPECT_NAME))
+          .put("glossaryTerms", ImmutableSet.of(GLOSSARY_TERMS_ASPECT_NAME))
+          .put("domain", ImmutableSet.of(DOMAINS_ASPECT_NAME))
+          .put("dataPlatformInstance", ImmutableSet.of(DATA_PLATFORM_INSTANCE_ASPECT_NAME))
+          .put("container", ImmutableSet.of(CONTAINER_ASPECT_NAME))
+          .put("browsePathV2", ImmutableSet.of(BROWSE_PATHS_V2_ASPECT_NAME))
+          .put("subTypes", ImmutableSet.of(SUB_TYPES_ASPECT_NAME))
+          .put("structuredProperties", ImmutableSet.of(STRUCTURED_PROPERTIES_ASPECT_NAME))
+          .put("forms", ImmutableSet.of(FORMS_ASPECT_NAME))
+          .put("dataTransformLogic", ImmutableSet.of(DATA_TRANSFORM_LOGIC_ASPECT_NAME))
+          .put("parentContainers", ImmutableSet.of())
+          .put("relationships", ImmutableSet.of())
+          .put("lineage", ImmutableSet.of())
+          .put("browsePaths", ImmutableSet.of())
+          .put("runs", ImmutableSet.of())
+          .put("privileges", ImmutableSet.of())
+          .put("exists", ImmutableSet.of())
+          .put("aspects", ImmutableSet.of())
+          .put("health", ImmutableSet.of())
+          .put("incidents", ImmutableSet.of())
+          .build();
+
   private static final Set<String> FACET_FIELDS = ImmutableSet.of("flow");
   private final EntityClient _entityClient;
 
@@ -109,9 +157,36 @@ public class DataJobType
     return DataJobUpdateInput.class;
   }
 
+  @Nonnull
+  @Override
+  public Map<String, Set<String>> getAspectsByField() {
+    return ASPECTS_BY_FIELD;
+  }
+
   @Override
   public List<DataFetcherResult<DataJob>> batchLoad(
       final List<String> urnStrs, @Nonnull final QueryContext context) throws Exception {
+    return batchLoadAspects(urnStrs, context, ASPECTS_TO_RESOLVE);
+  }
+
+  @Override
+  public List<DataFetcherResult<DataJob>> batchLoad(
+      @Nonnull final List<String> urnStrs,
+      @Nonnull final QueryContext context,
+      @Nonnull final Set<String> aspectNames)
+      throws Exception {
+    return batchLoadAspects(
+        urnStrs,
+        context,
+        ImmutableSet.copyOf(
+            Sets.intersection(
+                Sets.union(ALWAYS_RESOLVED_ASPECTS, aspectNames), ASPECTS_TO_RESOLVE)));
+  }
+
+  private List<DataFetcherResult<DataJob>> batchLoadAspects(
+      final List<String> urnStrs,
+      @Nonnull final QueryContext context,
+      @Nonnull final Set<String> aspectNames) {
     final List<Urn> urns = urnStrs.stream().map(UrnUtils::getUrn).collect(Collectors.toList());
     try {
 
@@ -120,7 +195,7 @@ public class DataJobType
               context.getOperationContext(),
               Constants.DATA_JOB_ENTITY_NAME,
               new HashSet<>(urns),
-              ASPECTS_TO_RESOLVE);
+              aspectNames);
 
       final List<EntityResponse> gmsResults = new ArrayList<>(urnStrs.size());
       for (Urn urn : urns) {
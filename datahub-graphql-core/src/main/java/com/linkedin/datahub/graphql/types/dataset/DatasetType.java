@@ -6,7 +6,9 @@ import static com.linkedin.metadata.Constants.*;
 import com.datahub.authorization.ConjunctivePrivilegeGroup;
 import com.datahub.authorization.DisjunctivePrivilegeGroup;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
 import com.linkedin.common.urn.CorpuserUrn;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
@@ -25,6 +27,7 @@ import com.linkedin.datahub.graphql.generated.EntityType;
 import com.linkedin.datahub.graphql.generated.FacetFilterInput;
 import com.linkedin.datahub.graphql.generated.SearchResults;
 import com.linkedin.datahub.graphql.resolvers.ResolverUtils;
+import com.linkedin.datahub.graphql.types.AspectProjectingType;
 import com.linkedin.datahub.graphql.types.BatchMutableType;
 import com.linkedin.datahub.graphql.types.BrowsableEntityType;
 import com.linkedin.datahub.graphql.types.SearchableEntityType;
@@ -60,6 +63,7 @@ import javax.annotation.Nullable;
 public class DatasetType
     implements SearchableEntityType<Dataset, String>,
         BrowsableEntityType<Dataset, String>,
+        AspectProjectingType<Dataset, String>,
         BatchMutableType<DatasetUpdateInput, BatchDatasetUpdateInput, Dataset> {
 
   private static final Set<String> ASPECTS_TO_RESOLVE =
@@ -92,6 +96,74 @@ public class DatasetType
           SUB_TYPES_ASPECT_NAME,
           VERSION_PROPERTIES_ASPECT_NAME);
 
+  /** The key provides the name, platform and origin that every Dataset must have. */
+  private static final Set<String> ALWAYS_RESOLVED_ASPECTS =
+      ImmutableSet.of(DATASET_KEY_ASPECT_NAME);
+
+  /**
+   * Aspects read by {@link DatasetMapper} for each field. Fields backed by their own resolver map
+   * to no aspects. lastIngested is derived from every aspect fetched, so it is left out.
+   */
+  private static final Map<String, Set<String>> ASPECTS_BY_FIELD =
+      ImmutableMap.<String, Set<String>>builder()
+          .put("__typename", ImmutableSet.of())
+          .put("urn", ImmutableSet.of())
+          .put("type", ImmutableSet.of())
+          .put("platform", ImmutableSet.of(DATASET_KEY_ASPECT_NAME))
+          .put("origin", ImmutableSet.of(DATASET_KEY_ASPECT_NAME))
+          .put("name", ImmutableSet.of(DATASET_KEY_ASPECT_NAME, DATASET_PROPERTIES_ASPECT_NAME))
+          .put(
+              "properties",
+              ImmutableSet.of(DATASET_KEY_ASPECT_NAME, DATASET_PROPERTIES_ASPECT_NAME))
+          .put("description", ImmutableSet.of(DATASET_PROPERTIES_ASPECT_NAME))
+          .put("uri", ImmutableSet.of(DATASET_PROPERTIES_ASPECT_NAME))
+          .put("externalUrl", ImmutableSet.of())
+          .put("platformNativeType", ImmutableSet.of())
+          .put("editableProperties", ImmutableSet.of(EDITABLE_DATASET_PROPERTIES_ASPECT_NAME))
+          .put(
+              "deprecation",
+              ImmutableSet.of(DEPRECATION_ASPECT_NAME, DATASET_DEPRECATION_ASPECT_NAME))
+          .put("schema", ImmutableSet.of(SCHEMA_METADATA_ASPECT_NAME))
+          .put("editableSchemaMetadata", ImmutableSet.of(EDITABLE_SCHEMA_METADATA_ASPECT_NAME))
+          .put("viewProperties", ImmutableSet.of(VIEW_PROPERTIES_ASPECT_NAME))
+          .put("ownership", ImmutableSet.of(OWNERSHIP_ASPECT_NAME))
+          .put("institutionalMemory", ImmutableSet.of(INSTITUTIONAL_MEMORY_ASPECT_NAME))
+          .put("tags", ImmutableSet.of(GLOBAL_TAGS_ASPECT_NAME))
+          .put("globalTags", ImmutableSet.of(GLOBAL_TAGS_ASPECT_NAME))
+          .put("glossaryTerms", ImmutableSet.of(GLOSSARY_TERMS_ASPECT_NAME))
+          .put("status", ImmutableSet.of(STATUS_ASPECT_NAME))
+          .put("container", ImmutableSet.of(CONTAINER_ASPECT_NAME))
+          .put("domain", ImmutableSet.of(DOMAINS_ASPECT_NAME))
+          .put("dataPlatformInstance", ImmutableSet.of(DATA_PLATFORM_INSTANCE_ASPECT_NAME))
+          .put("siblings", ImmutableSet.of(SIBLINGS_ASPECT_NAME))
+          .put("fineGrainedLineages", ImmutableSet.of(UPSTREAM_LINEAGE_ASPECT_NAME))
+          .put("embed", ImmutableSet.of(EMBED_ASPECT_NAME))
+          .put("browsePathV2", ImmutableSet.of(BROWSE_PATHS_V2_ASPECT_NAME))
+          .put("access", ImmutableSet.of(ACCESS_ASPECT_NAME))
+          .put("structuredProperties", ImmutableSet.of(STRUCTURED_PROPERTIES_ASPECT_NAME))
+          .put("forms", ImmutableSet.of(FORMS_ASPECT_NAME))
+          .put("subTypes", ImmutableSet.of(SUB_TYPES_ASPECT_NAME))
+          .put("versionProperties", ImmutableSet.of(VERSION_PROPERTIES_ASPECT_NAME))
+          .put("parentContainers", ImmutableSet.of())
+          .put("schemaMetadata", ImmutableSet.of())
+          .put("usageStats", ImmutableSet.of())
+          .put("statsSummary", ImmutableSet.of())
+          .put("datasetProfiles", ImmutableSet.of())
+          .put("operations", ImmutableSet.of())
+          .put("assertions", ImmutableSet.of())
+          .put("relationships", ImmutableSet.of())
+          .put("lineage", ImmutableSet.of())
+          .put("browsePaths", ImmutableSet.of())
+          .put("health", ImmutableSet.of())
+          .put("aspects", ImmutableSet.of())
+          .put("runs", ImmutableSet.of())
+          .put("privileges", ImmutableSet.of())
+          .put("exists", ImmutableSet.of())
+          .put("testResults", ImmutableSet.of())
+          .put("contract", ImmutableSet.of())
+          .put("incidents", ImmutableSet.of())
+          .build();
+
   private static final Set<String> FACET_FIELDS = ImmutableSet.of("origin", "platform");
   private static final String ENTITY_NAME = "dataset";
 
@@ -126,9 +198,35 @@ public class DatasetType
     return Entity::getUrn;
   }
 
+  @Nonnull
+  @Override
+  public Map<String, Set<String>> getAspectsByField() {
+    return ASPECTS_BY_FIELD;
+  }
+
   @Override
   public List<DataFetcherResult<Dataset>> batchLoad(
       @Nonnull final List<String> urnStrs, @Nonnull final QueryContext context) {
+    return batchLoadAspects(urnStrs, context, ASPECTS_TO_RESOLVE);
+  }
+
+  @Override
+  public List<DataFetcherResult<Dataset>> batchLoad(
+      @Nonnull final List<String> urnStrs,
+      @Nonnull final QueryContext context,
+      @Nonnull final Set<String> aspectNames) {
+    return batchLoadAspects(
+        urnStrs,
+        context,
+        ImmutableSet.copyOf(
+            Sets.intersection(
+                Sets.union(ALWAYS_RESOLVED_ASPECTS, aspectNames), ASPECTS_TO_RESOLVE)));
+  }
+
+  private List<DataFetcherResult<Dataset>> batchLoadAspects(
+      @Nonnull final List<String> urnStrs,
+      @Nonnull final QueryContext context,
+      @Nonnull final Set<String> aspectNames) {
     try {
       final List<Urn> urns = urnStrs.stream().map(UrnUtils::getUrn).collect(Collectors.toList());
 
@@ -137,7 +235,7 @@ public class DatasetType
               context.getOperationContext(),
               Constants.DATASET_ENTITY_NAME,
               new HashSet<>(urns),
-              ASPECTS_TO_RESOLVE);
+              aspectNames);
 
       final List<EntityResponse> gmsResults = new ArrayList<>(urnStrs.size());
       for (Urn urn : urns) {
@@ -0,0 +1,66 @@
+package com.linkedin.datahub.graphql;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import graphql.ExecutionResult;
+import java.util.Map;
+import org.testng.annotations.Test;
+
+public class GraphQLEngineTest {
+  private static final String SCHEMA = "type Query { hello(name: String): String }";
+  private static final String QUERY = "query hello($name: String) { hello(name: $name) }";
+
+  @Test
+  public void testDocumentCache() {
+    GraphQLEngine engine = buildEngine(10);
+    PreparsedDocumentCache cache = engine.getPreparsedDocumentCache();
+    assertNotNull(cache);
+
+    ExecutionResult first = engine.execute(QUERY, null, Map.of("name", "a"), context());
+    ExecutionResult second = engine.execute(QUERY, "hello", Map.of("name", "b"), context());
+    assertTrue(first.getErrors().isEmpty());
+    assertTrue(second.getErrors().isEmpty());
+    assertEquals(first.<Map<String, Object>>getData().get("hello"), "hello a");
+    assertEquals(second.<Map<String, Object>>getData().get("hello"), "hello b");
+    assertEquals(cache.size(), 1);
+
+    // Invalid documents are not cached
+    ExecutionResult invalid = engine.execute("{ goodbye }", null, null, context());
+    assertFalse(invalid.getErrors().isEmpty());
+    ExecutionResult invalidAgain = engine.execute("{ goodbye }", null, null, context());
+    assertFalse(invalidAgain.getErrors().isEmpty());
+    assertEquals(cache.size(), 1);
+  }
+
+  @Test
+  public void testDocumentCacheDisabled() {
+    GraphQLEngine engine = buildEngine(0);
+    assertNull(engine.getPreparsedDocumentCache());
+
+    ExecutionResult result = engine.execute(QUERY, null, Map.of("name", "a"), context());
+    assertTrue(result.getErrors().isEmpty());
+  }
+
+  private static GraphQLEngine buildEngine(int documentCacheSize) {
+    return GraphQLEngine.builder()
+        .addSchema(SCHEMA)
+        .setGraphQLDocumentCacheSize(documentCacheSize)
+        .configureRuntimeWiring(
+            builder ->
+                builder.type(
+                    "Query",
+                    typeWiring ->
+                        typeWiring.dataFetcher(
+                            "hello", environment -> "hello " + environment.getArgument("name"))))
+        .build();
+  }
+
+  private static QueryContext context() {
+    return mock(QueryContext.class);
+  }
+}
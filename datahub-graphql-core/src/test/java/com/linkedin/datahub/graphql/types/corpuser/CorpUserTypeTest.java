@@ -0,0 +1,119 @@
+package com.linkedin.datahub.graphql.types.corpuser;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.*;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.generated.CorpUser;
+import com.linkedin.datahub.graphql.types.AspectProjectionUtils;
+import com.linkedin.entity.Aspect;
+import com.linkedin.entity.EntityResponse;
+import com.linkedin.entity.EnvelopedAspect;
+import com.linkedin.entity.EnvelopedAspectMap;
+import com.linkedin.entity.client.EntityClient;
+import com.linkedin.metadata.Constants;
+import com.linkedin.metadata.key.CorpUserKey;
+import graphql.execution.DataFetcherResult;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.SelectedField;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import org.mockito.Mockito;
+import org.testng.annotations.Test;
+
+public class CorpUserTypeTest {
+
+  private static final String TEST_USER_URN = "urn:li:corpuser:test";
+
+  @Test
+  public void testRequiredAspectsOfOwnerSelection() {
+    CorpUserType type = new CorpUserType(mock(EntityClient.class), null);
+
+    Set<String> aspectNames =
+        AspectProjectionUtils.getRequiredAspects(
+            type,
+            ImmutableList.of(
+                selectionSet(
+                    field("urn", "CorpUser"),
+                    field("username", "CorpUser"),
+                    field("properties", "CorpUser"),
+                    field("editableProperties", "CorpUser"))));
+
+    assertEquals(
+        aspectNames,
+        ImmutableSet.of(
+            Constants.CORP_USER_KEY_ASPECT_NAME,
+            Constants.CORP_USER_INFO_ASPECT_NAME,
+            Constants.CORP_USER_EDITABLE_INFO_ASPECT_NAME));
+  }
+
+  @Test
+  public void testBatchLoadFetchesProjectedAspects() throws Exception {
+    EntityClient client = mock(EntityClient.class);
+    Urn userUrn = UrnUtils.getUrn(TEST_USER_URN);
+    Set<String> expectedAspects =
+        ImmutableSet.of(
+            Constants.CORP_USER_KEY_ASPECT_NAME, Constants.CORP_USER_STATUS_ASPECT_NAME);
+    Mockito.when(
+            client.batchGetV2(
+                any(),
+                Mockito.eq(Constants.CORP_USER_ENTITY_NAME),
+                Mockito.eq(ImmutableSet.of(userUrn)),
+                Mockito.eq(expectedAspects)))
+        .thenReturn(
+            ImmutableMap.of(
+                userUrn,
+                new EntityResponse()
+                    .setEntityName(Constants.CORP_USER_ENTITY_NAME)
+                    .setUrn(userUrn)
+                    .setAspects(
+                        new EnvelopedAspectMap(
+                            ImmutableMap.of(
+                                Constants.CORP_USER_KEY_ASPECT_NAME,
+                                new EnvelopedAspect()
+                                    .setValue(
+                                        new Aspect(
+                                            new CorpUserKey().setUsername("test").data())))))));
+
+    QueryContext mockContext = mock(QueryContext.class);
+    Mockito.when(mockContext.getOperationContext())
+        .thenReturn(TestOperationContexts.systemContextNoSearchAuthorization());
+
+    List<DataFetcherResult<CorpUser>> result =
+        new CorpUserType(client, null)
+            .batchLoad(
+                ImmutableList.of(TEST_USER_URN),
+                mockContext,
+                ImmutableSet.of(Constants.CORP_USER_STATUS_ASPECT_NAME));
+
+    Mockito.verify(client, Mockito.times(1))
+        .batchGetV2(
+            any(),
+            Mockito.eq(Constants.CORP_USER_ENTITY_NAME),
+            Mockito.eq(ImmutableSet.of(userUrn)),
+            Mockito.eq(expectedAspects));
+    assertEquals(result.size(), 1);
+    assertEquals(result.get(0).getData().getUsername(), "test");
+  }
+
+  private static DataFetchingFieldSelectionSet selectionSet(SelectedField... fields) {
+    DataFetchingFieldSelectionSet selectionSet = mock(DataFetchingFieldSelectionSet.class);
+    Mockito.when(selectionSet.getImmediateFields()).thenReturn(Arrays.asList(fields));
+    return selectionSet;
+  }
+
+  private static SelectedField field(String name, String... objectTypeNames) {
+    SelectedField field = mock(SelectedField.class);
+    Mockito.when(field.getName()).thenReturn(name);
+    Mockito.when(field.getObjectTypeNames()).thenReturn(Arrays.asList(objectTypeNames));
+    return field;
+  }
+}
@@ -0,0 +1,165 @@
+package com.linkedin.datahub.graphql.types.dataset;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.*;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.common.FabricType;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.generated.Dataset;
+import com.linkedin.datahub.graphql.types.AspectProjectionUtils;
+import com.linkedin.entity.Aspect;
+import com.linkedin.entity.EntityResponse;
+import com.linkedin.entity.EnvelopedAspect;
+import com.linkedin.entity.EnvelopedAspectMap;
+import com.linkedin.entity.client.EntityClient;
+import com.linkedin.metadata.Constants;
+import com.linkedin.metadata.key.DatasetKey;
+import graphql.execution.DataFetcherResult;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.SelectedField;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import org.mockito.Mockito;
+import org.testng.annotations.Test;
+
+public class DatasetTypeTest {
+
+  private static final String TEST_DATASET_URN =
+      "urn:li:dataset:(urn:li:dataPlatform:hive,test,PROD)";
+
+  @Test
+  public void testRequiredAspectsAreUnionOfSelections() {
+    DatasetType type = new DatasetType(mock(EntityClient.class));
+
+    Set<String> aspectNames =
+        AspectProjectionUtils.getRequiredAspects(
+            type,
+            ImmutableList.of(
+                selectionSet(field("urn", "Dataset"), field("name", "Dataset")),
+                selectionSet(field("ownership", "Dataset"), field("lineage", "Dataset"))));
+
+    assertEquals(
+        aspectNames,
+        ImmutableSet.of(
+            Constants.DATASET_KEY_ASPECT_NAME,
+            Constants.DATASET_PROPERTIES_ASPECT_NAME,
+            Constants.OWNERSHIP_ASPECT_NAME));
+  }
+
+  @Test
+  public void testFieldsOfOtherTypesAreIgnored() {
+    DatasetType type = new DatasetType(mock(EntityClient.class));
+
+    Set<String> aspectNames =
+        AspectProjectionUtils.getRequiredAspects(
+            type,
+            ImmutableList.of(
+                selectionSet(
+                    field("urn", "Dataset", "Chart"),
+                    field("schema", "Dataset"),
+                    field("inputs", "Chart"))));
+
+    assertEquals(aspectNames, ImmutableSet.of(Constants.SCHEMA_METADATA_ASPECT_NAME));
+  }
+
+  @Test
+  public void testUnknownSelectionLoadsEveryAspect() {
+    DatasetType type = new DatasetType(mock(EntityClient.class));
+
+    assertNull(
+        AspectProjectionUtils.getRequiredAspects(
+            type, ImmutableList.of(selectionSet(field("lastIngested", "Dataset")))));
+    assertNull(
+        AspectProjectionUtils.getRequiredAspects(
+            type, Arrays.asList(selectionSet(field("name", "Dataset")), null)));
+  }
+
+  @Test
+  public void testCacheKeyIncludesRequiredAspects() {
+    DatasetType type = new DatasetType(mock(EntityClient.class));
+
+    Object nameKey =
+        AspectProjectionUtils.getCacheKey(
+            type, TEST_DATASET_URN, selectionSet(field("name", "Dataset")));
+    assertEquals(
+        AspectProjectionUtils.getCacheKey(
+            type, TEST_DATASET_URN, selectionSet(field("name", "Dataset"))),
+        nameKey);
+    assertNotEquals(
+        AspectProjectionUtils.getCacheKey(
+            type, TEST_DATASET_URN, selectionSet(field("ownership", "Dataset"))),
+        nameKey);
+    assertNotEquals(AspectProjectionUtils.getCacheKey(type, TEST_DATASET_URN, null), nameKey);
+  }
+
+  @Test
+  public void testBatchLoadFetchesProjectedAspects() throws Exception {
+    EntityClient client = mock(EntityClient.class);
+    Urn datasetUrn = UrnUtils.getUrn(TEST_DATASET_URN);
+    Set<String> expectedAspects =
+        ImmutableSet.of(Constants.DATASET_KEY_ASPECT_NAME, Constants.OWNERSHIP_ASPECT_NAME);
+    DatasetKey key =
+        new DatasetKey()
+            .setPlatform(UrnUtils.getUrn("urn:li:dataPlatform:hive"))
+            .setName("test")
+            .setOrigin(FabricType.PROD);
+    Mockito.when(
+            client.batchGetV2(
+                any(),
+                Mockito.eq(Constants.DATASET_ENTITY_NAME),
+                Mockito.eq(ImmutableSet.of(datasetUrn)),
+                Mockito.eq(expectedAspects)))
+        .thenReturn(
+            ImmutableMap.of(
+                datasetUrn,
+                new EntityResponse()
+                    .setEntityName(Constants.DATASET_ENTITY_NAME)
+                    .setUrn(datasetUrn)
+                    .setAspects(
+                        new EnvelopedAspectMap(
+                            ImmutableMap.of(
+                                Constants.DATASET_KEY_ASPECT_NAME,
+                                new EnvelopedAspect().setValue(new Aspect(key.data())))))));
+
+    QueryContext mockContext = mock(QueryContext.class);
+    Mockito.when(mockContext.getOperationContext())
+        .thenReturn(TestOperationContexts.systemContextNoSearchAuthorization());
+
+    List<DataFetcherResult<Dataset>> result =
+        new DatasetType(client)
+            .batchLoad(
+                ImmutableList.of(TEST_DATASET_URN),
+                mockContext,
+                ImmutableSet.of(Constants.OWNERSHIP_ASPECT_NAME));
+
+    Mockito.verify(client, Mockito.times(1))
+        .batchGetV2(
+            any(),
+            Mockito.eq(Constants.DATASET_ENTITY_NAME),
+            Mockito.eq(ImmutableSet.of(datasetUrn)),
+            Mockito.eq(expectedAspects));
+    assertEquals(result.size(), 1);
+    assertEquals(result.get(0).getData().getName(), "test");
+  }
+
+  private static DataFetchingFieldSelectionSet selectionSet(SelectedField... fields) {
+    DataFetchingFieldSelectionSet selectionSet = mock(DataFetchingFieldSelectionSet.class);
+    Mockito.when(selectionSet.getImmediateFields()).thenReturn(Arrays.asList(fields));
+    return selectionSet;
+  }
+
+  private static SelectedField field(String name, String... objectTypeNames) {
+    SelectedField field = mock(SelectedField.class);
+    Mockito.when(field.getName()).thenReturn(name);
+    Mockito.when(field.getObjectTypeNames()).thenReturn(Arrays.asList(objectTypeNames));
+    return field;
+  }
+}
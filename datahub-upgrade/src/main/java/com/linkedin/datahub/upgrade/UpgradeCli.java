@@ -3,6 +3,7 @@ package com.linkedin.datahub.upgrade;
 import com.linkedin.datahub.upgrade.impl.DefaultUpgradeManager;
 import com.linkedin.datahub.upgrade.nocode.NoCodeUpgrade;
 import com.linkedin.datahub.upgrade.nocodecleanup.NoCodeCleanupUpgrade;
+import com.linkedin.datahub.upgrade.reencodeaspects.ReencodeAspects;
 import com.linkedin.datahub.upgrade.removeunknownaspects.RemoveUnknownAspects;
 import com.linkedin.datahub.upgrade.restorebackup.RestoreBackup;
 import com.linkedin.datahub.upgrade.restoreindices.RestoreIndices;
@@ -54,6 +55,10 @@ public class UpgradeCli implements CommandLineRunner {
   @Named("removeUnknownAspects")
   private RemoveUnknownAspects removeUnknownAspects;
 
+  @Inject
+  @Named("reencodeAspects")
+  private ReencodeAspects reencodeAspects;
+
   @Autowired(required = false)
   @Named("systemUpdate")
   private SystemUpdate systemUpdate;
@@ -77,6 +82,7 @@ public class UpgradeCli implements CommandLineRunner {
     _upgradeManager.register(restoreIndices);
     _upgradeManager.register(restoreBackup);
     _upgradeManager.register(removeUnknownAspects);
+    _upgradeManager.register(reencodeAspects);
     if (systemUpdate != null) {
       _upgradeManager.register(systemUpdate);
     }
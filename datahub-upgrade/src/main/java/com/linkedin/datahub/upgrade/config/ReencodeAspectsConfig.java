@@ -0,0 +1,37 @@
+package com.linkedin.datahub.upgrade.config;
+
+import com.linkedin.datahub.upgrade.reencodeaspects.ReencodeAspects;
+import com.linkedin.gms.factory.config.ConfigurationProvider;
+import com.linkedin.metadata.entity.codec.AspectMetadataCodecProvider;
+import io.ebean.Database;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+public class ReencodeAspectsConfig {
+
+  @Bean(name = "reencodeAspects")
+  @ConditionalOnProperty(name = "entityService.impl", havingValue = "ebean", matchIfMissing = true)
+  @Nonnull
+  public ReencodeAspects createInstance(
+      final Database ebeanServer, final ConfigurationProvider configurationProvider) {
+    return new ReencodeAspects(
+        ebeanServer,
+        AspectMetadataCodecProvider.fromConfig(
+            configurationProvider.getEntityService() == null
+                ? null
+                : configurationProvider.getEntityService().getAspectCodec()));
+  }
+
+  @Bean(name = "reencodeAspects")
+  @ConditionalOnProperty(name = "entityService.impl", havingValue = "cassandra")
+  @Nonnull
+  public ReencodeAspects createNotImplInstance() {
+    log.warn("reencodeAspects is not supported for cassandra!");
+    return new ReencodeAspects(null, null);
+  }
+}
@@ -0,0 +1,57 @@
+package com.linkedin.datahub.upgrade.reencodeaspects;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.datahub.upgrade.Upgrade;
+import com.linkedin.datahub.upgrade.UpgradeCleanupStep;
+import com.linkedin.datahub.upgrade.UpgradeStep;
+import com.linkedin.metadata.entity.codec.AspectMetadataCodecProvider;
+import io.ebean.Database;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * Rewrites rows of the aspect table whose metadata column is not stored with the currently
+ * configured aspect codec. Rows remain readable while the upgrade runs since every row is self
+ * describing.
+ */
+public class ReencodeAspects implements Upgrade {
+
+  public static final String BATCH_SIZE_ARG_NAME = "batchSize";
+  public static final String BATCH_DELAY_MS_ARG_NAME = "batchDelayMs";
+  public static final String ASPECT_NAME_ARG_NAME = "aspectName";
+  public static final String URN_LIKE_ARG_NAME = "urnLike";
+
+  private final List<UpgradeStep> _steps;
+
+  public ReencodeAspects(
+      @Nullable final Database server, @Nullable final AspectMetadataCodecProvider codecProvider) {
+    if (server != null && codecProvider != null) {
+      _steps = buildSteps(server, codecProvider);
+    } else {
+      _steps = List.of();
+    }
+  }
+
+  @Override
+  public String id() {
+    return this.getClass().getSimpleName();
+  }
+
+  @Override
+  public List<UpgradeStep> steps() {
+    return _steps;
+  }
+
+  private List<UpgradeStep> buildSteps(
+      final Database server, final AspectMetadataCodecProvider codecProvider) {
+    final List<UpgradeStep> steps = new ArrayList<>();
+    steps.add(new ReencodeAspectsStep(server, codecProvider));
+    return steps;
+  }
+
+  @Override
+  public List<UpgradeCleanupStep> cleanupSteps() {
+    return ImmutableList.of();
+  }
+}
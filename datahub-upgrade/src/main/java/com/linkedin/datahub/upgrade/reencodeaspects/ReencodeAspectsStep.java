@@ -0,0 +1,148 @@
+package com.linkedin.datahub.upgrade.reencodeaspects;
+
+import com.linkedin.datahub.upgrade.UpgradeContext;
+import com.linkedin.datahub.upgrade.UpgradeStep;
+import com.linkedin.datahub.upgrade.UpgradeStepResult;
+import com.linkedin.datahub.upgrade.impl.DefaultUpgradeStepResult;
+import com.linkedin.metadata.entity.codec.AspectMetadataCodec;
+import com.linkedin.metadata.entity.codec.AspectMetadataCodecProvider;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import com.linkedin.upgrade.DataHubUpgradeState;
+import io.ebean.Database;
+import io.ebean.ExpressionList;
+import io.ebean.Transaction;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+public class ReencodeAspectsStep implements UpgradeStep {
+
+  private static final int DEFAULT_BATCH_SIZE = 1000;
+  private static final long DEFAULT_BATCH_DELAY_MS = 100;
+
+  private final Database _server;
+  private final AspectMetadataCodecProvider _codecProvider;
+
+  public ReencodeAspectsStep(
+      final Database server, final AspectMetadataCodecProvider codecProvider) {
+    _server = server;
+    _codecProvider = codecProvider;
+  }
+
+  @Override
+  public String id() {
+    return "ReencodeAspectsStep";
+  }
+
+  @Override
+  public int retryCount() {
+    return 0;
+  }
+
+  @Override
+  public Function<UpgradeContext, UpgradeStepResult> executable() {
+    return (context) -> {
+      final Map<String, Optional<String>> parsedArgs = context.parsedArgs();
+      final int batchSize =
+          getArg(parsedArgs, ReencodeAspects.BATCH_SIZE_ARG_NAME)
+              .map(Integer::parseInt)
+              .orElse(DEFAULT_BATCH_SIZE);
+      final long batchDelayMs =
+          getArg(parsedArgs, ReencodeAspects.BATCH_DELAY_MS_ARG_NAME)
+              .map(Long::parseLong)
+              .orElse(DEFAULT_BATCH_DELAY_MS);
+      final Optional<String> aspectName = getArg(parsedArgs, ReencodeAspects.ASPECT_NAME_ARG_NAME);
+      final Optional<String> urnLike = getArg(parsedArgs, ReencodeAspects.URN_LIKE_ARG_NAME);
+
+      context
+          .report()
+          .addLine(
+              String.format(
+                  "Re-encoding aspects with default codec %s, batch size %s",
+                  _codecProvider.getDefaultCodec(), batchSize));
+
+      int start = 0;
+      long scanned = 0;
+      long reencoded = 0;
+      while (true) {
+        // rows are only ever updated in place so offset paging over the primary key is stable
+        final List<EbeanAspectV2> rows = getPagedAspects(aspectName, urnLike, start, batchSize);
+        if (rows.isEmpty()) {
+          break;
+        }
+
+        try (Transaction transaction = _server.beginTransaction()) {
+          transaction.setBatchMode(true);
+          transaction.setBatchSize(batchSize);
+          for (EbeanAspectV2 row : rows) {
+            final AspectMetadataCodec codec = _codecProvider.forAspect(row.getAspect());
+            if (!codec.matches(row.getRawMetadata())) {
+              row.setMetadata(codec.encode(row.getMetadata()));
+              _server.update(row, transaction);
+              reencoded++;
+            }
+          }
+          transaction.commit();
+        } catch (Exception e) {
+          context
+              .report()
+              .addLine(
+                  String.format("Failed to re-encode rows %s through %s", start, start + batchSize),
+                  e);
+          return new DefaultUpgradeStepResult(id(), DataHubUpgradeState.FAILED);
+        }
+
+        scanned += rows.size();
+        start += batchSize;
+        context
+            .report()
+            .addLine(String.format("Scanned %s rows, re-encoded %s rows", scanned, reencoded));
+
+        try {
+          TimeUnit.MILLISECONDS.sleep(batchDelayMs);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new RuntimeException("Thread interrupted while sleeping after successful batch.");
+        }
+      }
+
+      context
+          .report()
+          .addLine(
+              String.format(
+                  "Re-encoding complete. Scanned %s rows, re-encoded %s rows", scanned, reencoded));
+      return new DefaultUpgradeStepResult(id(), DataHubUpgradeState.SUCCEEDED);
+    };
+  }
+
+  private List<EbeanAspectV2> getPagedAspects(
+      final Optional<String> aspectName,
+      final Optional<String> urnLike,
+      final int start,
+      final int pageSize) {
+    ExpressionList<EbeanAspectV2> exp =
+        _server.find(EbeanAspectV2.class).select(EbeanAspectV2.ALL_COLUMNS).where();
+    if (aspectName.isPresent()) {
+      exp = exp.eq(EbeanAspectV2.ASPECT_COLUMN, aspectName.get());
+    }
+    if (urnLike.isPresent()) {
+      exp = exp.like(EbeanAspectV2.URN_COLUMN, urnLike.get());
+    }
+    return exp.orderBy()
+        .asc(EbeanAspectV2.URN_COLUMN)
+        .orderBy()
+        .asc(EbeanAspectV2.ASPECT_COLUMN)
+        .orderBy()
+        .asc(EbeanAspectV2.VERSION_COLUMN)
+        .setFirstRow(start)
+        .setMaxRows(pageSize)
+        .findList();
+  }
+
+  private static Optional<String> getArg(
+      final Map<String, Optional<String>> parsedArgs, final String argName) {
+    return parsedArgs.getOrDefault(argName, Optional.empty());
+  }
+}
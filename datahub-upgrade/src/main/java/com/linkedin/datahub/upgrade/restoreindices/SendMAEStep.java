@@ -35,6 +35,7 @@ public class SendMAEStep implements UpgradeStep {
   private static final int DEFAULT_STARTING_OFFSET = 0;
   private static final int DEFAULT_THREADS = 1;
   private static final boolean DEFAULT_URN_BASED_PAGINATION = false;
+  private static final int DEFAULT_URN_RANGE_PARTITIONS = 0;
 
   private final Database _server;
   private final EntityService<?> _entityService;
@@ -165,7 +166,16 @@ public class SendMAEStep implements UpgradeStep {
 
       List<Future<RestoreIndicesResult>> futures = new ArrayList<>();
       startTime = System.currentTimeMillis();
-      if (args.urnBasedPagination) {
+      final int urnRangePartitions = getUrnRangePartitions(context.parsedArgs());
+      if (urnRangePartitions > 0) {
+        executor.shutdown();
+        boolean succeeded =
+            new UrnRangeRestore(_server, _entityService)
+                .run(context, args, urnRangePartitions, finalJobResult, rowCount);
+        if (!succeeded) {
+          return new DefaultUpgradeStepResult(id(), DataHubUpgradeState.FAILED);
+        }
+      } else if (args.urnBasedPagination) {
         RestoreIndicesResult previousResult = null;
         int rowsProcessed = 1;
         while (rowsProcessed > 0) {
@@ -230,7 +240,7 @@ public class SendMAEStep implements UpgradeStep {
     };
   }
 
-  private static void reportStats(
+  static void reportStats(
       UpgradeContext context,
       RestoreIndicesResult finalResult,
       RestoreIndicesResult tmpResult,
@@ -303,6 +313,11 @@ public class SendMAEStep implements UpgradeStep {
     return urnBasedPagination;
   }
 
+  private int getUrnRangePartitions(final Map<String, Optional<String>> parsedArgs) {
+    return getInt(
+        parsedArgs, DEFAULT_URN_RANGE_PARTITIONS, RestoreIndices.URN_RANGE_PARTITIONS_ARG_NAME);
+  }
+
   private int getInt(
       final Map<String, Optional<String>> parsedArgs, int defaultVal, String argKey) {
     int result = defaultVal;
@@ -0,0 +1,315 @@
+package com.linkedin.datahub.upgrade.restoreindices;
+
+import static com.linkedin.metadata.Constants.ASPECT_LATEST_VERSION;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.StringMap;
+import com.linkedin.datahub.upgrade.UpgradeContext;
+import com.linkedin.metadata.boot.BootstrapStep;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesResult;
+import com.linkedin.upgrade.DataHubUpgradeResult;
+import com.linkedin.upgrade.DataHubUpgradeState;
+import io.ebean.Database;
+import io.ebean.ExpressionList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.annotation.Nullable;
+
+/**
+ * Restores indices by splitting the urn keyspace of the latest aspects into contiguous ranges and
+ * restoring the ranges concurrently, each one with urn based pagination.
+ *
+ * <p>While one range waits on the database, others are transforming rows or producing MCLs, so the
+ * stages overlap across ranges. Progress of every range is checkpointed in a {@link
+ * DataHubUpgradeResult} after each batch. A run with the same filter arguments and number of
+ * partitions that finds an IN_PROGRESS checkpoint resumes each range after its last restored
+ * aspect instead of starting over.
+ */
+public class UrnRangeRestore {
+  public static final String UPGRADE_ID = "restore-indices-urn-ranges";
+
+  static final String ARGS_KEY = "args";
+  static final String RANGES_KEY = "ranges";
+
+  private final Database server;
+  private final EntityService<?> entityService;
+  private final Urn upgradeIdUrn = BootstrapStep.getUpgradeUrn(UPGRADE_ID);
+
+  public UrnRangeRestore(final Database server, final EntityService<?> entityService) {
+    this.server = server;
+    this.entityService = entityService;
+  }
+
+  /**
+   * @return true if every range was restored, false if at least one range failed. The checkpoint
+   *     of a failed run is kept so that the next run resumes it.
+   */
+  public boolean run(
+      UpgradeContext context,
+      RestoreIndicesArgs args,
+      int partitions,
+      RestoreIndicesResult finalJobResult,
+      int rowCount) {
+    final String fingerprint = fingerprint(args, partitions);
+    final List<UrnRange> ranges =
+        loadCheckpoint(context, fingerprint).orElseGet(() -> split(args, partitions, rowCount));
+    context
+        .report()
+        .addLine(
+            String.format(
+                "Restoring %d urn ranges with %d threads: %s",
+                ranges.size(), args.numThreads, ranges));
+
+    final long startTime = System.currentTimeMillis();
+    final ExecutorService executor = Executors.newFixedThreadPool(args.numThreads);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (UrnRange range : ranges) {
+        if (!range.done) {
+          futures.add(
+              executor.submit(
+                  () ->
+                      restoreRange(
+                          context,
+                          args,
+                          range,
+                          ranges,
+                          fingerprint,
+                          finalJobResult,
+                          rowCount,
+                          startTime)));
+        }
+      }
+
+      boolean succeeded = true;
+      for (Future<?> future : futures) {
+        try {
+          future.get();
+        } catch (InterruptedException | ExecutionException e) {
+          context.report().addLine("Failed to restore urn range", e);
+          succeeded = false;
+        }
+      }
+
+      if (succeeded) {
+        context
+            .upgrade()
+            .setUpgradeResult(
+                context.opContext(),
+                upgradeIdUrn,
+                entityService,
+                DataHubUpgradeState.SUCCEEDED,
+                Map.of(ARGS_KEY, fingerprint));
+      } else {
+        context
+            .report()
+            .addLine(
+                String.format(
+                    "Progress is saved in %s, re-run with the same arguments to resume.",
+                    upgradeIdUrn));
+      }
+      return succeeded;
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private void restoreRange(
+      UpgradeContext context,
+      RestoreIndicesArgs args,
+      UrnRange range,
+      List<UrnRange> ranges,
+      String fingerprint,
+      RestoreIndicesResult finalJobResult,
+      int rowCount,
+      long startTime) {
+    while (!range.done) {
+      RestoreIndicesArgs rangeArgs = args.clone();
+      rangeArgs.start = 0;
+      rangeArgs.limit = args.batchSize;
+      rangeArgs.urnBasedPagination = true;
+      rangeArgs.lastUrn = range.lastUrn;
+      rangeArgs.lastAspect = range.lastAspect;
+      rangeArgs.urnUpperBound = range.upperUrn;
+
+      List<RestoreIndicesResult> results =
+          entityService.restoreIndices(context.opContext(), rangeArgs, context.report()::addLine);
+      if (results.isEmpty()) {
+        range.done = true;
+      } else {
+        RestoreIndicesResult result = results.get(0);
+        synchronized (finalJobResult) {
+          SendMAEStep.reportStats(context, finalJobResult, result, rowCount, startTime);
+        }
+        int rowsProcessed = result.rowsMigrated + result.ignored;
+        if (Objects.equals(range.lastUrn, result.lastUrn)
+            && Objects.equals(range.lastAspect, result.lastAspect)) {
+          // guard against a batch that could not advance the cursor
+          context
+              .report()
+              .addLine(String.format("No progress in urn range %s, stopping it.", range));
+          range.done = true;
+        } else {
+          range.lastUrn = result.lastUrn;
+          range.lastAspect = result.lastAspect;
+          range.done = rowsProcessed < args.batchSize;
+        }
+      }
+      checkpoint(context, fingerprint, ranges);
+    }
+  }
+
+  /** Splits the latest aspects into ranges holding roughly the same number of rows. */
+  private List<UrnRange> split(RestoreIndicesArgs args, int partitions, int rowCount) {
+    TreeSet<String> boundaries = new TreeSet<>();
+    for (int i = 1; i < partitions; i++) {
+      List<EbeanAspectV2> boundary =
+          filter(server.find(EbeanAspectV2.class).select(EbeanAspectV2.URN_COLUMN).where(), args)
+              .orderBy()
+              .asc(EbeanAspectV2.URN_COLUMN)
+              .setFirstRow((int) ((long) rowCount * i / partitions))
+              .setMaxRows(1)
+              .findList();
+      boundary.stream().map(EbeanAspectV2::getUrn).forEach(boundaries::add);
+    }
+
+    List<UrnRange> ranges = new ArrayList<>();
+    String lower = "";
+    for (String upper : boundaries) {
+      ranges.add(new UrnRange(ranges.size(), lower, upper));
+      lower = upper;
+    }
+    ranges.add(new UrnRange(ranges.size(), lower, null));
+    return ranges;
+  }
+
+  private static ExpressionList<EbeanAspectV2> filter(
+      ExpressionList<EbeanAspectV2> exp, RestoreIndicesArgs args) {
+    exp = exp.eq(EbeanAspectV2.VERSION_COLUMN, ASPECT_LATEST_VERSION);
+    if (args.aspectName != null) {
+      exp = exp.eq(EbeanAspectV2.ASPECT_COLUMN, args.aspectName);
+    }
+    if (args.urn != null) {
+      exp = exp.eq(EbeanAspectV2.URN_COLUMN, args.urn);
+    }
+    if (args.urnLike != null) {
+      exp = exp.like(EbeanAspectV2.URN_COLUMN, args.urnLike);
+    }
+    return exp;
+  }
+
+  Optional<List<UrnRange>> loadCheckpoint(UpgradeContext context, String fingerprint) {
+    Optional<StringMap> state =
+        context
+            .upgrade()
+            .getUpgradeResult(context.opContext(), upgradeIdUrn, entityService)
+            .filter(result -> DataHubUpgradeState.IN_PROGRESS.equals(result.getState()))
+            .map(DataHubUpgradeResult::getResult)
+            .filter(result -> fingerprint.equals(result.get(ARGS_KEY)))
+            .filter(result -> result.containsKey(RANGES_KEY));
+    if (state.isEmpty()) {
+      return Optional.empty();
+    }
+
+    int size = Integer.parseInt(state.get().get(RANGES_KEY));
+    List<UrnRange> ranges = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      ranges.add(UrnRange.fromState(i, state.get()));
+    }
+    context.report().addLine(String.format("Resuming urn ranges from %s", upgradeIdUrn));
+    return Optional.of(ranges);
+  }
+
+  private synchronized void checkpoint(
+      UpgradeContext context, String fingerprint, List<UrnRange> ranges) {
+    Map<String, String> state = new HashMap<>();
+    state.put(ARGS_KEY, fingerprint);
+    state.put(RANGES_KEY, String.valueOf(ranges.size()));
+    ranges.forEach(range -> range.toState(state));
+    context
+        .upgrade()
+        .setUpgradeResult(
+            context.opContext(),
+            upgradeIdUrn,
+            entityService,
+            DataHubUpgradeState.IN_PROGRESS,
+            state);
+  }
+
+  /** Identifies the rows selected by a run, a checkpoint is only resumed by a matching run. */
+  static String fingerprint(RestoreIndicesArgs args, int partitions) {
+    List<String> aspectNames =
+        args.aspectNames == null ? List.of() : new ArrayList<>(new TreeSet<>(args.aspectNames));
+    return String.format(
+        "aspectName=%s;aspectNames=%s;urn=%s;urnLike=%s;gePitEpochMs=%d;lePitEpochMs=%d;"
+            + "urnBasedPagination=%s;partitions=%d",
+        args.aspectName,
+        aspectNames,
+        args.urn,
+        args.urnLike,
+        args.gePitEpochMs,
+        args.lePitEpochMs,
+        args.urnBasedPagination,
+        partitions);
+  }
+
+  /** Urns in [lowerUrn, upperUrn), upperUrn null for the last range. */
+  static class UrnRange {
+    final int index;
+    final String lowerUrn;
+    @Nullable final String upperUrn;
+    volatile String lastUrn;
+    volatile String lastAspect = "";
+    volatile boolean done = false;
+
+    UrnRange(int index, String lowerUrn, @Nullable String upperUrn) {
+      this.index = index;
+      this.lowerUrn = lowerUrn;
+      this.upperUrn = upperUrn;
+      this.lastUrn = lowerUrn;
+    }
+
+    void toState(Map<String, String> state) {
+      state.put(key(index, "lower"), lowerUrn);
+      if (upperUrn != null) {
+        state.put(key(index, "upper"), upperUrn);
+      }
+      state.put(key(index, "lastUrn"), lastUrn);
+      state.put(key(index, "lastAspect"), lastAspect);
+      state.put(key(index, "done"), String.valueOf(done));
+    }
+
+    static UrnRange fromState(int index, Map<String, String> state) {
+      UrnRange range =
+          new UrnRange(
+              index,
+              state.getOrDefault(key(index, "lower"), ""),
+              state.get(key(index, "upper")));
+      range.lastUrn = state.getOrDefault(key(index, "lastUrn"), range.lowerUrn);
+      range.lastAspect = state.getOrDefault(key(index, "lastAspect"), "");
+      range.done = Boolean.parseBoolean(state.get(key(index, "done")));
+      return range;
+    }
+
+    private static String key(int index, String field) {
+      return "range." + index + "." + field;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%d:[%s, %s)", index, lowerUrn, upperUrn == null ? "" : upperUrn);
+    }
+  }
+}
@@ -0,0 +1,128 @@
+package com.linkedin.datahub.upgrade.restoreindices;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.data.template.StringMap;
+import com.linkedin.datahub.upgrade.Upgrade;
+import com.linkedin.datahub.upgrade.UpgradeContext;
+import com.linkedin.datahub.upgrade.UpgradeReport;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
+import com.linkedin.upgrade.DataHubUpgradeResult;
+import com.linkedin.upgrade.DataHubUpgradeState;
+import io.ebean.Database;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.testng.annotations.Test;
+
+public class UrnRangeRestoreTest {
+
+  @Test
+  public void testRangeCheckpointRoundTrip() {
+    UrnRangeRestore.UrnRange first = new UrnRangeRestore.UrnRange(0, "", "urn:li:corpuser:m");
+    first.lastUrn = "urn:li:corpuser:b";
+    first.lastAspect = "corpUserInfo";
+    UrnRangeRestore.UrnRange last = new UrnRangeRestore.UrnRange(1, "urn:li:corpuser:m", null);
+    last.done = true;
+
+    Map<String, String> state = new HashMap<>();
+    first.toState(state);
+    last.toState(state);
+
+    UrnRangeRestore.UrnRange restoredFirst = UrnRangeRestore.UrnRange.fromState(0, state);
+    assertEquals(restoredFirst.lowerUrn, "");
+    assertEquals(restoredFirst.upperUrn, "urn:li:corpuser:m");
+    assertEquals(restoredFirst.lastUrn, "urn:li:corpuser:b");
+    assertEquals(restoredFirst.lastAspect, "corpUserInfo");
+    assertFalse(restoredFirst.done);
+
+    UrnRangeRestore.UrnRange restoredLast = UrnRangeRestore.UrnRange.fromState(1, state);
+    assertEquals(restoredLast.lowerUrn, "urn:li:corpuser:m");
+    assertNull(restoredLast.upperUrn);
+    assertEquals(restoredLast.lastUrn, "urn:li:corpuser:m");
+    assertTrue(restoredLast.done);
+  }
+
+  @Test
+  public void testFingerprint() {
+    RestoreIndicesArgs args = new RestoreIndicesArgs().aspectName("status");
+    assertEquals(UrnRangeRestore.fingerprint(args, 4), UrnRangeRestore.fingerprint(args, 4));
+    assertNotEquals(UrnRangeRestore.fingerprint(args, 4), UrnRangeRestore.fingerprint(args, 8));
+    assertNotEquals(
+        UrnRangeRestore.fingerprint(args, 4),
+        UrnRangeRestore.fingerprint(new RestoreIndicesArgs().aspectName("ownership"), 4));
+  }
+
+  @Test
+  public void testFingerprintCoversFilters() {
+    String fingerprint = UrnRangeRestore.fingerprint(new RestoreIndicesArgs(), 4);
+    assertNotEquals(
+        UrnRangeRestore.fingerprint(
+            new RestoreIndicesArgs().aspectNames(List.of("status", "ownership")), 4),
+        fingerprint);
+    assertNotEquals(
+        UrnRangeRestore.fingerprint(new RestoreIndicesArgs().gePitEpochMs(1000L), 4), fingerprint);
+    assertNotEquals(
+        UrnRangeRestore.fingerprint(new RestoreIndicesArgs().lePitEpochMs(2000L), 4), fingerprint);
+    assertNotEquals(
+        UrnRangeRestore.fingerprint(new RestoreIndicesArgs().urnBasedPagination(true), 4),
+        fingerprint);
+    // the order of the aspect names does not change the selected rows
+    assertEquals(
+        UrnRangeRestore.fingerprint(
+            new RestoreIndicesArgs().aspectNames(List.of("status", "ownership")), 4),
+        UrnRangeRestore.fingerprint(
+            new RestoreIndicesArgs().aspectNames(List.of("ownership", "status")), 4));
+  }
+
+  @Test
+  public void testCheckpointOfDifferentArgsIsNotResumed() {
+    RestoreIndicesArgs checkpointed = new RestoreIndicesArgs().gePitEpochMs(1000L);
+    Map<String, String> state = new HashMap<>();
+    state.put(UrnRangeRestore.ARGS_KEY, UrnRangeRestore.fingerprint(checkpointed, 2));
+    state.put(UrnRangeRestore.RANGES_KEY, "2");
+    new UrnRangeRestore.UrnRange(0, "", "urn:li:corpuser:m").toState(state);
+    new UrnRangeRestore.UrnRange(1, "urn:li:corpuser:m", null).toState(state);
+
+    Upgrade upgrade = mock(Upgrade.class);
+    when(upgrade.getUpgradeResult(any(), any(), any()))
+        .thenReturn(
+            Optional.of(
+                new DataHubUpgradeResult()
+                    .setState(DataHubUpgradeState.IN_PROGRESS)
+                    .setResult(new StringMap(state))));
+    UpgradeContext context = mock(UpgradeContext.class);
+    when(context.upgrade()).thenReturn(upgrade);
+    when(context.report()).thenReturn(mock(UpgradeReport.class));
+    UrnRangeRestore restore = new UrnRangeRestore(mock(Database.class), mock(EntityService.class));
+
+    assertEquals(
+        restore
+            .loadCheckpoint(context, UrnRangeRestore.fingerprint(checkpointed, 2))
+            .map(List::size),
+        Optional.of(2));
+    assertTrue(
+        restore
+            .loadCheckpoint(
+                context,
+                UrnRangeRestore.fingerprint(new RestoreIndicesArgs().gePitEpochMs(2000L), 2))
+            .isEmpty());
+    assertTrue(
+        restore
+            .loadCheckpoint(
+                context,
+                UrnRangeRestore.fingerprint(
+                    new RestoreIndicesArgs().gePitEpochMs(1000L).aspectNames(List.of("status")),
+                    2))
+            .isEmpty());
+  }
+}
@@ -0,0 +1,198 @@
+package com.linkedin.metadata.aspect.patch.template;
+
+import com.datahub.util.RecordUtils;
+import com.linkedin.common.GlobalTags;
+import com.linkedin.common.Ownership;
+import com.linkedin.dataset.UpstreamLineage;
+import com.linkedin.metadata.aspect.patch.template.common.GlobalTagsTemplate;
+import com.linkedin.metadata.aspect.patch.template.common.OwnershipTemplate;
+import com.linkedin.metadata.aspect.patch.template.dataset.UpstreamLineageTemplate;
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonPatch;
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares patches applied to the DataMap with the same patches applied to the JSON of an aspect
+ * with a growing number of array elements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PatchTemplateBenchmark {
+  private static final String DATASET_PREFIX = "urn:li:dataset:(urn:li:dataPlatform:hive,table";
+
+  @Param({"10", "100", "1000"})
+  public int size;
+
+  private final GlobalTagsTemplate globalTagsTemplate = new GlobalTagsTemplate();
+  private final GlobalTagsTemplate globalTagsJsonTemplate =
+      new GlobalTagsTemplate() {
+        @Override
+        public List<DataMapPatcher.IndexedField> getIndexedFields() {
+          return Collections.emptyList();
+        }
+      };
+  private final OwnershipTemplate ownershipTemplate = new OwnershipTemplate();
+  private final OwnershipTemplate ownershipJsonTemplate =
+      new OwnershipTemplate() {
+        @Override
+        public List<DataMapPatcher.IndexedField> getIndexedFields() {
+          return Collections.emptyList();
+        }
+      };
+  private final UpstreamLineageTemplate upstreamLineageTemplate = new UpstreamLineageTemplate();
+  private final UpstreamLineageTemplate upstreamLineageJsonTemplate =
+      new UpstreamLineageTemplate() {
+        @Override
+        public List<DataMapPatcher.IndexedField> getIndexedFields() {
+          return Collections.emptyList();
+        }
+      };
+
+  private GlobalTags globalTags;
+  private JsonPatch globalTagsPatch;
+  private Ownership ownership;
+  private JsonPatch ownershipPatch;
+  private UpstreamLineage upstreamLineage;
+  private JsonPatch upstreamLineagePatch;
+
+  @Setup
+  public void setup() {
+    StringBuilder tags = new StringBuilder();
+    StringBuilder owners = new StringBuilder();
+    StringBuilder upstreams = new StringBuilder();
+    StringBuilder fineGrainedLineages = new StringBuilder();
+    for (int i = 0; i < size; i++) {
+      String separator = i == 0 ? "" : ", ";
+      tags.append(separator).append("{\"tag\": \"urn:li:tag:tag").append(i).append("\"}");
+      owners
+          .append(separator)
+          .append("{\"owner\": \"urn:li:corpuser:user")
+          .append(i)
+          .append("\", \"type\": \"TECHNICAL_OWNER\"}");
+      upstreams
+          .append(separator)
+          .append("{\"dataset\": \"")
+          .append(DATASET_PREFIX)
+          .append(i)
+          .append(",PROD)\", \"type\": \"TRANSFORMED\",")
+          .append(" \"auditStamp\": {\"time\": 0, \"actor\": \"urn:li:corpuser:a\"}}");
+      fineGrainedLineages
+          .append(separator)
+          .append("{\"upstreamType\": \"FIELD_SET\", \"upstreams\": [\"")
+          .append(field(i, "upstream"))
+          .append("\"], \"downstreamType\": \"FIELD\", \"downstreams\": [\"")
+          .append(field(i, "downstream"))
+          .append("\"], \"confidenceScore\": 1.0}");
+    }
+
+    globalTags = RecordUtils.toRecordTemplate(GlobalTags.class, "{\"tags\": [" + tags + "]}");
+    globalTagsPatch =
+        Json.createPatch(
+            Json.createArrayBuilder()
+                .add(add("/tags/urn:li:tag:new", "{\"tag\": \"urn:li:tag:new\"}"))
+                .add(remove("/tags/urn:li:tag:tag0"))
+                .build());
+
+    ownership =
+        RecordUtils.toRecordTemplate(
+            Ownership.class,
+            "{\"owners\": ["
+                + owners
+                + "], \"lastModified\": {\"time\": 0, \"actor\": \"urn:li:corpuser:a\"}}");
+    ownershipPatch =
+        Json.createPatch(
+            Json.createArrayBuilder()
+                .add(
+                    add(
+                        "/owners/urn:li:corpuser:new/TECHNICAL_OWNER",
+                        "{\"owner\": \"urn:li:corpuser:new\", \"type\": \"TECHNICAL_OWNER\"}"))
+                .add(remove("/owners/urn:li:corpuser:user0"))
+                .build());
+
+    upstreamLineage =
+        RecordUtils.toRecordTemplate(
+            UpstreamLineage.class,
+            "{\"upstreams\": ["
+                + upstreams
+                + "], \"fineGrainedLineages\": ["
+                + fineGrainedLineages
+                + "]}");
+    JsonArrayBuilder upstreamLineageOperations =
+        Json.createArrayBuilder()
+            .add(
+                add(
+                    "/upstreams/" + DATASET_PREFIX + "new,PROD)",
+                    "{\"dataset\": \""
+                        + DATASET_PREFIX
+                        + "new,PROD)\", \"type\": \"TRANSFORMED\","
+                        + " \"auditStamp\": {\"time\": 0, \"actor\": \"urn:li:corpuser:a\"}}"))
+            .add(
+                add(
+                    "/fineGrainedLineages/NONE/"
+                        + field(0, "downstream")
+                        + "/NONE/"
+                        + field(0, "new"),
+                    "{\"confidenceScore\": 1.0}"));
+    upstreamLineagePatch = Json.createPatch(upstreamLineageOperations.build());
+  }
+
+  @Benchmark
+  public GlobalTags globalTagsDataMap() throws Exception {
+    return globalTagsTemplate.applyPatch(globalTags, globalTagsPatch);
+  }
+
+  @Benchmark
+  public GlobalTags globalTagsJson() throws Exception {
+    return globalTagsJsonTemplate.applyPatch(globalTags, globalTagsPatch);
+  }
+
+  @Benchmark
+  public Ownership ownershipDataMap() throws Exception {
+    return ownershipTemplate.applyPatch(ownership, ownershipPatch);
+  }
+
+  @Benchmark
+  public Ownership ownershipJson() throws Exception {
+    return ownershipJsonTemplate.applyPatch(ownership, ownershipPatch);
+  }
+
+  @Benchmark
+  public UpstreamLineage upstreamLineageDataMap() throws Exception {
+    return upstreamLineageTemplate.applyPatch(upstreamLineage, upstreamLineagePatch);
+  }
+
+  @Benchmark
+  public UpstreamLineage upstreamLineageJson() throws Exception {
+    return upstreamLineageJsonTemplate.applyPatch(upstreamLineage, upstreamLineagePatch);
+  }
+
+  private static String field(int i, String column) {
+    return "urn:li:schemaField:(" + DATASET_PREFIX + i + ",PROD)," + column + ")";
+  }
+
+  private static JsonObject add(String path, String value) {
+    return Json.createObjectBuilder()
+        .add("op", "add")
+        .add("path", path)
+        .add("value", Json.createReader(new StringReader(value)).readObject())
+        .build();
+  }
+
+  private static JsonObject remove(String path) {
+    return Json.createObjectBuilder().add("op", "remove").add("path", path).build();
+  }
+}
@@ -14,6 +14,17 @@ public interface ArrayMergingTemplate<T extends RecordTemplate> extends Template
 
   static final String UNIT_SEPARATOR_DELIMITER = "␟";
 
+  /**
+   * The fields {@link #transformFields} and {@link #rebaseFields} transform, if they do nothing
+   * else. Templates that describe their fields are patched by {@link DataMapPatcher} without the
+   * JSON round trip.
+   *
+   * @return the transformed fields, empty to always patch the JSON representation
+   */
+  default List<DataMapPatcher.IndexedField> getIndexedFields() {
+    return Collections.emptyList();
+  }
+
   /**
    * Takes an Array field on the {@link RecordTemplate} subtype along with a set of key fields to
    * transform into a map Avoids producing side effects by copying nodes, use resulting node and not
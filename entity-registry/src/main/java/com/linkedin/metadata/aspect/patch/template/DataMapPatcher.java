@@ -0,0 +1,441 @@
+package com.linkedin.metadata.aspect.patch.template;
+
+import static com.linkedin.metadata.aspect.patch.template.ArrayMergingTemplate.UNIT_SEPARATOR_DELIMITER;
+
+import com.datahub.util.RecordUtils;
+import com.linkedin.data.ByteString;
+import com.linkedin.data.Data;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.metadata.aspect.patch.PatchOperationType;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonPatch;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Applies patches of {@link ArrayMergingTemplate}s directly to the {@link DataMap} of an aspect,
+ * instead of converting it to JSON, applying a {@link JsonPatch} and parsing the result back.
+ *
+ * <p>The array fields that patches address by key are held in {@link KeyedIndex}es while the patch
+ * is applied, the rest of the aspect stays a {@link DataMap}. The result is the same as the one of
+ * the JSON based implementation, including the numbers that the JSON round trip normalizes. Any
+ * patch or aspect that is not modelled exactly, e.g. unsupported operations, missing paths or
+ * unexpected types, is left to the JSON based implementation, which also reports its errors.
+ */
+@Slf4j
+public class DataMapPatcher {
+
+  private DataMapPatcher() {}
+
+  /** An array field of an aspect that is addressed by patches as a map of its keys. */
+  public interface IndexedField {
+    @Nonnull
+    String getFieldName();
+
+    /**
+     * @param value the value of the field in the aspect, null if not set
+     * @return the keyed representation patches are applied to
+     */
+    @Nonnull
+    KeyedIndex toIndex(@Nullable Object value);
+
+    /**
+     * @param value the patched value of the field, a {@link DataList} if a patch replaced it
+     * @return the value of the field in the patched aspect
+     */
+    @Nonnull
+    Object fromIndex(@Nullable Object value);
+  }
+
+  /**
+   * An insertion ordered level of keys of an {@link IndexedField}. The values of a level with a
+   * depth of 1 are the array elements, otherwise the next levels.
+   */
+  public static class KeyedIndex extends LinkedHashMap<String, Object> {
+    private final int depth;
+
+    public KeyedIndex(int depth) {
+      this.depth = depth;
+    }
+
+    public int getDepth() {
+      return depth;
+    }
+
+    /** Empty value created for a missing key when populating the parents of a patch path. */
+    Object emptyChild() {
+      return depth > 1 ? new KeyedIndex(depth - 1) : new DataMap();
+    }
+  }
+
+  /** Thrown for anything the JSON based implementation has to handle. */
+  static class UnsupportedPatchException extends RuntimeException {
+    UnsupportedPatchException(String message) {
+      super(message);
+    }
+  }
+
+  /**
+   * An array of records merged by the values of key fields, or of strings merged by value if there
+   * are no key fields, see {@link ArrayMergingTemplate#arrayFieldToMap}.
+   */
+  public static IndexedField keyedArray(
+      @Nonnull String fieldName, @Nonnull List<String> keyFields) {
+    return new KeyedArrayField(fieldName, keyFields);
+  }
+
+  /**
+   * @return the patched aspect, empty if the template has no indexed fields or the patch has to be
+   *     applied by the JSON based implementation
+   */
+  @Nonnull
+  public static <T extends RecordTemplate> Optional<T> applyPatch(
+      @Nonnull Template<T> template,
+      @Nonnull RecordTemplate recordTemplate,
+      @Nonnull JsonPatch jsonPatch) {
+    if (!(template instanceof ArrayMergingTemplate)) {
+      return Optional.empty();
+    }
+    List<IndexedField> fields = ((ArrayMergingTemplate<T>) template).getIndexedFields();
+    if (fields.isEmpty()) {
+      return Optional.empty();
+    }
+    T subtype = template.getSubtype(recordTemplate);
+    try {
+      return Optional.of(
+          RecordUtils.toRecordTemplate(
+              template.getTemplateType(), apply(subtype.data(), jsonPatch, fields)));
+    } catch (UnsupportedPatchException e) {
+      log.debug("Applying patch to JSON of {}: {}", recordTemplate.schema().getName(), e);
+    } catch (CloneNotSupportedException | RuntimeException e) {
+      log.debug("Applying patch to JSON of {}", recordTemplate.schema().getName(), e);
+    }
+    return Optional.empty();
+  }
+
+  static DataMap apply(DataMap data, JsonPatch jsonPatch, List<IndexedField> fields)
+      throws CloneNotSupportedException {
+    List<JsonObject> operations = new ArrayList<>();
+    for (JsonValue operation : jsonPatch.toJsonArray()) {
+      operations.add(operation.asJsonObject());
+    }
+
+    Map<String, Object> root = new HashMap<>(data.copy());
+    for (IndexedField field : fields) {
+      root.put(field.getFieldName(), field.toIndex(root.get(field.getFieldName())));
+    }
+
+    // like TemplateUtil.populateTopLevelKeys, parents of all paths exist before any is applied
+    for (JsonObject operation : operations) {
+      populateParents(root, operation.getString("path"), operationType(operation));
+    }
+    for (JsonObject operation : operations) {
+      applyOperation(root, operation);
+    }
+
+    for (IndexedField field : fields) {
+      root.put(field.getFieldName(), field.fromIndex(root.get(field.getFieldName())));
+    }
+    DataMap patched = new DataMap();
+    for (Map.Entry<String, Object> entry : root.entrySet()) {
+      patched.put(entry.getKey(), normalize(entry.getValue()));
+    }
+    return patched;
+  }
+
+  private static PatchOperationType operationType(JsonObject operation) {
+    switch (operation.getString("op")) {
+      case "add":
+        return PatchOperationType.ADD;
+      case "remove":
+        return PatchOperationType.REMOVE;
+      default:
+        throw new UnsupportedPatchException("Unsupported operation " + operation);
+    }
+  }
+
+  private static void populateParents(
+      Map<String, Object> root, String path, PatchOperationType operationType) {
+    String[] keys = path.split("/");
+    int endIdx = PatchOperationType.REMOVE.equals(operationType) ? keys.length : keys.length - 1;
+    Object parent = root;
+    for (int i = 1; i < endIdx; i++) {
+      Map<String, Object> parentMap = asMap(parent);
+      String key = decode(keys[i]);
+      Object child = parentMap.get(key);
+      if (child == null) {
+        child = parent instanceof KeyedIndex ? ((KeyedIndex) parent).emptyChild() : new DataMap();
+        parentMap.put(key, child);
+      }
+      parent = child;
+    }
+  }
+
+  private static void applyOperation(Map<String, Object> root, JsonObject operation) {
+    String path = operation.getString("path");
+    if (!path.startsWith("/")) {
+      throw new UnsupportedPatchException("Unsupported path " + path);
+    }
+    String[] tokens = path.substring(1).split("/", -1);
+    Object parent = root;
+    for (int i = 0; i < tokens.length - 1; i++) {
+      parent = child(parent, decode(tokens[i]));
+    }
+    String last = decode(tokens[tokens.length - 1]);
+
+    if (PatchOperationType.ADD.equals(operationType(operation))) {
+      Object value = toData(operation.get("value"));
+      if (parent instanceof Map) {
+        asMap(parent).put(last, value);
+      } else if (parent instanceof DataList) {
+        DataList list = (DataList) parent;
+        list.add("-".equals(last) ? list.size() : index(last, list.size() + 1), value);
+      } else {
+        throw new UnsupportedPatchException("No container at " + path);
+      }
+    } else {
+      if (parent instanceof Map && asMap(parent).containsKey(last)) {
+        asMap(parent).remove(last);
+      } else if (parent instanceof DataList) {
+        DataList list = (DataList) parent;
+        list.remove(index(last, list.size()));
+      } else {
+        throw new UnsupportedPatchException("Nothing to remove at " + path);
+      }
+    }
+  }
+
+  private static Object child(Object parent, String token) {
+    Object child = null;
+    if (parent instanceof Map) {
+      child = asMap(parent).get(token);
+    } else if (parent instanceof DataList) {
+      child = ((DataList) parent).get(index(token, ((DataList) parent).size()));
+    }
+    if (child == null) {
+      throw new UnsupportedPatchException("Missing path element " + token);
+    }
+    return child;
+  }
+
+  private static int index(String token, int bound) {
+    if (!token.matches("0|[1-9][0-9]{0,8}")) {
+      throw new UnsupportedPatchException("Invalid array index " + token);
+    }
+    int index = Integer.parseInt(token);
+    if (index >= bound) {
+      throw new UnsupportedPatchException("Array index out of bounds " + token);
+    }
+    return index;
+  }
+
+  private static String decode(String token) {
+    return token.replace("~1", "/").replace("~0", "~");
+  }
+
+  /** Converts a patch value to data the way parsing its JSON serialization would. */
+  private static Object toData(@Nullable JsonValue value) {
+    if (value == null) {
+      throw new UnsupportedPatchException("Missing value");
+    }
+    switch (value.getValueType()) {
+      case OBJECT:
+        DataMap map = new DataMap();
+        for (Map.Entry<String, JsonValue> entry : value.asJsonObject().entrySet()) {
+          map.put(entry.getKey(), toData(entry.getValue()));
+        }
+        return map;
+      case ARRAY:
+        DataList list = new DataList();
+        for (JsonValue element : (JsonArray) value) {
+          list.add(toData(element));
+        }
+        return list;
+      case STRING:
+        return ((JsonString) value).getString();
+      case NUMBER:
+        JsonNumber number = (JsonNumber) value;
+        if (!number.isIntegral()) {
+          return Double.parseDouble(number.toString());
+        }
+        BigInteger integer = number.bigIntegerValue();
+        if (integer.bitLength() < Integer.SIZE) {
+          return integer.intValue();
+        } else if (integer.bitLength() < Long.SIZE) {
+          return integer.longValue();
+        }
+        throw new UnsupportedPatchException("Number out of range " + number);
+      case TRUE:
+        return Boolean.TRUE;
+      case FALSE:
+        return Boolean.FALSE;
+      default:
+        return Data.NULL;
+    }
+  }
+
+  /** Normalizes values the way serializing the aspect to JSON and parsing it back would. */
+  private static Object normalize(Object value) {
+    if (value instanceof DataMap) {
+      DataMap map = new DataMap();
+      for (Map.Entry<String, Object> entry : ((DataMap) value).entrySet()) {
+        map.put(entry.getKey(), normalize(entry.getValue()));
+      }
+      return map;
+    } else if (value instanceof DataList) {
+      DataList list = new DataList();
+      for (Object element : (DataList) value) {
+        list.add(normalize(element));
+      }
+      return list;
+    } else if (value instanceof Long) {
+      long longValue = (Long) value;
+      return longValue == (int) longValue ? (Object) (int) longValue : value;
+    } else if (value instanceof Float) {
+      if (!Float.isFinite((Float) value)) {
+        throw new UnsupportedPatchException("Not a finite number " + value);
+      }
+      return Double.parseDouble(value.toString());
+    } else if (value instanceof Double) {
+      if (!Double.isFinite((Double) value)) {
+        throw new UnsupportedPatchException("Not a finite number " + value);
+      }
+      return value;
+    } else if (value instanceof ByteString) {
+      return ((ByteString) value).asAvroString();
+    } else if (value instanceof KeyedIndex) {
+      throw new UnsupportedPatchException("Keyed index outside of its field");
+    }
+    return value;
+  }
+
+  @SuppressWarnings("unchecked")
+  static Map<String, Object> asMap(@Nullable Object value) {
+    if (value instanceof Map) {
+      return (Map<String, Object>) value;
+    }
+    throw new UnsupportedPatchException("Expected an object but found " + value);
+  }
+
+  static DataMap asDataMap(@Nullable Object value) {
+    if (value instanceof DataMap) {
+      return (DataMap) value;
+    }
+    throw new UnsupportedPatchException("Expected a record but found " + value);
+  }
+
+  static KeyedIndex asIndex(@Nullable Object value) {
+    if (value instanceof KeyedIndex) {
+      return (KeyedIndex) value;
+    }
+    throw new UnsupportedPatchException("Expected keys but found " + value);
+  }
+
+  static String asText(@Nullable Object value) {
+    if (value instanceof String) {
+      return (String) value;
+    }
+    throw new UnsupportedPatchException("Expected a string but found " + value);
+  }
+
+  static Number asNumber(@Nullable Object value) {
+    if (value instanceof Number) {
+      return (Number) value;
+    }
+    throw new UnsupportedPatchException("Expected a number but found " + value);
+  }
+
+  private static class KeyedArrayField implements IndexedField {
+    private final String fieldName;
+    private final List<String> keyFields;
+
+    private KeyedArrayField(String fieldName, List<String> keyFields) {
+      this.fieldName = fieldName;
+      this.keyFields = keyFields;
+    }
+
+    @Nonnull
+    @Override
+    public String getFieldName() {
+      return fieldName;
+    }
+
+    @Nonnull
+    @Override
+    public KeyedIndex toIndex(@Nullable Object value) {
+      KeyedIndex index = new KeyedIndex(Math.max(keyFields.size(), 1));
+      if (!(value instanceof DataList)) {
+        return index;
+      }
+      for (Object element : (DataList) value) {
+        if (keyFields.isEmpty()) {
+          // No key fields, assume String array
+          index.put(asText(element), element);
+          continue;
+        }
+        DataMap record = asDataMap(element);
+        KeyedIndex level = index;
+        for (String keyField : keyFields) {
+          String key = key(record, keyField);
+          Object next = level.get(key);
+          if (next == null) {
+            next = level.emptyChild();
+            level.put(key, next);
+          }
+          if (level.getDepth() > 1) {
+            level = (KeyedIndex) next;
+          } else {
+            // elements with the same keys are merged
+            ((DataMap) next).putAll(record);
+          }
+        }
+      }
+      return index;
+    }
+
+    private static String key(DataMap record, String keyField) {
+      // if the keyField has a unit separator, we are working with a nested key
+      if (keyField.contains(UNIT_SEPARATOR_DELIMITER)) {
+        String[] keyParts = keyField.split(UNIT_SEPARATOR_DELIMITER);
+        return asText(asDataMap(record.get(keyParts[0])).get(keyParts[1]));
+      }
+      return asText(record.get(keyField));
+    }
+
+    @Nonnull
+    @Override
+    public Object fromIndex(@Nullable Object value) {
+      if (value instanceof DataList) {
+        // replaced as a whole
+        return value;
+      }
+      DataList array = new DataList();
+      addElements(asIndex(value), array);
+      return array;
+    }
+
+    private static void addElements(KeyedIndex index, DataList array) {
+      for (Object child : index.values()) {
+        if (index.getDepth() > 1) {
+          addElements(asIndex(child), array);
+        } else {
+          array.add(child);
+        }
+      }
+    }
+  }
+}
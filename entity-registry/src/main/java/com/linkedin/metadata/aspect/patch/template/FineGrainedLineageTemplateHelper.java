@@ -9,8 +9,13 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.Streams;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.metadata.aspect.patch.template.DataMapPatcher.KeyedIndex;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.codehaus.plexus.util.StringUtils;
 
@@ -279,4 +284,192 @@ public class FineGrainedLineageTemplateHelper {
     }
     upstreams.add(instance.textNode(upstream));
   }
+
+  /**
+   * The fine grained lineages field for {@link DataMapPatcher}, keyed the same way as by {@link
+   * #combineAndTransformFineGrainedLineages} and rebuilt the same way as by {@link
+   * #reconstructFineGrainedLineages}.
+   */
+  public static DataMapPatcher.IndexedField indexedField(@Nonnull String fieldName) {
+    return new DataMapPatcher.IndexedField() {
+      @Nonnull
+      @Override
+      public String getFieldName() {
+        return fieldName;
+      }
+
+      @Nonnull
+      @Override
+      public KeyedIndex toIndex(@Nullable Object value) {
+        return combineAndIndexFineGrainedLineages(value);
+      }
+
+      @Nonnull
+      @Override
+      public Object fromIndex(@Nullable Object value) {
+        return reconstructIndexedFineGrainedLineages(value);
+      }
+    };
+  }
+
+  private static KeyedIndex combineAndIndexFineGrainedLineages(
+      @Nullable Object fineGrainedLineages) {
+    // transformation operation -> downstream -> query -> upstream -> lineage value
+    KeyedIndex mapNode = new KeyedIndex(4);
+    if (!(fineGrainedLineages instanceof DataList) || ((DataList) fineGrainedLineages).isEmpty()) {
+      return mapNode;
+    }
+
+    for (Object element : (DataList) fineGrainedLineages) {
+      DataMap node = DataMapPatcher.asDataMap(element);
+      String transformationOperation =
+          node.containsKey(FINE_GRAINED_TRANSFORMATION_OPERATION)
+              ? DataMapPatcher.asText(node.get(FINE_GRAINED_TRANSFORMATION_OPERATION))
+              : NONE_TRANSFORMATION_TYPE;
+      KeyedIndex transformationOperationNode =
+          (KeyedIndex) mapNode.computeIfAbsent(transformationOperation, k -> new KeyedIndex(3));
+
+      Object downstreams = node.get(FINE_GRAINED_DOWNSTREAMS);
+      if (!(downstreams instanceof DataList) || ((DataList) downstreams).size() != 1) {
+        throw new DataMapPatcher.UnsupportedPatchException(
+            "Fine grained lineage without exactly one downstream");
+      }
+
+      Float confidenceScore =
+          node.containsKey(FINE_GRAINED_CONFIDENCE_SCORE)
+              ? DataMapPatcher.asNumber(node.get(FINE_GRAINED_CONFIDENCE_SCORE)).floatValue()
+              : DEFAULT_CONFIDENCE_SCORE;
+      String upstreamType =
+          node.containsKey(FINE_GRAINED_UPSTREAM_TYPE)
+              ? DataMapPatcher.asText(node.get(FINE_GRAINED_UPSTREAM_TYPE))
+              : null;
+      String downstreamType =
+          node.containsKey(FINE_GRAINED_DOWNSTREAM_TYPE)
+              ? DataMapPatcher.asText(node.get(FINE_GRAINED_DOWNSTREAM_TYPE))
+              : null;
+      DataList upstreams = null;
+      if (node.containsKey(FINE_GRAINED_UPSTREAMS)) {
+        if (!(node.get(FINE_GRAINED_UPSTREAMS) instanceof DataList)) {
+          throw new DataMapPatcher.UnsupportedPatchException("Fine grained upstreams not an array");
+        }
+        upstreams = (DataList) node.get(FINE_GRAINED_UPSTREAMS);
+      }
+      String queryId =
+          node.containsKey(FINE_GRAINED_QUERY_ID)
+              ? DataMapPatcher.asText(node.get(FINE_GRAINED_QUERY_ID))
+              : DEFAULT_QUERY_ID;
+
+      if (upstreamType == null) {
+        // Determine default type
+        Urn upstreamUrn =
+            upstreams != null ? UrnUtils.getUrn(DataMapPatcher.asText(upstreams.get(0))) : null;
+        if (upstreamUrn != null && DATASET_ENTITY_NAME.equals(upstreamUrn.getEntityType())) {
+          upstreamType = FINE_GRAINED_LINEAGE_DATASET_TYPE;
+        } else {
+          upstreamType = FINE_GRAINED_LINEAGE_FIELD_SET_TYPE;
+        }
+      }
+
+      if (downstreamType == null) {
+        // Always use FIELD type, only support patches for single field downstream
+        downstreamType = FINE_GRAINED_LINEAGE_FIELD_TYPE;
+      }
+
+      String downstreamRoot = DataMapPatcher.asText(((DataList) downstreams).get(0));
+      KeyedIndex downstreamRootNode =
+          (KeyedIndex)
+              transformationOperationNode.computeIfAbsent(downstreamRoot, k -> new KeyedIndex(2));
+      KeyedIndex queryNode =
+          (KeyedIndex) downstreamRootNode.computeIfAbsent(queryId, k -> new KeyedIndex(1));
+      if (upstreams != null) {
+        final String finalUpstreamType = upstreamType;
+        final String finalDownstreamType = downstreamType;
+        // Collected the same way as by addUrnsToParent, which determines the order of upstreams
+        Map<String, DataMap> upstreamValues =
+            upstreams.stream()
+                .map(DataMapPatcher::asText)
+                .distinct()
+                .collect(
+                    Collectors.toMap(
+                        urn -> urn,
+                        urn ->
+                            mapToLineageValue(
+                                confidenceScore, finalUpstreamType, finalDownstreamType)));
+        queryNode.putAll(upstreamValues);
+      }
+    }
+    return mapNode;
+  }
+
+  private static DataMap mapToLineageValue(
+      Float confidenceScore, String upstreamType, String downstreamType) {
+    DataMap value = new DataMap();
+    value.put(FINE_GRAINED_CONFIDENCE_SCORE, confidenceScore);
+    value.put(FINE_GRAINED_UPSTREAM_TYPE, upstreamType);
+    value.put(FINE_GRAINED_DOWNSTREAM_TYPE, downstreamType);
+    return value;
+  }
+
+  private static Object reconstructIndexedFineGrainedLineages(@Nullable Object indexedLineages) {
+    if (indexedLineages instanceof DataList) {
+      // replaced as a whole
+      return indexedLineages;
+    }
+    DataList fineGrainedLineages = new DataList();
+    for (Map.Entry<String, Object> operation : DataMapPatcher.asIndex(indexedLineages).entrySet()) {
+      for (Map.Entry<String, Object> downstream :
+          DataMapPatcher.asIndex(operation.getValue()).entrySet()) {
+        for (Map.Entry<String, Object> query :
+            DataMapPatcher.asIndex(downstream.getValue()).entrySet()) {
+          KeyedIndex queryNode = DataMapPatcher.asIndex(query.getValue());
+          if (!queryNode.isEmpty()) {
+            fineGrainedLineages.add(
+                buildFineGrainedLineage(
+                    downstream.getKey(), query.getKey(), operation.getKey(), queryNode));
+          }
+        }
+      }
+    }
+    return fineGrainedLineages;
+  }
+
+  private static DataMap buildFineGrainedLineage(
+      String downstreamName, String queryId, String transformationOperation, KeyedIndex queryNode) {
+    // Set defaults, if found in sub nodes override, for confidenceScore take lowest
+    Float minimumConfidenceScore = DEFAULT_CONFIDENCE_SCORE;
+    String upstreamType = FINE_GRAINED_LINEAGE_FIELD_SET_TYPE;
+    String downstreamType = FINE_GRAINED_LINEAGE_FIELD_TYPE;
+    DataList upstreams = new DataList();
+    for (Map.Entry<String, Object> upstream : queryNode.entrySet()) {
+      DataMap upstreamNode = DataMapPatcher.asDataMap(upstream.getValue());
+      if (upstreamNode.containsKey(FINE_GRAINED_CONFIDENCE_SCORE)) {
+        Float scoreValue =
+            DataMapPatcher.asNumber(upstreamNode.get(FINE_GRAINED_CONFIDENCE_SCORE)).floatValue();
+        if (scoreValue <= minimumConfidenceScore) {
+          minimumConfidenceScore = scoreValue;
+        }
+      }
+      if (upstreamNode.containsKey(FINE_GRAINED_UPSTREAM_TYPE)) {
+        upstreamType = DataMapPatcher.asText(upstreamNode.get(FINE_GRAINED_UPSTREAM_TYPE));
+      }
+      if (upstreamNode.containsKey(FINE_GRAINED_DOWNSTREAM_TYPE)) {
+        downstreamType = DataMapPatcher.asText(upstreamNode.get(FINE_GRAINED_DOWNSTREAM_TYPE));
+      }
+      upstreams.add(upstream.getKey());
+    }
+
+    DataMap fineGrainedLineage = new DataMap();
+    DataList downstreams = new DataList();
+    downstreams.add(downstreamName);
+    fineGrainedLineage.put(FINE_GRAINED_DOWNSTREAMS, downstreams);
+    fineGrainedLineage.put(FINE_GRAINED_UPSTREAMS, upstreams);
+    if (StringUtils.isNotBlank(queryId) && !DEFAULT_QUERY_ID.equals(queryId)) {
+      fineGrainedLineage.put(FINE_GRAINED_QUERY_ID, queryId);
+    }
+    fineGrainedLineage.put(FINE_GRAINED_UPSTREAM_TYPE, upstreamType);
+    fineGrainedLineage.put(FINE_GRAINED_DOWNSTREAM_TYPE, downstreamType);
+    fineGrainedLineage.put(FINE_GRAINED_CONFIDENCE_SCORE, minimumConfidenceScore);
+    fineGrainedLineage.put(FINE_GRAINED_TRANSFORMATION_OPERATION, transformationOperation);
+    return fineGrainedLineage;
+  }
 }
@@ -5,7 +5,9 @@ import com.linkedin.common.GlobalTags;
 import com.linkedin.common.TagAssociationArray;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.aspect.patch.template.ArrayMergingTemplate;
+import com.linkedin.metadata.aspect.patch.template.DataMapPatcher;
 import java.util.Collections;
+import java.util.List;
 import javax.annotation.Nonnull;
 
 public class GlobalTagsTemplate implements ArrayMergingTemplate<GlobalTags> {
@@ -35,6 +37,12 @@ public class GlobalTagsTemplate implements ArrayMergingTemplate<GlobalTags> {
     return globalTags;
   }
 
+  @Override
+  public List<DataMapPatcher.IndexedField> getIndexedFields() {
+    return Collections.singletonList(
+        DataMapPatcher.keyedArray(TAGS_FIELD_NAME, Collections.singletonList(TAG_FIELD_NAME)));
+  }
+
   @Nonnull
   @Override
   public JsonNode transformFields(JsonNode baseNode) {
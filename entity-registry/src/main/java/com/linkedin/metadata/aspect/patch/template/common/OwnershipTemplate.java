@@ -9,7 +9,10 @@ import com.linkedin.common.Ownership;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.aspect.patch.template.CompoundKeyTemplate;
+import com.linkedin.metadata.aspect.patch.template.DataMapPatcher;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import javax.annotation.Nonnull;
 
 public class OwnershipTemplate extends CompoundKeyTemplate<Ownership> {
@@ -44,6 +47,13 @@ public class OwnershipTemplate extends CompoundKeyTemplate<Ownership> {
     return ownership;
   }
 
+  @Override
+  public List<DataMapPatcher.IndexedField> getIndexedFields() {
+    return Collections.singletonList(
+        DataMapPatcher.keyedArray(
+            OWNERS_FIELD_NAME, Arrays.asList(OWNER_FIELD_NAME, TYPE_FIELD_NAME)));
+  }
+
   @Nonnull
   @Override
   public JsonNode transformFields(JsonNode baseNode) {
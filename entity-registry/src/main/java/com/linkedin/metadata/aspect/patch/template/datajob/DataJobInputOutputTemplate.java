@@ -13,8 +13,11 @@ import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.datajob.DataJobInputOutput;
 import com.linkedin.dataset.FineGrainedLineageArray;
 import com.linkedin.metadata.aspect.patch.template.ArrayMergingTemplate;
+import com.linkedin.metadata.aspect.patch.template.DataMapPatcher;
 import com.linkedin.metadata.aspect.patch.template.FineGrainedLineageTemplateHelper;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import javax.annotation.Nonnull;
 
 public class DataJobInputOutputTemplate implements ArrayMergingTemplate<DataJobInputOutput> {
@@ -62,6 +65,22 @@ public class DataJobInputOutputTemplate implements ArrayMergingTemplate<DataJobI
     return dataJobInputOutput;
   }
 
+  @Override
+  public List<DataMapPatcher.IndexedField> getIndexedFields() {
+    return Arrays.asList(
+        DataMapPatcher.keyedArray(
+            INPUT_DATA_JOB_EDGES_FIELD_NAME,
+            Collections.singletonList(DESTINATION_URN_FIELD_NAME)),
+        DataMapPatcher.keyedArray(
+            INPUT_DATASET_EDGES_FIELD_NAME, Collections.singletonList(DESTINATION_URN_FIELD_NAME)),
+        DataMapPatcher.keyedArray(
+            OUTPUT_DATASET_EDGES_FIELD_NAME,
+            Collections.singletonList(DESTINATION_URN_FIELD_NAME)),
+        DataMapPatcher.keyedArray(INPUT_DATASET_FIELDS_FIELD_NAME, Collections.emptyList()),
+        DataMapPatcher.keyedArray(OUTPUT_DATASET_FIELDS_FIELD_NAME, Collections.emptyList()),
+        FineGrainedLineageTemplateHelper.indexedField(FINE_GRAINED_LINEAGES_FIELD_NAME));
+  }
+
   @Nonnull
   @Override
   public JsonNode transformFields(JsonNode baseNode) {
@@ -9,8 +9,11 @@ import com.linkedin.dataset.FineGrainedLineageArray;
 import com.linkedin.dataset.UpstreamArray;
 import com.linkedin.dataset.UpstreamLineage;
 import com.linkedin.metadata.aspect.patch.template.CompoundKeyTemplate;
+import com.linkedin.metadata.aspect.patch.template.DataMapPatcher;
 import com.linkedin.metadata.aspect.patch.template.FineGrainedLineageTemplateHelper;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import javax.annotation.Nonnull;
 
 public class UpstreamLineageTemplate extends CompoundKeyTemplate<UpstreamLineage> {
@@ -43,6 +46,14 @@ public class UpstreamLineageTemplate extends CompoundKeyTemplate<UpstreamLineage
     return upstreamLineage;
   }
 
+  @Override
+  public List<DataMapPatcher.IndexedField> getIndexedFields() {
+    return Arrays.asList(
+        DataMapPatcher.keyedArray(
+            UPSTREAMS_FIELD_NAME, Collections.singletonList(DATASET_FIELD_NAME)),
+        FineGrainedLineageTemplateHelper.indexedField(FINE_GRAINED_LINEAGES_FIELD_NAME));
+  }
+
   @Nonnull
   @Override
   public JsonNode transformFields(JsonNode baseNode) {
@@ -4,6 +4,7 @@ import com.linkedin.data.DataMap;
 import com.linkedin.data.schema.RecordDataSchema;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.models.annotation.AspectAnnotation;
+import com.linkedin.metadata.models.extractor.CompiledFieldExtractor;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -25,6 +26,9 @@ public class AspectSpec {
   private final Map<String, TimeseriesFieldCollectionSpec> _timeseriesFieldCollectionSpecs;
   private final Map<String, SearchableRefFieldSpec> _searchableRefFieldSpecs;
 
+  // All field specs above, compiled once for extraction in a single pass
+  @EqualsAndHashCode.Exclude private final CompiledFieldExtractor _fieldExtractor;
+
   // Classpath & Pegasus-specific: Temporary.
   private final RecordDataSchema _schema;
   private final Class<RecordTemplate> _aspectClass;
@@ -76,6 +80,14 @@ public class AspectSpec {
                     spec -> spec.getTimeseriesFieldCollectionAnnotation().getCollectionName(),
                     spec -> spec,
                     (val1, val2) -> val1));
+    final List<FieldSpec> fieldSpecs = new ArrayList<>();
+    fieldSpecs.addAll(_searchableFieldSpecs.values());
+    fieldSpecs.addAll(_searchableRefFieldSpecs.values());
+    fieldSpecs.addAll(_searchScoreFieldSpecs.values());
+    fieldSpecs.addAll(_relationshipFieldSpecs.values());
+    fieldSpecs.addAll(_timeseriesFieldSpecs.values());
+    fieldSpecs.addAll(_timeseriesFieldCollectionSpecs.values());
+    _fieldExtractor = CompiledFieldExtractor.compile(fieldSpecs);
     _schema = schema;
     _aspectClass = aspectClass;
   }
@@ -140,6 +152,11 @@ public class AspectSpec {
     return new ArrayList<>(_timeseriesFieldCollectionSpecs.values());
   }
 
+  /** Extracts the values of all field specs of this aspect in a single pass over a record. */
+  public CompiledFieldExtractor getFieldExtractor() {
+    return _fieldExtractor;
+  }
+
   public RecordDataSchema getPegasusSchema() {
     return _schema;
   }
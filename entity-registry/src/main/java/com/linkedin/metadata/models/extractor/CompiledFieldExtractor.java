@@ -0,0 +1,188 @@
+package com.linkedin.metadata.models.extractor;
+
+import com.datahub.util.RecordUtils;
+import com.linkedin.data.template.AbstractArrayTemplate;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.metadata.models.FieldSpec;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Extracts the values of many {@link FieldSpec}s of an aspect in a single pass over the record.
+ *
+ * <p>The paths of all field specs are compiled once into a tree of path components, so shared
+ * prefixes are resolved once per record and arrays are walked once for all specs below them. The
+ * values are the same as {@link FieldExtractor#extractFields(RecordTemplate, List)} returns for
+ * each spec.
+ */
+public final class CompiledFieldExtractor {
+
+  private static final String ARRAY_WILDCARD = "*";
+
+  private static final class Node {
+    private final String part;
+    private final Map<String, Node> children = new LinkedHashMap<>();
+    private final List<CompiledSpec> specs = new ArrayList<>();
+    private final List<CompiledSpec> subtreeSpecs = new ArrayList<>();
+    private final Set<Class<?>> subtreeSpecTypes = new HashSet<>();
+
+    private Node(String part) {
+      this.part = part;
+    }
+  }
+
+  private static final class CompiledSpec {
+    private final FieldSpec fieldSpec;
+    private final int numArrayWildcards;
+
+    private CompiledSpec(FieldSpec fieldSpec, int numArrayWildcards) {
+      this.fieldSpec = fieldSpec;
+      this.numArrayWildcards = numArrayWildcards;
+    }
+  }
+
+  private final Node root;
+
+  private CompiledFieldExtractor(Node root) {
+    this.root = root;
+  }
+
+  @Nonnull
+  public static CompiledFieldExtractor compile(
+      @Nonnull Collection<? extends FieldSpec> fieldSpecs) {
+    final Node root = new Node(null);
+    for (FieldSpec fieldSpec : fieldSpecs) {
+      int numArrayWildcards = 0;
+      Node node = root;
+      final List<Node> nodes = new ArrayList<>();
+      nodes.add(root);
+      for (String part : fieldSpec.getPath().getPathComponents()) {
+        // arrays are detected from the values, as RecordUtils does
+        if (ARRAY_WILDCARD.equals(part)) {
+          numArrayWildcards++;
+        } else {
+          node = node.children.computeIfAbsent(part, Node::new);
+          nodes.add(node);
+        }
+      }
+      final CompiledSpec compiledSpec = new CompiledSpec(fieldSpec, numArrayWildcards);
+      node.specs.add(compiledSpec);
+      for (Node parent : nodes) {
+        parent.subtreeSpecs.add(compiledSpec);
+        parent.subtreeSpecTypes.add(fieldSpec.getClass());
+      }
+    }
+    return new CompiledFieldExtractor(root);
+  }
+
+  /**
+   * @param record the aspect to extract values from
+   * @param maxValueLength longer values of map fields are skipped
+   * @param fieldSpecTypes only specs of these classes are extracted
+   * @return the values of each compiled spec of the given types, empty if the value is not set
+   */
+  @Nonnull
+  public Map<FieldSpec, List<Object>> extract(
+      @Nullable RecordTemplate record,
+      int maxValueLength,
+      @Nonnull Set<Class<? extends FieldSpec>> fieldSpecTypes) {
+    final Map<CompiledSpec, Object> values = new HashMap<>();
+    if (record != null) {
+      visit(record, root, fieldSpecTypes, values);
+    }
+
+    final Map<FieldSpec, List<Object>> extractedFields = new HashMap<>();
+    for (CompiledSpec compiledSpec : root.subtreeSpecs) {
+      if (fieldSpecTypes.contains(compiledSpec.fieldSpec.getClass())) {
+        extractedFields.put(
+            compiledSpec.fieldSpec,
+            toValueList(compiledSpec, values.get(compiledSpec), maxValueLength));
+      }
+    }
+    return extractedFields;
+  }
+
+  private static void visit(
+      Object reference,
+      Node node,
+      Set<Class<? extends FieldSpec>> fieldSpecTypes,
+      Map<CompiledSpec, Object> values) {
+    for (CompiledSpec compiledSpec : node.specs) {
+      values.put(compiledSpec, reference);
+    }
+    for (Node child : node.children.values()) {
+      if (!Collections.disjoint(child.subtreeSpecTypes, fieldSpecTypes)) {
+        visitChild(reference, child, fieldSpecTypes, values);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void visitChild(
+      Object reference,
+      Node child,
+      Set<Class<? extends FieldSpec>> fieldSpecTypes,
+      Map<CompiledSpec, Object> values) {
+    if (reference instanceof AbstractArrayTemplate) {
+      // every spec below an array gets a list, with one entry per element that has a value
+      final Map<CompiledSpec, List<Object>> lists = new HashMap<>();
+      for (CompiledSpec compiledSpec : child.subtreeSpecs) {
+        lists.put(compiledSpec, new ArrayList<>());
+      }
+      final Map<CompiledSpec, Object> elementValues = new HashMap<>();
+      for (Object element : (AbstractArrayTemplate<Object>) reference) {
+        elementValues.clear();
+        visitChild(element, child, fieldSpecTypes, elementValues);
+        elementValues.forEach((compiledSpec, value) -> lists.get(compiledSpec).add(value));
+      }
+      values.putAll(lists);
+      return;
+    }
+    final Object value = RecordUtils.getPathComponentValue(reference, child.part);
+    if (value != null) {
+      visit(value, child, fieldSpecTypes, values);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Object> toValueList(
+      CompiledSpec compiledSpec, @Nullable Object value, int maxValueLength) {
+    if (value == null) {
+      return Collections.emptyList();
+    }
+    // Not an array field
+    if (compiledSpec.numArrayWildcards == 0) {
+      // For maps, convert it into a list of the form key=value (Filter out long values)
+      if (value instanceof Map) {
+        final List<Object> entries = new ArrayList<>();
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+          final String entryValue = entry.getValue().toString();
+          if (entryValue.length() < maxValueLength) {
+            entries.add(entry.getKey().toString() + "=" + entryValue);
+          }
+        }
+        return entries;
+      }
+      return Collections.singletonList(value);
+    }
+    List<Object> valueList = (List<Object>) value;
+    // If the field is a nested list of values, flatten it
+    for (int i = 0; i < compiledSpec.numArrayWildcards - 1; i++) {
+      final List<Object> flattened = new ArrayList<>();
+      for (Object nested : valueList) {
+        flattened.addAll((List<Object>) nested);
+      }
+      valueList = flattened;
+    }
+    return valueList;
+  }
+}
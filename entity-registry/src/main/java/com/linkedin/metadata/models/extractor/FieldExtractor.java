@@ -7,20 +7,25 @@ import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
 import com.linkedin.metadata.models.FieldSpec;
 import com.linkedin.util.Pair;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 /** Extracts fields from a RecordTemplate based on the appropriate {@link FieldSpec}. */
 public class FieldExtractor {
 
   private static final String ARRAY_WILDCARD = "*";
-  private static final int MAX_VALUE_LENGTH = 200;
+  public static final int MAX_VALUE_LENGTH = 200;
 
   private FieldExtractor() {}
 
@@ -95,6 +100,72 @@ public class FieldExtractor {
     return extractedFields;
   }
 
+  /**
+   * Extracts the values of the given field specs of an aspect in a single pass over the record,
+   * using the extractor compiled for the aspect spec. The specs must belong to the aspect spec.
+   */
+  public static Map<FieldSpec, List<Object>> extractAllFields(
+      @Nullable RecordTemplate record,
+      @Nonnull AspectSpec aspectSpec,
+      @Nonnull Collection<? extends FieldSpec> fieldSpecs,
+      int maxValueLength,
+      boolean requiredFieldExtract) {
+    if (fieldSpecs.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    if (requiredFieldExtract && record == null) {
+      throw new IllegalArgumentException(
+          "Field extraction is required and the RecordTemplate is null");
+    }
+    final Set<Class<? extends FieldSpec>> fieldSpecTypes = new HashSet<>();
+    for (FieldSpec fieldSpec : fieldSpecs) {
+      fieldSpecTypes.add(fieldSpec.getClass());
+    }
+    return aspectSpec.getFieldExtractor().extract(record, maxValueLength, fieldSpecTypes);
+  }
+
+  public static <T extends FieldSpec> Map<T, List<Object>> extractFields(
+      @Nullable RecordTemplate record,
+      @Nonnull AspectSpec aspectSpec,
+      @Nonnull List<T> fieldSpecs,
+      int maxValueLength,
+      boolean requiredFieldExtract) {
+    return selectFields(
+        record,
+        extractAllFields(record, aspectSpec, fieldSpecs, maxValueLength, requiredFieldExtract),
+        fieldSpecs,
+        maxValueLength);
+  }
+
+  /**
+   * Picks the values of the given field specs from the result of {@link
+   * #extractAllFields(RecordTemplate, AspectSpec, Collection, int, boolean)}. Specs that were not
+   * compiled for the aspect are extracted from the record one by one.
+   */
+  public static <T extends FieldSpec> Map<T, List<Object>> selectFields(
+      @Nullable RecordTemplate record,
+      @Nonnull Map<FieldSpec, List<Object>> extractedFields,
+      @Nonnull List<T> fieldSpecs,
+      int maxValueLength) {
+    final Map<T, List<Object>> selectedFields = new HashMap<>();
+    List<T> missingFieldSpecs = null;
+    for (T fieldSpec : fieldSpecs) {
+      final List<Object> values = extractedFields.get(fieldSpec);
+      if (values != null) {
+        selectedFields.put(fieldSpec, values);
+      } else {
+        if (missingFieldSpecs == null) {
+          missingFieldSpecs = new ArrayList<>();
+        }
+        missingFieldSpecs.add(fieldSpec);
+      }
+    }
+    if (missingFieldSpecs != null) {
+      selectedFields.putAll(extractFields(record, missingFieldSpecs, maxValueLength));
+    }
+    return selectedFields;
+  }
+
   public static <T extends FieldSpec> Map<T, List<Object>> extractFieldsFromSnapshot(
       RecordTemplate snapshot,
       EntitySpec entitySpec,
@@ -102,14 +173,13 @@ public class FieldExtractor {
       int maxValueLength) {
     final Map<String, RecordTemplate> aspects = AspectExtractor.extractAspectRecords(snapshot);
     final Map<T, List<Object>> extractedFields = new HashMap<>();
-    aspects.keySet().stream()
-        .map(
-            aspectName ->
-                FieldExtractor.extractFields(
-                    aspects.get(aspectName),
-                    getFieldSpecsFunc.apply(entitySpec.getAspectSpec(aspectName)),
-                    maxValueLength))
-        .forEach(extractedFields::putAll);
+    aspects.forEach(
+        (aspectName, aspect) -> {
+          final AspectSpec aspectSpec = entitySpec.getAspectSpec(aspectName);
+          extractedFields.putAll(
+              FieldExtractor.extractFields(
+                  aspect, aspectSpec, getFieldSpecsFunc.apply(aspectSpec), maxValueLength, false));
+        });
     return extractedFields;
   }
 }
@@ -0,0 +1,224 @@
+package com.linkedin.metadata.aspect.patch.template;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.datahub.util.RecordUtils;
+import com.linkedin.common.GlobalTags;
+import com.linkedin.common.Ownership;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.datajob.DataJobInputOutput;
+import com.linkedin.dataset.UpstreamLineage;
+import com.linkedin.metadata.aspect.patch.template.common.GlobalTagsTemplate;
+import com.linkedin.metadata.aspect.patch.template.common.OwnershipTemplate;
+import com.linkedin.metadata.aspect.patch.template.datajob.DataJobInputOutputTemplate;
+import com.linkedin.metadata.aspect.patch.template.dataset.UpstreamLineageTemplate;
+import jakarta.json.Json;
+import jakarta.json.JsonPatch;
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.testng.annotations.Test;
+
+/** Compares patches applied to the DataMap with the same patches applied to the JSON. */
+public class DataMapPatcherTest {
+  private static final String TAG_A = "urn:li:tag:a";
+  private static final String TAG_B = "urn:li:tag:b";
+  private static final String DATASET_A = "urn:li:dataset:(urn:li:dataPlatform:hive,a,PROD)";
+  private static final String DATASET_B = "urn:li:dataset:(urn:li:dataPlatform:hive,b,PROD)";
+  private static final String FIELD_A = "urn:li:schemaField:(" + DATASET_A + ",c1)";
+  private static final String FIELD_B = "urn:li:schemaField:(" + DATASET_B + ",c1)";
+  private static final String FIELD_C = "urn:li:schemaField:(" + DATASET_B + ",c2)";
+
+  @Test
+  public void testGlobalTags() throws Exception {
+    GlobalTags globalTags =
+        RecordUtils.toRecordTemplate(
+            GlobalTags.class,
+            "{\"tags\": [{\"tag\": \"urn:li:tag:c\"}, {\"tag\": \"urn:li:tag:a\"},"
+                + " {\"tag\": \"urn:li:tag:a\", \"context\": \"duplicate\"}]}");
+
+    assertSameResult(
+        new GlobalTagsTemplate(),
+        new GlobalTagsTemplate() {
+          @Override
+          public List<DataMapPatcher.IndexedField> getIndexedFields() {
+            return Collections.emptyList();
+          }
+        },
+        globalTags,
+        "[{\"op\": \"add\", \"path\": \"/tags/urn:li:tag:b\", \"value\": {\"tag\": \""
+            + TAG_B
+            + "\"}},"
+            + " {\"op\": \"remove\", \"path\": \"/tags/urn:li:tag:c\"},"
+            + " {\"op\": \"remove\", \"path\": \"/tags/urn:li:tag:missing\"},"
+            + " {\"op\": \"add\", \"path\": \"/tags/urn:li:tag:a/context\", \"value\": \"ctx\"}]");
+    assertSameResult(
+        new GlobalTagsTemplate(),
+        new GlobalTagsTemplate() {
+          @Override
+          public List<DataMapPatcher.IndexedField> getIndexedFields() {
+            return Collections.emptyList();
+          }
+        },
+        new GlobalTagsTemplate().getDefault(),
+        "[{\"op\": \"add\", \"path\": \"/tags\", \"value\": [{\"tag\": \"" + TAG_A + "\"}]}]");
+  }
+
+  @Test
+  public void testOwnership() throws Exception {
+    Ownership ownership =
+        RecordUtils.toRecordTemplate(
+            Ownership.class,
+            "{\"owners\": [{\"owner\": \"urn:li:corpuser:a\", \"type\": \"TECHNICAL_OWNER\"},"
+                + " {\"owner\": \"urn:li:corpuser:a\", \"type\": \"BUSINESS_OWNER\"},"
+                + " {\"owner\": \"urn:li:corpuser:b\", \"type\": \"DATAOWNER\"}],"
+                + " \"lastModified\": {\"time\": 1700000000000,"
+                + " \"actor\": \"urn:li:corpuser:a\"}}");
+
+    assertSameResult(
+        new OwnershipTemplate(),
+        new OwnershipTemplate() {
+          @Override
+          public List<DataMapPatcher.IndexedField> getIndexedFields() {
+            return Collections.emptyList();
+          }
+        },
+        ownership,
+        "[{\"op\": \"add\", \"path\": \"/owners/urn:li:corpuser:c/TECHNICAL_OWNER\","
+            + " \"value\": {\"owner\": \"urn:li:corpuser:c\", \"type\": \"TECHNICAL_OWNER\"}},"
+            + " {\"op\": \"remove\", \"path\": \"/owners/urn:li:corpuser:a/TECHNICAL_OWNER\"},"
+            + " {\"op\": \"remove\", \"path\": \"/owners/urn:li:corpuser:b\"}]");
+  }
+
+  @Test
+  public void testUpstreamLineage() throws Exception {
+    UpstreamLineage upstreamLineage =
+        RecordUtils.toRecordTemplate(
+            UpstreamLineage.class,
+            "{\"upstreams\": [{\"dataset\": \""
+                + DATASET_A
+                + "\", \"type\": \"TRANSFORMED\","
+                + " \"auditStamp\": {\"time\": 0, \"actor\": \"urn:li:corpuser:a\"}}],"
+                + " \"fineGrainedLineages\": [{\"upstreamType\": \"FIELD_SET\","
+                + " \"upstreams\": [\""
+                + FIELD_A
+                + "\", \""
+                + FIELD_C
+                + "\"], \"downstreamType\": \"FIELD\", \"downstreams\": [\""
+                + FIELD_B
+                + "\"], \"confidenceScore\": 0.7, \"query\": \"urn:li:query:q\"},"
+                + " {\"upstreams\": [\""
+                + FIELD_A
+                + "\"], \"downstreams\": [\""
+                + FIELD_C
+                + "\"], \"transformOperation\": \"COPY\"}]}");
+    String newUpstream = "urn:li:schemaField:(" + DATASET_A + ",c3)";
+
+    assertSameResult(
+        new UpstreamLineageTemplate(),
+        new UpstreamLineageTemplate() {
+          @Override
+          public List<DataMapPatcher.IndexedField> getIndexedFields() {
+            return Collections.emptyList();
+          }
+        },
+        upstreamLineage,
+        "[{\"op\": \"add\", \"path\": \"/upstreams/"
+            + DATASET_B
+            + "\", \"value\": {\"dataset\": \""
+            + DATASET_B
+            + "\", \"type\": \"COPY\","
+            + " \"auditStamp\": {\"time\": 1, \"actor\": \"urn:li:corpuser:b\"}}},"
+            + " {\"op\": \"add\", \"path\": \"/fineGrainedLineages/NONE/"
+            + FIELD_B
+            + "/urn:li:query:q/"
+            + newUpstream
+            + "\", \"value\": {\"confidenceScore\": 0.5}},"
+            + " {\"op\": \"remove\", \"path\": \"/fineGrainedLineages/COPY/"
+            + FIELD_C
+            + "/NONE/"
+            + FIELD_A
+            + "\"},"
+            + " {\"op\": \"add\", \"path\": \"/fineGrainedLineages/CREATE/"
+            + FIELD_C
+            + "//"
+            + FIELD_B
+            + "\", \"value\": {\"confidenceScore\": 1.0}}]");
+  }
+
+  @Test
+  public void testDataJobInputOutput() throws Exception {
+    DataJobInputOutput dataJobInputOutput =
+        RecordUtils.toRecordTemplate(
+            DataJobInputOutput.class,
+            "{\"inputDatasets\": [], \"outputDatasets\": [],"
+                + " \"inputDatasetEdges\": [{\"destinationUrn\": \""
+                + DATASET_A
+                + "\", \"created\": {\"time\": 5, \"actor\": \"urn:li:corpuser:a\"}}],"
+                + " \"inputDatasetFields\": [\""
+                + FIELD_A
+                + "\"]}");
+
+    assertSameResult(
+        new DataJobInputOutputTemplate(),
+        new DataJobInputOutputTemplate() {
+          @Override
+          public List<DataMapPatcher.IndexedField> getIndexedFields() {
+            return Collections.emptyList();
+          }
+        },
+        dataJobInputOutput,
+        "[{\"op\": \"add\", \"path\": \"/outputDatasetEdges/"
+            + DATASET_B
+            + "\", \"value\": {\"destinationUrn\": \""
+            + DATASET_B
+            + "\"}},"
+            + " {\"op\": \"add\", \"path\": \"/inputDatasetFields/"
+            + FIELD_C
+            + "\", \"value\": \""
+            + FIELD_C
+            + "\"},"
+            + " {\"op\": \"remove\", \"path\": \"/inputDatasetEdges/"
+            + DATASET_A
+            + "\"}]");
+  }
+
+  @Test(expectedExceptions = UnsupportedOperationException.class)
+  public void testUnsupportedPatchesUseJson() throws Exception {
+    UpstreamLineage upstreamLineage =
+        RecordUtils.toRecordTemplate(
+            UpstreamLineage.class,
+            "{\"upstreams\": [], \"fineGrainedLineages\": [{\"upstreams\": [\""
+                + FIELD_A
+                + "\"], \"downstreams\": [\""
+                + FIELD_B
+                + "\", \""
+                + FIELD_C
+                + "\"]}]}");
+    JsonPatch jsonPatch =
+        patch("[{\"op\": \"remove\", \"path\": \"/upstreams/" + DATASET_A + "\"}]");
+
+    assertFalse(
+        DataMapPatcher.applyPatch(new UpstreamLineageTemplate(), upstreamLineage, jsonPatch)
+            .isPresent());
+    // the JSON based implementation reports the error
+    new UpstreamLineageTemplate().applyPatch(upstreamLineage, jsonPatch);
+  }
+
+  private static <T extends RecordTemplate> void assertSameResult(
+      Template<T> template, Template<T> jsonTemplate, T aspect, String patch) throws Exception {
+    Optional<T> dataMapPatched = DataMapPatcher.applyPatch(template, aspect, patch(patch));
+    assertTrue(dataMapPatched.isPresent());
+
+    T jsonPatched = jsonTemplate.applyPatch(aspect.copy(), patch(patch));
+    assertEquals(dataMapPatched.get().data(), jsonPatched.data());
+    assertEquals(template.applyPatch(aspect, patch(patch)), jsonPatched);
+  }
+
+  private static JsonPatch patch(String operations) {
+    return Json.createPatch(Json.createReader(new StringReader(operations)).readArray());
+  }
+}
@@ -480,9 +480,10 @@ public class RecordUtils {
    */
   @Nullable
   private static Object invokeMethod(@Nonnull RecordTemplate record, @Nonnull String fieldName) {
-    METHOD_CACHE.putIfAbsent(record.getClass(), getMethodsFromRecordTemplate(record));
+    final Map<String, Method> methods =
+        METHOD_CACHE.computeIfAbsent(record.getClass(), k -> getMethodsFromRecordTemplate(record));
     try {
-      return METHOD_CACHE.get(record.getClass()).get(fieldName).invoke(record);
+      return methods.get(fieldName).invoke(record);
     } catch (NullPointerException | IllegalAccessException | InvocationTargetException e) {
       throw new RuntimeException(
           String.format(
@@ -615,6 +616,30 @@ public class RecordUtils {
     return Optional.of(reference);
   }
 
+  /**
+   * Returns the value of a single, non array path component of a {@link RecordTemplate} or {@link
+   * UnionTemplate}, the same way {@link #getFieldValue(Object, PathSpec)} resolves each component.
+   * Used by callers that walk arrays and shared path prefixes themselves.
+   *
+   * @param reference the record or union to read from
+   * @param part the field or union member name
+   * @return the value, or null if it is not set
+   */
+  @Nullable
+  public static Object getPathComponentValue(@Nonnull Object reference, @Nonnull String part) {
+    if (StringUtils.isNumeric(part)) {
+      throw new UnsupportedOperationException(
+          String.format("Array indexing is not supported for %s (from %s)", part, reference));
+    }
+    if (reference instanceof RecordTemplate) {
+      return invokeMethod((RecordTemplate) reference, part);
+    } else if (reference instanceof UnionTemplate) {
+      return getUnionMember((UnionTemplate) reference, part);
+    }
+    throw new UnsupportedOperationException(
+        String.format("Failed at extracting %s (from %s)", part, reference));
+  }
+
   /**
    * A nullable version of the getFieldValue method above. This is used when grabbing values from
    * aspects based on field specs on Relationship annotations. This allows us to get null values for
@@ -3,19 +3,14 @@ package datahub.spark;
 import static com.linkedin.metadata.Constants.*;
 import static datahub.spark.converter.SparkStreamingEventToDatahub.*;
 import static io.datahubproject.openlineage.converter.OpenLineageToDataHub.*;
-import static io.datahubproject.openlineage.utils.DatahubUtils.*;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linkedin.common.GlobalTags;
-import com.linkedin.common.UrnArray;
-import com.linkedin.common.urn.DataJobUrn;
 import com.linkedin.data.DataMap;
 import com.linkedin.data.template.JacksonDataTemplateCodec;
 import com.linkedin.data.template.StringMap;
-import com.linkedin.dataprocess.DataProcessInstanceRelationships;
-import com.linkedin.dataprocess.RunResultType;
 import com.linkedin.domain.Domains;
 import com.linkedin.mxe.MetadataChangeProposal;
 import datahub.client.Emitter;
@@ -29,9 +24,9 @@ import datahub.spark.conf.FileDatahubEmitterConfig;
 import datahub.spark.conf.KafkaDatahubEmitterConfig;
 import datahub.spark.conf.RestDatahubEmitterConfig;
 import datahub.spark.conf.S3DatahubEmitterConfig;
+import datahub.spark.conf.SparkAppContext;
 import datahub.spark.conf.SparkLineageConf;
 import io.datahubproject.openlineage.converter.OpenLineageToDataHub;
-import io.datahubproject.openlineage.dataset.DatahubDataset;
 import io.datahubproject.openlineage.dataset.DatahubJob;
 import io.openlineage.client.OpenLineage;
 import io.openlineage.client.OpenLineageClientUtils;
@@ -44,19 +39,15 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.spark.sql.streaming.StreamingQueryProgress;
 
@@ -64,7 +55,9 @@ import org.apache.spark.sql.streaming.StreamingQueryProgress;
 public class DatahubEventEmitter extends EventEmitter {
   private final AtomicBoolean streaming = new AtomicBoolean(false);
 
-  private final List<DatahubJob> _datahubJobs = new LinkedList<>();
+  private static final ObjectMapper OPENLINEAGE_MAPPER = OpenLineageClientUtils.newObjectMapper();
+
+  private final DatahubJobCoalescer coalescer = new DatahubJobCoalescer();
   private final Map<String, MetadataChangeProposalWrapper> schemaMap = new HashMap<>();
   private SparkLineageConf datahubConf;
   private static final int DEFAULT_TIMEOUT_SEC = 10;
@@ -132,16 +125,19 @@ public class DatahubEventEmitter extends EventEmitter {
   public Optional<DatahubJob> convertOpenLineageRunEventToDatahubJob(OpenLineage.RunEvent event) {
     Optional<DatahubJob> datahubJob = Optional.empty();
     try {
-      log.debug("Emitting lineage: {}", OpenLineageClientUtils.toJson(event));
+      if (log.isDebugEnabled()) {
+        log.debug("Emitting lineage: {}", OpenLineageClientUtils.toJson(event));
+      }
       if (!isStreaming()) {
         datahubJob =
             Optional.ofNullable(convertRunEventToJob(event, datahubConf.getOpenLineageConf()));
         if (!datahubJob.isPresent()) {
           return datahubJob;
         }
-        log.info(
-            "Converted Job: {}, from {}", datahubJob.get(), OpenLineageClientUtils.toJson(event));
-        _datahubJobs.add(datahubJob.get());
+        log.info("Converted Job: {}", datahubJob.get());
+        if (datahubConf.isCoalesceEnabled()) {
+          coalescer.add(datahubJob.get());
+        }
         return datahubJob;
       }
     } catch (IOException | URISyntaxException e) {
@@ -152,9 +148,9 @@ public class DatahubEventEmitter extends EventEmitter {
 
   public void emit(OpenLineage.RunEvent event) {
     long startTime = System.currentTimeMillis();
-    // We have to serialize and deserialize the event to make sure the event is in the correct
-    // format
-    event = OpenLineageClientUtils.runEventFromJson(OpenLineageClientUtils.toJson(event));
+    // Converting the event through the OpenLineage mapper normalises the facets into the form the
+    // converter expects, without rendering the whole event to a JSON string and parsing it back
+    event = OPENLINEAGE_MAPPER.convertValue(event, OpenLineage.RunEvent.class);
     Optional<DatahubJob> job = convertOpenLineageRunEventToDatahubJob(event);
     if (!job.isPresent()) {
       return;
@@ -181,16 +177,14 @@ public class DatahubEventEmitter extends EventEmitter {
       } catch (IOException e) {
         throw new RuntimeException(e);
       }
-      log.debug(
-          "Emitting non-coalesced lineage completed successfully: {}",
-          OpenLineageClientUtils.toJson(event));
+      log.debug("Emitting non-coalesced lineage completed successfully: {}", job.get().getJobUrn());
     }
     if (datahubConf.isCoalesceEnabled() && datahubConf.isEmitCoalescePeriodically()) {
       log.info("Emitting coalesced lineage periodically");
       emitCoalesced();
       log.debug(
           "Collecting coalesced lineage periodically completed successfully: {}",
-          OpenLineageClientUtils.toJson(event));
+          job.get().getJobUrn());
     }
     long elapsedTime = System.currentTimeMillis() - startTime;
     log.info("Collecting lineage successfully in {} ms", elapsedTime);
@@ -216,190 +210,78 @@ public class DatahubEventEmitter extends EventEmitter {
   public List<MetadataChangeProposal> generateCoalescedMcps() {
     List<MetadataChangeProposal> mcps = new ArrayList<>();
 
-    if (_datahubJobs.isEmpty()) {
+    if (coalescer.isEmpty()) {
       log.warn("No lineage events to emit. Maybe the spark job finished prematurely?");
       return mcps;
     }
 
-    DatahubJob datahubJob = DatahubJob.builder().build();
-    AtomicLong minStartTime = new AtomicLong(Long.MAX_VALUE);
-    AtomicLong maxEndTime = new AtomicLong();
-    _datahubJobs.forEach(
-        storedDatahubJob -> {
-          log.info("Merging job stored job {} with {}", storedDatahubJob, datahubJob);
-          DataJobUrn jobUrn =
-              jobUrn(
-                  storedDatahubJob.getFlowUrn(), storedDatahubJob.getFlowUrn().getFlowIdEntity());
-          datahubJob.setJobUrn(jobUrn);
-          datahubJob.setFlowUrn(storedDatahubJob.getFlowUrn());
-          datahubJob.setFlowPlatformInstance(storedDatahubJob.getFlowPlatformInstance());
-          if ((datahubJob.getJobInfo() == null) && (storedDatahubJob.getJobInfo() != null)) {
-            datahubJob.setJobInfo(storedDatahubJob.getJobInfo());
-            datahubJob.getJobInfo().setName(storedDatahubJob.getFlowUrn().getFlowIdEntity());
-          }
-          if (storedDatahubJob.getJobInfo() != null
-              && storedDatahubJob.getJobInfo().getCustomProperties() != null) {
-            if (datahubJob.getJobInfo().getCustomProperties() == null) {
-              datahubJob
-                  .getJobInfo()
-                  .setCustomProperties(storedDatahubJob.getJobInfo().getCustomProperties());
-            } else {
-              Map<String, String> mergedProperties =
-                  Stream.of(
-                          datahubJob.getJobInfo().getCustomProperties(),
-                          storedDatahubJob.getJobInfo().getCustomProperties())
-                      .flatMap(map -> map.entrySet().stream())
-                      .collect(
-                          Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (v1, v2) -> v1));
-              datahubJob.getJobInfo().setCustomProperties(new StringMap(mergedProperties));
-            }
-          }
-          if (datahubJob.getDataFlowInfo() == null) {
-            datahubJob.setDataFlowInfo(storedDatahubJob.getDataFlowInfo());
-          }
-
-          if (storedDatahubJob.getStartTime() < minStartTime.get()) {
-            minStartTime.set(storedDatahubJob.getStartTime());
-          }
-
-          if (storedDatahubJob.getEndTime() > maxEndTime.get()) {
-            maxEndTime.set(storedDatahubJob.getEndTime());
-          }
-
-          mergeDatasets(storedDatahubJob.getOutSet(), datahubJob.getOutSet());
-
-          mergeDatasets(storedDatahubJob.getInSet(), datahubJob.getInSet());
-
-          mergeDataProcessInstance(datahubJob, storedDatahubJob);
-
-          mergeCustomProperties(datahubJob, storedDatahubJob);
-        });
-
-    datahubJob.setStartTime(minStartTime.get());
-    datahubJob.setEndTime(maxEndTime.get());
-    if (!datahubConf.getTags().isEmpty()) {
-      GlobalTags tags = OpenLineageToDataHub.generateTags(datahubConf.getTags());
-      datahubJob.setFlowGlobalTags(tags);
-    }
-
-    if (!datahubConf.getDomains().isEmpty()) {
-      Domains domains = OpenLineageToDataHub.generateDomains(datahubConf.getDomains());
-      datahubJob.setFlowDomains(domains);
-    }
-    try {
-      if (datahubConf.getOpenLineageConf().getParentJobUrn() != null) {
-        datahubJob.getParentJobs().add(datahubConf.getOpenLineageConf().getParentJobUrn());
+    // Jobs were folded into the coalescer as they arrived, so only the application level settings
+    // are left to apply. Each of them is safe to repeat when coalesced lineage is emitted
+    // periodically.
+    synchronized (coalescer) {
+      DatahubJob datahubJob = coalescer.getCoalescedJob();
+      if (!datahubConf.getTags().isEmpty()) {
+        GlobalTags tags = OpenLineageToDataHub.generateTags(datahubConf.getTags());
+        datahubJob.setFlowGlobalTags(tags);
       }
-    } catch (ClassCastException e) {
-      log.warn(
-          datahubConf.getOpenLineageConf().getParentJobUrn()
-              + " is not a valid Datajob URN. Skipping setting up upstream job.");
-    }
 
-    log.info("Generating MCPs for job: {}", datahubJob);
-    try {
-      return datahubJob.toMcps(datahubConf.getOpenLineageConf());
-    } catch (IOException e) {
-      throw new RuntimeException(e);
-    }
-  }
-
-  private static void mergeDatasets(
-      Set<DatahubDataset> storedDatahubJob, Set<DatahubDataset> datahubJob) {
-    for (DatahubDataset dataset : storedDatahubJob) {
-      Optional<DatahubDataset> oldDataset =
-          datahubJob.stream().filter(ds -> ds.getUrn().equals(dataset.getUrn())).findFirst();
-      if (oldDataset.isPresent()) {
-        if (dataset.getSchemaMetadata() != null) {
-          oldDataset.get().setSchemaMetadata(dataset.getSchemaMetadata());
-        }
-        if (dataset.getLineage() != null) {
-          oldDataset.get().setLineage(dataset.getLineage());
+      if (!datahubConf.getDomains().isEmpty()) {
+        Domains domains = OpenLineageToDataHub.generateDomains(datahubConf.getDomains());
+        datahubJob.setFlowDomains(domains);
+      }
+      try {
+        if (datahubConf.getOpenLineageConf().getParentJobUrn() != null) {
+          datahubJob.getParentJobs().add(datahubConf.getOpenLineageConf().getParentJobUrn());
         }
-      } else {
-        datahubJob.add(dataset);
+      } catch (ClassCastException e) {
+        log.warn(
+            datahubConf.getOpenLineageConf().getParentJobUrn()
+                + " is not a valid Datajob URN. Skipping setting up upstream job.");
       }
-    }
-  }
-
-  private static void mergeDataProcessInstance(DatahubJob datahubJob, DatahubJob storedDatahubJob) {
-    // To merge multiple events into one DataProcess we should do the following steps:
-    // 1. A run is only in SUCCESS if all the process instance status are SUCCESS
-    // 2. A run is in failed state if any of the run events is in FAILED/UNKNOWN/SKIPPED state
-    //
-    // We should set as id the first event to make sure it won't change if we ingest periodically
-    // coalesced data
-    // Todo: Status can be SUCCESS only if all the process instance status are SUCCESS
-    if (datahubJob.getDataProcessInstanceUrn() == null) {
-      datahubJob.setDataProcessInstanceUrn(storedDatahubJob.getDataProcessInstanceUrn());
-    }
+      addApplicationProperties(datahubJob, datahubConf.getSparkAppContext());
 
-    if (storedDatahubJob.getEventTime() > datahubJob.getEventTime()) {
-      datahubJob.setEventTime(storedDatahubJob.getEventTime());
-      datahubJob.setDataProcessInstanceProperties(
-          storedDatahubJob.getDataProcessInstanceProperties());
-      DataProcessInstanceRelationships dataProcessInstanceRelationships =
-          new DataProcessInstanceRelationships();
-      dataProcessInstanceRelationships.setParentTemplate(datahubJob.getJobUrn());
-      dataProcessInstanceRelationships.setUpstreamInstances(new UrnArray());
-      datahubJob.setDataProcessInstanceRelationships(dataProcessInstanceRelationships);
-    }
-    log.info("DataProcessInstanceRunEvent: {}", storedDatahubJob.getDataProcessInstanceRunEvent());
-    if ((storedDatahubJob.getDataProcessInstanceRunEvent() != null)
-        && (storedDatahubJob.getDataProcessInstanceRunEvent().getResult() != null)) {
-      RunResultType result =
-          storedDatahubJob.getDataProcessInstanceRunEvent().getResult().getType();
-      if (datahubJob.getDataProcessInstanceRunEvent() == null) {
-        datahubJob.setDataProcessInstanceRunEvent(
-            storedDatahubJob.getDataProcessInstanceRunEvent());
-      } else if (result == RunResultType.FAILURE) {
-        datahubJob.setDataProcessInstanceRunEvent(
-            storedDatahubJob.getDataProcessInstanceRunEvent());
+      log.info("Generating MCPs for job: {}", datahubJob);
+      try {
+        return datahubJob.toMcps(datahubConf.getOpenLineageConf());
+      } catch (IOException e) {
+        throw new RuntimeException(e);
       }
     }
-    log.info("DataProcessInstanceRunEvent: {}", datahubJob.getDataProcessInstanceRunEvent());
   }
 
-  private void mergeCustomProperties(DatahubJob datahubJob, DatahubJob storedDatahubJob) {
-    if (storedDatahubJob.getDataFlowInfo().getCustomProperties() != null) {
-      if (datahubJob.getDataFlowInfo().getCustomProperties() == null) {
-        datahubJob
-            .getDataFlowInfo()
-            .setCustomProperties(storedDatahubJob.getDataFlowInfo().getCustomProperties());
-      } else {
-        Map<String, String> mergedProperties =
-            Stream.of(
-                    datahubJob.getDataFlowInfo().getCustomProperties(),
-                    storedDatahubJob.getDataFlowInfo().getCustomProperties())
-                .flatMap(map -> map.entrySet().stream())
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (v1, v2) -> v1));
-        mergedProperties.put("finishedAt", ZonedDateTime.now(ZoneOffset.UTC).toString());
-
-        if (datahubConf.getSparkAppContext() != null) {
-          if (datahubConf.getSparkAppContext().getStartTime() != null) {
-            mergedProperties.put(
-                "startedAt",
-                ZonedDateTime.ofInstant(
-                        Instant.ofEpochMilli(datahubConf.getSparkAppContext().getStartTime()),
-                        ZoneOffset.UTC)
-                    .toString());
-          }
-          if (datahubConf.getSparkAppContext().getAppAttemptId() != null) {
-            mergedProperties.put("attemptId", datahubConf.getSparkAppContext().getAppAttemptId());
-          }
-          if (datahubConf.getSparkAppContext().getSparkUser() != null) {
-            mergedProperties.put("sparkUser", datahubConf.getSparkAppContext().getSparkUser());
-          }
+  /**
+   * Stamps the Spark application context onto the flow custom properties. As before coalescing
+   * became incremental, this applies to every coalesced emission whose jobs carried flow custom
+   * properties, including one made of a single job.
+   */
+  static void addApplicationProperties(DatahubJob datahubJob, SparkAppContext appContext) {
+    if (datahubJob.getDataFlowInfo() == null
+        || datahubJob.getDataFlowInfo().getCustomProperties() == null) {
+      return;
+    }
+    StringMap properties = datahubJob.getDataFlowInfo().getCustomProperties();
+    properties.put("finishedAt", ZonedDateTime.now(ZoneOffset.UTC).toString());
+
+    if (appContext != null) {
+      if (appContext.getStartTime() != null) {
+        properties.put(
+            "startedAt",
+            ZonedDateTime.ofInstant(Instant.ofEpochMilli(appContext.getStartTime()), ZoneOffset.UTC)
+                .toString());
+      }
+      if (appContext.getAppAttemptId() != null) {
+        properties.put("attemptId", appContext.getAppAttemptId());
+      }
+      if (appContext.getSparkUser() != null) {
+        properties.put("sparkUser", appContext.getSparkUser());
+      }
 
-          if (datahubConf.getSparkAppContext().getAppId() != null) {
-            mergedProperties.put("appId", datahubConf.getSparkAppContext().getAppId());
-          }
+      if (appContext.getAppId() != null) {
+        properties.put("appId", appContext.getAppId());
+      }
 
-          if (datahubConf.getSparkAppContext().getDatabricksTags() != null) {
-            mergedProperties.putAll(datahubConf.getSparkAppContext().getDatabricksTags());
-          }
-        }
-        datahubJob.getDataFlowInfo().setCustomProperties(new StringMap(mergedProperties));
+      if (appContext.getDatabricksTags() != null) {
+        properties.putAll(appContext.getDatabricksTags());
       }
     }
   }
@@ -0,0 +1,152 @@
+package datahub.spark;
+
+import static io.datahubproject.openlineage.utils.DatahubUtils.*;
+
+import com.linkedin.common.UrnArray;
+import com.linkedin.common.urn.DatasetUrn;
+import com.linkedin.data.template.StringMap;
+import com.linkedin.dataprocess.DataProcessInstanceRelationships;
+import com.linkedin.dataprocess.RunResultType;
+import io.datahubproject.openlineage.dataset.DatahubDataset;
+import io.datahubproject.openlineage.dataset.DatahubJob;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Folds the jobs converted from a Spark application's run events into a single job as they
+ * arrive, so memory grows with the number of distinct datasets instead of the number of events.
+ *
+ * <p>Merge rules: the first value seen wins for job and flow custom properties, the latest
+ * non-null schema and lineage win for a dataset, the run spans the earliest start to the latest
+ * end, and a failed run event overrides any earlier result.
+ */
+@Slf4j
+class DatahubJobCoalescer {
+  private final DatahubJob coalescedJob = DatahubJob.builder().build();
+  private final Map<DatasetUrn, DatahubDataset> inputs = new HashMap<>();
+  private final Map<DatasetUrn, DatahubDataset> outputs = new HashMap<>();
+  private long minStartTime = Long.MAX_VALUE;
+  private long maxEndTime;
+  private int mergedJobs;
+
+  synchronized void add(DatahubJob job) {
+    log.debug("Merging job {} into coalesced job", job.getJobUrn());
+    coalescedJob.setJobUrn(jobUrn(job.getFlowUrn(), job.getFlowUrn().getFlowIdEntity()));
+    coalescedJob.setFlowUrn(job.getFlowUrn());
+    coalescedJob.setFlowPlatformInstance(job.getFlowPlatformInstance());
+
+    if (job.getJobInfo() != null) {
+      if (coalescedJob.getJobInfo() == null) {
+        coalescedJob.setJobInfo(job.getJobInfo());
+        coalescedJob.getJobInfo().setName(job.getFlowUrn().getFlowIdEntity());
+      } else {
+        coalescedJob
+            .getJobInfo()
+            .setCustomProperties(
+                mergeProperties(
+                    coalescedJob.getJobInfo().getCustomProperties(),
+                    job.getJobInfo().getCustomProperties()));
+      }
+    }
+
+    if (job.getDataFlowInfo() != null) {
+      if (coalescedJob.getDataFlowInfo() == null) {
+        coalescedJob.setDataFlowInfo(job.getDataFlowInfo());
+      } else {
+        coalescedJob
+            .getDataFlowInfo()
+            .setCustomProperties(
+                mergeProperties(
+                    coalescedJob.getDataFlowInfo().getCustomProperties(),
+                    job.getDataFlowInfo().getCustomProperties()));
+      }
+    }
+
+    minStartTime = Math.min(minStartTime, job.getStartTime());
+    maxEndTime = Math.max(maxEndTime, job.getEndTime());
+
+    mergeDatasets(job.getOutSet(), outputs, coalescedJob.getOutSet());
+    mergeDatasets(job.getInSet(), inputs, coalescedJob.getInSet());
+
+    mergeDataProcessInstance(job);
+    mergedJobs++;
+  }
+
+  synchronized boolean isEmpty() {
+    return mergedJobs == 0;
+  }
+
+  /**
+   * Returns the running aggregate with its start and end time set. The job is shared with the
+   * coalescer, so callers should only apply changes that are safe to repeat on every emission.
+   */
+  synchronized DatahubJob getCoalescedJob() {
+    coalescedJob.setStartTime(minStartTime);
+    coalescedJob.setEndTime(maxEndTime);
+    return coalescedJob;
+  }
+
+  private static StringMap mergeProperties(StringMap merged, StringMap properties) {
+    if (merged == null) {
+      return properties;
+    }
+    if (properties != null && merged != properties) {
+      properties.forEach(merged::putIfAbsent);
+    }
+    return merged;
+  }
+
+  private static void mergeDatasets(
+      Set<DatahubDataset> datasets,
+      Map<DatasetUrn, DatahubDataset> index,
+      Set<DatahubDataset> coalescedDatasets) {
+    for (DatahubDataset dataset : datasets) {
+      DatahubDataset oldDataset = index.get(dataset.getUrn());
+      if (oldDataset == null) {
+        index.put(dataset.getUrn(), dataset);
+        coalescedDatasets.add(dataset);
+        continue;
+      }
+      if (dataset.getSchemaMetadata() != null) {
+        oldDataset.setSchemaMetadata(dataset.getSchemaMetadata());
+      }
+      if (dataset.getLineage() != null) {
+        oldDataset.setLineage(dataset.getLineage());
+      }
+    }
+  }
+
+  private void mergeDataProcessInstance(DatahubJob job) {
+    // To merge multiple events into one DataProcess we should do the following steps:
+    // 1. A run is only in SUCCESS if all the process instance status are SUCCESS
+    // 2. A run is in failed state if any of the run events is in FAILED/UNKNOWN/SKIPPED state
+    //
+    // We should set as id the first event to make sure it won't change if we ingest periodically
+    // coalesced data
+    // Todo: Status can be SUCCESS only if all the process instance status are SUCCESS
+    if (coalescedJob.getDataProcessInstanceUrn() == null) {
+      coalescedJob.setDataProcessInstanceUrn(job.getDataProcessInstanceUrn());
+    }
+
+    if (job.getEventTime() > coalescedJob.getEventTime()) {
+      coalescedJob.setEventTime(job.getEventTime());
+      coalescedJob.setDataProcessInstanceProperties(job.getDataProcessInstanceProperties());
+      DataProcessInstanceRelationships dataProcessInstanceRelationships =
+          new DataProcessInstanceRelationships();
+      dataProcessInstanceRelationships.setParentTemplate(coalescedJob.getJobUrn());
+      dataProcessInstanceRelationships.setUpstreamInstances(new UrnArray());
+      coalescedJob.setDataProcessInstanceRelationships(dataProcessInstanceRelationships);
+    }
+    if ((job.getDataProcessInstanceRunEvent() != null)
+        && (job.getDataProcessInstanceRunEvent().getResult() != null)) {
+      RunResultType result = job.getDataProcessInstanceRunEvent().getResult().getType();
+      if (coalescedJob.getDataProcessInstanceRunEvent() == null
+          || result == RunResultType.FAILURE) {
+        coalescedJob.setDataProcessInstanceRunEvent(job.getDataProcessInstanceRunEvent());
+      }
+    }
+    log.debug("DataProcessInstanceRunEvent: {}", coalescedJob.getDataProcessInstanceRunEvent());
+  }
+}
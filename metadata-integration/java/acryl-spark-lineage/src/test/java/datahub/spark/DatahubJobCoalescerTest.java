@@ -0,0 +1,108 @@
+package datahub.spark;
+
+import com.linkedin.common.FabricType;
+import com.linkedin.common.urn.DataFlowUrn;
+import com.linkedin.common.urn.DataPlatformUrn;
+import com.linkedin.common.urn.DatasetUrn;
+import com.linkedin.data.template.StringMap;
+import com.linkedin.datajob.DataFlowInfo;
+import com.linkedin.dataset.UpstreamLineage;
+import com.linkedin.schema.SchemaMetadata;
+import datahub.spark.conf.SparkAppContext;
+import io.datahubproject.openlineage.dataset.DatahubDataset;
+import io.datahubproject.openlineage.dataset.DatahubJob;
+import java.util.Map;
+import junit.framework.TestCase;
+
+public class DatahubJobCoalescerTest extends TestCase {
+  private static final DataFlowUrn FLOW_URN = new DataFlowUrn("spark", "my_app", "default");
+
+  public void testJobsAreFoldedIntoOneJob() {
+    DatahubJobCoalescer coalescer = new DatahubJobCoalescer();
+    assertTrue(coalescer.isEmpty());
+
+    UpstreamLineage lineage = new UpstreamLineage();
+    coalescer.add(job(100, 200, Map.of("a", "1"), dataset("in"), dataset("out", null)));
+    coalescer.add(job(50, 150, Map.of("a", "2", "b", "2"), dataset("in"), dataset("out", lineage)));
+    coalescer.add(job(120, 300, Map.of(), dataset("other_in"), dataset("out", null)));
+
+    DatahubJob coalesced = coalescer.getCoalescedJob();
+    assertFalse(coalescer.isEmpty());
+    assertEquals(50, coalesced.getStartTime());
+    assertEquals(300, coalesced.getEndTime());
+    assertEquals(2, coalesced.getInSet().size());
+    assertEquals(1, coalesced.getOutSet().size());
+    assertSame(lineage, coalesced.getOutSet().iterator().next().getLineage());
+    assertEquals("1", coalesced.getDataFlowInfo().getCustomProperties().get("a"));
+    assertEquals("2", coalesced.getDataFlowInfo().getCustomProperties().get("b"));
+  }
+
+  public void testLatestSchemaIsKept() {
+    DatahubJobCoalescer coalescer = new DatahubJobCoalescer();
+    SchemaMetadata first = new SchemaMetadata().setSchemaName("first");
+    SchemaMetadata second = new SchemaMetadata().setSchemaName("second");
+
+    DatahubDataset output = dataset("out", null);
+    output.setSchemaMetadata(first);
+    coalescer.add(job(0, 0, Map.of(), dataset("in"), output));
+    output = dataset("out", null);
+    output.setSchemaMetadata(second);
+    coalescer.add(job(0, 0, Map.of(), dataset("in"), output));
+    coalescer.add(job(0, 0, Map.of(), dataset("in"), dataset("out", null)));
+
+    assertSame(
+        second, coalescer.getCoalescedJob().getOutSet().iterator().next().getSchemaMetadata());
+  }
+
+  public void testSingleJobEmissionGetsApplicationProperties() {
+    DatahubJobCoalescer coalescer = new DatahubJobCoalescer();
+    coalescer.add(job(100, 200, Map.of("a", "1"), dataset("in"), dataset("out")));
+    SparkAppContext appContext = new SparkAppContext();
+    appContext.setAppId("app-1");
+    appContext.setSparkUser("spark");
+    appContext.setStartTime(0L);
+
+    DatahubJob coalesced = coalescer.getCoalescedJob();
+    DatahubEventEmitter.addApplicationProperties(coalesced, appContext);
+
+    StringMap properties = coalesced.getDataFlowInfo().getCustomProperties();
+    assertEquals("1", properties.get("a"));
+    assertEquals("app-1", properties.get("appId"));
+    assertEquals("spark", properties.get("sparkUser"));
+    assertEquals("1970-01-01T00:00Z", properties.get("startedAt"));
+    assertTrue(properties.containsKey("finishedAt"));
+    assertFalse(properties.containsKey("attemptId"));
+  }
+
+  private static DatahubJob job(
+      long startTime,
+      long endTime,
+      Map<String, String> flowProperties,
+      DatahubDataset input,
+      DatahubDataset output) {
+    DatahubJob job =
+        DatahubJob.builder()
+            .flowUrn(FLOW_URN)
+            .dataFlowInfo(
+                new DataFlowInfo()
+                    .setName("my_app")
+                    .setCustomProperties(new StringMap(flowProperties)))
+            .startTime(startTime)
+            .endTime(endTime)
+            .build();
+    job.getInSet().add(input);
+    job.getOutSet().add(output);
+    return job;
+  }
+
+  private static DatahubDataset dataset(String name) {
+    return dataset(name, null);
+  }
+
+  private static DatahubDataset dataset(String name, UpstreamLineage lineage) {
+    return DatahubDataset.builder()
+        .urn(new DatasetUrn(new DataPlatformUrn("hive"), name, FabricType.PROD))
+        .lineage(lineage)
+        .build();
+  }
+}
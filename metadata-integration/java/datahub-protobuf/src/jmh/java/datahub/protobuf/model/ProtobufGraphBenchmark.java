@@ -0,0 +1,116 @@
+package datahub.protobuf.model;
+
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import java.util.concurrent.TimeUnit;
+import org.jgrapht.alg.shortestpath.AllDirectedPaths;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Enumerates the paths from the root message to every field, as the field visitors do, for a
+ * generated schema where each level nests the next one twice and a recursive message hangs off
+ * the root.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProtobufGraphBenchmark {
+  private static final String PACKAGE = "bench";
+
+  @Param({"4", "8", "12"})
+  public int depth;
+
+  @Param({"5"})
+  public int width;
+
+  private FileDescriptorSet fileSet;
+
+  @Setup
+  public void setup() {
+    FileDescriptorProto.Builder file =
+        FileDescriptorProto.newBuilder().setName("bench/bench.proto").setPackage(PACKAGE);
+
+    file.addMessageType(
+        DescriptorProto.newBuilder()
+            .setName("Root")
+            .addField(messageField("level", 1, "Level0", false))
+            .addField(messageField("tree", 2, "Node", false)));
+
+    for (int level = 0; level < depth; level++) {
+      DescriptorProto.Builder message = DescriptorProto.newBuilder().setName("Level" + level);
+      for (int i = 0; i < width; i++) {
+        message.addField(stringField("field" + i, i + 1));
+      }
+      if (level + 1 < depth) {
+        message.addField(messageField("left", width + 1, "Level" + (level + 1), false));
+        message.addField(messageField("right", width + 2, "Level" + (level + 1), false));
+      }
+      file.addMessageType(message);
+    }
+
+    file.addMessageType(
+        DescriptorProto.newBuilder()
+            .setName("Node")
+            .addField(stringField("label", 1))
+            .addField(messageField("children", 2, "Node", true)));
+
+    fileSet = FileDescriptorSet.newBuilder().addFile(file).build();
+  }
+
+  @Benchmark
+  public long memoisedPaths() throws Exception {
+    ProtobufGraph graph = new ProtobufGraph(fileSet, PACKAGE + ".Root");
+    long paths = 0;
+    for (ProtobufElement vertex : graph.vertexSet()) {
+      if (vertex instanceof ProtobufField) {
+        paths += graph.getAllPaths(graph.root(), vertex).size();
+      }
+    }
+    return paths;
+  }
+
+  @Benchmark
+  public long directedPathsPerField() throws Exception {
+    ProtobufGraph graph = new ProtobufGraph(fileSet, PACKAGE + ".Root");
+    AllDirectedPaths<ProtobufElement, FieldTypeEdge> directedPaths = new AllDirectedPaths<>(graph);
+    long paths = 0;
+    for (ProtobufElement vertex : graph.vertexSet()) {
+      if (vertex instanceof ProtobufField) {
+        paths += directedPaths.getAllPaths(graph.root(), vertex, true, null).size();
+      }
+    }
+    return paths;
+  }
+
+  private static FieldDescriptorProto stringField(String name, int number) {
+    return FieldDescriptorProto.newBuilder()
+        .setName(name)
+        .setNumber(number)
+        .setLabel(FieldDescriptorProto.Label.LABEL_OPTIONAL)
+        .setType(FieldDescriptorProto.Type.TYPE_STRING)
+        .build();
+  }
+
+  private static FieldDescriptorProto messageField(
+      String name, int number, String messageName, boolean repeated) {
+    return FieldDescriptorProto.newBuilder()
+        .setName(name)
+        .setNumber(number)
+        .setLabel(
+            repeated
+                ? FieldDescriptorProto.Label.LABEL_REPEATED
+                : FieldDescriptorProto.Label.LABEL_OPTIONAL)
+        .setType(FieldDescriptorProto.Type.TYPE_MESSAGE)
+        .setTypeName("." + PACKAGE + "." + messageName)
+        .build();
+  }
+}
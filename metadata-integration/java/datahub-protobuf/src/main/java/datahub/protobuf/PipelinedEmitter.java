@@ -0,0 +1,98 @@
+package datahub.protobuf;
+
+import datahub.client.Callback;
+import datahub.client.Emitter;
+import datahub.client.MetadataWriteResponse;
+import datahub.event.MetadataChangeProposalWrapper;
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+
+/**
+ * Emits proposals without waiting for each response, keeping at most a fixed number of requests in
+ * flight. Callers block once the limit is reached, so parsing never runs far ahead of DataHub.
+ */
+class PipelinedEmitter {
+
+  private final Emitter emitter;
+  private final int maxInFlight;
+  private final Semaphore inFlight;
+  private final AtomicInteger succeeded = new AtomicInteger();
+  private final AtomicInteger failed = new AtomicInteger();
+
+  PipelinedEmitter(Emitter emitter, int maxInFlight) {
+    if (maxInFlight < 1) {
+      throw new IllegalArgumentException("maxInFlight must be at least 1, got " + maxInFlight);
+    }
+    this.emitter = emitter;
+    this.maxInFlight = maxInFlight;
+    this.inFlight = new Semaphore(maxInFlight);
+  }
+
+  void emit(MetadataChangeProposalWrapper<?> mcpw) throws IOException, InterruptedException {
+    inFlight.acquire();
+    // emitters such as the FileEmitter are not safe to call from several threads
+    synchronized (emitter) {
+      try {
+        emitter.emit(mcpw, new ReleasingCallback(mcpw));
+      } catch (IOException | RuntimeException e) {
+        failed.incrementAndGet();
+        inFlight.release();
+        throw e;
+      }
+    }
+  }
+
+  /** Waits until every request emitted so far has completed. */
+  void flush() throws InterruptedException {
+    inFlight.acquire(maxInFlight);
+    inFlight.release(maxInFlight);
+  }
+
+  int getSucceeded() {
+    return succeeded.get();
+  }
+
+  int getFailed() {
+    return failed.get();
+  }
+
+  private class ReleasingCallback implements Callback {
+    private final MetadataChangeProposalWrapper<?> mcpw;
+
+    private ReleasingCallback(MetadataChangeProposalWrapper<?> mcpw) {
+      this.mcpw = mcpw;
+    }
+
+    @Override
+    public void onCompletion(@Nullable MetadataWriteResponse response) {
+      try {
+        if (response != null && response.isSuccess()) {
+          succeeded.incrementAndGet();
+        } else {
+          failed.incrementAndGet();
+          System.err.printf(
+              "‼️ Failed to emit %s for %s: %s%n",
+              mcpw.getAspectName(),
+              mcpw.getEntityUrn(),
+              response == null ? "no response" : response.getResponseContent());
+        }
+      } finally {
+        inFlight.release();
+      }
+    }
+
+    @Override
+    public void onFailure(Throwable exception) {
+      try {
+        failed.incrementAndGet();
+        System.err.printf(
+            "‼️ Failed to emit %s for %s: %s%n",
+            mcpw.getAspectName(), mcpw.getEntityUrn(), exception.getMessage());
+      } finally {
+        inFlight.release();
+      }
+    }
+  }
+}
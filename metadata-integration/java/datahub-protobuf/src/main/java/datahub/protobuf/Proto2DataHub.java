@@ -4,17 +4,21 @@ import com.linkedin.common.AuditStamp;
 import com.linkedin.common.FabricType;
 import com.linkedin.common.urn.CorpuserUrn;
 import com.linkedin.common.urn.DataPlatformUrn;
+import com.linkedin.data.template.RecordTemplate;
 import datahub.client.Emitter;
 import datahub.client.file.FileEmitter;
 import datahub.client.file.FileEmitterConfig;
 import datahub.client.rest.RestEmitter;
-import java.io.FileInputStream;
-import java.io.InputStream;
+import datahub.event.MetadataChangeProposalWrapper;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import org.apache.commons.cli.CommandLine;
@@ -163,6 +167,29 @@ public class Proto2DataHub {
           .desc("[Optional] Store the protoc as a custom property. (defaults to false)")
           .build();
 
+  private static final Option OPTION_PARALLELISM =
+      Option.builder()
+          .longOpt("parallelism")
+          .hasArg()
+          .desc("[Optional] The number of protobuf files to read and convert in parallel. (defaults to 1)")
+          .build();
+
+  private static final Option OPTION_MAX_IN_FLIGHT =
+      Option.builder()
+          .longOpt("max_in_flight")
+          .hasArg()
+          .desc(
+              "[Optional] The maximum number of events being sent to DataHub at the same time. (defaults to 1)")
+          .build();
+
+  private static final Option OPTION_MAX_FIELD_DEPTH =
+      Option.builder()
+          .longOpt("max_field_depth")
+          .hasArg()
+          .desc(
+              "[Optional] The maximum depth of field paths. Deeper fields of recursive or deeply nested messages are skipped. (defaults to unlimited)")
+          .build();
+
   enum TransportOptions {
     REST,
     KAFKA,
@@ -187,6 +214,9 @@ public class Proto2DataHub {
     private final String filename;
     private final String subType;
     private final String[] excludePatterns;
+    private final int parallelism;
+    private final int maxInFlight;
+    private final Integer maxFieldDepth;
 
     AppConfig(CommandLine cli) {
       Map<String, String> env = System.getenv();
@@ -216,6 +246,12 @@ public class Proto2DataHub {
       inputDir = cli.getOptionValue(OPTION_DIR, null);
       excludePatterns = cli.getOptionValues(OPTION_EXCLUDE_PATTERN);
       enableProtocCustomProperty = cli.hasOption(OPTION_PROTOC_CUSTOM_PROPERTY);
+      parallelism = Integer.parseInt(cli.getOptionValue(OPTION_PARALLELISM, "1"));
+      maxInFlight = Integer.parseInt(cli.getOptionValue(OPTION_MAX_IN_FLIGHT, "1"));
+      maxFieldDepth =
+          cli.hasOption(OPTION_MAX_FIELD_DEPTH)
+              ? Integer.valueOf(cli.getOptionValue(OPTION_MAX_FIELD_DEPTH))
+              : null;
     }
 
     private AppConfig validate() throws Exception {
@@ -239,6 +275,12 @@ public class Proto2DataHub {
               String.format("Proto-descriptor file %s is not a regular file", this.protoc));
         }
       }
+      if (this.maxFieldDepth != null && this.maxFieldDepth < 1) {
+        throw new Exception("Max field depth must be at least 1");
+      }
+      if (this.parallelism < 1 || this.maxInFlight < 1) {
+        throw new Exception("Parallelism and max in flight events must be at least 1");
+      }
       if ((this.inputFile == null) && (this.inputDir == null)) {
         throw new Exception("Must provide either an input file or an input directory to read from");
       }
@@ -279,7 +321,10 @@ public class Proto2DataHub {
         .addOption(OPTION_FILENAME)
         .addOption(OPTION_SUBTYPE)
         .addOption(OPTION_HELP)
-        .addOption(OPTION_PROTOC_CUSTOM_PROPERTY);
+        .addOption(OPTION_PROTOC_CUSTOM_PROPERTY)
+        .addOption(OPTION_PARALLELISM)
+        .addOption(OPTION_MAX_IN_FLIGHT)
+        .addOption(OPTION_MAX_FIELD_DEPTH);
 
     Options firstPassOptions = new Options().addOption(OPTION_HELP);
 
@@ -313,7 +358,6 @@ public class Proto2DataHub {
 
     AppConfig config = new AppConfig(cli).validate();
     Emitter emitter = null;
-    AtomicInteger totalEvents = new AtomicInteger();
 
     switch (config.transport) {
       case REST:
@@ -342,7 +386,8 @@ public class Proto2DataHub {
             .setTime(System.currentTimeMillis())
             .setActor(new CorpuserUrn(config.datahubUser));
 
-    InputStream protocStream = new FileInputStream(config.protoc);
+    // the descriptor is the same for every file, read it once
+    byte[] protocBytes = Files.readAllBytes(Path.of(config.protoc));
 
     Stream<Path> filePathStream = Stream.empty();
     if (config.inputFile != null) {
@@ -352,78 +397,111 @@ public class Proto2DataHub {
       filePathStream = walker.walkFiles();
     }
 
-    Emitter finalEmitter = emitter;
+    PipelinedEmitter pipelinedEmitter = new PipelinedEmitter(emitter, config.maxInFlight);
+    ExecutorService fileExecutor = Executors.newFixedThreadPool(config.parallelism);
     AtomicInteger exitCode = new AtomicInteger(0);
     AtomicInteger totalFiles = new AtomicInteger(0);
+    long startTime = System.nanoTime();
 
     try {
       filePathStream.forEach(
-          filePath -> {
-            totalFiles.incrementAndGet();
-            try {
-              String textSchema = Files.readString(filePath);
-
-              ProtobufDataset dataset =
-                  ProtobufDataset.builder()
-                      .setDataPlatformUrn(new DataPlatformUrn(config.dataPlatform))
-                      .setProtocIn(new FileInputStream(config.protoc))
-                      .setEnableProtocCustomProperty(config.enableProtocCustomProperty)
-                      .setFilename(filePath.toString())
-                      .setSchema(textSchema)
-                      .setAuditStamp(auditStamp)
-                      .setFabricType(config.fabricType)
-                      .setGithubOrganization(config.githubOrg)
-                      .setSlackTeamId(config.slackId)
-                      .setSubType(config.subType)
-                      .setMessageName(config.messageName)
-                      .build();
-
-              dataset
-                  .getAllMetadataChangeProposals()
-                  .flatMap(Collection::stream)
-                  .forEach(
-                      mcpw -> {
-                        try {
-                          finalEmitter.emit(mcpw, null).get();
-                          totalEvents.getAndIncrement();
-                        } catch (Exception e) {
-                          throw new RuntimeException(e);
-                        }
-                      });
-            } catch (Exception e) {
-              if (e.getMessage() != null
-                  && e.getMessage().equals("Cannot autodetect protobuf Message.")) {
-                System.err.printf(
-                    "WARN: Top-level schema not found in %s, no dataset emitted%n", args[1]);
-              } else {
-                e.printStackTrace();
-                System.err.println(
-                    String.format(
-                        "‼️ Failed to emit to DataHub over %s. Num events emitted so far %d",
-                        config.transport, totalEvents.get()));
-                exitCode.set(1);
-              }
-            }
-          });
+          filePath ->
+              fileExecutor.execute(
+                  () -> {
+                    totalFiles.incrementAndGet();
+                    if (!emitFile(filePath, config, protocBytes, auditStamp, pipelinedEmitter)) {
+                      exitCode.set(1);
+                    }
+                  }));
+      fileExecutor.shutdown();
+      fileExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+      pipelinedEmitter.flush();
     } finally {
+      fileExecutor.shutdownNow();
       if (emitter != null) {
         emitter.close();
       }
     }
+    if (pipelinedEmitter.getFailed() > 0) {
+      exitCode.set(1);
+    }
+
+    double elapsedSeconds = (System.nanoTime() - startTime) / 1e9;
+    String throughput =
+        String.format(
+            "in %.1fs (%.1f files/s, %.1f events/s)",
+            elapsedSeconds,
+            totalFiles.get() / Math.max(elapsedSeconds, 1e-3),
+            pipelinedEmitter.getSucceeded() / Math.max(elapsedSeconds, 1e-3));
     if (exitCode.get() == 0) {
       System.out.println(
           String.format(
-              "✅ Successfully emitted %d events for %d files to DataHub %s",
-              totalEvents.get(), totalFiles.get(), config.transport));
+              "✅ Successfully emitted %d events for %d files to DataHub %s %s",
+              pipelinedEmitter.getSucceeded(), totalFiles.get(), config.transport, throughput));
     } else {
       System.out.println(
           String.format(
-              "‼️ Emitted %d events for %d files to DataHub %s",
-              totalEvents.get(), totalFiles.get(), config.transport));
+              "‼️ Emitted %d events (%d failed) for %d files to DataHub %s %s",
+              pipelinedEmitter.getSucceeded(),
+              pipelinedEmitter.getFailed(),
+              totalFiles.get(),
+              config.transport,
+              throughput));
     }
     System.exit(exitCode.get());
   }
 
+  /**
+   * Converts a single protobuf source file and hands its events to the emitter
+   *
+   * @return false if the file could not be converted or emitted
+   */
+  private static boolean emitFile(
+      Path filePath,
+      AppConfig config,
+      byte[] protocBytes,
+      AuditStamp auditStamp,
+      PipelinedEmitter pipelinedEmitter) {
+    try {
+      String textSchema = Files.readString(filePath);
+
+      ProtobufDataset dataset =
+          ProtobufDataset.builder()
+              .setDataPlatformUrn(new DataPlatformUrn(config.dataPlatform))
+              .setProtocBytes(protocBytes)
+              .setEnableProtocCustomProperty(config.enableProtocCustomProperty)
+              .setFilename(filePath.toString())
+              .setSchema(textSchema)
+              .setAuditStamp(auditStamp)
+              .setFabricType(config.fabricType)
+              .setGithubOrganization(config.githubOrg)
+              .setSlackTeamId(config.slackId)
+              .setSubType(config.subType)
+              .setMessageName(config.messageName)
+              .setMaxPathLength(config.maxFieldDepth)
+              .build();
+
+      Iterator<MetadataChangeProposalWrapper<? extends RecordTemplate>> mcps =
+          dataset.getAllMetadataChangeProposals().flatMap(Collection::stream).iterator();
+      while (mcps.hasNext()) {
+        pipelinedEmitter.emit(mcps.next());
+      }
+      return true;
+    } catch (Exception e) {
+      if (e.getMessage() != null && e.getMessage().equals("Cannot autodetect protobuf Message.")) {
+        System.err.printf(
+            "WARN: Top-level schema not found in %s, no dataset emitted%n", filePath);
+        return true;
+      }
+      e.printStackTrace();
+      System.err.println(
+          String.format(
+              "‼️ Failed to emit to DataHub over %s. Num events emitted so far %d",
+              config.transport, pipelinedEmitter.getSucceeded()));
+      return false;
+    }
+  }
+
   private static String[] convertOldStyleArgsIfPossible(String[] args) {
     if (args.length == 2) {
       String[] translatedArgs = {"--descriptor", args[0], "--file", args[1]};
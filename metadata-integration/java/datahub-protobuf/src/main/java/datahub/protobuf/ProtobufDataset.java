@@ -58,6 +58,7 @@ public class ProtobufDataset {
     private String schema;
     private String githubOrganization;
     private String slackTeamId;
+    private Integer maxPathLength;
     private String subType;
     private boolean enableProtocCustomProperty;
 
@@ -115,6 +116,11 @@ public class ProtobufDataset {
       return this;
     }
 
+    public Builder setMaxPathLength(@Nullable Integer maxPathLength) {
+      this.maxPathLength = maxPathLength;
+      return this;
+    }
+
     public Builder setSubType(@Nullable String subType) {
       this.subType = subType;
       return this;
@@ -132,7 +138,7 @@ public class ProtobufDataset {
               this,
               Optional.ofNullable(dataPlatformUrn).orElse(new DataPlatformUrn("kafka")),
               datasetUrn,
-              new ProtobufGraph(fileSet, messageName, filename),
+              new ProtobufGraph(fileSet, messageName, filename, true, maxPathLength),
               schema,
               auditStamp,
               fabricType)
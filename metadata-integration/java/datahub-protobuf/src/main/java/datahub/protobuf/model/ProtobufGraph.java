@@ -6,8 +6,13 @@ import com.google.protobuf.InvalidProtocolBufferException;
 import datahub.protobuf.ProtobufUtils;
 import datahub.protobuf.visitors.ProtobufModelVisitor;
 import datahub.protobuf.visitors.VisitContext;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -17,11 +22,15 @@ import java.util.stream.Stream;
 import org.jgrapht.GraphPath;
 import org.jgrapht.alg.shortestpath.AllDirectedPaths;
 import org.jgrapht.graph.DefaultDirectedGraph;
+import org.jgrapht.graph.GraphWalk;
 
 public class ProtobufGraph extends DefaultDirectedGraph<ProtobufElement, FieldTypeEdge> {
   private final transient ProtobufMessage rootProtobufMessage;
   private final transient AllDirectedPaths<ProtobufElement, FieldTypeEdge> directedPaths;
   private final transient ExtensionRegistry registry;
+  private final transient Integer maxPathLength;
+  private transient Map<ProtobufElement, List<GraphPath<ProtobufElement, FieldTypeEdge>>>
+      rootPaths;
 
   public ProtobufGraph(DescriptorProtos.FileDescriptorSet fileSet)
       throws InvalidProtocolBufferException {
@@ -45,7 +54,23 @@ public class ProtobufGraph extends DefaultDirectedGraph<ProtobufElement, FieldTy
       String filename,
       boolean flattenGoogleWrapped)
       throws InvalidProtocolBufferException {
+    this(fileSet, messageName, filename, flattenGoogleWrapped, null);
+  }
+
+  /**
+   * @param maxPathLength the maximum number of edges of the paths returned by {@link
+   *     #getAllPaths(ProtobufElement, ProtobufElement)}, deeper fields of recursive or deeply
+   *     nested messages are skipped. Null for no limit.
+   */
+  public ProtobufGraph(
+      DescriptorProtos.FileDescriptorSet fileSet,
+      String messageName,
+      String filename,
+      boolean flattenGoogleWrapped,
+      Integer maxPathLength)
+      throws InvalidProtocolBufferException {
     super(FieldTypeEdge.class);
+    this.maxPathLength = maxPathLength;
     this.registry = ProtobufUtils.buildRegistry(fileSet);
     DescriptorProtos.FileDescriptorSet fileSetExtended =
         DescriptorProtos.FileDescriptorSet.parseFrom(fileSet.toByteArray(), this.registry);
@@ -85,9 +110,70 @@ public class ProtobufGraph extends DefaultDirectedGraph<ProtobufElement, FieldTy
     this.directedPaths = new AllDirectedPaths<>(this);
   }
 
+  /**
+   * All simple paths from a to b. Paths from the root message are enumerated once for every vertex
+   * and memoised, since the field visitors ask for the paths of each field in turn.
+   */
   public List<GraphPath<ProtobufElement, FieldTypeEdge>> getAllPaths(
       ProtobufElement a, ProtobufElement b) {
-    return directedPaths.getAllPaths(a, b, true, null);
+    if (a.equals(rootProtobufMessage)) {
+      return getRootPaths().getOrDefault(b, List.of());
+    }
+    return directedPaths.getAllPaths(a, b, true, maxPathLength);
+  }
+
+  private synchronized Map<ProtobufElement, List<GraphPath<ProtobufElement, FieldTypeEdge>>>
+      getRootPaths() {
+    if (rootPaths == null) {
+      rootPaths = findAllSimplePaths(rootProtobufMessage);
+    }
+    return rootPaths;
+  }
+
+  /**
+   * Enumerates the simple paths from source to every reachable vertex in a single depth first
+   * search. A vertex already on the current path is not entered again, which bounds the search on
+   * recursive messages, and paths stop at maxPathLength edges.
+   */
+  private Map<ProtobufElement, List<GraphPath<ProtobufElement, FieldTypeEdge>>>
+      findAllSimplePaths(ProtobufElement source) {
+    Map<ProtobufElement, List<GraphPath<ProtobufElement, FieldTypeEdge>>> paths = new HashMap<>();
+    List<FieldTypeEdge> pathEdges = new ArrayList<>();
+    Set<ProtobufElement> onPath = new HashSet<>();
+    // explicit stack, paths through nested messages can be deeper than the call stack allows
+    Deque<Iterator<FieldTypeEdge>> stack = new ArrayDeque<>();
+
+    onPath.add(source);
+    stack.push(outgoingEdgesOf(source).iterator());
+    while (!stack.isEmpty()) {
+      Iterator<FieldTypeEdge> edges = stack.peek();
+      if (!edges.hasNext()) {
+        stack.pop();
+        if (!pathEdges.isEmpty()) {
+          onPath.remove(pathEdges.remove(pathEdges.size() - 1).getEdgeTarget());
+        }
+        continue;
+      }
+
+      FieldTypeEdge edge = edges.next();
+      ProtobufElement target = edge.getEdgeTarget();
+      if (onPath.contains(target)) {
+        continue;
+      }
+      pathEdges.add(edge);
+      paths
+          .computeIfAbsent(target, k -> new ArrayList<>())
+          .add(new GraphWalk<>(this, source, target, List.copyOf(pathEdges), pathEdges.size()));
+
+      if (maxPathLength == null || pathEdges.size() < maxPathLength) {
+        onPath.add(target);
+        stack.push(outgoingEdgesOf(target).iterator());
+      } else {
+        pathEdges.remove(pathEdges.size() - 1);
+      }
+    }
+    paths.replaceAll((vertex, vertexPaths) -> List.copyOf(vertexPaths));
+    return paths;
   }
 
   public ExtensionRegistry getRegistry() {
@@ -0,0 +1,119 @@
+package datahub.protobuf;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.common.Status;
+import com.linkedin.mxe.MetadataChangeProposal;
+import datahub.client.Callback;
+import datahub.client.Emitter;
+import datahub.client.MetadataWriteResponse;
+import datahub.event.MetadataChangeProposalWrapper;
+import datahub.event.UpsertAspectRequest;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+import org.testng.annotations.Test;
+
+public class PipelinedEmitterTest {
+
+  @Test
+  public void testInFlightRequestsAreBounded() throws Exception {
+    AsyncEmitter emitter = new AsyncEmitter(i -> true);
+    PipelinedEmitter pipelinedEmitter = new PipelinedEmitter(emitter, 3);
+
+    for (int i = 0; i < 50; i++) {
+      pipelinedEmitter.emit(mcpw(i));
+    }
+    pipelinedEmitter.flush();
+
+    assertEquals(pipelinedEmitter.getSucceeded(), 50);
+    assertEquals(pipelinedEmitter.getFailed(), 0);
+    assertTrue(emitter.maxInFlight.get() <= 3);
+    emitter.close();
+  }
+
+  @Test
+  public void testFailedResponsesAreCounted() throws Exception {
+    AsyncEmitter emitter = new AsyncEmitter(i -> i % 5 != 0);
+    PipelinedEmitter pipelinedEmitter = new PipelinedEmitter(emitter, 4);
+
+    for (int i = 0; i < 20; i++) {
+      pipelinedEmitter.emit(mcpw(i));
+    }
+    pipelinedEmitter.flush();
+
+    assertEquals(pipelinedEmitter.getSucceeded(), 16);
+    assertEquals(pipelinedEmitter.getFailed(), 4);
+    emitter.close();
+  }
+
+  private static MetadataChangeProposalWrapper<?> mcpw(int i) {
+    return MetadataChangeProposalWrapper.builder()
+        .entityType("dataset")
+        .entityUrn("urn:li:dataset:(urn:li:dataPlatform:kafka,topic" + i + ",PROD)")
+        .upsert()
+        .aspect(new Status().setRemoved(false))
+        .build();
+  }
+
+  /** Completes every request on a background thread and tracks how many run at once. */
+  private static class AsyncEmitter implements Emitter {
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+    private final AtomicInteger sent = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final IntPredicate succeeds;
+
+    private AsyncEmitter(IntPredicate succeeds) {
+      this.succeeds = succeeds;
+    }
+
+    @Override
+    public Future<MetadataWriteResponse> emit(
+        MetadataChangeProposalWrapper mcpw, Callback callback) {
+      int request = sent.getAndIncrement();
+      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      return CompletableFuture.supplyAsync(
+          () -> {
+            try {
+              TimeUnit.MILLISECONDS.sleep(2);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            MetadataWriteResponse response =
+                MetadataWriteResponse.builder().success(succeeds.test(request)).build();
+            inFlight.decrementAndGet();
+            callback.onCompletion(response);
+            return response;
+          },
+          executor);
+    }
+
+    @Override
+    public Future<MetadataWriteResponse> emit(MetadataChangeProposal mcp, Callback callback) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean testConnection() {
+      return true;
+    }
+
+    @Override
+    public Future<MetadataWriteResponse> emit(
+        List<UpsertAspectRequest> request, Callback callback) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() {
+      executor.shutdown();
+    }
+  }
+}
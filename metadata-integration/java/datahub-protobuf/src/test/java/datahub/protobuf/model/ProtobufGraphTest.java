@@ -8,7 +8,10 @@ import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
 import java.io.IOException;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import org.jgrapht.GraphPath;
+import org.jgrapht.alg.shortestpath.AllDirectedPaths;
 import org.testng.annotations.Test;
 
 public class ProtobufGraphTest {
@@ -96,4 +99,47 @@ public class ProtobufGraphTest {
 
     assertEquals(2, nestedMessages.size(), "Expected 2 nested fields");
   }
+
+  @Test
+  public void memoisedPathsMatchDirectedPathsTest() throws IOException {
+    for (String message : List.of("messageA", "messageB", "messageC", "messageC2")) {
+      ProtobufGraph test = getTestProtobufGraph("protobuf", message);
+      AllDirectedPaths<ProtobufElement, FieldTypeEdge> directedPaths = new AllDirectedPaths<>(test);
+
+      for (ProtobufElement vertex : test.vertexSet()) {
+        if (vertex.equals(test.root())) {
+          continue;
+        }
+        assertEquals(
+            edgeLists(test.getAllPaths(test.root(), vertex)),
+            edgeLists(directedPaths.getAllPaths(test.root(), vertex, true, null)),
+            vertex.fullName());
+      }
+    }
+  }
+
+  @Test
+  public void maxPathLengthTest() throws IOException {
+    FileDescriptorSet fileset = getTestProtobufFileSet("protobuf", "messageB");
+    ProtobufGraph unbounded = new ProtobufGraph(fileset, null, null, true, null);
+    ProtobufGraph bounded = new ProtobufGraph(fileset, null, null, true, 1);
+
+    boolean deeperPathsSkipped = false;
+    for (ProtobufElement vertex : bounded.vertexSet()) {
+      if (vertex.equals(bounded.root())) {
+        continue;
+      }
+      List<GraphPath<ProtobufElement, FieldTypeEdge>> paths =
+          bounded.getAllPaths(bounded.root(), vertex);
+      assertTrue(paths.stream().allMatch(path -> path.getLength() <= 1));
+      deeperPathsSkipped |=
+          paths.size() < unbounded.getAllPaths(unbounded.root(), vertex).size();
+    }
+    assertTrue(deeperPathsSkipped, "Expected nested fields to be cut off");
+  }
+
+  private static Set<List<FieldTypeEdge>> edgeLists(
+      List<GraphPath<ProtobufElement, FieldTypeEdge>> paths) {
+    return paths.stream().map(GraphPath::getEdgeList).collect(Collectors.toSet());
+  }
 }
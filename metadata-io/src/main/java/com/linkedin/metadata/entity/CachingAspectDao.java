@@ -0,0 +1,445 @@
+package com.linkedin.metadata.entity;
+
+import static com.linkedin.metadata.Constants.ASPECT_LATEST_VERSION;
+
+import com.codahale.metrics.Gauge;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.aspect.batch.AspectsBatch;
+import com.linkedin.metadata.config.cache.AspectCacheConfiguration;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import com.linkedin.metadata.entity.ebean.PartitionedStream;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.util.Pair;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * An {@link AspectDao} decorator which caches the latest version (v0) of aspects in memory.
+ *
+ * <p>Only non-locking reads outside of a transaction are served from the cache. Reads with
+ * forUpdate=true always go to the underlying storage since they participate in versioning, reads
+ * within a transaction go to storage so they see, and never cache, the transaction's own
+ * uncommitted writes. Missing aspects are cached as well since most entities only have a subset of
+ * their aspects.
+ *
+ * <p>Entries are invalidated when written through this dao, both at write time and again after the
+ * enclosing transaction completes. Writes on other nodes are expected to be invalidated via {@link
+ * #invalidate(String, String)} when the corresponding MetadataChangeLog is consumed, the TTL bounds
+ * staleness if an invalidation is missed.
+ *
+ * <p>To avoid re-populating the cache with a value read before a concurrent write, reads record an
+ * invalidation stamp for each key before going to storage and only populate the cache if no
+ * invalidation happened in the meantime.
+ */
+@Slf4j
+public class CachingAspectDao implements AspectDao {
+  private static final int INVALIDATION_STRIPES = 1024;
+
+  @Getter private final AspectDao delegate;
+  private final Cache<EntityAspectIdentifier, Optional<EntityAspect>> cache;
+  private final AtomicLongArray invalidationStamps = new AtomicLongArray(INVALIDATION_STRIPES);
+
+  /** Keys written by the current thread's in-flight transaction */
+  private final ThreadLocal<Set<EntityAspectIdentifier>> pendingInvalidations =
+      new ThreadLocal<>();
+
+  public CachingAspectDao(
+      @Nonnull AspectDao delegate, @Nonnull AspectCacheConfiguration configuration) {
+    this.delegate = delegate;
+    CacheBuilder<Object, Object> builder =
+        CacheBuilder.newBuilder()
+            .maximumSize(configuration.getMaxSize())
+            .expireAfterWrite(configuration.getTtlSeconds(), TimeUnit.SECONDS);
+    if (configuration.isStatsEnabled()) {
+      builder.recordStats();
+    }
+    this.cache = builder.build();
+
+    if (configuration.isStatsEnabled()) {
+      MetricUtils.gauge(
+          CachingAspectDao.class, "hitRate", () -> (Gauge<Double>) () -> cache.stats().hitRate());
+      MetricUtils.gauge(CachingAspectDao.class, "size", () -> (Gauge<Long>) cache::size);
+      MetricUtils.gauge(
+          CachingAspectDao.class,
+          "evictionCount",
+          () -> (Gauge<Long>) () -> cache.stats().evictionCount());
+    }
+  }
+
+  /** Evict the latest version of the given aspect */
+  public void invalidate(@Nonnull String urn, @Nonnull String aspectName) {
+    invalidate(latestKey(urn, aspectName));
+  }
+
+  /** Evict all cached aspects for the given urn */
+  public void invalidateUrn(@Nonnull String urn) {
+    Set<EntityAspectIdentifier> keys = new HashSet<>();
+    cache.asMap().keySet().stream().filter(key -> key.getUrn().equals(urn)).forEach(keys::add);
+    keys.forEach(this::invalidate);
+  }
+
+  @Nullable
+  @Override
+  public EntityAspect getAspect(@Nonnull String urn, @Nonnull String aspectName, long version) {
+    return getAspect(new EntityAspectIdentifier(urn, aspectName, version));
+  }
+
+  @Nullable
+  @Override
+  public EntityAspect getAspect(@Nonnull EntityAspectIdentifier key) {
+    if (key.getVersion() != ASPECT_LATEST_VERSION) {
+      return delegate.getAspect(key);
+    }
+    return batchGet(Set.of(key), false).get(key);
+  }
+
+  @Nonnull
+  @Override
+  public Map<EntityAspectIdentifier, EntityAspect> batchGet(
+      @Nonnull Set<EntityAspectIdentifier> keys, boolean forUpdate) {
+    if (forUpdate || inTransaction()) {
+      return delegate.batchGet(keys, forUpdate);
+    }
+
+    final Map<EntityAspectIdentifier, EntityAspect> results = new HashMap<>();
+    final Map<EntityAspectIdentifier, Long> misses = new HashMap<>();
+    final Set<EntityAspectIdentifier> uncacheable = new HashSet<>();
+    for (EntityAspectIdentifier key : keys) {
+      if (key.getVersion() != ASPECT_LATEST_VERSION) {
+        uncacheable.add(key);
+        continue;
+      }
+      Optional<EntityAspect> cached = cache.getIfPresent(key);
+      if (cached == null) {
+        misses.put(key, stamp(key));
+      } else {
+        cached.ifPresent(aspect -> results.put(key, copy(aspect)));
+      }
+    }
+
+    if (!misses.isEmpty() || !uncacheable.isEmpty()) {
+      Set<EntityAspectIdentifier> toFetch = new HashSet<>(misses.keySet());
+      toFetch.addAll(uncacheable);
+      Map<EntityAspectIdentifier, EntityAspect> fetched = delegate.batchGet(toFetch, false);
+      misses.forEach(
+          (key, stamp) -> populate(key, stamp, Optional.ofNullable(fetched.get(key))));
+      results.putAll(fetched);
+    }
+
+    return results;
+  }
+
+  @Nonnull
+  @Override
+  public Map<String, Map<String, EntityAspect>> getLatestAspects(
+      Map<String, Set<String>> urnAspects, boolean forUpdate) {
+    if (forUpdate || inTransaction()) {
+      return delegate.getLatestAspects(urnAspects, forUpdate);
+    }
+
+    final Map<String, Map<String, EntityAspect>> results = new HashMap<>();
+    final Map<EntityAspectIdentifier, Long> misses = new HashMap<>();
+    final Map<String, Set<String>> toFetch = new HashMap<>();
+    urnAspects.forEach(
+        (urn, aspectNames) ->
+            aspectNames.forEach(
+                aspectName -> {
+                  EntityAspectIdentifier key = latestKey(urn, aspectName);
+                  Optional<EntityAspect> cached = cache.getIfPresent(key);
+                  if (cached == null) {
+                    misses.put(key, stamp(key));
+                    toFetch.computeIfAbsent(urn, k -> new HashSet<>()).add(aspectName);
+                  } else {
+                    cached.ifPresent(
+                        aspect ->
+                            results
+                                .computeIfAbsent(urn, k -> new HashMap<>())
+                                .put(aspectName, copy(aspect)));
+                  }
+                }));
+
+    if (!toFetch.isEmpty()) {
+      Map<String, Map<String, EntityAspect>> fetched = delegate.getLatestAspects(toFetch, false);
+      misses.forEach(
+          (key, stamp) ->
+              populate(
+                  key,
+                  stamp,
+                  Optional.ofNullable(
+                      fetched.getOrDefault(key.getUrn(), Map.of()).get(key.getAspect()))));
+      fetched.forEach(
+          (urn, aspects) -> results.computeIfAbsent(urn, k -> new HashMap<>()).putAll(aspects));
+    }
+
+    return results;
+  }
+
+  @Nonnull
+  @Override
+  public List<EntityAspect> getAspectsInRange(
+      @Nonnull Urn urn, Set<String> aspectNames, long startTimeMillis, long endTimeMillis) {
+    return delegate.getAspectsInRange(urn, aspectNames, startTimeMillis, endTimeMillis);
+  }
+
+  @Override
+  public void saveAspect(
+      @Nullable TransactionContext txContext,
+      @Nonnull String urn,
+      @Nonnull String aspectName,
+      @Nonnull String aspectMetadata,
+      @Nonnull String actor,
+      @Nullable String impersonator,
+      @Nonnull Timestamp timestamp,
+      @Nonnull String systemMetadata,
+      long version,
+      boolean insert) {
+    invalidateOnWrite(urn, aspectName);
+    delegate.saveAspect(
+        txContext,
+        urn,
+        aspectName,
+        aspectMetadata,
+        actor,
+        impersonator,
+        timestamp,
+        systemMetadata,
+        version,
+        insert);
+  }
+
+  @Override
+  public void saveAspect(
+      @Nullable TransactionContext txContext, @Nonnull EntityAspect aspect, boolean insert) {
+    invalidateOnWrite(aspect.getUrn(), aspect.getAspect());
+    delegate.saveAspect(txContext, aspect, insert);
+  }
+
+  @Override
+  public long saveLatestAspect(
+      @Nullable TransactionContext txContext,
+      @Nonnull String urn,
+      @Nonnull String aspectName,
+      @Nullable String oldAspectMetadata,
+      @Nullable String oldActor,
+      @Nullable String oldImpersonator,
+      @Nullable Timestamp oldTime,
+      @Nullable String oldSystemMetadata,
+      @Nonnull String newAspectMetadata,
+      @Nonnull String newActor,
+      @Nullable String newImpersonator,
+      @Nonnull Timestamp newTime,
+      @Nullable String newSystemMetadata,
+      Long nextVersion) {
+    invalidateOnWrite(urn, aspectName);
+    return delegate.saveLatestAspect(
+        txContext,
+        urn,
+        aspectName,
+        oldAspectMetadata,
+        oldActor,
+        oldImpersonator,
+        oldTime,
+        oldSystemMetadata,
+        newAspectMetadata,
+        newActor,
+        newImpersonator,
+        newTime,
+        newSystemMetadata,
+        nextVersion);
+  }
+
+  @Override
+  public void deleteAspect(@Nullable TransactionContext txContext, @Nonnull EntityAspect aspect) {
+    invalidateOnWrite(aspect.getUrn(), aspect.getAspect());
+    delegate.deleteAspect(txContext, aspect);
+  }
+
+  @Override
+  public int deleteUrn(@Nullable TransactionContext txContext, @Nonnull String urn) {
+    invalidateUrn(urn);
+    int result = delegate.deleteUrn(txContext, urn);
+    invalidateUrn(urn);
+    return result;
+  }
+
+  @Nonnull
+  @Override
+  public ListResult<String> listUrns(
+      @Nonnull String entityName, @Nonnull String aspectName, int start, int pageSize) {
+    return delegate.listUrns(entityName, aspectName, start, pageSize);
+  }
+
+  @Nonnull
+  @Override
+  public Integer countAspect(@Nonnull String aspectName, @Nullable String urnLike) {
+    return delegate.countAspect(aspectName, urnLike);
+  }
+
+  @Nonnull
+  @Override
+  public PartitionedStream<EbeanAspectV2> streamAspectBatches(RestoreIndicesArgs args) {
+    return delegate.streamAspectBatches(args);
+  }
+
+  @Nonnull
+  @Override
+  public Stream<EntityAspect> streamAspects(String entityName, String aspectName) {
+    return delegate.streamAspects(entityName, aspectName);
+  }
+
+  @Nonnull
+  @Override
+  public ListResult<String> listLatestAspectMetadata(
+      @Nonnull String entityName, @Nonnull String aspectName, int start, int pageSize) {
+    return delegate.listLatestAspectMetadata(entityName, aspectName, start, pageSize);
+  }
+
+  @Nonnull
+  @Override
+  public ListResult<String> listAspectMetadata(
+      @Nonnull String entityName,
+      @Nonnull String aspectName,
+      long version,
+      int start,
+      int pageSize) {
+    return delegate.listAspectMetadata(entityName, aspectName, version, start, pageSize);
+  }
+
+  @Override
+  public Map<String, Map<String, Long>> getNextVersions(
+      @Nonnull Map<String, Set<String>> urnAspectMap) {
+    return delegate.getNextVersions(urnAspectMap);
+  }
+
+  @Override
+  public long getMaxVersion(@Nonnull String urn, @Nonnull String aspectName) {
+    return delegate.getMaxVersion(urn, aspectName);
+  }
+
+  @Nonnull
+  @Override
+  public Pair<Long, Long> getVersionRange(@Nonnull String urn, @Nonnull String aspectName) {
+    return delegate.getVersionRange(urn, aspectName);
+  }
+
+  @Override
+  public void setWritable(boolean canWrite) {
+    delegate.setWritable(canWrite);
+  }
+
+  @Nonnull
+  @Override
+  public <T> T runInTransactionWithRetry(
+      @Nonnull Function<TransactionContext, T> block, int maxTransactionRetry) {
+    return withPendingInvalidations(
+        () -> delegate.runInTransactionWithRetry(block, maxTransactionRetry));
+  }
+
+  @Nonnull
+  @Override
+  public <T> List<T> runInTransactionWithRetry(
+      @Nonnull Function<TransactionContext, T> block,
+      AspectsBatch batch,
+      int maxTransactionRetry) {
+    return withPendingInvalidations(
+        () -> delegate.runInTransactionWithRetry(block, batch, maxTransactionRetry));
+  }
+
+  @Override
+  public void incrementWriteMetrics(String aspectName, long count, long bytes) {
+    delegate.incrementWriteMetrics(aspectName, count, bytes);
+  }
+
+  /**
+   * Runs the supplier tracking keys written on this thread, re-invalidating them once the
+   * transaction has committed (or failed) so that reads racing the transaction are not cached.
+   */
+  private <T> T withPendingInvalidations(Supplier<T> supplier) {
+    final boolean outermost = pendingInvalidations.get() == null;
+    if (outermost) {
+      pendingInvalidations.set(new HashSet<>());
+    }
+    try {
+      return supplier.get();
+    } finally {
+      if (outermost) {
+        Set<EntityAspectIdentifier> pending = pendingInvalidations.get();
+        pendingInvalidations.remove();
+        pending.forEach(this::invalidate);
+      }
+    }
+  }
+
+  /** Whether the current thread is running a transaction through this dao */
+  private boolean inTransaction() {
+    return pendingInvalidations.get() != null;
+  }
+
+  private void invalidateOnWrite(@Nonnull String urn, @Nonnull String aspectName) {
+    EntityAspectIdentifier key = latestKey(urn, aspectName);
+    invalidate(key);
+    Set<EntityAspectIdentifier> pending = pendingInvalidations.get();
+    if (pending != null) {
+      pending.add(key);
+    }
+  }
+
+  private void invalidate(@Nonnull EntityAspectIdentifier key) {
+    invalidationStamps.incrementAndGet(stripe(key));
+    cache.invalidate(key);
+  }
+
+  private long stamp(@Nonnull EntityAspectIdentifier key) {
+    return invalidationStamps.get(stripe(key));
+  }
+
+  private void populate(
+      @Nonnull EntityAspectIdentifier key, long stamp, @Nonnull Optional<EntityAspect> value) {
+    // skip if the key was invalidated while the read was in flight
+    if (stamp(key) == stamp) {
+      cache.put(key, value.map(CachingAspectDao::copy));
+      // re-check to close the window between the stamp check and the put
+      if (stamp(key) != stamp) {
+        cache.invalidate(key);
+      }
+    }
+  }
+
+  private static int stripe(@Nonnull EntityAspectIdentifier key) {
+    return Math.floorMod(key.hashCode(), INVALIDATION_STRIPES);
+  }
+
+  private static EntityAspectIdentifier latestKey(@Nonnull String urn, @Nonnull String aspectName) {
+    return new EntityAspectIdentifier(urn, aspectName, ASPECT_LATEST_VERSION);
+  }
+
+  /** Callers are free to mutate returned aspects, never hand out the cached instance. */
+  private static EntityAspect copy(@Nonnull EntityAspect aspect) {
+    return new EntityAspect(
+        aspect.getUrn(),
+        aspect.getAspect(),
+        aspect.getVersion(),
+        aspect.getMetadata(),
+        aspect.getSystemMetadata(),
+        aspect.getCreatedOn(),
+        aspect.getCreatedBy(),
+        aspect.getCreatedFor());
+  }
+}
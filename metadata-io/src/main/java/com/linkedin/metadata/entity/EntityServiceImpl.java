@@ -102,6 +102,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -169,6 +170,8 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
   @Getter
   private final Map<Set<ThrottleType>, ThrottleEvent> throttleEvents = new ConcurrentHashMap<>();
 
+  private final List<AspectChangeListener> aspectChangeListeners = new CopyOnWriteArrayList<>();
+
   public EntityServiceImpl(
       @Nonnull final AspectDao aspectDao,
       @Nonnull final EventProducer producer,
@@ -204,6 +207,11 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
     this.updateIndicesService = updateIndicesService;
   }
 
+  @Override
+  public void addAspectChangeListener(@Nonnull AspectChangeListener listener) {
+    aspectChangeListeners.add(listener);
+  }
+
   public ThrottleControl handleThrottleEvent(ThrottleEvent throttleEvent) {
     final Set<ThrottleType> activeEvents = throttleEvent.getActiveThrottles();
     // store throttle event
@@ -1768,10 +1776,36 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
       @Nonnull final Urn urn,
       @Nonnull final AspectSpec aspectSpec,
       @Nonnull final MetadataChangeLog metadataChangeLog) {
+    notifyAspectChangeListeners(opContext, urn, aspectSpec, metadataChangeLog);
     Future<?> future = producer.produceMetadataChangeLog(urn, aspectSpec, metadataChangeLog);
     return Pair.of(future, preprocessEvent(opContext, metadataChangeLog));
   }
 
+  private void notifyAspectChangeListeners(
+      @Nonnull OperationContext opContext,
+      @Nonnull final Urn urn,
+      @Nonnull final AspectSpec aspectSpec,
+      @Nonnull final MetadataChangeLog metadataChangeLog) {
+    if (aspectChangeListeners.isEmpty()) {
+      return;
+    }
+    final boolean entityDeleted =
+        ChangeType.DELETE.equals(metadataChangeLog.getChangeType())
+            && opContext
+                .getEntityRegistry()
+                .getEntitySpec(urn.getEntityType())
+                .getKeyAspectName()
+                .equals(aspectSpec.getName());
+    for (AspectChangeListener listener : aspectChangeListeners) {
+      try {
+        listener.onAspectChange(urn, aspectSpec.getName(), entityDeleted);
+      } catch (RuntimeException e) {
+        log.error(
+            "Aspect change listener failed for urn {} aspect {}", urn, aspectSpec.getName(), e);
+      }
+    }
+  }
+
   @Override
   public Pair<Future<?>, Boolean> alwaysProduceMCLAsync(
       @Nonnull OperationContext opContext,
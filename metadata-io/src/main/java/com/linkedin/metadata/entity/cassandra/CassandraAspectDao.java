@@ -7,8 +7,11 @@ import com.datahub.util.exception.ModelConversionException;
 import com.datahub.util.exception.RetryLimitReached;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.DriverException;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.BatchStatement;
 import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
@@ -20,8 +23,10 @@ import com.datastax.oss.driver.api.querybuilder.select.Selector;
 import com.datastax.oss.driver.api.querybuilder.term.Term;
 import com.datastax.oss.driver.api.querybuilder.update.Update;
 import com.datastax.oss.driver.api.querybuilder.update.UpdateWithAssignments;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.entity.AspectDao;
@@ -30,6 +35,7 @@ import com.linkedin.metadata.entity.EntityAspect;
 import com.linkedin.metadata.entity.EntityAspectIdentifier;
 import com.linkedin.metadata.entity.ListResult;
 import com.linkedin.metadata.entity.TransactionContext;
+import com.linkedin.metadata.entity.codec.AspectMetadataCodecProvider;
 import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
 import com.linkedin.metadata.entity.ebean.PartitionedStream;
 import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
@@ -40,12 +46,17 @@ import com.linkedin.util.Pair;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
@@ -55,12 +66,64 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
 
+  public static final int DEFAULT_MAX_CONCURRENT_READS = 32;
+
+  /** Upper bound on the number of aspects fetched by a single IN query */
+  private static final int MAX_ASPECTS_PER_QUERY = 100;
+
   private final CqlSession _cqlSession;
+  private final AspectMetadataCodecProvider _codecProvider;
+  private final Semaphore _readPermits;
+  private final Supplier<PreparedStatement> _getAspectStatement;
+  private final Supplier<PreparedStatement> _getAspectsStatement;
   private boolean _canWrite = true;
   private boolean _connectionValidated = false;
 
   public CassandraAspectDao(@Nonnull final CqlSession cqlSession) {
+    this(cqlSession, AspectMetadataCodecProvider.JSON);
+  }
+
+  public CassandraAspectDao(
+      @Nonnull final CqlSession cqlSession,
+      @Nonnull final AspectMetadataCodecProvider codecProvider) {
+    this(cqlSession, codecProvider, DEFAULT_MAX_CONCURRENT_READS);
+  }
+
+  public CassandraAspectDao(
+      @Nonnull final CqlSession cqlSession,
+      @Nonnull final AspectMetadataCodecProvider codecProvider,
+      final int maxConcurrentReads) {
     _cqlSession = cqlSession;
+    _codecProvider = codecProvider;
+    _readPermits = new Semaphore(Math.max(1, maxConcurrentReads));
+    // Prepared on first use, the table may not exist yet when the dao is created
+    _getAspectStatement =
+        Suppliers.memoize(
+            () ->
+                _cqlSession.prepare(
+                    selectFrom(CassandraAspect.TABLE_NAME)
+                        .all()
+                        .whereColumn(CassandraAspect.URN_COLUMN)
+                        .isEqualTo(bindMarker())
+                        .whereColumn(CassandraAspect.ASPECT_COLUMN)
+                        .isEqualTo(bindMarker())
+                        .whereColumn(CassandraAspect.VERSION_COLUMN)
+                        .isEqualTo(bindMarker())
+                        .limit(1)
+                        .build()));
+    _getAspectsStatement =
+        Suppliers.memoize(
+            () ->
+                _cqlSession.prepare(
+                    selectFrom(CassandraAspect.TABLE_NAME)
+                        .all()
+                        .whereColumn(CassandraAspect.URN_COLUMN)
+                        .isEqualTo(bindMarker())
+                        .whereColumn(CassandraAspect.ASPECT_COLUMN)
+                        .in(bindMarker())
+                        .whereColumn(CassandraAspect.VERSION_COLUMN)
+                        .isEqualTo(bindMarker())
+                        .build()));
   }
 
   public void setConnectionValidated(boolean validated) {
@@ -91,21 +154,23 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
   @Override
   public Map<String, Map<String, EntityAspect>> getLatestAspects(
       Map<String, Set<String>> urnAspects, boolean forUpdate) {
-    return urnAspects.entrySet().stream()
-        .map(
-            entry ->
-                Map.entry(
-                    entry.getKey(),
+    final Set<EntityAspectIdentifier> keys =
+        urnAspects.entrySet().stream()
+            .flatMap(
+                entry ->
                     entry.getValue().stream()
                         .map(
-                            aspectName -> {
-                              EntityAspect aspect =
-                                  getLatestAspect(entry.getKey(), aspectName, forUpdate);
-                              return aspect != null ? Map.entry(aspectName, aspect) : null;
-                            })
-                        .filter(Objects::nonNull)
-                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))))
-        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+                            aspectName ->
+                                new EntityAspectIdentifier(
+                                    entry.getKey(), aspectName, ASPECT_LATEST_VERSION)))
+            .collect(Collectors.toSet());
+
+    final Map<String, Map<String, EntityAspect>> result = new HashMap<>();
+    urnAspects.keySet().forEach(urn -> result.put(urn, new HashMap<>()));
+    batchGet(keys, forUpdate)
+        .values()
+        .forEach(aspect -> result.get(aspect.getUrn()).put(aspect.getAspect(), aspect));
+    return result;
   }
 
   @Override
@@ -203,17 +268,85 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
     _cqlSession.execute(statement);
   }
 
-  // TODO: can further improve by running the sub queries in parallel
-  // TODO: look into supporting pagination
+  /**
+   * Keys are grouped by urn (the partition key) and version, and each group is fetched with a
+   * single IN query on the aspect clustering column. The queries run concurrently, bounded by the
+   * number of concurrent reads the dao was created with.
+   */
   @Override
   @Nonnull
   public Map<EntityAspectIdentifier, EntityAspect> batchGet(
       @Nonnull final Set<EntityAspectIdentifier> keys, boolean forUpdate) {
     validateConnection();
-    return keys.stream()
-        .map(this::getAspect)
-        .filter(Objects::nonNull)
-        .collect(Collectors.toMap(EntityAspectIdentifier::fromEntityAspect, aspect -> aspect));
+    final Map<Pair<String, Long>, List<String>> aspectsByPartition =
+        keys.stream()
+            .collect(
+                Collectors.groupingBy(
+                    key -> Pair.of(key.getUrn(), key.getVersion()),
+                    Collectors.mapping(EntityAspectIdentifier::getAspect, Collectors.toList())));
+
+    final List<BoundStatement> statements = new ArrayList<>();
+    aspectsByPartition.forEach(
+        (partition, aspectNames) -> {
+          for (List<String> chunk : Iterables.partition(aspectNames, MAX_ASPECTS_PER_QUERY)) {
+            statements.add(
+                _getAspectsStatement
+                    .get()
+                    .bind(partition.getFirst(), chunk, partition.getSecond()));
+          }
+        });
+
+    return executeConcurrently(statements).stream()
+        .map(CassandraAspect::rowToEntityAspect)
+        .collect(
+            Collectors.toMap(
+                EntityAspectIdentifier::fromEntityAspect, aspect -> aspect, (a, b) -> a));
+  }
+
+  @Nonnull
+  private List<Row> executeConcurrently(@Nonnull final List<BoundStatement> statements) {
+    final List<CompletableFuture<List<Row>>> futures = new ArrayList<>(statements.size());
+    try {
+      for (BoundStatement statement : statements) {
+        _readPermits.acquire();
+        final CompletableFuture<List<Row>> future;
+        try {
+          future =
+              fetchAllRows(_cqlSession.executeAsync(statement), new ArrayList<>())
+                  .toCompletableFuture();
+        } catch (RuntimeException e) {
+          _readPermits.release();
+          throw e;
+        }
+        future.whenComplete((rows, throwable) -> _readPermits.release());
+        futures.add(future);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while reading aspects from Cassandra", e);
+    }
+
+    final List<Row> rows = new ArrayList<>();
+    try {
+      futures.forEach(future -> rows.addAll(future.join()));
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+    return rows;
+  }
+
+  private static CompletionStage<List<Row>> fetchAllRows(
+      @Nonnull final CompletionStage<AsyncResultSet> stage, @Nonnull final List<Row> rows) {
+    return stage.thenCompose(
+        resultSet -> {
+          resultSet.currentPage().forEach(rows::add);
+          return resultSet.hasMorePages()
+              ? fetchAllRows(resultSet.fetchNextPage(), rows)
+              : CompletableFuture.completedFuture(rows);
+        });
   }
 
   @Override
@@ -425,19 +558,7 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
   @Nullable
   public EntityAspect getAspect(@Nonnull String urn, @Nonnull String aspectName, long version) {
     validateConnection();
-    SimpleStatement ss =
-        selectFrom(CassandraAspect.TABLE_NAME)
-            .all()
-            .whereColumn(CassandraAspect.URN_COLUMN)
-            .isEqualTo(literal(urn))
-            .whereColumn(CassandraAspect.ASPECT_COLUMN)
-            .isEqualTo(literal(aspectName))
-            .whereColumn(CassandraAspect.VERSION_COLUMN)
-            .isEqualTo(literal(version))
-            .limit(1)
-            .build();
-
-    ResultSet rs = _cqlSession.execute(ss);
+    ResultSet rs = _cqlSession.execute(_getAspectStatement.get().bind(urn, aspectName, version));
     Row row = rs.one();
     return row == null ? null : CassandraAspect.rowToEntityAspect(row);
   }
@@ -639,6 +760,7 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
     } catch (URISyntaxException e) {
       throw new RuntimeException(e);
     }
+    final String metadata = _codecProvider.encode(aspect.getAspect(), aspect.getMetadata());
     if (insert) {
       Insert ri =
           insertInto(CassandraAspect.TABLE_NAME)
@@ -646,7 +768,7 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
               .value(CassandraAspect.ASPECT_COLUMN, literal(aspect.getAspect()))
               .value(CassandraAspect.VERSION_COLUMN, literal(aspect.getVersion()))
               .value(CassandraAspect.SYSTEM_METADATA_COLUMN, literal(aspect.getSystemMetadata()))
-              .value(CassandraAspect.METADATA_COLUMN, literal(aspect.getMetadata()))
+              .value(CassandraAspect.METADATA_COLUMN, literal(metadata))
               .value(CassandraAspect.CREATED_ON_COLUMN, literal(aspect.getCreatedOn().getTime()))
               .value(CassandraAspect.CREATED_FOR_COLUMN, literal(aspect.getCreatedFor()))
               .value(CassandraAspect.ENTITY_COLUMN, literal(entity))
@@ -657,7 +779,7 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
 
       UpdateWithAssignments uwa =
           update(CassandraAspect.TABLE_NAME)
-              .setColumn(CassandraAspect.METADATA_COLUMN, literal(aspect.getMetadata()))
+              .setColumn(CassandraAspect.METADATA_COLUMN, literal(metadata))
               .setColumn(
                   CassandraAspect.SYSTEM_METADATA_COLUMN, literal(aspect.getSystemMetadata()))
               .setColumn(
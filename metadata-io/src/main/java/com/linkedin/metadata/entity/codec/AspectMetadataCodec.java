@@ -0,0 +1,201 @@
+package com.linkedin.metadata.entity.codec;
+
+import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.JacksonDataCodec;
+import com.linkedin.data.codec.PsonDataCodec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.xerial.snappy.Snappy;
+
+/**
+ * Encoding applied to the aspect metadata column.
+ *
+ * <p>The column stays a text column so that existing schemas are unaffected. Legacy rows are plain
+ * Pegasus JSON and are always readable. Encoded rows are self describing, formatted as {@code
+ * #!<format>+<compression>:<base64 payload>}, which means decoding never requires configuration and
+ * rows written with different codecs can coexist in the same table.
+ *
+ * <p>Callers above the dao layer always see JSON text, encoding and decoding happen when the row is
+ * written and read.
+ */
+@Getter
+@EqualsAndHashCode
+public class AspectMetadataCodec {
+  public static final String ENCODED_PREFIX = "#!";
+  private static final char PAYLOAD_SEPARATOR = ':';
+  private static final String COMPRESSION_SEPARATOR = "+";
+
+  private static final JacksonDataCodec JSON_CODEC = new JacksonDataCodec();
+  private static final PsonDataCodec PSON_CODEC = new PsonDataCodec();
+
+  public static final AspectMetadataCodec JSON =
+      new AspectMetadataCodec(Format.JSON, Compression.NONE);
+
+  public enum Format {
+    JSON,
+    PSON
+  }
+
+  public enum Compression {
+    NONE,
+    GZIP,
+    SNAPPY
+  }
+
+  private final Format format;
+  private final Compression compression;
+
+  public AspectMetadataCodec(@Nonnull Format format, @Nonnull Compression compression) {
+    this.format = format;
+    this.compression = compression;
+  }
+
+  /**
+   * Parse a codec name such as {@code json}, {@code pson}, {@code json+gzip} or {@code pson+snappy}
+   *
+   * @param name the codec name
+   * @return the codec
+   */
+  @Nonnull
+  public static AspectMetadataCodec fromName(@Nonnull String name) {
+    String[] parts = name.trim().toUpperCase(Locale.ROOT).split("\\" + COMPRESSION_SEPARATOR, 2);
+    Format format = Format.valueOf(parts[0]);
+    Compression compression = parts.length > 1 ? Compression.valueOf(parts[1]) : Compression.NONE;
+    return new AspectMetadataCodec(format, compression);
+  }
+
+  @Nonnull
+  public String getName() {
+    String name = format.name().toLowerCase(Locale.ROOT);
+    if (compression != Compression.NONE) {
+      name = name + COMPRESSION_SEPARATOR + compression.name().toLowerCase(Locale.ROOT);
+    }
+    return name;
+  }
+
+  /** Whether this codec leaves the JSON text untouched */
+  public boolean isIdentity() {
+    return format == Format.JSON && compression == Compression.NONE;
+  }
+
+  /**
+   * Encode the JSON serialized aspect for storage
+   *
+   * @param json aspect serialized with {@link com.datahub.util.RecordUtils#toJsonString}
+   * @return value to store in the metadata column
+   */
+  @Nullable
+  public String encode(@Nullable String json) {
+    if (json == null || isIdentity() || isEncoded(json)) {
+      return json;
+    }
+    try {
+      final byte[] serialized;
+      if (format == Format.PSON) {
+        serialized = PSON_CODEC.mapToBytes(JSON_CODEC.stringToMap(json));
+      } else {
+        serialized = json.getBytes(StandardCharsets.UTF_8);
+      }
+      return ENCODED_PREFIX
+          + getName()
+          + PAYLOAD_SEPARATOR
+          + Base64.getEncoder().encodeToString(compress(serialized));
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to encode aspect metadata with " + getName(), e);
+    }
+  }
+
+  /**
+   * Whether a stored value is already in this codec's encoding
+   *
+   * @param stored the raw column value
+   * @return true if re-encoding is unnecessary
+   */
+  public boolean matches(@Nullable String stored) {
+    if (stored == null) {
+      return true;
+    }
+    if (!isEncoded(stored)) {
+      return isIdentity();
+    }
+    return stored.startsWith(ENCODED_PREFIX + getName() + PAYLOAD_SEPARATOR);
+  }
+
+  public static boolean isEncoded(@Nullable String stored) {
+    return stored != null && stored.startsWith(ENCODED_PREFIX);
+  }
+
+  /**
+   * Decode a stored metadata column value to JSON, legacy JSON values are returned as is
+   *
+   * @param stored the raw column value
+   * @return the JSON serialized aspect
+   */
+  @Nullable
+  public static String decode(@Nullable String stored) {
+    if (!isEncoded(stored)) {
+      return stored;
+    }
+    int separator = stored.indexOf(PAYLOAD_SEPARATOR, ENCODED_PREFIX.length());
+    if (separator < 0) {
+      throw new IllegalStateException("Malformed encoded aspect metadata header.");
+    }
+    AspectMetadataCodec codec = fromName(stored.substring(ENCODED_PREFIX.length(), separator));
+    try {
+      byte[] serialized =
+          codec.decompress(Base64.getDecoder().decode(stored.substring(separator + 1)));
+      if (codec.format == Format.PSON) {
+        DataMap dataMap = PSON_CODEC.bytesToMap(serialized);
+        return JSON_CODEC.mapToString(dataMap);
+      }
+      return new String(serialized, StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new IllegalStateException(
+          "Failed to decode aspect metadata with " + codec.getName(), e);
+    }
+  }
+
+  private byte[] compress(byte[] bytes) throws IOException {
+    switch (compression) {
+      case GZIP:
+        try (ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            GZIPOutputStream gzipOutputStream = new GZIPOutputStream(bos)) {
+          gzipOutputStream.write(bytes);
+          gzipOutputStream.finish();
+          return bos.toByteArray();
+        }
+      case SNAPPY:
+        return Snappy.compress(bytes);
+      default:
+        return bytes;
+    }
+  }
+
+  private byte[] decompress(byte[] bytes) throws IOException {
+    switch (compression) {
+      case GZIP:
+        try (GZIPInputStream gis = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+          return gis.readAllBytes();
+        }
+      case SNAPPY:
+        return Snappy.uncompress(bytes);
+      default:
+        return bytes;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return getName();
+  }
+}
@@ -0,0 +1,67 @@
+package com.linkedin.metadata.entity.codec;
+
+import com.linkedin.metadata.config.AspectCodecConfiguration;
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/** Resolves the {@link AspectMetadataCodec} used when writing a given aspect. */
+@Slf4j
+public class AspectMetadataCodecProvider {
+  public static final AspectMetadataCodecProvider JSON =
+      new AspectMetadataCodecProvider(AspectMetadataCodec.JSON, Map.of());
+
+  @Getter private final AspectMetadataCodec defaultCodec;
+  private final Map<String, AspectMetadataCodec> aspectCodecs;
+
+  public AspectMetadataCodecProvider(
+      @Nonnull AspectMetadataCodec defaultCodec,
+      @Nonnull Map<String, AspectMetadataCodec> aspectCodecs) {
+    this.defaultCodec = defaultCodec;
+    this.aspectCodecs = aspectCodecs;
+  }
+
+  @Nonnull
+  public static AspectMetadataCodecProvider fromConfig(
+      @Nullable AspectCodecConfiguration configuration) {
+    if (configuration == null) {
+      return JSON;
+    }
+
+    AspectMetadataCodec defaultCodec =
+        configuration.getDefaultCodec() == null || configuration.getDefaultCodec().isBlank()
+            ? AspectMetadataCodec.JSON
+            : AspectMetadataCodec.fromName(configuration.getDefaultCodec());
+
+    Map<String, AspectMetadataCodec> aspectCodecs = new HashMap<>();
+    if (configuration.getAspectOverrides() != null) {
+      for (String override : configuration.getAspectOverrides().split(",")) {
+        if (override.isBlank()) {
+          continue;
+        }
+        String[] parts = override.split(":", 2);
+        if (parts.length != 2) {
+          throw new IllegalArgumentException(
+              "Invalid aspect codec override, expected <aspectName>:<codec> but got " + override);
+        }
+        aspectCodecs.put(parts[0].trim(), AspectMetadataCodec.fromName(parts[1]));
+      }
+    }
+
+    log.info("Aspect metadata codec: {} overrides: {}", defaultCodec, aspectCodecs);
+    return new AspectMetadataCodecProvider(defaultCodec, aspectCodecs);
+  }
+
+  @Nonnull
+  public AspectMetadataCodec forAspect(@Nonnull String aspectName) {
+    return aspectCodecs.getOrDefault(aspectName, defaultCodec);
+  }
+
+  @Nullable
+  public String encode(@Nonnull String aspectName, @Nullable String json) {
+    return forAspect(aspectName).encode(json);
+  }
+}
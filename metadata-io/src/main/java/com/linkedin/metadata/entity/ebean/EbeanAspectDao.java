@@ -3,11 +3,9 @@ package com.linkedin.metadata.entity.ebean;
 import static com.linkedin.metadata.Constants.ASPECT_LATEST_VERSION;
 
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.datahub.util.exception.ModelConversionException;
 import com.datahub.util.exception.RetryLimitReached;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.aspect.RetrieverContext;
@@ -20,7 +18,9 @@ import com.linkedin.metadata.entity.EntityAspect;
 import com.linkedin.metadata.entity.EntityAspectIdentifier;
 import com.linkedin.metadata.entity.ListResult;
 import com.linkedin.metadata.entity.TransactionContext;
+import com.linkedin.metadata.entity.codec.AspectMetadataCodecProvider;
 import com.linkedin.metadata.entity.ebean.batch.AspectsBatchImpl;
+import com.linkedin.metadata.entity.ebean.locking.UrnLockProvider;
 import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
@@ -57,10 +57,6 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -93,30 +89,30 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
    * Used to control write concurrency when an entity key aspect is present. If a batch contains an
    * entity key aspect, only allow a single execution per URN
    */
-  private final LoadingCache<String, Lock> locks;
+  @Nullable private final UrnLockProvider lockProvider;
 
   private final String batchGetMethod;
 
+  private final AspectMetadataCodecProvider codecProvider;
+
   public EbeanAspectDao(@Nonnull final Database server, EbeanConfiguration ebeanConfiguration) {
+    this(server, ebeanConfiguration, AspectMetadataCodecProvider.JSON);
+  }
+
+  public EbeanAspectDao(
+      @Nonnull final Database server,
+      EbeanConfiguration ebeanConfiguration,
+      @Nonnull final AspectMetadataCodecProvider codecProvider) {
     _server = server;
+    this.codecProvider = codecProvider;
     this.batchGetMethod =
         ebeanConfiguration.getBatchGetMethod() != null
             ? ebeanConfiguration.getBatchGetMethod()
             : "IN";
     if (ebeanConfiguration.getLocking().isEnabled()) {
-      this.locks =
-          CacheBuilder.newBuilder()
-              .maximumSize(ebeanConfiguration.getLocking().getMaximumLocks())
-              .expireAfterWrite(
-                  ebeanConfiguration.getLocking().getDurationSeconds(), TimeUnit.SECONDS)
-              .build(
-                  new CacheLoader<>() {
-                    public Lock load(String key) {
-                      return new ReentrantLock(true);
-                    }
-                  });
+      this.lockProvider = UrnLockProvider.fromConfig(server, ebeanConfiguration.getLocking());
     } else {
-      this.locks = null;
+      this.lockProvider = null;
     }
   }
 
@@ -224,7 +220,7 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
 
     final EbeanAspectV2 aspect = new EbeanAspectV2();
     aspect.setKey(new EbeanAspectV2.PrimaryKey(urn, aspectName, version));
-    aspect.setMetadata(aspectMetadata);
+    aspect.setMetadata(codecProvider.encode(aspectName, aspectMetadata));
     aspect.setSystemMetadata(systemMetadata);
     aspect.setCreatedOn(timestamp);
     aspect.setCreatedBy(actor);
@@ -241,6 +237,7 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
       @Nonnull final EntityAspect aspect,
       final boolean insert) {
     EbeanAspectV2 ebeanAspect = EbeanAspectV2.fromEntityAspect(aspect);
+    ebeanAspect.setMetadata(codecProvider.encode(aspect.getAspect(), aspect.getMetadata()));
     saveEbeanAspect(txContext, ebeanAspect, insert);
   }
 
@@ -643,6 +640,10 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
                   Timestamp.from(Instant.ofEpochMilli(args.lePitEpochMs)));
     }
 
+    if (args.urnUpperBound != null && !args.urnUpperBound.isEmpty()) {
+      exp = exp.lt(EbeanAspectV2.URN_COLUMN, args.urnUpperBound);
+    }
+
     int start = args.start;
     if (args.urnBasedPagination) {
       start = 0;
@@ -778,7 +779,7 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
 
     LinkedList<T> result = new LinkedList<>();
 
-    if (locks != null && batch != null) {
+    if (lockProvider != null && batch != null) {
       Set<Urn> urnsWithKeyAspects =
           batch.getMCPItems().stream()
               .filter(i -> i.getEntitySpec().getKeyAspectSpec().equals(i.getAspectSpec()))
@@ -800,17 +801,9 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
 
         // For each key aspect batch
         for (AspectsBatch splitBatch : splitBatches.getFirst()) {
-          try {
-            Lock lock =
-                locks.get(splitBatch.getMCPItems().stream().findFirst().get().getUrn().toString());
-            lock.lock();
-            try {
-              result.add(runInTransactionWithRetryUnlocked(block, splitBatch, maxTransactionRetry));
-            } finally {
-              lock.unlock();
-            }
-          } catch (ExecutionException e) {
-            throw new RuntimeException(e);
+          String lockKey = splitBatch.getMCPItems().stream().findFirst().get().getUrn().toString();
+          try (UrnLockProvider.UrnLock lock = acquireLock(lockKey)) {
+            result.add(runInTransactionWithRetryUnlocked(block, splitBatch, maxTransactionRetry));
           }
         }
       } else {
@@ -825,6 +818,12 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
     return result;
   }
 
+  private UrnLockProvider.UrnLock acquireLock(@Nonnull String key) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "lockWait").time()) {
+      return lockProvider.acquire(key);
+    }
+  }
+
   @Nonnull
   public <T> T runInTransactionWithRetryUnlocked(
       @Nonnull final Function<TransactionContext, T> block,
@@ -2,6 +2,7 @@ package com.linkedin.metadata.entity.ebean;
 
 import com.linkedin.metadata.entity.EntityAspect;
 import com.linkedin.metadata.entity.EntityAspectIdentifier;
+import com.linkedin.metadata.entity.codec.AspectMetadataCodec;
 import io.ebean.Model;
 import io.ebean.annotation.Index;
 import jakarta.persistence.Column;
@@ -126,6 +127,19 @@ public class EbeanAspectV2 extends Model {
         systemMetadata);
   }
 
+  /**
+   * The aspect metadata as JSON, decoded if the row was written with a non-default {@link
+   * AspectMetadataCodec}.
+   */
+  public String getMetadata() {
+    return AspectMetadataCodec.decode(metadata);
+  }
+
+  /** The metadata column value as stored */
+  public String getRawMetadata() {
+    return metadata;
+  }
+
   @Nonnull
   public EntityAspect toEntityAspect() {
     return new EntityAspect(
@@ -0,0 +1,171 @@
+package com.linkedin.metadata.entity.ebean.locking;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import io.ebean.Database;
+import io.ebean.annotation.Platform;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Advisory locks held in the database, shared by every GMS replica and consumer writing to it.
+ *
+ * <ul>
+ *   <li>MySQL / MariaDB: {@code GET_LOCK} and {@code RELEASE_LOCK}, named after a hash of the urn.
+ *   <li>Postgres: {@code pg_advisory_xact_lock} on a 64 bit hash of the urn, inside a transaction
+ *       that is rolled back to release the lock.
+ * </ul>
+ *
+ * <p>Each held lock occupies a connection of the pool next to the connection of the write
+ * transaction, the pool must be sized for both. If the lock can not be acquired within the
+ * configured duration the write proceeds unlocked and relies on the transaction retries.
+ */
+@Slf4j
+public class DatabaseUrnLockProvider implements UrnLockProvider {
+  private static final HashFunction HASH = Hashing.murmur3_128();
+  private static final String LOCK_NAME_PREFIX = "datahub:";
+
+  enum Dialect {
+    MYSQL,
+    POSTGRES
+  }
+
+  private final DataSource dataSource;
+  private final Dialect dialect;
+  private final long timeoutSeconds;
+
+  DatabaseUrnLockProvider(DataSource dataSource, Dialect dialect, long timeoutSeconds) {
+    this.dataSource = dataSource;
+    this.dialect = dialect;
+    this.timeoutSeconds = timeoutSeconds;
+  }
+
+  /** Returns a provider if the database supports advisory locks. */
+  public static Optional<UrnLockProvider> forDatabase(
+      @Nonnull Database server, long timeoutSeconds) {
+    final Platform platform = server.platform().base();
+    switch (platform) {
+      case MYSQL:
+      case MARIADB:
+        return Optional.of(
+            new DatabaseUrnLockProvider(server.dataSource(), Dialect.MYSQL, timeoutSeconds));
+      case POSTGRES:
+        return Optional.of(
+            new DatabaseUrnLockProvider(server.dataSource(), Dialect.POSTGRES, timeoutSeconds));
+      default:
+        log.warn("Database platform {} has no advisory locks, using local locks.", platform);
+        return Optional.empty();
+    }
+  }
+
+  @Nonnull
+  @Override
+  public UrnLock acquire(@Nonnull String key) {
+    Connection connection = null;
+    try {
+      connection = dataSource.getConnection();
+      return dialect == Dialect.MYSQL
+          ? acquireMySql(connection, key)
+          : acquirePostgres(connection, key);
+    } catch (SQLException e) {
+      closeQuietly(connection);
+      throw new RuntimeException("Failed to acquire database lock for " + key, e);
+    }
+  }
+
+  private UrnLock acquireMySql(Connection connection, String key) throws SQLException {
+    final String name = LOCK_NAME_PREFIX + HASH.hashString(key, StandardCharsets.UTF_8);
+    connection.setAutoCommit(true);
+    if (!getLock(connection, name, 0)) {
+      MetricUtils.counter(getClass(), "contended").inc();
+      if (!getLock(connection, name, timeoutSeconds)) {
+        return timedOut(connection, key);
+      }
+    }
+    return () -> {
+      try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+        statement.setString(1, name);
+        statement.execute();
+      } catch (SQLException e) {
+        // closing the session releases the lock regardless
+        log.warn("Failed to release database lock for {}", key, e);
+      } finally {
+        closeQuietly(connection);
+      }
+    };
+  }
+
+  private static boolean getLock(Connection connection, String name, long timeoutSeconds)
+      throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+      statement.setString(1, name);
+      statement.setLong(2, timeoutSeconds);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        return resultSet.next() && resultSet.getInt(1) == 1;
+      }
+    }
+  }
+
+  private UrnLock acquirePostgres(Connection connection, String key) throws SQLException {
+    final long lockId = HASH.hashString(key, StandardCharsets.UTF_8).asLong();
+    connection.setAutoCommit(false);
+    boolean acquired;
+    try (PreparedStatement statement =
+        connection.prepareStatement("SELECT pg_try_advisory_xact_lock(?)")) {
+      statement.setLong(1, lockId);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        acquired = resultSet.next() && resultSet.getBoolean(1);
+      }
+    }
+    if (!acquired) {
+      MetricUtils.counter(getClass(), "contended").inc();
+      try (Statement statement = connection.createStatement()) {
+        statement.execute(String.format("SET LOCAL lock_timeout = '%ds'", timeoutSeconds));
+      }
+      try (PreparedStatement statement =
+          connection.prepareStatement("SELECT pg_advisory_xact_lock(?)")) {
+        statement.setLong(1, lockId);
+        statement.execute();
+      } catch (SQLException e) {
+        connection.rollback();
+        return timedOut(connection, key);
+      }
+    }
+    return () -> {
+      try {
+        // ending the transaction releases the lock
+        connection.rollback();
+      } catch (SQLException e) {
+        log.warn("Failed to release database lock for {}", key, e);
+      } finally {
+        closeQuietly(connection);
+      }
+    };
+  }
+
+  private UrnLock timedOut(Connection connection, String key) {
+    MetricUtils.counter(getClass(), "timeout").inc();
+    log.warn("Timed out after {}s waiting for database lock on {}", timeoutSeconds, key);
+    closeQuietly(connection);
+    return UrnLock.NONE;
+  }
+
+  private static void closeQuietly(Connection connection) {
+    if (connection != null) {
+      try {
+        connection.close();
+      } catch (SQLException e) {
+        log.warn("Failed to close lock connection", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package com.linkedin.metadata.entity.ebean.locking;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.Nonnull;
+
+/**
+ * A fair lock per urn, local to this JVM. Locks expire the configured duration after creation and
+ * at most the configured number of locks are kept.
+ */
+public class LocalUrnLockProvider implements UrnLockProvider {
+  private final LoadingCache<String, Lock> locks;
+
+  public LocalUrnLockProvider(long maximumLocks, long durationSeconds) {
+    this.locks =
+        CacheBuilder.newBuilder()
+            .maximumSize(maximumLocks)
+            .expireAfterWrite(durationSeconds, TimeUnit.SECONDS)
+            .build(
+                new CacheLoader<>() {
+                  public Lock load(String key) {
+                    return new ReentrantLock(true);
+                  }
+                });
+  }
+
+  @Nonnull
+  @Override
+  public UrnLock acquire(@Nonnull String key) {
+    return lock(locks.getUnchecked(key), getClass());
+  }
+
+  static UrnLock lock(Lock lock, Class<?> metricClass) {
+    if (!lock.tryLock()) {
+      MetricUtils.counter(metricClass, "contended").inc();
+      lock.lock();
+    }
+    return lock::unlock;
+  }
+}
@@ -0,0 +1,25 @@
+package com.linkedin.metadata.entity.ebean.locking;
+
+import com.google.common.util.concurrent.Striped;
+import java.util.concurrent.locks.Lock;
+import javax.annotation.Nonnull;
+
+/**
+ * A fixed number of locks local to this JVM, urns are hashed onto them. Memory is bounded by the
+ * number of stripes, at the cost of unrelated urns occasionally sharing a lock.
+ */
+public class StripedUrnLockProvider implements UrnLockProvider {
+  public static final int DEFAULT_STRIPES = 1024;
+
+  private final Striped<Lock> locks;
+
+  public StripedUrnLockProvider(int stripes) {
+    this.locks = Striped.lock(stripes > 0 ? stripes : DEFAULT_STRIPES);
+  }
+
+  @Nonnull
+  @Override
+  public UrnLock acquire(@Nonnull String key) {
+    return LocalUrnLockProvider.lock(locks.get(key), getClass());
+  }
+}
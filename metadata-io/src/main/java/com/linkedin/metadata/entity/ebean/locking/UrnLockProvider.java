@@ -0,0 +1,55 @@
+package com.linkedin.metadata.entity.ebean.locking;
+
+import com.linkedin.metadata.config.EbeanConfiguration;
+import io.ebean.Database;
+import javax.annotation.Nonnull;
+
+/**
+ * Provides exclusive locks on urns, used to serialize the writes of batches creating an entity key
+ * aspect so that concurrent writers do not fail with duplicate key conflicts.
+ *
+ * <p>Locks only reduce the number of conflicting transactions. Writers are still expected to
+ * handle conflicts, e.g. when a lock could not be acquired in time.
+ */
+public interface UrnLockProvider {
+  String LOCAL = "local";
+  String STRIPED = "striped";
+  String DATABASE = "database";
+
+  /** A held lock, released on close. */
+  interface UrnLock extends AutoCloseable {
+    UrnLock NONE = () -> {};
+
+    @Override
+    void close();
+  }
+
+  /** Blocks until the lock on the key is held. */
+  @Nonnull
+  UrnLock acquire(@Nonnull String key);
+
+  @Nonnull
+  static UrnLockProvider fromConfig(
+      @Nonnull Database server, @Nonnull EbeanConfiguration.LockingConfiguration configuration) {
+    final String provider =
+        configuration.getProvider() == null ? LOCAL : configuration.getProvider();
+    switch (provider.toLowerCase()) {
+      case LOCAL:
+        return new LocalUrnLockProvider(
+            configuration.getMaximumLocks(), configuration.getDurationSeconds());
+      case STRIPED:
+        return new StripedUrnLockProvider(configuration.getStripes());
+      case DATABASE:
+        return DatabaseUrnLockProvider.forDatabase(server, configuration.getDurationSeconds())
+            .orElseGet(
+                () ->
+                    new LocalUrnLockProvider(
+                        configuration.getMaximumLocks(), configuration.getDurationSeconds()));
+      default:
+        throw new IllegalArgumentException(
+            String.format(
+                "Unknown lock provider %s, expected one of %s, %s or %s.",
+                provider, LOCAL, STRIPED, DATABASE));
+    }
+  }
+}
@@ -395,7 +395,7 @@ public class ESGraphQueryDAO {
     Set<Urn> visitedEntities = ConcurrentHashMap.newKeySet();
     visitedEntities.add(entityUrn);
     Set<Urn> viaEntities = ConcurrentHashMap.newKeySet();
-    Map<Urn, UrnArrayArray> existingPaths = new HashMap<>();
+    LineagePaths existingPaths = new LineagePaths();
     List<Urn> currentLevel = ImmutableList.of(entityUrn);
 
     for (int i = 0; i < maxHops; i++) {
@@ -443,6 +443,12 @@ public class ESGraphQueryDAO {
               .getLineageRelationships()
               .subList(offset, Math.min(offset + count, response.getTotal()));
     }
+    // Only materialise the paths for the page being returned
+    subList.forEach(
+        relationship -> {
+          UrnArrayArray paths = existingPaths.getPaths(relationship.getEntity());
+          relationship.setPaths(paths == null ? new UrnArrayArray() : paths);
+        });
 
     return new LineageResponse(response.getTotal(), subList);
   }
@@ -456,7 +462,7 @@ public class ESGraphQueryDAO {
       GraphFilters graphFilters,
       Set<Urn> visitedEntities,
       Set<Urn> viaEntities,
-      Map<Urn, UrnArrayArray> existingPaths,
+      LineagePaths existingPaths,
       boolean exploreMultiplePaths,
       Map<Urn, LineageRelationship> result,
       int i) {
@@ -556,8 +562,8 @@ public class ESGraphQueryDAO {
 
   /**
    * Merges two lineage relationship objects. The merged relationship object will have the minimum
-   * degree of the two relationships, and the union of the paths. In addition, the merged
-   * relationship object will have the union of the degrees in the new degrees field.
+   * degree of the two relationships and the union of the degrees in the new degrees field. Paths
+   * are not merged here, they are materialised from {@link LineagePaths} for the returned page.
    *
    * @param existingRelationship
    * @param newRelationship
@@ -575,12 +581,6 @@ public class ESGraphQueryDAO {
       }
       degrees.add(newRelationship.getDegree());
       copyRelationship.setDegrees(new IntegerArray(degrees));
-      UrnArrayArray copyPaths =
-          new UrnArrayArray(
-              existingRelationship.getPaths().size() + newRelationship.getPaths().size());
-      copyPaths.addAll(existingRelationship.getPaths());
-      copyPaths.addAll(newRelationship.getPaths());
-      copyRelationship.setPaths(copyPaths);
       return copyRelationship;
     } catch (CloneNotSupportedException e) {
       throw new RuntimeException("Failed to clone lineage relationship", e);
@@ -599,7 +599,7 @@ public class ESGraphQueryDAO {
       int numHops,
       int remainingHops,
       long remainingTime,
-      Map<Urn, UrnArrayArray> existingPaths,
+      LineagePaths existingPaths,
       boolean exploreMultiplePaths) {
     List<List<Urn>> batches = Lists.partition(entityUrns, graphQueryConfiguration.getBatchSize());
     return ConcurrencyUtils.getAllCompleted(
@@ -638,7 +638,7 @@ public class ESGraphQueryDAO {
       Set<Urn> viaEntities,
       int numHops,
       int remainingHops,
-      Map<Urn, UrnArrayArray> existingPaths,
+      LineagePaths existingPaths,
       boolean exploreMultiplePaths) {
     final LineageFlags lineageFlags = opContext.getSearchContext().getLineageFlags();
     Map<String, List<Urn>> urnsPerEntityType =
@@ -781,98 +781,6 @@ public class ESGraphQueryDAO {
     sourceBuilder.addRescorer(queryRescorerBuilder);
   }
 
-  /**
-   * Adds an individual relationship edge to a running set of unique paths to each node in the
-   * graph.
-   *
-   * <p>Specifically, this method updates 'existingPaths', which is a map of an entity urn
-   * representing a node in the lineage graph to the full paths that can be traversed to reach it
-   * from a the origin node for which lineage was requested.
-   *
-   * <p>This method strictly assumes that edges are being added IN ORDER, level-by-level working
-   * outwards from the originally requested source node. If edges are added to the path set in an
-   * out of order manner, then the paths to a given node may be partial / incomplete.
-   *
-   * <p>Note that calling this method twice with the same edge is not safe. It will result in
-   * duplicate paths being appended into the list of paths to the provided child urn.
-   *
-   * @param existingPaths a running set of unique, uni-directional paths to each node in the graph
-   *     starting from the original root node for which lineage was requested.
-   * @param parentUrn the "parent" node (or source node) in the edge to add. This is a logical
-   *     source node in a uni-directional path from the source to the destination node. Note that
-   *     this is NOT always the URN corresponding to the "source" field that is physically stored
-   *     inside the Graph Store.
-   * @param childUrn the "child" node (or dest node) in the edge to add. This is a logical dest node
-   *     in a uni-directional path from the source to the destination node. Note that this is NOT
-   *     always the URN corresponding to the "destination" field that is physically stored inside
-   *     the Graph Store.
-   */
-  @VisibleForTesting
-  static void addEdgeToPaths(
-      @Nonnull final Map<Urn, UrnArrayArray> existingPaths,
-      @Nonnull final Urn parentUrn,
-      @Nonnull final Urn childUrn) {
-    addEdgeToPaths(existingPaths, parentUrn, null, childUrn);
-  }
-
-  private static boolean containsCycle(final UrnArray path) {
-    Set<Urn> urnSet = path.stream().collect(Collectors.toUnmodifiableSet());
-    // path contains a cycle if any urn is repeated twice
-    return (path.size() != urnSet.size());
-  }
-
-  static boolean addEdgeToPaths(
-      @Nonnull final Map<Urn, UrnArrayArray> existingPaths,
-      @Nonnull final Urn parentUrn,
-      final Urn viaUrn,
-      @Nonnull final Urn childUrn) {
-    boolean edgeAdded = false;
-    // Collect all full-paths to this child node. This is what will be returned.
-    UrnArrayArray pathsToParent = existingPaths.get(parentUrn);
-    if (pathsToParent != null && !pathsToParent.isEmpty()) {
-      // If there are existing paths to this parent node, then we attempt
-      // to append the child to each of the existing paths (lengthen it).
-      // We then store this as a separate, unique path associated with the child.
-      for (UrnArray pathToParent : pathsToParent) {
-        if (containsCycle(pathToParent)) {
-          log.debug("Skipping extending path {} because it contains a cycle", pathToParent);
-          continue;
-        }
-        UrnArray pathToChild = clonePath(pathToParent);
-        if (viaUrn != null) {
-          pathToChild.add(viaUrn);
-        }
-        pathToChild.add(childUrn);
-        // Save these paths to the global structure for easy access on future iterations.
-        existingPaths.putIfAbsent(childUrn, new UrnArrayArray());
-        UrnArrayArray existingPathsToChild = existingPaths.get(childUrn);
-        boolean dupExists = false;
-        for (UrnArray existingPathToChild : existingPathsToChild) {
-          if (existingPathToChild.equals(pathToChild)) {
-            dupExists = true;
-          }
-        }
-        if (!dupExists) {
-          existingPathsToChild.add(pathToChild);
-          edgeAdded = true;
-        }
-      }
-    } else {
-      // No existing paths to this parent urn. Let's create a new path to the child!
-      UrnArray pathToChild = new UrnArray();
-      if (viaUrn == null) {
-        pathToChild.addAll(ImmutableList.of(parentUrn, childUrn));
-      } else {
-        pathToChild.addAll(ImmutableList.of(parentUrn, viaUrn, childUrn));
-      }
-      // Save these paths to the global structure for easy access on future iterations.
-      existingPaths.putIfAbsent(childUrn, new UrnArrayArray());
-      existingPaths.get(childUrn).add(pathToChild);
-      edgeAdded = true;
-    }
-    return edgeAdded;
-  }
-
   // Given set of edges and the search response, extract all valid edges that originate from the
   // input entityUrns
   @WithSpan
@@ -884,7 +792,7 @@ public class ESGraphQueryDAO {
       Set<Urn> viaEntities,
       int numHops,
       int remainingHops,
-      Map<Urn, UrnArrayArray> existingPaths,
+      LineagePaths existingPaths,
       boolean exploreMultiplePaths) {
     try {
       Map<Urn, LineageRelationship> lineageRelationshipMap = new HashMap<>();
@@ -924,7 +832,7 @@ public class ESGraphQueryDAO {
       boolean exploreMultiplePaths,
       Set<Urn> visitedEntities,
       Set<Pair<String, EdgeInfo>> validEdges,
-      Map<Urn, UrnArrayArray> existingPaths,
+      LineagePaths existingPaths,
       int numHops,
       boolean truncatedChildren,
       Map<Urn, LineageRelationship> lineageRelationshipMap,
@@ -1028,7 +936,7 @@ public class ESGraphQueryDAO {
       Urn destinationUrn,
       Set<Pair<String, EdgeInfo>> validEdges,
       String type,
-      Map<Urn, UrnArrayArray> existingPaths,
+      LineagePaths existingPaths,
       Urn viaEntity,
       int numHops,
       Long createdOn,
@@ -1056,14 +964,12 @@ public class ESGraphQueryDAO {
           log.debug("Found a second path to the same urn {}", destinationUrn);
         }
         // Append the edge to a set of unique graph paths.
-        if (addEdgeToPaths(existingPaths, sourceUrn, viaEntity, destinationUrn)) {
+        if (existingPaths.addEdge(sourceUrn, viaEntity, destinationUrn)) {
           final LineageRelationship relationship =
               createLineageRelationship(
                   type,
                   destinationUrn,
                   numHops,
-                  existingPaths.getOrDefault(destinationUrn, new UrnArrayArray()),
-                  // Fetch the paths to the next level entity.
                   createdOn,
                   createdActor,
                   updatedOn,
@@ -1073,13 +979,12 @@ public class ESGraphQueryDAO {
           log.debug("Adding relationship {} to urn {}", relationship, destinationUrn);
           lineageRelationshipMap.put(relationship.getEntity(), relationship);
           if ((viaEntity != null) && (!viaEntities.contains(viaEntity))) {
-            UrnArrayArray viaPaths = getViaPaths(existingPaths, destinationUrn, viaEntity);
+            existingPaths.addViaNode(viaEntity, destinationUrn);
             LineageRelationship viaRelationship =
                 createLineageRelationship(
                     type,
                     viaEntity,
                     numHops,
-                    viaPaths,
                     createdOn,
                     createdActor,
                     updatedOn,
@@ -1088,7 +993,7 @@ public class ESGraphQueryDAO {
                     truncatedChildren);
             viaEntities.add(viaEntity);
             lineageRelationshipMap.put(viaRelationship.getEntity(), viaRelationship);
-            log.debug("Adding via entity {} with paths {}", viaEntity, viaPaths);
+            log.debug("Adding via entity {} through {}", viaEntity, destinationUrn);
           }
         }
         visitedEntities.add(destinationUrn);
@@ -1104,7 +1009,7 @@ public class ESGraphQueryDAO {
       Urn destinationUrn,
       Set<Pair<String, EdgeInfo>> validEdges,
       String type,
-      Map<Urn, UrnArrayArray> existingPaths,
+      LineagePaths existingPaths,
       Urn viaEntity,
       int numHops,
       Long createdOn,
@@ -1132,15 +1037,13 @@ public class ESGraphQueryDAO {
         }
         visitedEntities.add(sourceUrn);
         // Append the edge to a set of unique graph paths.
-        if (addEdgeToPaths(existingPaths, destinationUrn, viaEntity, sourceUrn)) {
+        if (existingPaths.addEdge(destinationUrn, viaEntity, sourceUrn)) {
           log.debug("Adding incoming edge: {}, {}, {}", destinationUrn, viaEntity, sourceUrn);
           final LineageRelationship relationship =
               createLineageRelationship(
                   type,
                   sourceUrn,
                   numHops,
-                  existingPaths.getOrDefault(sourceUrn, new UrnArrayArray()),
-                  // Fetch the paths to the next level entity.
                   createdOn,
                   createdActor,
                   updatedOn,
@@ -1150,14 +1053,13 @@ public class ESGraphQueryDAO {
           log.debug("Adding relationship {} to urn {}", relationship, sourceUrn);
           lineageRelationshipMap.put(relationship.getEntity(), relationship);
           if ((viaEntity != null) && (!viaEntities.contains(viaEntity))) {
-            UrnArrayArray viaPaths = getViaPaths(existingPaths, sourceUrn, viaEntity);
+            existingPaths.addViaNode(viaEntity, sourceUrn);
             viaEntities.add(viaEntity);
             LineageRelationship viaRelationship =
                 createLineageRelationship(
                     type,
                     viaEntity,
                     numHops,
-                    viaPaths,
                     createdOn,
                     createdActor,
                     updatedOn,
@@ -1172,29 +1074,10 @@ public class ESGraphQueryDAO {
     }
   }
 
-  private static UrnArrayArray getViaPaths(
-      Map<Urn, UrnArrayArray> existingPaths, Urn destinationUrn, Urn viaEntity) {
-    UrnArrayArray destinationPaths =
-        existingPaths.getOrDefault(destinationUrn, new UrnArrayArray());
-    UrnArrayArray viaPaths = new UrnArrayArray();
-    for (UrnArray destPath : destinationPaths) {
-      UrnArray viaPath = new UrnArray();
-      for (Urn urn : destPath) {
-        viaPath.add(urn);
-        if (urn.equals(viaEntity)) {
-          break;
-        }
-      }
-      viaPaths.add(viaPath);
-    }
-    return viaPaths;
-  }
-
   private static LineageRelationship createLineageRelationship(
       @Nonnull final String type,
       @Nonnull final Urn entityUrn,
       final int numHops,
-      @Nonnull final UrnArrayArray paths,
       @Nullable final Long createdOn,
       @Nullable final Urn createdActor,
       @Nullable final Long updatedOn,
@@ -1207,7 +1090,7 @@ public class ESGraphQueryDAO {
             .setEntity(entityUrn)
             .setDegree(numHops)
             .setDegrees(new IntegerArray(ImmutableList.of(numHops)))
-            .setPaths(paths);
+            .setPaths(new UrnArrayArray());
     if (createdOn != null) {
       relationship.setCreatedOn(createdOn);
     }
@@ -1234,7 +1117,7 @@ public class ESGraphQueryDAO {
       Set<Urn> viaEntities,
       int numHops,
       int remainingHops,
-      Map<Urn, UrnArrayArray> existingPaths,
+      LineagePaths existingPaths,
       boolean exploreMultiplePaths) {
     try {
       Map<Urn, LineageRelationship> lineageRelationshipMap = new HashMap<>();
@@ -1321,14 +1204,6 @@ public class ESGraphQueryDAO {
     return incomingEdgeQuery;
   }
 
-  private static UrnArray clonePath(final UrnArray basePath) {
-    try {
-      return basePath.clone();
-    } catch (CloneNotSupportedException e) {
-      throw new RuntimeException(String.format("Failed to clone path %s", basePath), e);
-    }
-  }
-
   private static QueryBuilder buildEntityTypesFilter(
       @Nonnull List<String> entityTypes, @Nonnull String prefix) {
     return QueryBuilders.termsQuery(
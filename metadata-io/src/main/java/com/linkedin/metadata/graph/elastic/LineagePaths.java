@@ -0,0 +1,229 @@
+package com.linkedin.metadata.graph.elastic;
+
+import com.linkedin.common.UrnArray;
+import com.linkedin.common.UrnArrayArray;
+import com.linkedin.common.urn.Urn;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Running set of unique, uni-directional paths from the root of a lineage walk to each node reached
+ * so far.
+ *
+ * <p>Urns are interned to int ids and paths are stored as a prefix trie of parent pointers, so a
+ * path shared by many descendants is stored once. Because identical paths always resolve to the
+ * same trie node, duplicate detection is a single lookup, and each trie node carries a 64 bit
+ * membership mask so that cycle detection only walks the path when the mask reports a possible
+ * repeat. Paths are only materialised as {@link UrnArray}s when requested, which the lineage dao
+ * does for the page of results it returns.
+ *
+ * <p>Edges must be added IN ORDER, level-by-level working outwards from the root node. If edges are
+ * added out of order the paths to a given node may be partial.
+ *
+ * <p>Instances are safe to share between the concurrent batches of a single lineage walk.
+ */
+@Slf4j
+public class LineagePaths {
+  private static final int NO_PATH = -1;
+  private static final int INITIAL_CAPACITY = 64;
+  private static final int[] EMPTY = new int[0];
+
+  // urn interning
+  private final Map<Urn, Integer> urnIds = new HashMap<>();
+  private final List<Urn> urns = new ArrayList<>();
+
+  // path trie, indexed by path id. A path is its parent path plus one trailing urn.
+  private final Map<Long, Integer> pathIds = new HashMap<>();
+  private int[] pathParent = new int[INITIAL_CAPACITY];
+  private int[] pathUrn = new int[INITIAL_CAPACITY];
+  private int[] pathLength = new int[INITIAL_CAPACITY];
+  private long[] pathMask = new long[INITIAL_CAPACITY];
+  private boolean[] pathCyclic = new boolean[INITIAL_CAPACITY];
+  private boolean[] pathRegistered = new boolean[INITIAL_CAPACITY];
+  private int pathCount = 0;
+
+  // registered path ids ending at each urn, indexed by urn id
+  private int[][] urnPaths = new int[INITIAL_CAPACITY][];
+  private int[] urnPathCounts = new int[INITIAL_CAPACITY];
+
+  // via urn id -> urn id of the node whose paths the via node was discovered on
+  private final Map<Integer, Integer> viaSources = new HashMap<>();
+
+  /**
+   * Adds an individual relationship edge, extending every known path to the parent.
+   *
+   * @param parentUrn the logical source node of the edge. Note that this is NOT always the urn
+   *     stored in the "source" field of the graph index.
+   * @param viaUrn optional intermediate node, e.g. the query or job that produced the edge
+   * @param childUrn the logical destination node of the edge
+   * @return true if the edge contributed at least one new path to the child. An edge from a node
+   *     with no known paths (i.e. the root) always counts as added.
+   */
+  public synchronized boolean addEdge(
+      @Nonnull final Urn parentUrn, @Nullable final Urn viaUrn, @Nonnull final Urn childUrn) {
+    final int parentId = intern(parentUrn);
+    final int viaId = viaUrn == null ? NO_PATH : intern(viaUrn);
+    final int childId = intern(childUrn);
+
+    final int parentPathCount = urnPathCounts[parentId];
+    if (parentPathCount == 0) {
+      // No existing paths to this parent urn, start a new path at the parent.
+      register(extend(extendVia(extend(NO_PATH, parentId), viaId), childId));
+      return true;
+    }
+
+    // Snapshot the parent's paths, registering a cyclic path may append to them.
+    final int[] pathsToParent = Arrays.copyOf(urnPaths[parentId], parentPathCount);
+    boolean edgeAdded = false;
+    for (int pathToParent : pathsToParent) {
+      if (pathCyclic[pathToParent]) {
+        if (log.isDebugEnabled()) {
+          log.debug(
+              "Skipping extending path {} because it contains a cycle", toUrnArray(pathToParent));
+        }
+        continue;
+      }
+      edgeAdded |= register(extend(extendVia(pathToParent, viaId), childId));
+    }
+    return edgeAdded;
+  }
+
+  /**
+   * Records that a via node was discovered on the paths to the given node, its own paths are the
+   * prefixes of those paths up to and including the via node.
+   */
+  public synchronized void addViaNode(@Nonnull final Urn viaUrn, @Nonnull final Urn throughUrn) {
+    viaSources.putIfAbsent(intern(viaUrn), intern(throughUrn));
+  }
+
+  /**
+   * Materialise all known paths to a node.
+   *
+   * @param urn the node
+   * @return unique paths from the root to the node, in discovery order, or null if the node has
+   *     not been reached
+   */
+  @Nullable
+  public synchronized UrnArrayArray getPaths(@Nonnull final Urn urn) {
+    final Integer urnId = urnIds.get(urn);
+    if (urnId == null) {
+      return null;
+    }
+    final Set<UrnArray> paths = new LinkedHashSet<>();
+    for (int i = 0; i < urnPathCounts[urnId]; i++) {
+      paths.add(toUrnArray(urnPaths[urnId][i]));
+    }
+    final Integer throughId = viaSources.get(urnId);
+    if (throughId != null) {
+      for (int i = 0; i < urnPathCounts[throughId]; i++) {
+        paths.add(toUrnArray(truncateAt(urnPaths[throughId][i], urnId)));
+      }
+    }
+    return paths.isEmpty() ? null : new UrnArrayArray(paths);
+  }
+
+  private int intern(@Nonnull final Urn urn) {
+    Integer id = urnIds.get(urn);
+    if (id == null) {
+      id = urns.size();
+      urns.add(urn);
+      urnIds.put(urn, id);
+      if (id == urnPaths.length) {
+        urnPaths = Arrays.copyOf(urnPaths, id * 2);
+        urnPathCounts = Arrays.copyOf(urnPathCounts, id * 2);
+      }
+    }
+    return id;
+  }
+
+  private int extendVia(final int parentPath, final int viaId) {
+    return viaId == NO_PATH ? parentPath : extend(parentPath, viaId);
+  }
+
+  /** Returns the id of the path formed by appending the urn to the parent path, creating it. */
+  private int extend(final int parentPath, final int urnId) {
+    final long key = ((long) (parentPath + 1) << 32) | urnId;
+    final Integer existing = pathIds.get(key);
+    if (existing != null) {
+      return existing;
+    }
+
+    final int pathId = pathCount++;
+    if (pathId == pathParent.length) {
+      final int capacity = pathId * 2;
+      pathParent = Arrays.copyOf(pathParent, capacity);
+      pathUrn = Arrays.copyOf(pathUrn, capacity);
+      pathLength = Arrays.copyOf(pathLength, capacity);
+      pathMask = Arrays.copyOf(pathMask, capacity);
+      pathCyclic = Arrays.copyOf(pathCyclic, capacity);
+      pathRegistered = Arrays.copyOf(pathRegistered, capacity);
+    }
+    final long urnBit = 1L << (urnId & 63);
+    pathParent[pathId] = parentPath;
+    pathUrn[pathId] = urnId;
+    if (parentPath == NO_PATH) {
+      pathLength[pathId] = 1;
+      pathMask[pathId] = urnBit;
+    } else {
+      pathLength[pathId] = pathLength[parentPath] + 1;
+      pathMask[pathId] = pathMask[parentPath] | urnBit;
+      pathCyclic[pathId] =
+          pathCyclic[parentPath]
+              || ((pathMask[parentPath] & urnBit) != 0 && contains(parentPath, urnId));
+    }
+    pathIds.put(key, pathId);
+    return pathId;
+  }
+
+  /** Registers the path as a path to its last urn, returns false if it already was. */
+  private boolean register(final int pathId) {
+    if (pathRegistered[pathId]) {
+      return false;
+    }
+    pathRegistered[pathId] = true;
+    final int urnId = pathUrn[pathId];
+    int[] paths = urnPaths[urnId] == null ? EMPTY : urnPaths[urnId];
+    if (urnPathCounts[urnId] == paths.length) {
+      paths = Arrays.copyOf(paths, Math.max(4, paths.length * 2));
+      urnPaths[urnId] = paths;
+    }
+    paths[urnPathCounts[urnId]++] = pathId;
+    return true;
+  }
+
+  private boolean contains(int pathId, final int urnId) {
+    for (; pathId != NO_PATH; pathId = pathParent[pathId]) {
+      if (pathUrn[pathId] == urnId) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Returns the shortest prefix of the path ending at the urn, or the path itself if absent. */
+  private int truncateAt(final int pathId, final int urnId) {
+    int truncated = pathId;
+    for (int p = pathId; p != NO_PATH; p = pathParent[p]) {
+      if (pathUrn[p] == urnId) {
+        truncated = p;
+      }
+    }
+    return truncated;
+  }
+
+  private UrnArray toUrnArray(int pathId) {
+    final Urn[] path = new Urn[pathLength[pathId]];
+    for (int i = path.length - 1; pathId != NO_PATH; pathId = pathParent[pathId], i--) {
+      path[i] = urns.get(pathUrn[pathId]);
+    }
+    return new UrnArray(Arrays.asList(path));
+  }
+}
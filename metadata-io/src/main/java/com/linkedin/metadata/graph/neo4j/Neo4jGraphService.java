@@ -38,18 +38,20 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.StringJoiner;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.time.StopWatch;
 import org.apache.commons.lang3.ClassUtils;
@@ -66,9 +68,13 @@ import org.neo4j.driver.types.Relationship;
 public class Neo4jGraphService implements GraphService {
 
   private static final int MAX_TRANSACTION_RETRY = 3;
+  private static final int DEFAULT_EDGE_BATCH_SIZE = 1000;
+  private static final Set<String> PRESERVED_EDGE_PROPERTIES =
+      Set.of("createdOn", "createdActor", "updatedOn", "updatedActor", "startUrn", "endUrn");
   private final LineageRegistry _lineageRegistry;
   private final Driver _driver;
   private SessionConfig _sessionConfig;
+  private final int edgeBatchSize;
 
   public Neo4jGraphService(@Nonnull LineageRegistry lineageRegistry, @Nonnull Driver driver) {
     this(lineageRegistry, driver, SessionConfig.defaultConfig());
@@ -78,9 +84,18 @@ public class Neo4jGraphService implements GraphService {
       @Nonnull LineageRegistry lineageRegistry,
       @Nonnull Driver driver,
       @Nonnull SessionConfig sessionConfig) {
+    this(lineageRegistry, driver, sessionConfig, DEFAULT_EDGE_BATCH_SIZE);
+  }
+
+  public Neo4jGraphService(
+      @Nonnull LineageRegistry lineageRegistry,
+      @Nonnull Driver driver,
+      @Nonnull SessionConfig sessionConfig,
+      int edgeBatchSize) {
     this._lineageRegistry = lineageRegistry;
     this._driver = driver;
     this._sessionConfig = sessionConfig;
+    this.edgeBatchSize = Math.max(1, edgeBatchSize);
   }
 
   @Override
@@ -90,78 +105,112 @@ public class Neo4jGraphService implements GraphService {
 
   @Override
   public void addEdge(@Nonnull final Edge edge) {
+    addEdges(Collections.singletonList(edge));
+  }
 
-    log.debug(
-        String.format(
-            "Adding Edge source: %s, destination: %s, type: %s",
-            edge.getSource(), edge.getDestination(), edge.getRelationshipType()));
+  @Override
+  public void upsertEdge(final Edge edge) {
+    addEdge(edge);
+  }
 
+  @Override
+  public void removeEdge(final Edge edge) {
+    removeEdges(Collections.singletonList(edge));
+  }
+
+  /**
+   * Adds edges with one parameterised UNWIND statement per source type, destination type and
+   * relationship type, in one transaction per batch of edges.
+   */
+  @Override
+  public void addEdges(@Nonnull final List<Edge> edges) {
+    final Map<EdgeGroup, List<Map<String, Object>>> groups = new LinkedHashMap<>();
+    for (Edge edge : edges) {
+      log.debug(
+          String.format(
+              "Adding Edge source: %s, destination: %s, type: %s",
+              edge.getSource(), edge.getDestination(), edge.getRelationshipType()));
+      final EdgeGroup group = toEdgeGroup(edge);
+      groups
+          .computeIfAbsent(group, k -> new ArrayList<>())
+          .add(toEdgeRow(edge, group.isReversed()));
+    }
+    executeGrouped(groups, this::buildAddEdgesStatement);
+  }
+
+  @Override
+  public void upsertEdges(@Nonnull final List<Edge> edges) {
+    addEdges(edges);
+  }
+
+  /**
+   * Removes edges and their reverse relationships with parameterised UNWIND statements, in one
+   * transaction per batch of edges.
+   */
+  @Override
+  public void removeEdges(@Nonnull final List<Edge> edges) {
+    final Map<EdgeGroup, List<Map<String, Object>>> groups = new LinkedHashMap<>();
+    for (Edge edge : edges) {
+      log.debug(
+          String.format(
+              "Deleting Edge source: %s, destination: %s, type: %s",
+              edge.getSource(), edge.getDestination(), edge.getRelationshipType()));
+      final EdgeGroup group = toEdgeGroup(edge);
+      final Map<String, Object> row = new HashMap<>();
+      row.put("sourceUrn", edge.getSource().toString());
+      row.put("destinationUrn", edge.getDestination().toString());
+      groups.computeIfAbsent(group, k -> new ArrayList<>()).add(row);
+    }
+    executeGrouped(groups, this::buildRemoveEdgesStatements);
+  }
+
+  /** Edges that can be written by the same statement, labels and types can't be parameters. */
+  @Value
+  private static class EdgeGroup {
+    String sourceType;
+    String destinationType;
+    String relationshipType;
+    boolean reversed;
+  }
+
+  private EdgeGroup toEdgeGroup(@Nonnull Edge edge) {
     final String sourceType = edge.getSource().getEntityType();
-    final String destinationType = edge.getDestination().getEntityType();
+    return new EdgeGroup(
+        sourceType,
+        edge.getDestination().getEntityType(),
+        edge.getRelationshipType(),
+        isSourceDestReversed(sourceType, edge.getRelationshipType()));
+  }
+
+  private static Map<String, Object> toEdgeRow(@Nonnull Edge edge, boolean reversed) {
     final String sourceUrn = edge.getSource().toString();
     final String destinationUrn = edge.getDestination().toString();
 
-    // Introduce startUrn, endUrn for real source node and destination node without consider direct
-    // or indirect pattern match
-    String endUrn = destinationUrn;
-    String startUrn = sourceUrn;
-    // Extra relationship typename start with r_ for
-    // direct-outgoing-downstream/indirect-incoming-upstream relationships
-    String reverseRelationshipType = "r_" + edge.getRelationshipType();
-
-    final String createOrFindSourceNode =
-        String.format("MERGE (source:%s {urn: '%s'})", sourceType, sourceUrn);
-    final String createOrFindDestinationNode =
-        String.format("MERGE (destination:%s {urn: '%s'})", destinationType, destinationUrn);
-    final String createSourceToDestinationRelationShip =
-        String.format("MERGE (source)-[:%s]->(destination)", edge.getRelationshipType());
-    String createReverseRelationShip =
-        String.format("MERGE (source)-[r:%s]->(destination)", reverseRelationshipType);
-
-    if (isSourceDestReversed(sourceType, edge.getRelationshipType())) {
-      endUrn = sourceUrn;
-      startUrn = destinationUrn;
-      createReverseRelationShip =
-          String.format("MERGE (destination)-[r:%s]->(source)", reverseRelationshipType);
-    }
-
     // Add/Update relationship properties
-    String setCreatedOnTemplate;
-    String setcreatedActorTemplate;
-    String setupdatedOnTemplate;
-    String setupdatedActorTemplate;
-    String setPropertyTemplate;
-    final StringJoiner propertiesTemplateJoiner = new StringJoiner(", ");
+    final Map<String, Object> properties = new HashMap<>();
     if (edge.getCreatedOn() != null) {
-      setCreatedOnTemplate = String.format("r.createdOn = %s", edge.getCreatedOn());
-      propertiesTemplateJoiner.add(setCreatedOnTemplate);
+      properties.put("createdOn", edge.getCreatedOn());
     }
     if (edge.getCreatedActor() != null) {
-      setcreatedActorTemplate = String.format("r.createdActor = '%s'", edge.getCreatedActor());
-      propertiesTemplateJoiner.add(setcreatedActorTemplate);
+      properties.put("createdActor", edge.getCreatedActor().toString());
     }
     if (edge.getUpdatedOn() != null) {
-      setupdatedOnTemplate = String.format("r.updatedOn = %s", edge.getUpdatedOn());
-      propertiesTemplateJoiner.add(setupdatedOnTemplate);
+      properties.put("updatedOn", edge.getUpdatedOn());
     }
     if (edge.getUpdatedActor() != null) {
-      setupdatedActorTemplate = String.format("r.updatedActor = '%s'", edge.getUpdatedActor());
-      propertiesTemplateJoiner.add(setupdatedActorTemplate);
+      properties.put("updatedActor", edge.getUpdatedActor().toString());
     }
     if (edge.getProperties() != null) {
       for (Map.Entry<String, Object> entry : edge.getProperties().entrySet()) {
         // Make sure extra keys in properties are not preserved
-        final Set<String> preservedKeySet =
-            Set.of("createdOn", "createdActor", "updatedOn", "updatedActor", "startUrn", "endUrn");
-        if (preservedKeySet.contains(entry.getKey())) {
+        if (PRESERVED_EDGE_PROPERTIES.contains(entry.getKey())) {
           throw new UnsupportedOperationException(
               String.format(
                   "Tried setting properties on graph edge but property key is preserved. Key: %s",
                   entry.getKey()));
         }
         if (entry.getValue() instanceof String) {
-          setPropertyTemplate = String.format("r.%s = '%s'", entry.getKey(), entry.getValue());
-          propertiesTemplateJoiner.add(setPropertyTemplate);
+          properties.put(entry.getKey(), entry.getValue());
         } else {
           throw new UnsupportedOperationException(
               String.format(
@@ -170,83 +219,97 @@ public class Neo4jGraphService implements GraphService {
         }
       }
     }
-    final String setStartEndUrnTemplate =
-        String.format("r.startUrn = '%s', r.endUrn = '%s'", startUrn, endUrn);
-    propertiesTemplateJoiner.add(setStartEndUrnTemplate);
-
-    StringBuilder finalStatement = new StringBuilder();
-    finalStatement
-        .append(createOrFindSourceNode)
-        .append(" ")
-        .append(createOrFindDestinationNode)
-        .append(" ")
-        .append(createSourceToDestinationRelationShip)
-        .append(" ")
-        .append(createReverseRelationShip)
-        .append(" ");
-    if (!StringUtils.isEmpty(propertiesTemplateJoiner.toString())) {
-      finalStatement.append("SET ").append(propertiesTemplateJoiner);
-    }
-    final List<Statement> statements = new ArrayList<>();
-    statements.add(buildStatement(finalStatement.toString(), new HashMap<>()));
-    executeStatements(statements);
-  }
-
-  @Override
-  public void upsertEdge(final Edge edge) {
-    addEdge(edge);
+    // Introduce startUrn, endUrn for real source node and destination node without consider direct
+    // or indirect pattern match
+    properties.put("startUrn", reversed ? destinationUrn : sourceUrn);
+    properties.put("endUrn", reversed ? sourceUrn : destinationUrn);
+
+    final Map<String, Object> row = new HashMap<>();
+    row.put("sourceUrn", sourceUrn);
+    row.put("destinationUrn", destinationUrn);
+    row.put("properties", properties);
+    return row;
   }
 
-  @Override
-  public void removeEdge(final Edge edge) {
-    log.debug(
+  private List<String> buildAddEdgesStatement(@Nonnull EdgeGroup group) {
+    // Extra relationship typename start with r_ for
+    // direct-outgoing-downstream/indirect-incoming-upstream relationships
+    final String createReverseRelationShip =
+        group.isReversed()
+            ? "MERGE (destination)-[r:r_%3$s]->(source)"
+            : "MERGE (source)-[r:r_%3$s]->(destination)";
+    return Collections.singletonList(
         String.format(
-            "Deleting Edge source: %s, destination: %s, type: %s",
-            edge.getSource(), edge.getDestination(), edge.getRelationshipType()));
-
-    final String sourceType = edge.getSource().getEntityType();
-    final String destinationType = edge.getDestination().getEntityType();
-    final String sourceUrn = edge.getSource().toString();
-    final String destinationUrn = edge.getDestination().toString();
-
-    String endUrn = destinationUrn;
-    String startUrn = sourceUrn;
-    String endType = destinationType;
-    String startType = sourceType;
-    String reverseRelationshipType = "r_" + edge.getRelationshipType();
-
-    if (isSourceDestReversed(sourceType, edge.getRelationshipType())) {
-      endUrn = sourceUrn;
-      endType = sourceType;
-      startUrn = destinationUrn;
-      startType = destinationType;
-    }
-
-    final List<Statement> statements = new ArrayList<>();
+            "UNWIND $edges AS edge "
+                + "MERGE (source:%1$s {urn: edge.sourceUrn}) "
+                + "MERGE (destination:%2$s {urn: edge.destinationUrn}) "
+                + "MERGE (source)-[:%3$s]->(destination) "
+                + createReverseRelationShip
+                + " SET r += edge.properties",
+            group.getSourceType(),
+            group.getDestinationType(),
+            group.getRelationshipType()));
+  }
 
-    // DELETE relationship
-    final String mergeRelationshipTemplate =
-        "MATCH (source:%s {urn: '%s'})-[r:%s]->(destination:%s {urn: '%s'}) DELETE r";
+  private List<String> buildRemoveEdgesStatements(@Nonnull EdgeGroup group) {
+    final String deleteRelationshipTemplate =
+        "UNWIND $edges AS edge MATCH (source:%s {urn: edge.%s})-[r:%s]->(destination:%s {urn:"
+            + " edge.%s}) DELETE r";
     final String statement =
         String.format(
-            mergeRelationshipTemplate,
-            sourceType,
-            sourceUrn,
-            edge.getRelationshipType(),
-            destinationType,
-            destinationUrn);
+            deleteRelationshipTemplate,
+            group.getSourceType(),
+            "sourceUrn",
+            group.getRelationshipType(),
+            group.getDestinationType(),
+            "destinationUrn");
     final String statementR =
-        String.format(
-            mergeRelationshipTemplate,
-            startType,
-            startUrn,
-            reverseRelationshipType,
-            endType,
-            endUrn);
-
-    statements.add(buildStatement(statement, new HashMap<>()));
-    statements.add(buildStatement(statementR, new HashMap<>()));
-    executeStatements(statements);
+        group.isReversed()
+            ? String.format(
+                deleteRelationshipTemplate,
+                group.getDestinationType(),
+                "destinationUrn",
+                "r_" + group.getRelationshipType(),
+                group.getSourceType(),
+                "sourceUrn")
+            : String.format(
+                deleteRelationshipTemplate,
+                group.getSourceType(),
+                "sourceUrn",
+                "r_" + group.getRelationshipType(),
+                group.getDestinationType(),
+                "destinationUrn");
+    return List.of(statement, statementR);
+  }
+
+  /**
+   * Runs the statements of each group for all of its rows, with one transaction per batch of at
+   * most edgeBatchSize rows.
+   */
+  private void executeGrouped(
+      @Nonnull Map<EdgeGroup, List<Map<String, Object>>> groups,
+      @Nonnull Function<EdgeGroup, List<String>> statementBuilder) {
+    List<Statement> batch = new ArrayList<>();
+    int batchRows = 0;
+    for (Map.Entry<EdgeGroup, List<Map<String, Object>>> group : groups.entrySet()) {
+      final List<String> statements = statementBuilder.apply(group.getKey());
+      for (List<Map<String, Object>> rows : Iterables.partition(group.getValue(), edgeBatchSize)) {
+        if (batchRows > 0 && batchRows + rows.size() > edgeBatchSize) {
+          executeStatements(batch);
+          batch = new ArrayList<>();
+          batchRows = 0;
+        }
+        for (String statement : statements) {
+          final Map<String, Object> params = new HashMap<>();
+          params.put("edges", rows);
+          batch.add(buildStatement(statement, params));
+        }
+        batchRows += rows.size();
+      }
+    }
+    if (!batch.isEmpty()) {
+      executeStatements(batch);
+    }
   }
 
   @Nonnull
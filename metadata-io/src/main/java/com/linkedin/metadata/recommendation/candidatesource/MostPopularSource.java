@@ -98,6 +98,12 @@ public class MostPopularSource implements EntityRecommendationSource {
     return requestContext.getScenario() == ScenarioType.HOME && analyticsEnabled;
   }
 
+  /** Shared unless activity is restricted to the actor's peers */
+  @Override
+  public CacheScope getCacheScope(@Nonnull OperationContext opContext) {
+    return restrictPeers(opContext).isPresent() ? CacheScope.USER : CacheScope.SHARED;
+  }
+
   @Override
   @WithSpan
   public List<RecommendationContent> getRecommendations(
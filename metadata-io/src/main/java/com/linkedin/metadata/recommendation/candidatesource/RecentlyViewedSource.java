@@ -81,6 +81,11 @@ public class RecentlyViewedSource implements EntityRecommendationSource {
     return RecommendationRenderType.ENTITY_NAME_LIST;
   }
 
+  @Override
+  public CacheScope getCacheScope(@Nonnull OperationContext opContext) {
+    return CacheScope.USER;
+  }
+
   @Override
   public boolean isEligible(
       @Nonnull OperationContext opContext, @Nonnull RecommendationRequestContext requestContext) {
@@ -11,20 +11,23 @@ import io.opentelemetry.extension.annotations.WithSpan;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
+import org.apache.commons.lang3.tuple.Pair;
 
 public class EntityDocCountCache {
   private final EntityRegistry entityRegistry;
   private final EntitySearchService entitySearchService;
   private final EntityDocCountCacheConfiguration config;
   private final Map<EntityDocCountsKey, Supplier<Map<String, Long>>> entityDocCounts;
+  private final Executor docCountExecutor;
 
   @AllArgsConstructor
   @EqualsAndHashCode
@@ -37,19 +40,29 @@ public class EntityDocCountCache {
       EntityRegistry entityRegistry,
       EntitySearchService entitySearchService,
       EntityDocCountCacheConfiguration config) {
+    this(entityRegistry, entitySearchService, config, ForkJoinPool.commonPool());
+  }
+
+  public EntityDocCountCache(
+      EntityRegistry entityRegistry,
+      EntitySearchService entitySearchService,
+      EntityDocCountCacheConfiguration config,
+      Executor docCountExecutor) {
     this.config = config;
     this.entityRegistry = entityRegistry;
     this.entitySearchService = entitySearchService;
     this.entityDocCounts = new ConcurrentHashMap<>();
+    this.docCountExecutor = docCountExecutor;
   }
 
   private Map<String, Long> fetchEntityDocCount(
       @Nonnull OperationContext opContext, @Nullable Filter filter) {
     return ConcurrencyUtils.transformAndCollectAsync(
         entityRegistry.getEntitySpecs().keySet(),
-        Function.identity(),
-        Collectors.toMap(
-            Function.identity(), v -> entitySearchService.docCount(opContext, v, filter)));
+        entityName ->
+            Pair.of(entityName, entitySearchService.docCount(opContext, entityName, filter)),
+        Collectors.toMap(Pair::getKey, Pair::getValue),
+        docCountExecutor);
   }
 
   @WithSpan
@@ -4,22 +4,29 @@ import static com.linkedin.metadata.search.utils.QueryUtils.EMPTY_FILTER;
 import static com.linkedin.metadata.search.utils.QueryUtils.newRelationshipFilter;
 import static com.linkedin.metadata.utils.CriterionUtils.buildCriterion;
 
+import com.google.common.base.Suppliers;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.metadata.aspect.GraphRetriever;
 import com.linkedin.metadata.aspect.models.graph.Edge;
 import com.linkedin.metadata.aspect.models.graph.RelatedEntitiesScrollResult;
+import com.linkedin.metadata.config.search.QueryFilterRewriterConfiguration;
 import com.linkedin.metadata.query.filter.Condition;
 import com.linkedin.metadata.query.filter.RelationshipDirection;
 import com.linkedin.metadata.search.utils.QueryUtils;
 import io.datahubproject.metadata.context.OperationContext;
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
@@ -29,6 +36,18 @@ import org.opensearch.index.query.TermsQueryBuilder;
 @Slf4j
 public abstract class BaseQueryFilterRewriter implements QueryFilterRewriter {
 
+  private static final int EXPANSION_CACHE_MAX_SIZE = 10000;
+
+  /**
+   * Expanded urns by query urns and walk. Domain and container hierarchies change rarely while
+   * filtering on them is common, so expansions are shared across requests for a short TTL.
+   */
+  private final Supplier<Optional<Cache<ExpansionKey, Set<Urn>>>> expansionCache =
+      Suppliers.memoize(this::buildExpansionCache);
+
+  @Nonnull
+  protected abstract QueryFilterRewriterConfiguration.ExpansionRewriterConfiguration getConfig();
+
   protected <T extends QueryBuilder> T expandUrnsByGraph(
       @Nonnull OperationContext opContext,
       T queryBuilder,
@@ -127,7 +146,7 @@ public abstract class BaseQueryFilterRewriter implements QueryFilterRewriter {
    * @param limit max results
    * @return updated query builder with expanded terms
    */
-  private static QueryBuilder expandTerms(
+  private QueryBuilder expandTerms(
       OperationContext opContext,
       TermsQueryBuilder termsQueryBuilder,
       List<String> relationshipTypes,
@@ -138,18 +157,26 @@ public abstract class BaseQueryFilterRewriter implements QueryFilterRewriter {
         termsQueryBuilder.values().stream()
             .map(urnObj -> UrnUtils.getUrn(urnObj.toString()))
             .collect(Collectors.toSet());
-    Set<Urn> expandedUrns = new HashSet<>(queryUrns);
 
     if (!queryUrns.isEmpty()) {
+      final Optional<Cache<ExpansionKey, Set<Urn>>> cache = expansionCache.get();
+      final ExpansionKey cacheKey =
+          new ExpansionKey(queryUrns, relationshipTypes, relationshipDirection);
 
-      scrollGraph(
-          opContext.getRetrieverContext().getGraphRetriever(),
-          queryUrns,
-          relationshipTypes,
-          relationshipDirection,
-          expandedUrns,
-          pageSize,
-          limit);
+      Set<Urn> expandedUrns = cache.map(c -> c.getIfPresent(cacheKey)).orElse(null);
+      if (expandedUrns == null) {
+        expandedUrns = new HashSet<>(queryUrns);
+        scrollGraph(
+            opContext.getRetrieverContext().getGraphRetriever(),
+            queryUrns,
+            relationshipTypes,
+            relationshipDirection,
+            expandedUrns,
+            pageSize,
+            limit);
+        final Set<Urn> cachedUrns = Set.copyOf(expandedUrns);
+        cache.ifPresent(c -> c.put(cacheKey, cachedUrns));
+      }
 
       return expandTermsQueryUrnValues(termsQueryBuilder, expandedUrns);
     }
@@ -157,6 +184,19 @@ public abstract class BaseQueryFilterRewriter implements QueryFilterRewriter {
     return termsQueryBuilder;
   }
 
+  private Optional<Cache<ExpansionKey, Set<Urn>>> buildExpansionCache() {
+    final int ttlSeconds = getConfig().getCacheTtlSeconds();
+    if (ttlSeconds <= 0) {
+      return Optional.empty();
+    }
+    final Cache<ExpansionKey, Set<Urn>> cache =
+        CacheBuilder.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .maximumSize(EXPANSION_CACHE_MAX_SIZE)
+            .build();
+    return Optional.of(cache);
+  }
+
   private static boolean matchTermsQueryFieldName(
       QueryBuilder queryBuilder, Set<String> fieldNames) {
     if (queryBuilder instanceof TermsQueryBuilder) {
@@ -237,4 +277,11 @@ public abstract class BaseQueryFilterRewriter implements QueryFilterRewriter {
           limit);
     }
   }
+
+  @Value
+  private static class ExpansionKey {
+    Set<Urn> queryUrns;
+    List<String> relationshipTypes;
+    RelationshipDirection relationshipDirection;
+  }
 }
@@ -25,7 +25,9 @@ public class ContainerExpansionRewriter extends BaseQueryFilterRewriter {
 
   @Builder.Default private Condition defaultCondition = Condition.DESCENDANTS_INCL;
 
-  @Nonnull private final QueryFilterRewriterConfiguration.ExpansionRewriterConfiguration config;
+  @Getter
+  @Nonnull
+  private final QueryFilterRewriterConfiguration.ExpansionRewriterConfiguration config;
 
   @Nonnull
   @Override
@@ -0,0 +1,170 @@
+package com.linkedin.metadata.search.elasticsearch.update;
+
+import com.codahale.metrics.Gauge;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.Arrays;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.OpenSearchException;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+
+/**
+ * Limits the number of bulk requests in flight to the search cluster, adjusting the limit from
+ * the observed responses.
+ *
+ * <p>The limit grows by one after every bulk answered within the target latency, shrinks by one
+ * after a slow bulk and is halved when the cluster rejects work with a 429. Callers sending a bulk
+ * while the limit is reached block until a request completes, which pushes backpressure all the
+ * way to the threads adding documents to the {@link ESBulkProcessor}.
+ */
+@Slf4j
+public class AdaptiveBulkLimiter {
+  private static final String IN_FLIGHT_BYTES_METRIC = "in_flight_bytes";
+  private static final String QUEUE_DEPTH_METRIC = "queue_depth";
+  private static final String CONCURRENCY_LIMIT_METRIC = "concurrency_limit";
+  private static final String THROTTLED_METRIC = "throttled";
+  private static final String LATENCY_METRIC = "bulk_latency";
+
+  private final int maxConcurrency;
+  private final long targetLatencyMillis;
+  private final ResizableSemaphore permits;
+  private final AtomicLong inFlightBytes = new AtomicLong();
+  private int limit;
+
+  public AdaptiveBulkLimiter(int maxConcurrency, long targetLatencyMillis) {
+    this.maxConcurrency = Math.max(1, maxConcurrency);
+    this.targetLatencyMillis = targetLatencyMillis;
+    this.limit = Math.max(1, this.maxConcurrency / 2);
+    this.permits = new ResizableSemaphore(limit);
+
+    MetricUtils.gauge(
+        AdaptiveBulkLimiter.class, IN_FLIGHT_BYTES_METRIC, () -> (Gauge<Long>) inFlightBytes::get);
+    MetricUtils.gauge(
+        AdaptiveBulkLimiter.class, QUEUE_DEPTH_METRIC, () -> (Gauge<Integer>) this::getQueueDepth);
+    MetricUtils.gauge(
+        AdaptiveBulkLimiter.class, CONCURRENCY_LIMIT_METRIC, () -> (Gauge<Integer>) this::getLimit);
+  }
+
+  /** Wraps the consumer sending bulk requests so that each request holds a permit until done. */
+  public BiConsumer<BulkRequest, ActionListener<BulkResponse>> wrap(
+      BiConsumer<BulkRequest, ActionListener<BulkResponse>> consumer) {
+    return (request, listener) -> {
+      try {
+        permits.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        listener.onFailure(e);
+        return;
+      }
+
+      final long bytes = request.estimatedSizeInBytes();
+      final long startNanos = System.nanoTime();
+      final AtomicBoolean done = new AtomicBoolean(false);
+      inFlightBytes.addAndGet(bytes);
+
+      ActionListener<BulkResponse> limitedListener =
+          new ActionListener<>() {
+            @Override
+            public void onResponse(BulkResponse response) {
+              if (done.compareAndSet(false, true)) {
+                release(bytes, startNanos, isThrottled(response));
+              }
+              listener.onResponse(response);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+              if (done.compareAndSet(false, true)) {
+                release(bytes, startNanos, isThrottled(e));
+              }
+              listener.onFailure(e);
+            }
+          };
+
+      try {
+        consumer.accept(request, limitedListener);
+      } catch (RuntimeException e) {
+        if (done.compareAndSet(false, true)) {
+          release(bytes, startNanos, false);
+        }
+        throw e;
+      }
+    };
+  }
+
+  public synchronized int getLimit() {
+    return limit;
+  }
+
+  public int getQueueDepth() {
+    return permits.getQueueLength();
+  }
+
+  public long getInFlightBytes() {
+    return inFlightBytes.get();
+  }
+
+  private void release(long bytes, long startNanos, boolean throttled) {
+    final long latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    MetricUtils.timer(AdaptiveBulkLimiter.class, LATENCY_METRIC)
+        .update(latencyMillis, TimeUnit.MILLISECONDS);
+    inFlightBytes.addAndGet(-bytes);
+    onComplete(latencyMillis, throttled);
+    permits.release();
+  }
+
+  private synchronized void onComplete(long latencyMillis, boolean throttled) {
+    final int newLimit;
+    if (throttled) {
+      MetricUtils.counter(AdaptiveBulkLimiter.class, THROTTLED_METRIC).inc();
+      newLimit = Math.max(1, limit / 2);
+    } else if (latencyMillis > targetLatencyMillis) {
+      newLimit = Math.max(1, limit - 1);
+    } else {
+      newLimit = Math.min(maxConcurrency, limit + 1);
+    }
+
+    if (newLimit > limit) {
+      permits.release(newLimit - limit);
+    } else if (newLimit < limit) {
+      permits.reducePermits(limit - newLimit);
+      log.debug(
+          "Reduced bulk concurrency from {} to {}. Latency ms: {} throttled: {}",
+          limit,
+          newLimit,
+          latencyMillis,
+          throttled);
+    }
+    limit = newLimit;
+  }
+
+  private static boolean isThrottled(BulkResponse response) {
+    return response.hasFailures()
+        && Arrays.stream(response.getItems())
+            .anyMatch(item -> item.isFailed() && item.status() == RestStatus.TOO_MANY_REQUESTS);
+  }
+
+  private static boolean isThrottled(Exception e) {
+    return e instanceof OpenSearchException
+        && ((OpenSearchException) e).status() == RestStatus.TOO_MANY_REQUESTS;
+  }
+
+  /** Exposes {@link Semaphore#reducePermits(int)}, available permits may drop below 0. */
+  private static class ResizableSemaphore extends Semaphore {
+    ResizableSemaphore(int permits) {
+      super(permits, true);
+    }
+
+    @Override
+    protected void reducePermits(int reduction) {
+      super.reducePermits(reduction);
+    }
+  }
+}
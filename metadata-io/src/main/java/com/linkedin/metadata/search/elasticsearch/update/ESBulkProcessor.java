@@ -4,6 +4,7 @@ import com.linkedin.metadata.utils.metrics.MetricUtils;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -13,6 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.bulk.BackoffPolicy;
 import org.opensearch.action.bulk.BulkProcessor;
+import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.support.WriteRequest;
 import org.opensearch.client.RequestOptions;
@@ -20,6 +22,8 @@ import org.opensearch.client.RestHighLevelClient;
 import org.opensearch.client.tasks.TaskSubmissionResponse;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.reindex.BulkByScrollResponse;
 import org.opensearch.index.reindex.DeleteByQueryRequest;
@@ -50,6 +54,17 @@ public class ESBulkProcessor implements Closeable {
   @Builder.Default private Integer numRetries = 3;
   @Builder.Default private Long retryInterval = 1L;
   @Builder.Default private TimeValue defaultTimeout = TimeValue.timeValueMinutes(1);
+
+  /**
+   * Adaptive mode sizes bulks by bytes instead of actions, backs off exponentially and adjusts the
+   * number of concurrent bulks from the cluster response latency and rejections, see {@link
+   * AdaptiveBulkLimiter}.
+   */
+  @Builder.Default @NonNull private Boolean adaptive = false;
+
+  @Builder.Default private Long bulkSizeBytes = 5L * 1024 * 1024;
+  @Builder.Default private Integer maxConcurrentRequests = 8;
+  @Builder.Default private Long targetLatencyMillis = 1000L;
   @Getter private final WriteRequest.RefreshPolicy writeRequestRefreshPolicy;
 
   @Setter(AccessLevel.NONE)
@@ -65,6 +80,10 @@ public class ESBulkProcessor implements Closeable {
       Integer numRetries,
       Long retryInterval,
       TimeValue defaultTimeout,
+      @NonNull Boolean adaptive,
+      Long bulkSizeBytes,
+      Integer maxConcurrentRequests,
+      Long targetLatencyMillis,
       WriteRequest.RefreshPolicy writeRequestRefreshPolicy,
       BulkProcessor ignored) {
     this.searchClient = searchClient;
@@ -75,6 +94,10 @@ public class ESBulkProcessor implements Closeable {
     this.numRetries = numRetries;
     this.retryInterval = retryInterval;
     this.defaultTimeout = defaultTimeout;
+    this.adaptive = adaptive;
+    this.bulkSizeBytes = bulkSizeBytes;
+    this.maxConcurrentRequests = maxConcurrentRequests;
+    this.targetLatencyMillis = targetLatencyMillis;
     this.writeRequestRefreshPolicy = writeRequestRefreshPolicy;
     this.bulkProcessor = async ? toAsyncBulkProcessor() : toBulkProcessor();
   }
@@ -82,7 +105,7 @@ public class ESBulkProcessor implements Closeable {
   public ESBulkProcessor add(DocWriteRequest<?> request) {
     MetricUtils.counter(this.getClass(), ES_WRITES_METRIC).inc();
     bulkProcessor.add(request);
-    log.info(
+    log.debug(
         "Added request id: {}, operation type: {}, index: {}",
         request.id(),
         request.opType(),
@@ -186,38 +209,49 @@ public class ESBulkProcessor implements Closeable {
   }
 
   private BulkProcessor toBulkProcessor() {
-    return BulkProcessor.builder(
-            (request, bulkListener) -> {
-              try {
-                BulkResponse response = searchClient.bulk(request, RequestOptions.DEFAULT);
-                bulkListener.onResponse(response);
-              } catch (IOException e) {
-                bulkListener.onFailure(e);
-                throw new RuntimeException(e);
-              }
-            },
-            BulkListener.getInstance(writeRequestRefreshPolicy))
-        .setBulkActions(bulkRequestsLimit)
-        .setFlushInterval(TimeValue.timeValueSeconds(bulkFlushPeriod))
-        // This retry is ONLY for "resource constraints", i.e. 429 errors (each request has other
-        // retry methods)
-        .setBackoffPolicy(
-            BackoffPolicy.constantBackoff(TimeValue.timeValueSeconds(retryInterval), numRetries))
-        .build();
+    return configure(
+        (request, bulkListener) -> {
+          try {
+            BulkResponse response = searchClient.bulk(request, RequestOptions.DEFAULT);
+            bulkListener.onResponse(response);
+          } catch (IOException e) {
+            bulkListener.onFailure(e);
+            throw new RuntimeException(e);
+          }
+        });
   }
 
   private BulkProcessor toAsyncBulkProcessor() {
+    return configure(
+        (request, bulkListener) -> {
+          searchClient.bulkAsync(request, RequestOptions.DEFAULT, bulkListener);
+        });
+  }
+
+  private BulkProcessor configure(BiConsumer<BulkRequest, ActionListener<BulkResponse>> consumer) {
+    if (!adaptive) {
+      return BulkProcessor.builder(consumer, BulkListener.getInstance(writeRequestRefreshPolicy))
+          .setBulkActions(bulkRequestsLimit)
+          .setFlushInterval(TimeValue.timeValueSeconds(bulkFlushPeriod))
+          // This retry is ONLY for "resource constraints", i.e. 429 errors (each request has other
+          // retry methods)
+          .setBackoffPolicy(
+              BackoffPolicy.constantBackoff(TimeValue.timeValueSeconds(retryInterval), numRetries))
+          .build();
+    }
+
+    // The limiter bounds the bulks in flight, the processor's own limit is only an upper bound.
+    AdaptiveBulkLimiter limiter =
+        new AdaptiveBulkLimiter(maxConcurrentRequests, targetLatencyMillis);
     return BulkProcessor.builder(
-            (request, bulkListener) -> {
-              searchClient.bulkAsync(request, RequestOptions.DEFAULT, bulkListener);
-            },
-            BulkListener.getInstance(writeRequestRefreshPolicy))
-        .setBulkActions(bulkRequestsLimit)
+            limiter.wrap(consumer), BulkListener.getInstance(writeRequestRefreshPolicy))
+        .setBulkActions(-1)
+        .setBulkSize(new ByteSizeValue(bulkSizeBytes))
+        .setConcurrentRequests(maxConcurrentRequests)
         .setFlushInterval(TimeValue.timeValueSeconds(bulkFlushPeriod))
-        // This retry is ONLY for "resource constraints", i.e. 429 errors (each request has other
-        // retry methods)
+        // 429 retries back off exponentially, giving the cluster time to drain its queues
         .setBackoffPolicy(
-            BackoffPolicy.constantBackoff(TimeValue.timeValueSeconds(retryInterval), numRetries))
+            BackoffPolicy.exponentialBackoff(TimeValue.timeValueSeconds(retryInterval), numRetries))
         .build();
   }
 
@@ -9,6 +9,8 @@ import com.linkedin.metadata.utils.ConcurrencyUtils;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 import lombok.SneakyThrows;
 import lombok.Value;
@@ -16,6 +18,17 @@ import lombok.Value;
 /** In memory ranker that re-ranks results returned by the search backend */
 public abstract class SearchRanker<U extends Comparable<? super U>> {
 
+  /** Runs the feature extractors in parallel */
+  private final Executor featureExecutor;
+
+  protected SearchRanker() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  protected SearchRanker(Executor featureExecutor) {
+    this.featureExecutor = featureExecutor;
+  }
+
   /**
    * List of feature extractors to use to fetch features for each entity returned by search backend
    */
@@ -51,7 +64,10 @@ public abstract class SearchRanker<U extends Comparable<? super U>> {
             .map(Features::from)
             .collect(Collectors.toList());
     return ConcurrencyUtils.transformAndCollectAsync(
-            getFeatureExtractors(), extractor -> extractor.extractFeatures(originalList))
+            getFeatureExtractors(),
+            extractor -> extractor.extractFeatures(originalList),
+            Collectors.toList(),
+            featureExecutor)
         .stream()
         .reduce(originalFeatures, Features::merge);
   }
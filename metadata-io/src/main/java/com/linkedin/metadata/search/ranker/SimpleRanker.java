@@ -5,6 +5,7 @@ import com.linkedin.metadata.search.SearchEntity;
 import com.linkedin.metadata.search.features.FeatureExtractor;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 /**
  * Simple ranker that diversifies the results between different entities. For the same entity,
@@ -18,6 +19,11 @@ public class SimpleRanker extends SearchRanker<Double> {
     featureExtractors = ImmutableList.of();
   }
 
+  public SimpleRanker(Executor featureExecutor) {
+    super(featureExecutor);
+    featureExtractors = ImmutableList.of();
+  }
+
   @Override
   public List<FeatureExtractor> getFeatureExtractors() {
     return featureExtractors;
@@ -23,6 +23,7 @@ import com.linkedin.metadata.aspect.AspectRetriever;
 import com.linkedin.metadata.entity.EntityUtils;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.FieldSpec;
 import com.linkedin.metadata.models.LogicalValueType;
 import com.linkedin.metadata.models.SearchScoreFieldSpec;
 import com.linkedin.metadata.models.SearchableFieldSpec;
@@ -151,13 +152,24 @@ public class SearchDocumentTransformer {
       final @Nonnull AspectSpec aspectSpec,
       final Boolean forDelete)
       throws RemoteInvocationException, URISyntaxException {
+    final List<SearchableFieldSpec> searchableFieldSpecs = aspectSpec.getSearchableFieldSpecs();
+    final List<SearchableRefFieldSpec> searchableRefFieldSpecs =
+        aspectSpec.getSearchableRefFieldSpecs();
+    final List<SearchScoreFieldSpec> searchScoreFieldSpecs = aspectSpec.getSearchScoreFieldSpecs();
+    // One pass over the aspect for all three kinds of field specs
+    final List<FieldSpec> fieldSpecs = new ArrayList<>(searchableFieldSpecs);
+    fieldSpecs.addAll(searchableRefFieldSpecs);
+    fieldSpecs.addAll(searchScoreFieldSpecs);
+    final Map<FieldSpec, List<Object>> extractedFields =
+        FieldExtractor.extractAllFields(aspect, aspectSpec, fieldSpecs, maxValueLength, false);
+
     final Map<SearchableFieldSpec, List<Object>> extractedSearchableFields =
-        FieldExtractor.extractFields(aspect, aspectSpec.getSearchableFieldSpecs(), maxValueLength);
+        FieldExtractor.selectFields(aspect, extractedFields, searchableFieldSpecs, maxValueLength);
     final Map<SearchableRefFieldSpec, List<Object>> extractedSearchRefFields =
-        FieldExtractor.extractFields(
-            aspect, aspectSpec.getSearchableRefFieldSpecs(), maxValueLength);
+        FieldExtractor.selectFields(
+            aspect, extractedFields, searchableRefFieldSpecs, maxValueLength);
     final Map<SearchScoreFieldSpec, List<Object>> extractedSearchScoreFields =
-        FieldExtractor.extractFields(aspect, aspectSpec.getSearchScoreFieldSpecs(), maxValueLength);
+        FieldExtractor.selectFields(aspect, extractedFields, searchScoreFieldSpecs, maxValueLength);
 
     Optional<ObjectNode> result = Optional.empty();
 
@@ -302,7 +302,12 @@ public class UpdateGraphIndicesService implements SearchIndicesService {
     }
 
     Map<RelationshipFieldSpec, List<Object>> extractedFields =
-        FieldExtractor.extractFields(aspect, aspectSpec.getRelationshipFieldSpecs(), true);
+        FieldExtractor.extractFields(
+            aspect,
+            aspectSpec,
+            aspectSpec.getRelationshipFieldSpecs(),
+            FieldExtractor.MAX_VALUE_LENGTH,
+            true);
 
     for (Map.Entry<RelationshipFieldSpec, List<Object>> entry : extractedFields.entrySet()) {
       Set<String> relationshipTypes = urnToRelationshipTypes.getOrDefault(urn, new HashSet<>());
@@ -340,7 +345,7 @@ public class UpdateGraphIndicesService implements SearchIndicesService {
                 new Filter().setOr(new ConjunctiveCriterionArray()),
                 RelationshipDirection.OUTGOING));
       }
-      edgesToAdd.forEach(graphService::addEdge);
+      graphService.addEdges(edgesToAdd);
     }
   }
 
@@ -382,7 +387,7 @@ public class UpdateGraphIndicesService implements SearchIndicesService {
     // Remove any old edges that no longer exist first
     if (!subtractiveDifference.isEmpty()) {
       log.debug("Removing edges: {}", subtractiveDifference);
-      subtractiveDifference.forEach(graphService::removeEdge);
+      graphService.removeEdges(subtractiveDifference);
       MetricUtils.counter(this.getClass(), GRAPH_DIFF_MODE_REMOVE_METRIC)
           .inc(subtractiveDifference.size());
     }
@@ -390,7 +395,7 @@ public class UpdateGraphIndicesService implements SearchIndicesService {
     // Then add new edges
     if (!additiveDifference.isEmpty()) {
       log.debug("Adding edges: {}", additiveDifference);
-      additiveDifference.forEach(graphService::addEdge);
+      graphService.addEdges(additiveDifference);
       MetricUtils.counter(this.getClass(), GRAPH_DIFF_MODE_ADD_METRIC)
           .inc(additiveDifference.size());
     }
@@ -398,7 +403,7 @@ public class UpdateGraphIndicesService implements SearchIndicesService {
     // Then update existing edges
     if (!mergedEdges.isEmpty()) {
       log.debug("Updating edges: {}", mergedEdges);
-      mergedEdges.forEach(graphService::upsertEdge);
+      graphService.upsertEdges(mergedEdges);
       MetricUtils.counter(this.getClass(), GRAPH_DIFF_MODE_UPDATE_METRIC).inc(mergedEdges.size());
     }
   }
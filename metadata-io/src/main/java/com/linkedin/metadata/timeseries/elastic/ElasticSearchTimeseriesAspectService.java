@@ -10,7 +10,9 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Lists;
 import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.ByteString;
 import com.linkedin.metadata.aspect.EnvelopedAspect;
 import com.linkedin.metadata.config.TimeseriesAspectServiceConfig;
@@ -35,6 +37,7 @@ import com.linkedin.metadata.timeseries.TimeseriesScrollResult;
 import com.linkedin.metadata.timeseries.elastic.indexbuilder.MappingsBuilder;
 import com.linkedin.metadata.timeseries.elastic.indexbuilder.TimeseriesAspectIndexBuilders;
 import com.linkedin.metadata.timeseries.elastic.query.ESAggregatedStatsDAO;
+import com.linkedin.metadata.timeseries.elastic.query.LatestAspectValuesBatcher;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.mxe.GenericAspect;
 import com.linkedin.mxe.SystemMetadata;
@@ -52,21 +55,19 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.update.UpdateRequest;
@@ -85,6 +86,7 @@ import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.collapse.CollapseBuilder;
 import org.opensearch.search.sort.SortBuilders;
 import org.opensearch.search.sort.SortOrder;
 
@@ -111,7 +113,9 @@ public class ElasticSearchTimeseriesAspectService
   private final RestHighLevelClient searchClient;
   private final ESAggregatedStatsDAO esAggregatedStatsDAO;
   private final QueryFilterRewriteChain queryFilterRewriteChain;
-  private final ExecutorService queryPool;
+  private final int latestSearchConcurrency;
+  private final int latestBatchSize;
+  private final LatestAspectValuesBatcher latestBatcher;
 
   public ElasticSearchTimeseriesAspectService(
       @Nonnull RestHighLevelClient searchClient,
@@ -125,15 +129,11 @@ public class ElasticSearchTimeseriesAspectService
     this.bulkProcessor = bulkProcessor;
     this.numRetries = numRetries;
     this.queryFilterRewriteChain = queryFilterRewriteChain;
-    this.queryPool =
-        new ThreadPoolExecutor(
-            timeseriesAspectServiceConfig.getQuery().getConcurrency(), // core threads
-            timeseriesAspectServiceConfig.getQuery().getConcurrency(), // max threads
-            timeseriesAspectServiceConfig.getQuery().getKeepAlive(),
-            TimeUnit.SECONDS, // thread keep-alive time
-            new ArrayBlockingQueue<>(
-                timeseriesAspectServiceConfig.getQuery().getQueueSize()), // fixed size queue
-            new ThreadPoolExecutor.CallerRunsPolicy());
+    this.latestSearchConcurrency = timeseriesAspectServiceConfig.getQuery().getConcurrency();
+    this.latestBatchSize = timeseriesAspectServiceConfig.getLatestBatch().getMaxBatchSize();
+    this.latestBatcher =
+        new LatestAspectValuesBatcher(
+            timeseriesAspectServiceConfig.getLatestBatch().getWindowMillis(), latestBatchSize);
 
     esAggregatedStatsDAO = new ESAggregatedStatsDAO(searchClient, queryFilterRewriteChain);
   }
@@ -426,60 +426,124 @@ public class ElasticSearchTimeseriesAspectService
       @Nonnull Set<Urn> urns,
       @Nonnull Set<String> aspectNames,
       @Nullable Map<String, Long> endTimeMillis) {
-    Map<Urn, List<Future<Pair<String, EnvelopedAspect>>>> futures =
-        urns.stream()
-            .map(
-                urn -> {
-                  List<Future<Pair<String, EnvelopedAspect>>> aspectFutures =
-                      aspectNames.stream()
-                          .map(
-                              aspectName ->
-                                  queryPool.submit(
-                                      () -> {
-                                        List<EnvelopedAspect> oneResultList =
-                                            getAspectValues(
-                                                opContext,
-                                                urn,
-                                                urn.getEntityType(),
-                                                aspectName,
-                                                null,
-                                                endTimeMillis == null
-                                                    ? null
-                                                    : endTimeMillis.get(aspectName),
-                                                1,
-                                                null,
-                                                null);
-                                        return !oneResultList.isEmpty()
-                                            ? Pair.of(aspectName, oneResultList.get(0))
-                                            : null;
-                                      }))
-                          .collect(Collectors.toList());
-
-                  return Map.entry(urn, aspectFutures);
-                })
-            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-    return futures.entrySet().stream()
-        .map(
-            e ->
-                Map.entry(
-                    e.getKey(),
-                    e.getValue().stream()
-                        .map(
-                            f -> {
-                              try {
-                                return f.get();
-                              } catch (InterruptedException | ExecutionException ex) {
-                                throw new RuntimeException(ex);
-                              }
-                            })
-                        .filter(Objects::nonNull)
-                        .collect(Collectors.toList())))
-        .collect(
-            Collectors.toMap(
-                Map.Entry::getKey,
-                e ->
-                    e.getValue().stream().collect(Collectors.toMap(Pair::getKey, Pair::getValue))));
+    Set<LatestAspectValuesBatcher.Key> keys = new HashSet<>();
+    for (Urn urn : urns) {
+      for (String aspectName : aspectNames) {
+        keys.add(
+            new LatestAspectValuesBatcher.Key(
+                urn, aspectName, endTimeMillis == null ? null : endTimeMillis.get(aspectName)));
+      }
+    }
+
+    Map<LatestAspectValuesBatcher.Key, EnvelopedAspect> latest =
+        latestBatcher.get(
+            opContext.getSearchContextId(),
+            keys,
+            batch -> searchLatestAspectValues(opContext, batch));
+
+    Map<Urn, Map<String, EnvelopedAspect>> result = new HashMap<>();
+    urns.forEach(urn -> result.put(urn, new HashMap<>()));
+    latest.forEach((key, value) -> result.get(key.getUrn()).put(key.getAspectName(), value));
+    return result;
+  }
+
+  /** The keys of a latest value lookup that are served by the same search. */
+  @Value
+  private static class LatestSearchGroup {
+    String entityName;
+    String aspectName;
+    @Nullable Long endTimeMillis;
+  }
+
+  /**
+   * Looks up latest values with a single multi search, one search per aspect index and end time
+   * that is collapsed on the urn to the newest document of every urn.
+   */
+  private Map<LatestAspectValuesBatcher.Key, EnvelopedAspect> searchLatestAspectValues(
+      @Nonnull OperationContext opContext, @Nonnull Set<LatestAspectValuesBatcher.Key> keys) {
+    Map<LatestSearchGroup, List<Urn>> groups =
+        keys.stream()
+            .collect(
+                Collectors.groupingBy(
+                    key ->
+                        new LatestSearchGroup(
+                            key.getUrn().getEntityType(),
+                            key.getAspectName(),
+                            key.getEndTimeMillis()),
+                    Collectors.mapping(
+                        LatestAspectValuesBatcher.Key::getUrn, Collectors.toList())));
+
+    final MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
+    multiSearchRequest.maxConcurrentSearchRequests(latestSearchConcurrency);
+    final List<LatestSearchGroup> requestGroups = new ArrayList<>();
+    groups.forEach(
+        (group, urns) -> {
+          for (List<Urn> chunk : Lists.partition(urns, latestBatchSize)) {
+            multiSearchRequest.add(buildLatestSearchRequest(opContext, group, chunk));
+            requestGroups.add(group);
+          }
+        });
+
+    final MultiSearchResponse.Item[] items;
+    try (Timer.Context ignored =
+        MetricUtils.timer(this.getClass(), "latestAspectValues_msearch").time()) {
+      items = searchClient.msearch(multiSearchRequest, RequestOptions.DEFAULT).getResponses();
+    } catch (Exception e) {
+      log.error("Multi search query failed:", e);
+      throw new ESQueryException("Multi search query failed:", e);
+    }
+
+    Map<LatestAspectValuesBatcher.Key, EnvelopedAspect> result = new HashMap<>();
+    for (int i = 0; i < items.length; i++) {
+      if (items[i].isFailure()) {
+        log.error("Search query failed:", items[i].getFailure());
+        throw new ESQueryException("Search query failed:", items[i].getFailure());
+      }
+      LatestSearchGroup group = requestGroups.get(i);
+      for (SearchHit hit : items[i].getResponse().getHits().getHits()) {
+        String urn = (String) hit.getSourceAsMap().get(MappingsBuilder.URN_FIELD);
+        result.put(
+            new LatestAspectValuesBatcher.Key(
+                UrnUtils.getUrn(urn), group.getAspectName(), group.getEndTimeMillis()),
+            parseDocument(hit));
+      }
+    }
+    return result;
+  }
+
+  private static SearchRequest buildLatestSearchRequest(
+      @Nonnull OperationContext opContext,
+      @Nonnull LatestSearchGroup group,
+      @Nonnull List<Urn> urns) {
+    final BoolQueryBuilder filterQueryBuilder =
+        QueryBuilders.boolQuery()
+            .filter(
+                QueryBuilders.termsQuery(
+                    MappingsBuilder.URN_FIELD,
+                    urns.stream().map(Urn::toString).collect(Collectors.toList())));
+    // NOTE: We are interested only in the un-exploded rows as only they carry the `event` payload.
+    filterQueryBuilder.mustNot(QueryBuilders.termQuery(MappingsBuilder.IS_EXPLODED_FIELD, true));
+    if (group.getEndTimeMillis() != null) {
+      filterQueryBuilder.filter(
+          QueryBuilders.rangeQuery(MappingsBuilder.TIMESTAMP_MILLIS_FIELD)
+              .lte(group.getEndTimeMillis()));
+    }
+
+    final SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
+    searchSourceBuilder.query(filterQueryBuilder);
+    searchSourceBuilder.size(urns.size());
+    searchSourceBuilder.sort(
+        SortBuilders.fieldSort(MappingsBuilder.TIMESTAMP_FIELD).order(SortOrder.DESC));
+    searchSourceBuilder.collapse(new CollapseBuilder(MappingsBuilder.URN_FIELD));
+
+    final SearchRequest searchRequest = new SearchRequest();
+    searchRequest.source(searchSourceBuilder);
+    searchRequest.indices(
+        opContext
+            .getSearchContext()
+            .getIndexConvention()
+            .getTimeseriesAspectIndexName(group.getEntityName(), group.getAspectName()));
+    return searchRequest;
   }
 
   @Override
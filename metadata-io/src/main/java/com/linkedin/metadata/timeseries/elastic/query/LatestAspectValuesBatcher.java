@@ -0,0 +1,144 @@
+package com.linkedin.metadata.timeseries.elastic.query;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.aspect.EnvelopedAspect;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Value;
+
+/**
+ * Coalesces concurrent lookups of latest timeseries aspect values, e.g. from the resolvers of one
+ * GraphQL request, into shared batches.
+ *
+ * <p>The first caller that finds no open batch opens one, waits up to the batch window for others
+ * to add their keys and then loads the whole batch on its own thread, the other callers wait for
+ * that load. A batch is closed early once it holds the maximum number of keys. With a window of 0
+ * every caller loads its own keys.
+ *
+ * <p>The leader loads the batch with its own request context, so only callers with the same search
+ * context id, i.e. the same search flags and access restrictions, share a batch.
+ */
+public class LatestAspectValuesBatcher {
+
+  @Value
+  public static class Key {
+    @Nonnull Urn urn;
+    @Nonnull String aspectName;
+    @Nullable Long endTimeMillis;
+  }
+
+  private static class Batch {
+    private final Set<Key> keys = new HashSet<>();
+    private final CountDownLatch closed = new CountDownLatch(1);
+    private final CompletableFuture<Map<Key, EnvelopedAspect>> result = new CompletableFuture<>();
+  }
+
+  private final long windowMillis;
+  private final int maxBatchSize;
+
+  // open batches by search context id, guarded by this
+  private final Map<String, Batch> open = new HashMap<>();
+
+  public LatestAspectValuesBatcher(long windowMillis, int maxBatchSize) {
+    this.windowMillis = windowMillis;
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  /**
+   * @param searchContextId identifies the request context the loader runs with
+   * @param keys the values to look up
+   * @param loader loads the latest values of a batch, used if this caller ends up loading it
+   * @return the latest value of each key that has one
+   */
+  @Nonnull
+  public Map<Key, EnvelopedAspect> get(
+      @Nonnull String searchContextId,
+      @Nonnull Set<Key> keys,
+      @Nonnull Function<Set<Key>, Map<Key, EnvelopedAspect>> loader) {
+    if (windowMillis <= 0 || keys.size() >= maxBatchSize) {
+      return loader.apply(keys);
+    }
+
+    final Batch batch;
+    final boolean leader;
+    synchronized (this) {
+      Batch current = open.get(searchContextId);
+      if (current != null && current.keys.size() + keys.size() > maxBatchSize) {
+        close(searchContextId, current);
+        current = null;
+      }
+      leader = current == null;
+      if (leader) {
+        current = new Batch();
+        open.put(searchContextId, current);
+      } else {
+        MetricUtils.counter(this.getClass(), "coalesced").inc();
+      }
+      batch = current;
+      batch.keys.addAll(keys);
+      if (batch.keys.size() >= maxBatchSize) {
+        close(searchContextId, batch);
+      }
+    }
+
+    if (leader) {
+      load(searchContextId, batch, loader);
+    }
+    return select(batch, keys);
+  }
+
+  private void close(String searchContextId, Batch batch) {
+    open.remove(searchContextId, batch);
+    batch.closed.countDown();
+  }
+
+  private void load(
+      String searchContextId, Batch batch, Function<Set<Key>, Map<Key, EnvelopedAspect>> loader) {
+    try {
+      batch.closed.await(windowMillis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    synchronized (this) {
+      close(searchContextId, batch);
+    }
+    try {
+      batch.result.complete(loader.apply(batch.keys));
+    } catch (RuntimeException e) {
+      batch.result.completeExceptionally(e);
+    }
+  }
+
+  private static Map<Key, EnvelopedAspect> select(Batch batch, Set<Key> keys) {
+    final Map<Key, EnvelopedAspect> loaded;
+    try {
+      loaded = batch.result.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new RuntimeException(e.getCause());
+    }
+    Map<Key, EnvelopedAspect> selected = new HashMap<>();
+    for (Key key : keys) {
+      EnvelopedAspect value = loaded.get(key);
+      if (value != null) {
+        selected.put(key, value);
+      }
+    }
+    return selected;
+  }
+}
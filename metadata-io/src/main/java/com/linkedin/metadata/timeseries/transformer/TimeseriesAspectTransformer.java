@@ -73,14 +73,23 @@ public class TimeseriesAspectTransformer {
           OBJECT_MAPPER.readTree(RecordUtils.toJsonString(systemMetadata)));
     }
     final Map<TimeseriesFieldSpec, List<Object>> timeseriesFieldValueMap =
-        FieldExtractor.extractFields(timeseriesAspect, aspectSpec.getTimeseriesFieldSpecs());
+        FieldExtractor.extractFields(
+            timeseriesAspect,
+            aspectSpec,
+            aspectSpec.getTimeseriesFieldSpecs(),
+            FieldExtractor.MAX_VALUE_LENGTH,
+            false);
     timeseriesFieldValueMap.forEach((k, v) -> setTimeseriesField(document, k, v));
     finalDocuments.put(getDocId(document, null, idHashAlgo), document);
 
     // Create new rows for the member collection fields.
     final Map<TimeseriesFieldCollectionSpec, List<Object>> timeseriesFieldCollectionValueMap =
         FieldExtractor.extractFields(
-            timeseriesAspect, aspectSpec.getTimeseriesFieldCollectionSpecs());
+            timeseriesAspect,
+            aspectSpec,
+            aspectSpec.getTimeseriesFieldCollectionSpecs(),
+            FieldExtractor.MAX_VALUE_LENGTH,
+            false);
     timeseriesFieldCollectionValueMap.forEach(
         (key, values) ->
             finalDocuments.putAll(
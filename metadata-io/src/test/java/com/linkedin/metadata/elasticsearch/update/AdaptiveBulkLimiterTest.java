@@ -0,0 +1,77 @@
+package com.linkedin.metadata.elasticsearch.update;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import com.linkedin.metadata.search.elasticsearch.update.AdaptiveBulkLimiter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.testng.annotations.Test;
+
+public class AdaptiveBulkLimiterTest {
+
+  @Test
+  public void testLimitAdjustsToResponses() {
+    AdaptiveBulkLimiter limiter = new AdaptiveBulkLimiter(8, 60000);
+    List<ActionListener<BulkResponse>> pending = new ArrayList<>();
+    BiConsumer<BulkRequest, ActionListener<BulkResponse>> consumer =
+        limiter.wrap((request, listener) -> pending.add(listener));
+    assertEquals(limiter.getLimit(), 4);
+
+    // fast responses grow the limit up to the maximum
+    for (int i = 0; i < 10; i++) {
+      consumer.accept(bulkRequest(), noopListener());
+      pending.remove(0).onResponse(new BulkResponse(new BulkItemResponse[0], 1));
+    }
+    assertEquals(limiter.getLimit(), 8);
+    assertEquals(limiter.getInFlightBytes(), 0);
+
+    // rejections halve it
+    consumer.accept(bulkRequest(), noopListener());
+    pending
+        .remove(0)
+        .onFailure(new OpenSearchStatusException("rejected", RestStatus.TOO_MANY_REQUESTS));
+    assertEquals(limiter.getLimit(), 4);
+
+    // other failures do not
+    consumer.accept(bulkRequest(), noopListener());
+    pending.remove(0).onFailure(new RuntimeException("failed"));
+    assertEquals(limiter.getLimit(), 5);
+    assertEquals(limiter.getInFlightBytes(), 0);
+  }
+
+  @Test
+  public void testInFlightBytes() {
+    AdaptiveBulkLimiter limiter = new AdaptiveBulkLimiter(2, 60000);
+    List<ActionListener<BulkResponse>> pending = new ArrayList<>();
+    BiConsumer<BulkRequest, ActionListener<BulkResponse>> consumer =
+        limiter.wrap((request, listener) -> pending.add(listener));
+
+    BulkRequest request = bulkRequest();
+    AtomicReference<BulkResponse> delivered = new AtomicReference<>();
+    consumer.accept(request, ActionListener.wrap(delivered::set, e -> {}));
+    assertEquals(limiter.getInFlightBytes(), request.estimatedSizeInBytes());
+
+    BulkResponse response = new BulkResponse(new BulkItemResponse[0], 1);
+    pending.remove(0).onResponse(response);
+    assertSame(delivered.get(), response);
+    assertEquals(limiter.getInFlightBytes(), 0);
+  }
+
+  private static BulkRequest bulkRequest() {
+    return new BulkRequest().add(new IndexRequest("index").id("id").source("field", "value"));
+  }
+
+  private static ActionListener<BulkResponse> noopListener() {
+    return ActionListener.wrap(response -> {}, e -> {});
+  }
+}
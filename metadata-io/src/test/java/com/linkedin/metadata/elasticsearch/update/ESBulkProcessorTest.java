@@ -15,4 +15,12 @@ public class ESBulkProcessorTest {
     ESBulkProcessor test = ESBulkProcessor.builder(mock).build();
     assertNotNull(test);
   }
+
+  @Test
+  public void testAdaptiveESBulkProcessorBuilder() {
+    RestHighLevelClient mock = Mockito.mock(RestHighLevelClient.class);
+    ESBulkProcessor test =
+        ESBulkProcessor.builder(mock).async(true).adaptive(true).maxConcurrentRequests(4).build();
+    assertNotNull(test);
+  }
 }
@@ -0,0 +1,189 @@
+package com.linkedin.metadata.entity;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.fail;
+
+import com.linkedin.metadata.config.cache.AspectCacheConfiguration;
+import java.sql.Timestamp;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class CachingAspectDaoTest {
+  private static final String URN = "urn:li:corpuser:datahub";
+  private static final String ASPECT = "corpUserInfo";
+
+  private AspectDao delegate;
+  private CachingAspectDao cachingAspectDao;
+
+  @BeforeMethod
+  public void setup() {
+    delegate = mock(AspectDao.class);
+    AspectCacheConfiguration config = new AspectCacheConfiguration();
+    config.setEnabled(true);
+    config.setMaxSize(100);
+    config.setTtlSeconds(60);
+    cachingAspectDao = new CachingAspectDao(delegate, config);
+  }
+
+  @Test
+  public void testLatestAspectsServedFromCache() {
+    EntityAspect aspect = entityAspect("{}");
+    when(delegate.getLatestAspects(eq(Map.of(URN, Set.of(ASPECT))), eq(false)))
+        .thenReturn(Map.of(URN, Map.of(ASPECT, aspect)));
+
+    EntityAspect first = cachingAspectDao.getLatestAspect(URN, ASPECT, false);
+    EntityAspect second = cachingAspectDao.getLatestAspect(URN, ASPECT, false);
+
+    assertEquals(first, aspect);
+    assertEquals(second, aspect);
+    assertNotSame(first, second);
+    verify(delegate, times(1)).getLatestAspects(any(), eq(false));
+  }
+
+  @Test
+  public void testMissingAspectCached() {
+    when(delegate.getLatestAspects(any(), eq(false))).thenReturn(Map.of());
+
+    assertNull(cachingAspectDao.getLatestAspect(URN, ASPECT, false));
+    assertNull(cachingAspectDao.getLatestAspect(URN, ASPECT, false));
+    verify(delegate, times(1)).getLatestAspects(any(), eq(false));
+  }
+
+  @Test
+  public void testForUpdateBypassesCache() {
+    when(delegate.getLatestAspects(any(), anyBoolean()))
+        .thenReturn(Map.of(URN, Map.of(ASPECT, entityAspect("{}"))));
+
+    cachingAspectDao.getLatestAspect(URN, ASPECT, false);
+    cachingAspectDao.getLatestAspect(URN, ASPECT, true);
+    cachingAspectDao.getLatestAspect(URN, ASPECT, true);
+
+    verify(delegate, times(1)).getLatestAspects(any(), eq(false));
+    verify(delegate, times(2)).getLatestAspects(any(), eq(true));
+  }
+
+  @Test
+  public void testSaveLatestAspectInvalidates() {
+    when(delegate.getLatestAspects(any(), eq(false)))
+        .thenReturn(Map.of(URN, Map.of(ASPECT, entityAspect("{}"))));
+    cachingAspectDao.getLatestAspect(URN, ASPECT, false);
+
+    cachingAspectDao.saveLatestAspect(
+        null,
+        URN,
+        ASPECT,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "{\"a\":1}",
+        "urn:li:corpuser:actor",
+        null,
+        new Timestamp(0),
+        null,
+        0L);
+
+    cachingAspectDao.getLatestAspect(URN, ASPECT, false);
+    verify(delegate, times(2)).getLatestAspects(any(), eq(false));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testReadDuringTransactionNotCached() {
+    when(delegate.getLatestAspects(any(), eq(false)))
+        .thenReturn(Map.of(URN, Map.of(ASPECT, entityAspect("{}"))));
+    when(delegate.runInTransactionWithRetry(any(Function.class), anyInt()))
+        .thenAnswer(
+            invocation -> {
+              Function<TransactionContext, Object> block = invocation.getArgument(0);
+              return block.apply(null);
+            });
+
+    cachingAspectDao.runInTransactionWithRetry(
+        txContext -> {
+          cachingAspectDao.saveAspect(txContext, entityAspect("{\"a\":1}"), false);
+          // concurrent reader observes the pre-commit value
+          return cachingAspectDao.getLatestAspect(URN, ASPECT, false);
+        },
+        1);
+
+    cachingAspectDao.getLatestAspect(URN, ASPECT, false);
+    verify(delegate, times(2)).getLatestAspects(any(), eq(false));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testUncommittedReadNotVisibleToConcurrentReaders() throws Exception {
+    final EntityAspect committed = entityAspect("{}");
+    final EntityAspect uncommitted = entityAspect("{\"a\":1}");
+    final Thread txThread = Thread.currentThread();
+    // the transaction sees its own write, every other reader sees the committed row
+    when(delegate.getLatestAspects(any(), anyBoolean()))
+        .thenAnswer(
+            invocation ->
+                Map.of(
+                    URN,
+                    Map.of(ASPECT, Thread.currentThread() == txThread ? uncommitted : committed)));
+    when(delegate.runInTransactionWithRetry(any(Function.class), anyInt()))
+        .thenAnswer(
+            invocation -> {
+              Function<TransactionContext, Object> block = invocation.getArgument(0);
+              return block.apply(null);
+            });
+
+    try {
+      cachingAspectDao.runInTransactionWithRetry(
+          txContext -> {
+            cachingAspectDao.saveAspect(txContext, uncommitted, false);
+            assertEquals(cachingAspectDao.getLatestAspect(URN, ASPECT, false), uncommitted);
+            assertEquals(
+                CompletableFuture.supplyAsync(
+                        () -> cachingAspectDao.getLatestAspect(URN, ASPECT, false))
+                    .join(),
+                committed);
+            throw new IllegalStateException("rollback");
+          },
+          1);
+      fail("Expected rollback");
+    } catch (IllegalStateException e) {
+      // expected
+    }
+
+    assertEquals(
+        CompletableFuture.supplyAsync(() -> cachingAspectDao.getLatestAspect(URN, ASPECT, false))
+            .get(),
+        committed);
+  }
+
+  @Test
+  public void testInvalidateUrn() {
+    when(delegate.getLatestAspects(any(), eq(false)))
+        .thenReturn(Map.of(URN, Map.of(ASPECT, entityAspect("{}"))));
+    cachingAspectDao.getLatestAspect(URN, ASPECT, false);
+
+    cachingAspectDao.invalidateUrn(URN);
+
+    cachingAspectDao.getLatestAspect(URN, ASPECT, false);
+    verify(delegate, times(2)).getLatestAspects(any(), eq(false));
+  }
+
+  private static EntityAspect entityAspect(String metadata) {
+    return new EntityAspect(
+        URN, ASPECT, 0, metadata, "{}", new Timestamp(0), "urn:li:corpuser:actor", null);
+  }
+}
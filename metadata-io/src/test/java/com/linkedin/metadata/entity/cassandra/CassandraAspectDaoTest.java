@@ -0,0 +1,193 @@
+package com.linkedin.metadata.entity.cassandra;
+
+import static com.linkedin.metadata.Constants.ASPECT_LATEST_VERSION;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.linkedin.metadata.entity.EntityAspect;
+import com.linkedin.metadata.entity.EntityAspectIdentifier;
+import com.linkedin.metadata.entity.codec.AspectMetadataCodecProvider;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.annotation.Nullable;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class CassandraAspectDaoTest {
+  private static final String URN = "urn:li:corpuser:cassandra";
+  private static final String OTHER_URN = "urn:li:corpuser:other";
+
+  private CqlSession session;
+  // urn and aspect names bound to each query
+  private Map<BoundStatement, Query> queries;
+
+  private static class Query {
+    final String urn;
+    final List<String> aspectNames;
+
+    Query(String urn, List<String> aspectNames) {
+      this.urn = urn;
+      this.aspectNames = aspectNames;
+    }
+  }
+
+  @BeforeMethod
+  public void setup() {
+    session = mock(CqlSession.class);
+    queries = new ConcurrentHashMap<>();
+    PreparedStatement prepared = mock(PreparedStatement.class);
+    when(session.prepare(any(SimpleStatement.class))).thenReturn(prepared);
+    when(prepared.bind(any(), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              BoundStatement statement = mock(BoundStatement.class);
+              queries.put(
+                  statement, new Query(invocation.getArgument(0), invocation.getArgument(1)));
+              return statement;
+            });
+  }
+
+  @Test
+  public void testBatchGetChunksAspectsPerQuery() {
+    respondWith(query -> page(rows(query), null));
+    Set<EntityAspectIdentifier> keys =
+        IntStream.range(0, 250)
+            .mapToObj(i -> new EntityAspectIdentifier(URN, "aspect" + i, ASPECT_LATEST_VERSION))
+            .collect(Collectors.toSet());
+
+    Map<EntityAspectIdentifier, EntityAspect> result = dao(32).batchGet(keys, false);
+
+    assertEquals(result.keySet(), keys);
+    verify(session, times(3)).executeAsync(any(Statement.class));
+    assertEquals(
+        queries.values().stream()
+            .map(query -> query.aspectNames.size())
+            .sorted()
+            .collect(Collectors.toList()),
+        List.of(50, 100, 100));
+  }
+
+  @Test
+  public void testBatchGetFetchesAllPages() {
+    respondWith(
+        query ->
+            page(
+                List.of(row(query.urn, "first")),
+                CompletableFuture.completedFuture(
+                    page(
+                        List.of(row(query.urn, "second")),
+                        CompletableFuture.completedFuture(
+                            page(List.of(row(query.urn, "third")), null))))));
+
+    Map<EntityAspectIdentifier, EntityAspect> result =
+        dao(32).batchGet(Set.of(key(URN, "first"), key(URN, "second"), key(URN, "third")), false);
+
+    assertEquals(result.keySet(), Set.of(key(URN, "first"), key(URN, "second"), key(URN, "third")));
+    verify(session, times(1)).executeAsync(any(Statement.class));
+  }
+
+  @Test(timeOut = 10000)
+  public void testReadPermitsReleasedOnFailure() {
+    CassandraAspectDao dao = dao(1);
+
+    // the query fails asynchronously
+    doReturn(CompletableFuture.failedFuture(new IllegalStateException("read failed")))
+        .when(session)
+        .executeAsync(any(Statement.class));
+    assertThrows(
+        IllegalStateException.class, () -> dao.batchGet(Set.of(key(URN, "status")), false));
+
+    // the query fails to be sent
+    doThrow(new IllegalArgumentException("not sent"))
+        .when(session)
+        .executeAsync(any(Statement.class));
+    assertThrows(
+        IllegalArgumentException.class, () -> dao.batchGet(Set.of(key(URN, "status")), false));
+
+    // with a leaked permit the single permit could not be acquired again
+    respondWith(query -> page(rows(query), null));
+    assertEquals(
+        dao.batchGet(Set.of(key(URN, "status"), key(OTHER_URN, "status")), false).size(), 2);
+  }
+
+  @Test
+  public void testGetLatestAspectsKeepsUrnsWithoutAspects() {
+    respondWith(query -> page(URN.equals(query.urn) ? rows(query) : List.of(), null));
+
+    Map<String, Map<String, EntityAspect>> result =
+        dao(32)
+            .getLatestAspects(
+                Map.of(URN, Set.of("status", "ownership"), OTHER_URN, Set.of("status")), false);
+
+    assertEquals(result.keySet(), Set.of(URN, OTHER_URN));
+    assertEquals(result.get(URN).keySet(), Set.of("status", "ownership"));
+    assertTrue(result.get(OTHER_URN).isEmpty());
+  }
+
+  private CassandraAspectDao dao(int maxConcurrentReads) {
+    CassandraAspectDao dao =
+        new CassandraAspectDao(session, AspectMetadataCodecProvider.JSON, maxConcurrentReads);
+    dao.setConnectionValidated(true);
+    return dao;
+  }
+
+  private void respondWith(Function<Query, AsyncResultSet> response) {
+    doAnswer(
+            invocation ->
+                CompletableFuture.completedFuture(
+                    response.apply(queries.get(invocation.<BoundStatement>getArgument(0)))))
+        .when(session)
+        .executeAsync(any(Statement.class));
+  }
+
+  private static AsyncResultSet page(
+      List<Row> rows, @Nullable CompletionStage<AsyncResultSet> nextPage) {
+    AsyncResultSet resultSet = mock(AsyncResultSet.class);
+    when(resultSet.currentPage()).thenReturn(rows);
+    when(resultSet.hasMorePages()).thenReturn(nextPage != null);
+    when(resultSet.fetchNextPage()).thenReturn(nextPage);
+    return resultSet;
+  }
+
+  private static List<Row> rows(Query query) {
+    return query.aspectNames.stream()
+        .map(aspectName -> row(query.urn, aspectName))
+        .collect(Collectors.toList());
+  }
+
+  private static Row row(String urn, String aspectName) {
+    Row row = mock(Row.class);
+    when(row.getString(CassandraAspect.URN_COLUMN)).thenReturn(urn);
+    when(row.getString(CassandraAspect.ASPECT_COLUMN)).thenReturn(aspectName);
+    when(row.getLong(CassandraAspect.VERSION_COLUMN)).thenReturn(ASPECT_LATEST_VERSION);
+    when(row.getString(CassandraAspect.METADATA_COLUMN)).thenReturn("{}");
+    return row;
+  }
+
+  private static EntityAspectIdentifier key(String urn, String aspectName) {
+    return new EntityAspectIdentifier(urn, aspectName, ASPECT_LATEST_VERSION);
+  }
+}
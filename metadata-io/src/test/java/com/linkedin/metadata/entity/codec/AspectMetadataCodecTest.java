@@ -0,0 +1,71 @@
+package com.linkedin.metadata.entity.codec;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.data.codec.JacksonDataCodec;
+import com.linkedin.metadata.config.AspectCodecConfiguration;
+import java.io.IOException;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class AspectMetadataCodecTest {
+  private static final JacksonDataCodec JSON_CODEC = new JacksonDataCodec();
+  private static final String JSON =
+      "{\"name\":\"test\",\"tags\":[{\"tag\":\"urn:li:tag:a\"}],"
+          + "\"count\":3,\"nested\":{\"flag\":true}}";
+
+  @DataProvider(name = "codecs")
+  public Object[][] codecs() {
+    return new Object[][] {
+      {"json"}, {"json+gzip"}, {"json+snappy"}, {"pson"}, {"pson+gzip"}, {"pson+snappy"}
+    };
+  }
+
+  @Test(dataProvider = "codecs")
+  public void testRoundTrip(String codecName) throws IOException {
+    AspectMetadataCodec codec = AspectMetadataCodec.fromName(codecName);
+    assertEquals(codec.getName(), codecName);
+
+    String encoded = codec.encode(JSON);
+    assertEquals(AspectMetadataCodec.isEncoded(encoded), !codec.isIdentity());
+    assertTrue(codec.matches(encoded));
+    assertEquals(
+        JSON_CODEC.stringToMap(AspectMetadataCodec.decode(encoded)), JSON_CODEC.stringToMap(JSON));
+    // encoding is idempotent
+    assertEquals(codec.encode(encoded), encoded);
+  }
+
+  @Test
+  public void testLegacyJsonPassthrough() {
+    assertEquals(AspectMetadataCodec.decode(JSON), JSON);
+    assertTrue(AspectMetadataCodec.JSON.matches(JSON));
+    assertFalse(AspectMetadataCodec.fromName("pson+snappy").matches(JSON));
+    assertFalse(
+        AspectMetadataCodec.fromName("json+gzip")
+            .matches(AspectMetadataCodec.fromName("pson+gzip").encode(JSON)));
+  }
+
+  @Test
+  public void testProviderOverrides() {
+    AspectMetadataCodecProvider provider =
+        AspectMetadataCodecProvider.fromConfig(
+            AspectCodecConfiguration.builder()
+                .defaultCodec("json")
+                .aspectOverrides("schemaMetadata:pson+snappy, upstreamLineage:json+gzip")
+                .build());
+
+    assertEquals(provider.getDefaultCodec(), AspectMetadataCodec.JSON);
+    assertEquals(provider.forAspect("status"), AspectMetadataCodec.JSON);
+    assertEquals(provider.forAspect("schemaMetadata").getName(), "pson+snappy");
+    assertEquals(provider.forAspect("upstreamLineage").getName(), "json+gzip");
+    assertEquals(provider.encode("status", JSON), JSON);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testInvalidOverride() {
+    AspectMetadataCodecProvider.fromConfig(
+        AspectCodecConfiguration.builder().aspectOverrides("schemaMetadata").build());
+  }
+}
@@ -0,0 +1,166 @@
+package com.linkedin.metadata.entity.ebean.locking;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.metadata.EbeanTestUtils;
+import com.linkedin.metadata.config.EbeanConfiguration;
+import io.ebean.Database;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.testng.annotations.Test;
+
+public class UrnLockProviderTest {
+  private static final String URN = "urn:li:corpuser:lock";
+
+  // Named locks held through the emulated GET_LOCK, by name, owned by database session
+  private static final Map<String, String> H2_LOCKS = new HashMap<>();
+
+  @Test
+  public void testFromConfig() {
+    Database server = EbeanTestUtils.createTestServer(UrnLockProviderTest.class.getSimpleName());
+
+    assertTrue(UrnLockProvider.fromConfig(server, locking(null)) instanceof LocalUrnLockProvider);
+    assertTrue(
+        UrnLockProvider.fromConfig(server, locking("striped")) instanceof StripedUrnLockProvider);
+    // H2 has no advisory locks
+    assertTrue(
+        UrnLockProvider.fromConfig(server, locking("database")) instanceof LocalUrnLockProvider);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testUnknownProvider() {
+    Database server = EbeanTestUtils.createTestServer(UrnLockProviderTest.class.getSimpleName());
+    UrnLockProvider.fromConfig(server, locking("zookeeper"));
+  }
+
+  @Test
+  public void testLocalLocksExclude() throws Exception {
+    assertExclusive(new LocalUrnLockProvider(100, 60));
+  }
+
+  @Test
+  public void testStripedLocksExclude() throws Exception {
+    assertExclusive(new StripedUrnLockProvider(16));
+  }
+
+  @Test
+  public void testDatabaseLocksExclude() throws Exception {
+    assertExclusive(
+        new DatabaseUrnLockProvider(
+            h2WithNamedLocks("testDatabaseLocksExclude"),
+            DatabaseUrnLockProvider.Dialect.MYSQL,
+            60));
+  }
+
+  @Test
+  public void testDatabaseLockTimeoutProceedsUnlocked() throws Exception {
+    DatabaseUrnLockProvider provider =
+        new DatabaseUrnLockProvider(
+            h2WithNamedLocks("testDatabaseLockTimeoutProceedsUnlocked"),
+            DatabaseUrnLockProvider.Dialect.MYSQL,
+            1);
+
+    try (UrnLockProvider.UrnLock lock = provider.acquire(URN)) {
+      assertNotSame(lock, UrnLockProvider.UrnLock.NONE);
+      UrnLockProvider.UrnLock other =
+          CompletableFuture.supplyAsync(() -> provider.acquire(URN)).get(10, TimeUnit.SECONDS);
+      assertSame(other, UrnLockProvider.UrnLock.NONE);
+    }
+
+    // released, so another session can take it again
+    try (UrnLockProvider.UrnLock lock =
+        CompletableFuture.supplyAsync(() -> provider.acquire(URN)).get(10, TimeUnit.SECONDS)) {
+      assertNotSame(lock, UrnLockProvider.UrnLock.NONE);
+    }
+  }
+
+  /** An H2 database with MySQL's GET_LOCK and RELEASE_LOCK emulated by the functions below. */
+  private static DataSource h2WithNamedLocks(String instanceId) throws SQLException {
+    DataSource dataSource = EbeanTestUtils.createTestServer(instanceId).dataSource();
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute(
+          "CREATE ALIAS GET_LOCK FOR '" + UrnLockProviderTest.class.getName() + ".getLock'");
+      statement.execute(
+          "CREATE ALIAS RELEASE_LOCK FOR '"
+              + UrnLockProviderTest.class.getName()
+              + ".releaseLock'");
+    }
+    return dataSource;
+  }
+
+  public static int getLock(Connection connection, String name, long timeoutSeconds)
+      throws SQLException, InterruptedException {
+    final String session = session(connection);
+    final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(timeoutSeconds);
+    synchronized (H2_LOCKS) {
+      while (H2_LOCKS.containsKey(name) && !session.equals(H2_LOCKS.get(name))) {
+        long remaining = deadline - System.currentTimeMillis();
+        if (remaining <= 0) {
+          return 0;
+        }
+        H2_LOCKS.wait(remaining);
+      }
+      H2_LOCKS.put(name, session);
+      return 1;
+    }
+  }
+
+  public static int releaseLock(Connection connection, String name) throws SQLException {
+    final String session = session(connection);
+    synchronized (H2_LOCKS) {
+      if (!session.equals(H2_LOCKS.get(name))) {
+        return 0;
+      }
+      H2_LOCKS.remove(name);
+      H2_LOCKS.notifyAll();
+      return 1;
+    }
+  }
+
+  private static String session(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery("SELECT DATABASE(), SESSION_ID()")) {
+      resultSet.next();
+      return resultSet.getString(1) + ":" + resultSet.getInt(2);
+    }
+  }
+
+  private static void assertExclusive(UrnLockProvider provider) throws Exception {
+    CountDownLatch acquired = new CountDownLatch(1);
+    CompletableFuture<Void> other;
+    try (UrnLockProvider.UrnLock lock = provider.acquire(URN)) {
+      other =
+          CompletableFuture.runAsync(
+              () -> {
+                try (UrnLockProvider.UrnLock otherLock = provider.acquire(URN)) {
+                  acquired.countDown();
+                }
+              });
+      assertFalse(acquired.await(200, TimeUnit.MILLISECONDS));
+    }
+    assertTrue(acquired.await(5, TimeUnit.SECONDS));
+    other.get(5, TimeUnit.SECONDS);
+  }
+
+  private static EbeanConfiguration.LockingConfiguration locking(String provider) {
+    return EbeanConfiguration.LockingConfiguration.builder()
+        .enabled(true)
+        .durationSeconds(60)
+        .maximumLocks(100)
+        .provider(provider)
+        .stripes(16)
+        .build();
+  }
+}
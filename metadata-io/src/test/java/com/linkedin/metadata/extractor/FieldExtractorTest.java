@@ -4,12 +4,16 @@ import static org.testng.Assert.assertEquals;
 
 import com.datahub.test.TestEntityInfo;
 import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.TestEntitySpecBuilder;
 import com.linkedin.metadata.TestEntityUtil;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.FieldSpec;
 import com.linkedin.metadata.models.SearchableFieldSpec;
 import com.linkedin.metadata.models.extractor.FieldExtractor;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -102,4 +106,30 @@ public class FieldExtractorTest {
         "Expected no matching values because of value limit of 1");
     assertEquals(result.get(nameToSpec.get("esObjectField")), ImmutableList.of("key3="));
   }
+
+  @Test
+  public void testAspectSpecExtractorMatchesFieldExtractor() {
+    EntitySpec testEntitySpec = TestEntitySpecBuilder.getSpec();
+    Urn urn = TestEntityUtil.getTestEntityUrn();
+
+    for (AspectSpec aspectSpec : testEntitySpec.getAspectSpecs()) {
+      List<FieldSpec> fieldSpecs = new ArrayList<>(aspectSpec.getSearchableFieldSpecs());
+      fieldSpecs.addAll(aspectSpec.getSearchableRefFieldSpecs());
+      fieldSpecs.addAll(aspectSpec.getSearchScoreFieldSpecs());
+      fieldSpecs.addAll(aspectSpec.getRelationshipFieldSpecs());
+
+      for (RecordTemplate aspect :
+          Arrays.asList(null, new TestEntityInfo(), TestEntityUtil.getTestEntityInfo(urn))) {
+        if (aspect != null && !aspectSpec.getDataTemplateClass().isInstance(aspect)) {
+          continue;
+        }
+        for (int maxValueLength : new int[] {1, 200}) {
+          assertEquals(
+              FieldExtractor.extractAllFields(
+                  aspect, aspectSpec, fieldSpecs, maxValueLength, false),
+              FieldExtractor.extractFields(aspect, fieldSpecs, maxValueLength));
+        }
+      }
+    }
+  }
 }
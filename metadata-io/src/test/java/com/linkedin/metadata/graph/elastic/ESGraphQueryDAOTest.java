@@ -17,7 +17,6 @@ import io.datahubproject.test.metadata.context.TestOperationContexts;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.opensearch.index.query.QueryBuilder;
@@ -149,66 +148,44 @@ public class ESGraphQueryDAOTest {
     // Test method, ensure that the global structure is updated as expected.
     Urn testParent = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,Test,PROD)");
     Urn testChild = UrnUtils.getUrn("urn:li:dashboard:(looker,test-dashboard)");
+    Urn testParentParent =
+        UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,TestParent,PROD)");
+    Urn testParentParent2 =
+        UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,TestParent2,PROD)");
 
     // Case 0: Add with no existing paths.
-    Map<Urn, UrnArrayArray> nodePaths = new HashMap<>();
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParent, testChild);
+    LineagePaths nodePaths = new LineagePaths();
+    Assert.assertTrue(nodePaths.addEdge(testParent, null, testChild));
     UrnArrayArray expectedPathsToChild =
         new UrnArrayArray(ImmutableList.of(new UrnArray(ImmutableList.of(testParent, testChild))));
-    Assert.assertEquals(nodePaths.get(testChild), expectedPathsToChild);
+    Assert.assertEquals(nodePaths.getPaths(testChild), expectedPathsToChild);
 
-    // Case 1: No paths to parent.
-    nodePaths = new HashMap<>();
-    nodePaths.put(
-        UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,Other,PROD)"),
-        new UrnArrayArray());
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParent, testChild);
-    expectedPathsToChild =
-        new UrnArrayArray(ImmutableList.of(new UrnArray(ImmutableList.of(testParent, testChild))));
-    Assert.assertEquals(nodePaths.get(testChild), expectedPathsToChild);
+    // Case 1: Unrelated paths do not affect the child.
+    nodePaths = new LineagePaths();
+    Urn other = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,Other,PROD)");
+    nodePaths.addEdge(testParentParent, null, other);
+    nodePaths.addEdge(testParent, null, testChild);
+    Assert.assertEquals(nodePaths.getPaths(testChild), expectedPathsToChild);
 
     // Case 2: 1 Existing Path to Parent Node
-    nodePaths = new HashMap<>();
-    Urn testParentParent =
-        UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,TestParent,PROD)");
-    UrnArrayArray existingPathsToParent =
-        new UrnArrayArray(
-            ImmutableList.of(new UrnArray(ImmutableList.of(testParentParent, testParent))));
-    nodePaths.put(testParent, existingPathsToParent);
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParent, testChild);
+    nodePaths = new LineagePaths();
+    nodePaths.addEdge(testParentParent, null, testParent);
+    Assert.assertTrue(nodePaths.addEdge(testParent, null, testChild));
     expectedPathsToChild =
         new UrnArrayArray(
             ImmutableList.of(
                 new UrnArray(ImmutableList.of(testParentParent, testParent, testChild))));
-    Assert.assertEquals(nodePaths.get(testChild), expectedPathsToChild);
+    Assert.assertEquals(nodePaths.getPaths(testChild), expectedPathsToChild);
 
-    // Case 3: > 1 Existing Paths to Parent Node
-    nodePaths = new HashMap<>();
-    Urn testParentParent2 =
-        UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,TestParent2,PROD)");
-    UrnArrayArray existingPathsToParent2 =
-        new UrnArrayArray(
-            ImmutableList.of(
-                new UrnArray(ImmutableList.of(testParentParent, testParent)),
-                new UrnArray(ImmutableList.of(testParentParent2, testParent))));
-    nodePaths.put(testParent, existingPathsToParent2);
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParent, testChild);
-    expectedPathsToChild =
-        new UrnArrayArray(
-            ImmutableList.of(
-                new UrnArray(ImmutableList.of(testParentParent, testParent, testChild)),
-                new UrnArray(ImmutableList.of(testParentParent2, testParent, testChild))));
-    Assert.assertEquals(nodePaths.get(testChild), expectedPathsToChild);
-
-    // Case 4: Build graph from empty by adding multiple edges
-    nodePaths = new HashMap<>();
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParentParent, testParent);
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParentParent2, testParent);
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParent, testChild);
+    // Case 3: Build graph from empty with > 1 Existing Paths to Parent Node
+    nodePaths = new LineagePaths();
+    nodePaths.addEdge(testParentParent, null, testParent);
+    nodePaths.addEdge(testParentParent2, null, testParent);
+    nodePaths.addEdge(testParent, null, testChild);
 
     // Verify no paths to the grand-parents
-    Assert.assertNull(nodePaths.get(testParentParent));
-    Assert.assertNull(nodePaths.get(testParentParent2));
+    Assert.assertNull(nodePaths.getPaths(testParentParent));
+    Assert.assertNull(nodePaths.getPaths(testParentParent2));
 
     // Verify paths to testParent
     UrnArrayArray expectedPathsToParent =
@@ -216,7 +193,7 @@ public class ESGraphQueryDAOTest {
             ImmutableList.of(
                 new UrnArray(ImmutableList.of(testParentParent, testParent)),
                 new UrnArray(ImmutableList.of(testParentParent2, testParent))));
-    Assert.assertEquals(nodePaths.get(testParent), expectedPathsToParent);
+    Assert.assertEquals(nodePaths.getPaths(testParent), expectedPathsToParent);
 
     // Verify paths to testChild
     expectedPathsToChild =
@@ -224,38 +201,61 @@ public class ESGraphQueryDAOTest {
             ImmutableList.of(
                 new UrnArray(ImmutableList.of(testParentParent, testParent, testChild)),
                 new UrnArray(ImmutableList.of(testParentParent2, testParent, testChild))));
-    Assert.assertEquals(nodePaths.get(testChild), expectedPathsToChild);
+    Assert.assertEquals(nodePaths.getPaths(testChild), expectedPathsToChild);
 
-    // Case 5: Mainly documentation: Verify that if you build the graph out of order bad things
-    // happen.
-    // Also test duplicate edge addition
-    nodePaths = new HashMap<>();
+    // Adding the same edge again does not duplicate paths
+    Assert.assertFalse(nodePaths.addEdge(testParent, null, testChild));
+    Assert.assertEquals(nodePaths.getPaths(testChild), expectedPathsToChild);
+
+    // Case 4: Mainly documentation: Verify that if you build the graph out of order the paths to
+    // the child are partial. Duplicate edges are no longer stored twice.
+    nodePaths = new LineagePaths();
     // Add edge to testChild first! Before path to testParent has been constructed.
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParent, testChild);
-    // Duplicate paths WILL appear if you add the same edge twice. Documenting that here.
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParent, testChild);
+    nodePaths.addEdge(testParent, null, testChild);
+    nodePaths.addEdge(testParent, null, testChild);
     // Now construct paths to testParent.
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParentParent, testParent);
-    ESGraphQueryDAO.addEdgeToPaths(nodePaths, testParentParent2, testParent);
+    nodePaths.addEdge(testParentParent, null, testParent);
+    nodePaths.addEdge(testParentParent2, null, testParent);
 
-    // Verify no paths to the grand-parents
-    Assert.assertNull(nodePaths.get(testParentParent));
-    Assert.assertNull(nodePaths.get(testParentParent2));
+    Assert.assertNull(nodePaths.getPaths(testParentParent));
+    Assert.assertNull(nodePaths.getPaths(testParentParent2));
+    Assert.assertEquals(nodePaths.getPaths(testParent), expectedPathsToParent);
 
-    // Verify paths to testParent
-    expectedPathsToParent =
+    // Verify paths to testChild are INCORRECT: partial
+    expectedPathsToChild =
+        new UrnArrayArray(ImmutableList.of(new UrnArray(ImmutableList.of(testParent, testChild))));
+    Assert.assertEquals(nodePaths.getPaths(testChild), expectedPathsToChild);
+  }
+
+  @Test
+  private static void testAddEdgeToPathsViaAndCycles() {
+    Urn root = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,Root,PROD)");
+    Urn middle = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,Middle,PROD)");
+    Urn leaf = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,Leaf,PROD)");
+    Urn via = UrnUtils.getUrn("urn:li:dataJob:(urn:li:dataFlow:(airflow,flow,PROD),job)");
+
+    LineagePaths nodePaths = new LineagePaths();
+    nodePaths.addEdge(root, null, middle);
+    nodePaths.addEdge(middle, via, leaf);
+    nodePaths.addViaNode(via, leaf);
+
+    Assert.assertEquals(
+        nodePaths.getPaths(leaf),
         new UrnArrayArray(
-            ImmutableList.of(
-                new UrnArray(ImmutableList.of(testParentParent, testParent)),
-                new UrnArray(ImmutableList.of(testParentParent2, testParent))));
-    Assert.assertEquals(nodePaths.get(testParent), expectedPathsToParent);
+            ImmutableList.of(new UrnArray(ImmutableList.of(root, middle, via, leaf)))));
+    Assert.assertEquals(
+        nodePaths.getPaths(via),
+        new UrnArrayArray(ImmutableList.of(new UrnArray(ImmutableList.of(root, middle, via)))));
 
-    // Verify paths to testChild are INCORRECT: partial & duplicated
-    expectedPathsToChild =
+    // A path that revisits a node is recorded, but never extended
+    nodePaths.addEdge(leaf, null, middle);
+    Assert.assertEquals(
+        nodePaths.getPaths(middle),
         new UrnArrayArray(
             ImmutableList.of(
-                new UrnArray(ImmutableList.of(testParent, testChild)),
-                new UrnArray(ImmutableList.of(testParent, testChild))));
-    Assert.assertEquals(nodePaths.get(testChild), expectedPathsToChild);
+                new UrnArray(ImmutableList.of(root, middle)),
+                new UrnArray(ImmutableList.of(root, middle, via, leaf, middle)))));
+    Assert.assertFalse(nodePaths.addEdge(middle, via, leaf));
+    Assert.assertEquals(nodePaths.getPaths(leaf).size(), 1);
   }
 }
@@ -34,6 +34,7 @@ import javax.annotation.Nonnull;
 import lombok.Getter;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.GraphDatabase;
+import org.neo4j.driver.SessionConfig;
 import org.testng.SkipException;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
@@ -212,6 +213,41 @@ public class Neo4jGraphServiceTest extends GraphServiceTestBaseNoVia {
     assertEquals(result.getTotal(), 0);
   }
 
+  @Test
+  public void testBatchedEdgeWrites() {
+    Neo4jGraphService service =
+        new Neo4jGraphService(
+            new LineageRegistry(SnapshotEntityRegistry.getInstance()),
+            _driver,
+            SessionConfig.defaultConfig(),
+            2);
+    List<Edge> edges =
+        Arrays.asList(
+            new Edge(dataJobOneUrn, dataset1Urn, consumes, 1L, null, 3L, null, null),
+            new Edge(dataJobOneUrn, dataset2Urn, produces, 5L, null, 7L, null, null),
+            new Edge(dataset3Urn, dataset2Urn, downstreamOf, 9L, null, null, null, null),
+            new Edge(dataset5Urn, dataset3Urn, downstreamOf, 11L, null, null, null, null),
+            new Edge(dataset4Urn, dataset1Urn, downstreamOf, 13L, null, 13L, null, null));
+    service.addEdges(edges);
+
+    EntityLineageResult upstreamLineage =
+        service.getLineage(operationContext, dataset5Urn, LineageDirection.UPSTREAM, 0, 1000, 5);
+    assertEquals(
+        getPathUrnArraysFromLineageResult(upstreamLineage),
+        Set.of(
+            new UrnArray(dataset5Urn, dataset3Urn),
+            new UrnArray(dataset5Urn, dataset3Urn, dataset2Urn),
+            new UrnArray(dataset5Urn, dataset3Urn, dataset2Urn, dataJobOneUrn),
+            new UrnArray(dataset5Urn, dataset3Urn, dataset2Urn, dataJobOneUrn, dataset1Urn)));
+
+    service.removeEdges(edges.subList(0, 3));
+    upstreamLineage =
+        service.getLineage(operationContext, dataset5Urn, LineageDirection.UPSTREAM, 0, 1000, 5);
+    assertEquals(
+        getPathUrnArraysFromLineageResult(upstreamLineage),
+        Set.of(new UrnArray(dataset5Urn, dataset3Urn)));
+  }
+
   private Set<UrnArray> getPathUrnArraysFromLineageResult(EntityLineageResult result) {
     return result.getRelationships().stream()
         .map(x -> x.getPaths().get(0))
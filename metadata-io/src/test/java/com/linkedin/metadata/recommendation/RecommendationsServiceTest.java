@@ -4,16 +4,25 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.TestEntityUtil;
+import com.linkedin.metadata.config.cache.RecommendationsCacheConfiguration;
+import com.linkedin.metadata.query.filter.Filter;
+import com.linkedin.metadata.recommendation.candidatesource.RecommendationSource.CacheScope;
 import com.linkedin.metadata.recommendation.candidatesource.TestSource;
 import com.linkedin.metadata.recommendation.ranker.RecommendationModuleRanker;
 import com.linkedin.metadata.recommendation.ranker.SimpleRecommendationRanker;
+import io.datahubproject.metadata.context.OperationContext;
 import io.datahubproject.test.metadata.context.TestOperationContexts;
 import java.net.URISyntaxException;
 import java.nio.file.AccessDeniedException;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.testng.annotations.Test;
 
 public class RecommendationsServiceTest {
@@ -159,4 +168,76 @@ public class RecommendationsServiceTest {
     assertEquals(module.getRenderType(), RecommendationRenderType.ENTITY_NAME_LIST);
     assertEquals(module.getContent(), multiValuesSource.getContents());
   }
+
+  @Test
+  public void testCandidateCache() throws URISyntaxException {
+    CountingSource sharedSource = new CountingSource("shared", CacheScope.SHARED);
+    CountingSource userSource = new CountingSource("user", CacheScope.USER);
+    CountingSource uncachedSource = new CountingSource("uncached", CacheScope.NONE);
+
+    RecommendationsCacheConfiguration config = new RecommendationsCacheConfiguration();
+    config.setEnabled(true);
+    config.setRefreshIntervalSeconds(300);
+    config.setExpireAfterAccessSeconds(600);
+    config.setUserTtlSeconds(60);
+    config.setMaxSize(100);
+    RecommendationsService service =
+        new RecommendationsService(
+            ImmutableList.of(sharedSource, userSource, uncachedSource),
+            ranker,
+            ForkJoinPool.commonPool(),
+            new RecommendationCandidateCache(config, MoreExecutors.directExecutor()));
+
+    OperationContext me =
+        TestOperationContexts.userContextNoSearchAuthorization(
+            Urn.createFromString("urn:li:corpuser:me"));
+    OperationContext you =
+        TestOperationContexts.userContextNoSearchAuthorization(
+            Urn.createFromString("urn:li:corpuser:you"));
+    RecommendationRequestContext requestContext =
+        new RecommendationRequestContext().setScenario(ScenarioType.HOME);
+
+    for (int i = 0; i < 3; i++) {
+      assertEquals(service.listRecommendations(me, requestContext, null, 10).size(), 3);
+    }
+    assertEquals(sharedSource.calls.get(), 1);
+    assertEquals(userSource.calls.get(), 1);
+    assertEquals(uncachedSource.calls.get(), 3);
+
+    // shared modules are served to other actors with the same search context, per-user modules
+    // are not
+    assertEquals(service.listRecommendations(you, requestContext, null, 10).size(), 3);
+    assertEquals(sharedSource.calls.get(), 1);
+    assertEquals(userSource.calls.get(), 2);
+    assertEquals(uncachedSource.calls.get(), 4);
+  }
+
+  private class CountingSource extends TestSource {
+    private final CacheScope cacheScope;
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private CountingSource(String moduleId, CacheScope cacheScope) {
+      super(
+          moduleId,
+          moduleId,
+          RecommendationRenderType.ENTITY_NAME_LIST,
+          true,
+          getContentFromString(ImmutableList.of(moduleId)));
+      this.cacheScope = cacheScope;
+    }
+
+    @Override
+    public CacheScope getCacheScope(@Nonnull OperationContext opContext) {
+      return cacheScope;
+    }
+
+    @Override
+    public List<RecommendationContent> getRecommendations(
+        @Nonnull OperationContext opContext,
+        @Nonnull RecommendationRequestContext requestContext,
+        @Nullable Filter filter) {
+      calls.incrementAndGet();
+      return super.getRecommendations(opContext, requestContext, filter);
+    }
+  }
 }
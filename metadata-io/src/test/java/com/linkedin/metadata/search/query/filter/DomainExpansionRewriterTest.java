@@ -4,12 +4,15 @@ import static com.linkedin.metadata.Constants.DOMAIN_ENTITY_NAME;
 import static com.linkedin.metadata.search.utils.QueryUtils.EMPTY_FILTER;
 import static com.linkedin.metadata.search.utils.QueryUtils.newRelationshipFilter;
 import static com.linkedin.metadata.utils.CriterionUtils.buildCriterion;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 
@@ -414,4 +417,58 @@ public class DomainExpansionRewriterTest
         expectedRewrite,
         "Expected rewrite of nested and pass through of other fields.");
   }
+
+  @Test
+  public void testExpansionCache() {
+    DomainExpansionRewriter test =
+        DomainExpansionRewriter.builder()
+            .config(
+                new QueryFilterRewriterConfiguration.ExpansionRewriterConfiguration(
+                    true, 100, 100, 60))
+            .build();
+
+    when(mockGraphRetriever.scrollRelatedEntities(
+            eq(List.of(DOMAIN_ENTITY_NAME)),
+            eq(
+                QueryUtils.newDisjunctiveFilter(
+                    buildCriterion("urn", Condition.EQUAL, List.of(parentUrn)))),
+            eq(List.of(DOMAIN_ENTITY_NAME)),
+            eq(EMPTY_FILTER),
+            eq(List.of("IsPartOf")),
+            eq(newRelationshipFilter(EMPTY_FILTER, RelationshipDirection.INCOMING)),
+            eq(Edge.EDGE_SORT_CRITERION),
+            nullable(String.class),
+            anyInt(),
+            isNull(),
+            isNull()))
+        .thenReturn(
+            new RelatedEntitiesScrollResult(
+                1,
+                1,
+                null,
+                List.of(
+                    new RelatedEntities(
+                        "IsPartOf", childUrn, parentUrn, RelationshipDirection.INCOMING, null))));
+
+    TermsQueryBuilder expectedRewrite = QueryBuilders.termsQuery(FIELD_NAME, childUrn, parentUrn);
+
+    for (int i = 0; i < 3; i++) {
+      assertEquals(
+          test.rewrite(
+              opContext,
+              QueryFilterRewriterContext.builder()
+                  .condition(Condition.DESCENDANTS_INCL)
+                  .searchType(QueryFilterRewriterSearchType.FULLTEXT_SEARCH)
+                  .queryFilterRewriteChain(mock(QueryFilterRewriteChain.class))
+                  .build(false),
+              QueryBuilders.termsQuery(FIELD_NAME, parentUrn)),
+          expectedRewrite,
+          "Expected rewrite");
+    }
+
+    // Only the first rewrite walks the graph, the others use the cached expansion
+    verify(mockGraphRetriever, times(1))
+        .scrollRelatedEntities(
+            any(), any(), any(), any(), any(), any(), any(), any(), anyInt(), any(), any());
+  }
 }
@@ -17,6 +17,7 @@ import com.datahub.authentication.Authentication;
 import com.datahub.authorization.AuthorizerContext;
 import com.datahub.authorization.DataHubAuthorizer;
 import com.datahub.authorization.DefaultEntitySpecResolver;
+import com.datahub.authorization.PolicyIndex;
 import com.datahub.authorization.config.ViewAuthorizationConfiguration;
 import com.datahub.plugins.auth.authorization.Authorizer;
 import com.linkedin.common.Owner;
@@ -629,21 +630,7 @@ public class ESAccessControlUtilTest {
       when(ctx.getEntitySpecResolver()).thenReturn(specResolver);
       init(Map.of(), ctx);
 
-      readWriteLock.writeLock().lock();
-      try {
-        policyCache.clear();
-        Map<String, List<DataHubPolicyInfo>> byPrivilegeName =
-            policies.stream()
-                .flatMap(
-                    policy -> policy.getPrivileges().stream().map(priv -> Pair.of(priv, policy)))
-                .collect(
-                    Collectors.groupingBy(
-                        Pair::getKey, Collectors.mapping(Pair::getValue, Collectors.toList())));
-        policyCache.putAll(byPrivilegeName);
-        policyCache.put(ALL, policies);
-      } finally {
-        readWriteLock.writeLock().unlock();
-      }
+      onPoliciesRefreshed(new PolicyIndex(policies));
     }
 
     private static SystemEntityClient mockUserGroupEntityClient(
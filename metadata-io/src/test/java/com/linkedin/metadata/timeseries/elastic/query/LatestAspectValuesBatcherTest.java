@@ -0,0 +1,139 @@
+package com.linkedin.metadata.timeseries.elastic.query;
+
+import static org.testng.Assert.assertEquals;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.aspect.EnvelopedAspect;
+import com.linkedin.metadata.timeseries.elastic.query.LatestAspectValuesBatcher.Key;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.testng.annotations.Test;
+
+public class LatestAspectValuesBatcherTest {
+  private static final String ASPECT_NAME = "datasetProfile";
+  private static final String CONTEXT_ID = "context";
+
+  @Test
+  public void testWithoutWindowLoadsEachCall() {
+    List<Set<Key>> loads = new CopyOnWriteArrayList<>();
+    LatestAspectValuesBatcher batcher = new LatestAspectValuesBatcher(0, 100);
+
+    Map<Key, EnvelopedAspect> result =
+        batcher.get(CONTEXT_ID, Set.of(key(1), key(2)), recordingLoader(loads));
+    batcher.get(CONTEXT_ID, Set.of(key(3)), recordingLoader(loads));
+
+    assertEquals(result.keySet(), Set.of(key(1), key(2)));
+    assertEquals(loads.size(), 2);
+  }
+
+  @Test
+  public void testConcurrentCallsShareLoad() throws Exception {
+    List<Set<Key>> loads = new CopyOnWriteArrayList<>();
+    LatestAspectValuesBatcher batcher = new LatestAspectValuesBatcher(5000, 4);
+    CyclicBarrier barrier = new CyclicBarrier(4);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    List<CompletableFuture<Map<Key, EnvelopedAspect>>> futures =
+        IntStream.range(0, 4)
+            .mapToObj(
+                i ->
+                    CompletableFuture.supplyAsync(
+                        () -> {
+                          try {
+                            barrier.await();
+                          } catch (Exception e) {
+                            throw new RuntimeException(e);
+                          }
+                          return batcher.get(CONTEXT_ID, Set.of(key(i)), recordingLoader(loads));
+                        },
+                        executor))
+            .collect(Collectors.toList());
+
+    for (int i = 0; i < futures.size(); i++) {
+      // the full batch is loaded without waiting for the window
+      assertEquals(futures.get(i).get(1, TimeUnit.SECONDS).keySet(), Set.of(key(i)));
+    }
+    assertEquals(loads.size(), 1);
+    assertEquals(loads.get(0).size(), 4);
+    executor.shutdown();
+  }
+
+  @Test
+  public void testDifferentSearchContextsDoNotShareLoad() throws Exception {
+    List<Set<Key>> loads = new CopyOnWriteArrayList<>();
+    LatestAspectValuesBatcher batcher = new LatestAspectValuesBatcher(5000, 2);
+    CyclicBarrier barrier = new CyclicBarrier(4);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    List<CompletableFuture<Map<Key, EnvelopedAspect>>> futures =
+        IntStream.range(0, 4)
+            .mapToObj(
+                i ->
+                    CompletableFuture.supplyAsync(
+                        () -> {
+                          try {
+                            barrier.await();
+                          } catch (Exception e) {
+                            throw new RuntimeException(e);
+                          }
+                          return batcher.get(
+                              "context" + (i % 2), Set.of(key(i)), recordingLoader(loads));
+                        },
+                        executor))
+            .collect(Collectors.toList());
+
+    for (int i = 0; i < futures.size(); i++) {
+      assertEquals(futures.get(i).get(1, TimeUnit.SECONDS).keySet(), Set.of(key(i)));
+    }
+    // one full batch per search context, never mixing keys of both
+    assertEquals(Set.copyOf(loads), Set.of(Set.of(key(0), key(2)), Set.of(key(1), key(3))));
+    executor.shutdown();
+  }
+
+  @Test
+  public void testMissingValuesAreOmitted() {
+    LatestAspectValuesBatcher batcher = new LatestAspectValuesBatcher(1, 100);
+
+    Map<Key, EnvelopedAspect> result =
+        batcher.get(
+            CONTEXT_ID, Set.of(key(1), key(2)), keys -> Map.of(key(1), new EnvelopedAspect()));
+
+    assertEquals(result.keySet(), Set.of(key(1)));
+  }
+
+  @Test(expectedExceptions = IllegalStateException.class)
+  public void testLoadFailurePropagates() {
+    LatestAspectValuesBatcher batcher = new LatestAspectValuesBatcher(1, 100);
+    batcher.get(
+        CONTEXT_ID,
+        Set.of(key(1)),
+        keys -> {
+          throw new IllegalStateException("search failed");
+        });
+  }
+
+  private static Function<Set<Key>, Map<Key, EnvelopedAspect>> recordingLoader(
+      List<Set<Key>> loads) {
+    return keys -> {
+      loads.add(keys);
+      return keys.stream()
+          .collect(Collectors.toMap(Function.identity(), key -> new EnvelopedAspect()));
+    };
+  }
+
+  private static Key key(int i) {
+    Urn urn = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,table" + i + ",PROD)");
+    return new Key(urn, ASPECT_NAME, null);
+  }
+}
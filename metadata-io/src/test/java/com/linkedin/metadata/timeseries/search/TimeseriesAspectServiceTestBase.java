@@ -64,6 +64,7 @@ import java.util.Calendar;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -445,6 +446,39 @@ public abstract class TimeseriesAspectServiceTestBase extends AbstractTestNGSpri
     validateAspectValues(resultAspects, 0);
   }
 
+  @Test(groups = "getAspectValues", dependsOnGroups = "upsert")
+  public void testGetLatestTimeseriesAspectValues() {
+    Urn nonExistingUrn = new TestEntityUrn("missing", "missing", "missing");
+    Map<Urn, Map<String, EnvelopedAspect>> latest =
+        elasticSearchTimeseriesAspectService.getLatestTimeseriesAspectValues(
+            opContext, Set.of(TEST_URN, nonExistingUrn), Set.of(ASPECT_NAME), null);
+    assertEquals(latest.keySet(), Set.of(TEST_URN, nonExistingUrn));
+    assertTrue(latest.get(nonExistingUrn).isEmpty());
+
+    TestEntityProfile latestProfile =
+        (TestEntityProfile)
+            GenericRecordUtils.deserializeAspect(
+                latest.get(TEST_URN).get(ASPECT_NAME).getAspect().getValue(),
+                CONTENT_TYPE,
+                aspectSpec);
+    assertEquals((long) latestProfile.getStat(), 20 + (NUM_PROFILES - 1) * 10);
+
+    // The latest value at an earlier end time
+    latest =
+        elasticSearchTimeseriesAspectService.getLatestTimeseriesAspectValues(
+            opContext,
+            Set.of(TEST_URN),
+            Set.of(ASPECT_NAME),
+            Map.of(ASPECT_NAME, startTime + TIME_INCREMENT * 2));
+    latestProfile =
+        (TestEntityProfile)
+            GenericRecordUtils.deserializeAspect(
+                latest.get(TEST_URN).get(ASPECT_NAME).getAspect().getValue(),
+                CONTENT_TYPE,
+                aspectSpec);
+    assertEquals((long) latestProfile.getStat(), 40);
+  }
+
   /*
    * Tests for getAggregatedStats API
    */
@@ -14,6 +14,8 @@ import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.mxe.Topics;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
@@ -36,6 +38,8 @@ public class DataHubUsageEventsProcessor {
 
   private final Histogram kafkaLagStats =
       MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "kafkaLag"));
+  private final Histogram batchSizeStats =
+      MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "batchSize"));
 
   public DataHubUsageEventsProcessor(
       ElasticsearchConnector elasticSearchConnector,
@@ -50,32 +54,43 @@ public class DataHubUsageEventsProcessor {
       id = "${DATAHUB_USAGE_EVENT_KAFKA_CONSUMER_GROUP_ID:datahub-usage-event-consumer-job-client}",
       topics = "${DATAHUB_USAGE_EVENT_NAME:" + Topics.DATAHUB_USAGE_EVENT + "}",
       containerFactory = "simpleKafkaConsumer",
+      batch = "true",
       autoStartup = "false")
-  public void consume(final ConsumerRecord<String, String> consumerRecord) {
+  public void consume(final List<ConsumerRecord<String, String>> consumerRecords) {
     try (Timer.Context i = MetricUtils.timer(this.getClass(), "consume").time()) {
-      kafkaLagStats.update(System.currentTimeMillis() - consumerRecord.timestamp());
-      final String record = consumerRecord.value();
+      batchSizeStats.update(consumerRecords.size());
+      final List<String> records = new ArrayList<>(consumerRecords.size());
+      for (ConsumerRecord<String, String> consumerRecord : consumerRecords) {
+        kafkaLagStats.update(System.currentTimeMillis() - consumerRecord.timestamp());
+        log.info(
+            "Got DHUE event key: {}, topic: {}, partition: {}, offset: {}, value size: {}, timestamp: {}",
+            consumerRecord.key(),
+            consumerRecord.topic(),
+            consumerRecord.partition(),
+            consumerRecord.offset(),
+            consumerRecord.serializedValueSize(),
+            consumerRecord.timestamp());
+        records.add(consumerRecord.value());
+      }
 
-      log.info(
-          "Got DHUE event key: {}, topic: {}, partition: {}, offset: {}, value size: {}, timestamp: {}",
-          consumerRecord.key(),
-          consumerRecord.topic(),
-          consumerRecord.partition(),
-          consumerRecord.offset(),
-          consumerRecord.serializedValueSize(),
-          consumerRecord.timestamp());
+      // Entities referenced by the whole poll are hydrated together
+      final List<Optional<DataHubUsageEventTransformer.TransformedDocument>> eventDocuments =
+          dataHubUsageEventTransformer.transformDataHubUsageEvents(records);
 
-      Optional<DataHubUsageEventTransformer.TransformedDocument> eventDocument =
-          dataHubUsageEventTransformer.transformDataHubUsageEvent(record);
-      if (eventDocument.isEmpty()) {
-        log.warn("Failed to apply usage events transform to record: {}", record);
-        return;
+      for (int idx = 0; idx < consumerRecords.size(); idx++) {
+        Optional<DataHubUsageEventTransformer.TransformedDocument> eventDocument =
+            eventDocuments.get(idx);
+        if (eventDocument.isEmpty()) {
+          log.warn("Failed to apply usage events transform to record: {}", records.get(idx));
+          continue;
+        }
+        JsonElasticEvent elasticEvent = new JsonElasticEvent(eventDocument.get().getDocument());
+        elasticEvent.setId(
+            generateDocumentId(eventDocument.get().getId(), consumerRecords.get(idx).offset()));
+        elasticEvent.setIndex(indexName);
+        elasticEvent.setActionType(ChangeType.CREATE);
+        elasticSearchConnector.feedElasticEvent(elasticEvent);
       }
-      JsonElasticEvent elasticEvent = new JsonElasticEvent(eventDocument.get().getDocument());
-      elasticEvent.setId(generateDocumentId(eventDocument.get().getId(), consumerRecord.offset()));
-      elasticEvent.setIndex(indexName);
-      elasticEvent.setActionType(ChangeType.CREATE);
-      elasticSearchConnector.feedElasticEvent(elasticEvent);
     }
   }
 
@@ -1,23 +1,23 @@
 package com.linkedin.metadata.kafka;
 
-import static com.linkedin.metadata.Constants.MDC_ASPECT_NAME;
-import static com.linkedin.metadata.Constants.MDC_CHANGE_TYPE;
-import static com.linkedin.metadata.Constants.MDC_ENTITY_TYPE;
-import static com.linkedin.metadata.Constants.MDC_ENTITY_URN;
-
 import com.codahale.metrics.Histogram;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.events.metadata.ChangeType;
 import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.kafka.hook.HookUtils;
 import com.linkedin.metadata.kafka.hook.MetadataChangeLogHook;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.mxe.MetadataChangeLog;
 import io.datahubproject.metadata.context.OperationContext;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
@@ -30,16 +30,41 @@ public class MCLKafkaListener {
           .histogram(
               MetricRegistry.name(
                   "com.linkedin.metadata.kafka.MetadataChangeLogProcessor", "kafkaLag"));
+  private static final Histogram batchSizeStats =
+      MetricUtils.get().histogram(MetricRegistry.name(MCLKafkaListener.class, "batchSize"));
 
   private final String consumerGroupId;
   private final List<MetadataChangeLogHook> hooks;
 
+  /**
+   * Hooks in invocation order, grouped into stages. Among hooks sharing an {@link
+   * MetadataChangeLogHook#executionOrder()}, those which allow concurrent execution form a single
+   * stage that runs first, the others follow one per stage in their original order.
+   */
+  private final List<List<MetadataChangeLogHook>> hookStages;
+
+  @Nullable private final ExecutorService hookExecutor;
+
   public MCLKafkaListener(
       OperationContext systemOperationContext,
       String consumerGroup,
       List<MetadataChangeLogHook> hooks) {
+    this(systemOperationContext, consumerGroup, hooks, null);
+  }
+
+  /**
+   * @param hookExecutor executor used to fan out independent hooks in {@link #consumeBatch(List)},
+   *     if null hooks are invoked sequentially on the consumer thread
+   */
+  public MCLKafkaListener(
+      OperationContext systemOperationContext,
+      String consumerGroup,
+      List<MetadataChangeLogHook> hooks,
+      @Nullable ExecutorService hookExecutor) {
     this.consumerGroupId = consumerGroup;
     this.hooks = hooks;
+    this.hookExecutor = hookExecutor;
+    this.hookStages = buildHookStages(hooks);
     this.hooks.forEach(hook -> hook.init(systemOperationContext));
 
     log.info(
@@ -79,11 +104,7 @@ public class MCLKafkaListener {
       String aspectName = event.hasAspectName() ? event.getAspectName() : null;
       String entityType = event.hasEntityType() ? event.getEntityType() : null;
       ChangeType changeType = event.hasChangeType() ? event.getChangeType() : null;
-      MDC.put(MDC_ENTITY_URN, Optional.ofNullable(entityUrn).map(Urn::toString).orElse(""));
-      MDC.put(MDC_ASPECT_NAME, aspectName);
-      MDC.put(MDC_ENTITY_TYPE, entityType);
-      MDC.put(
-          MDC_CHANGE_TYPE, Optional.ofNullable(changeType).map(ChangeType::toString).orElse(""));
+      HookUtils.putEventMDC(event);
 
       log.info(
           "Invoking MCL hooks for consumer: {} urn: {}, aspect name: {}, entity type: {}, change type: {}",
@@ -121,4 +142,119 @@ public class MCLKafkaListener {
       MDC.clear();
     }
   }
+
+  /**
+   * Batch variant of {@link #consume(ConsumerRecord)}. Records are converted once for the whole
+   * batch and each hook is then invoked over the full batch. Hooks of the same execution order
+   * which opted in to {@link MetadataChangeLogHook#allowsConcurrentExecution()} run concurrently on
+   * the hook executor, the remaining hooks then run one after the other.
+   */
+  public void consumeBatch(final List<ConsumerRecord<String, GenericRecord>> consumerRecords) {
+    try (Timer.Context i = MetricUtils.timer(this.getClass(), "consumeBatch").time()) {
+      final List<MetadataChangeLog> events = new ArrayList<>(consumerRecords.size());
+      for (ConsumerRecord<String, GenericRecord> consumerRecord : consumerRecords) {
+        kafkaLagStats.update(System.currentTimeMillis() - consumerRecord.timestamp());
+        log.debug(
+            "Got MCL event consumer: {} key: {}, topic: {}, partition: {}, offset: {}, value size: {}, timestamp: {}",
+            consumerGroupId,
+            consumerRecord.key(),
+            consumerRecord.topic(),
+            consumerRecord.partition(),
+            consumerRecord.offset(),
+            consumerRecord.serializedValueSize(),
+            consumerRecord.timestamp());
+
+        final GenericRecord record = consumerRecord.value();
+        try {
+          events.add(EventUtils.avroToPegasusMCL(record));
+        } catch (Exception e) {
+          MetricUtils.counter(
+                  this.getClass(), consumerGroupId + "_avro_to_pegasus_conversion_failure")
+              .inc();
+          log.error("Error deserializing message due to: ", e);
+          log.error("Message: {}", record);
+        }
+      }
+      MetricUtils.counter(this.getClass(), consumerGroupId + "_received_mcl_count")
+          .inc(consumerRecords.size());
+      batchSizeStats.update(consumerRecords.size());
+
+      if (events.isEmpty()) {
+        return;
+      }
+
+      log.info(
+          "Invoking MCL hooks for consumer: {} batch size: {}", consumerGroupId, events.size());
+
+      for (List<MetadataChangeLogHook> stage : hookStages) {
+        if (hookExecutor == null || stage.size() == 1) {
+          stage.forEach(hook -> invokeHookBatch(hook, events));
+        } else {
+          CompletableFuture.allOf(
+                  stage.stream()
+                      .map(
+                          hook ->
+                              CompletableFuture.runAsync(
+                                  () -> invokeHookBatch(hook, events), hookExecutor))
+                      .toArray(CompletableFuture[]::new))
+              .join();
+        }
+      }
+
+      MetricUtils.counter(this.getClass(), consumerGroupId + "_consumed_mcl_count")
+          .inc(events.size());
+      log.info(
+          "Successfully completed MCL hooks for consumer: {} batch size: {}",
+          consumerGroupId,
+          events.size());
+    } finally {
+      MDC.clear();
+    }
+  }
+
+  private void invokeHookBatch(
+      @Nonnull MetadataChangeLogHook hook, @Nonnull List<MetadataChangeLog> events) {
+    try (Timer.Context ignored =
+        MetricUtils.timer(this.getClass(), hook.getClass().getSimpleName() + "_batch_latency")
+            .time()) {
+      int failures = hook.invokeBatch(events);
+      if (failures > 0) {
+        MetricUtils.counter(this.getClass(), hook.getClass().getSimpleName() + "_failure")
+            .inc(failures);
+      }
+    } catch (Exception e) {
+      // Same "at most once" semantics as the single record path, skip this hook and continue.
+      MetricUtils.counter(this.getClass(), hook.getClass().getSimpleName() + "_failure").inc();
+      log.error(
+          "Failed to execute MCL hook with name {}", hook.getClass().getCanonicalName(), e);
+    }
+  }
+
+  private static List<List<MetadataChangeLogHook>> buildHookStages(
+      @Nonnull List<MetadataChangeLogHook> hooks) {
+    List<List<MetadataChangeLogHook>> stages = new ArrayList<>();
+    int start = 0;
+    while (start < hooks.size()) {
+      int order = hooks.get(start).executionOrder();
+      int end = start;
+      while (end < hooks.size() && hooks.get(end).executionOrder() == order) {
+        end++;
+      }
+      List<MetadataChangeLogHook> concurrent = new ArrayList<>();
+      List<List<MetadataChangeLogHook>> sequential = new ArrayList<>();
+      for (MetadataChangeLogHook hook : hooks.subList(start, end)) {
+        if (hook.allowsConcurrentExecution()) {
+          concurrent.add(hook);
+        } else {
+          sequential.add(List.of(hook));
+        }
+      }
+      if (!concurrent.isEmpty()) {
+        stages.add(concurrent);
+      }
+      stages.addAll(sequential);
+      start = end;
+    }
+    return stages;
+  }
 }
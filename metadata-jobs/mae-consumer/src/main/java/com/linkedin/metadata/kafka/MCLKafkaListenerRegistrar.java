@@ -4,17 +4,24 @@ import static com.linkedin.metadata.config.kafka.KafkaConfiguration.MCL_EVENT_CO
 
 import com.linkedin.metadata.kafka.config.MetadataChangeLogProcessorCondition;
 import com.linkedin.metadata.kafka.hook.MetadataChangeLogHook;
+import com.linkedin.metadata.utils.BoundedExecutors;
 import com.linkedin.mxe.Topics;
 import io.datahubproject.metadata.context.OperationContext;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -32,7 +39,7 @@ import org.springframework.stereotype.Component;
 @EnableKafka
 @Component
 @Conditional(MetadataChangeLogProcessorCondition.class)
-public class MCLKafkaListenerRegistrar implements InitializingBean {
+public class MCLKafkaListenerRegistrar implements InitializingBean, DisposableBean {
 
   @Autowired
   @Qualifier("systemOperationContext")
@@ -54,17 +61,38 @@ public class MCLKafkaListenerRegistrar implements InitializingBean {
       "${METADATA_CHANGE_LOG_TIMESERIES_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_TIMESERIES + "}")
   private String mclTimeseriesTopicName;
 
+  @Value("${MCL_CONSUMER_BATCH_ENABLED:false}")
+  private boolean batchEnabled;
+
+  @Value("${MCL_CONSUMER_BATCH_HOOK_CONCURRENCY:4}")
+  private int batchHookConcurrency;
+
+  @Value("${MCL_CONSUMER_BATCH_HOOK_QUEUE_SIZE:100}")
+  private int batchHookQueueSize;
+
+  @Value("${MCL_CONSUMER_BATCH_HOOK_KEEP_ALIVE:60}")
+  private int batchHookKeepAlive;
+
   @Autowired private List<MetadataChangeLogHook> metadataChangeLogHooks;
 
+  @Nullable private ExecutorService hookExecutor;
+
   @Override
   public void afterPropertiesSet() {
+    if (batchEnabled && batchHookConcurrency > 1) {
+      hookExecutor =
+          BoundedExecutors.newBoundedExecutor(
+              "mclHooks", batchHookConcurrency, batchHookQueueSize, batchHookKeepAlive);
+    }
+
     Map<String, List<MetadataChangeLogHook>> hookGroups =
         getMetadataChangeLogHooks().stream()
             .collect(Collectors.groupingBy(MetadataChangeLogHook::getConsumerGroupSuffix));
 
     log.info(
-        "MetadataChangeLogProcessor Consumer Groups: {}",
-        hookGroups.keySet().stream().map(this::buildConsumerGroupName).collect(Collectors.toSet()));
+        "MetadataChangeLogProcessor Consumer Groups: {} Batch Enabled: {}",
+        hookGroups.keySet().stream().map(this::buildConsumerGroupName).collect(Collectors.toSet()),
+        batchEnabled);
 
     hookGroups.forEach(
         (key, hooks) -> {
@@ -77,6 +105,13 @@ public class MCLKafkaListenerRegistrar implements InitializingBean {
         });
   }
 
+  @Override
+  public void destroy() {
+    if (hookExecutor != null) {
+      hookExecutor.shutdown();
+    }
+  }
+
   public List<MetadataChangeLogHook> getMetadataChangeLogHooks() {
     return metadataChangeLogHooks.stream()
         .filter(MetadataChangeLogHook::isEnabled)
@@ -99,12 +134,29 @@ public class MCLKafkaListenerRegistrar implements InitializingBean {
     kafkaListenerEndpoint.setGroupId(consumerGroupId);
     kafkaListenerEndpoint.setAutoStartup(false);
     kafkaListenerEndpoint.setTopics(topics.toArray(new String[topics.size()]));
+    hooks.stream()
+        .map(MetadataChangeLogHook::getAutoOffsetReset)
+        .filter(Objects::nonNull)
+        .findFirst()
+        .ifPresent(
+            autoOffsetReset -> {
+              Properties consumerProperties = new Properties();
+              consumerProperties.setProperty(
+                  ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, autoOffsetReset);
+              kafkaListenerEndpoint.setConsumerProperties(consumerProperties);
+            });
     kafkaListenerEndpoint.setMessageHandlerMethodFactory(new DefaultMessageHandlerMethodFactory());
     kafkaListenerEndpoint.setBean(
-        new MCLKafkaListener(systemOperationContext, consumerGroupId, hooks));
+        new MCLKafkaListener(systemOperationContext, consumerGroupId, hooks, hookExecutor));
     try {
-      kafkaListenerEndpoint.setMethod(
-          MCLKafkaListener.class.getMethod("consume", ConsumerRecord.class));
+      if (batchEnabled) {
+        kafkaListenerEndpoint.setBatchListener(true);
+        kafkaListenerEndpoint.setMethod(
+            MCLKafkaListener.class.getMethod("consumeBatch", List.class));
+      } else {
+        kafkaListenerEndpoint.setMethod(
+            MCLKafkaListener.class.getMethod("consume", ConsumerRecord.class));
+      }
     } catch (NoSuchMethodException e) {
       throw new RuntimeException(e);
     }
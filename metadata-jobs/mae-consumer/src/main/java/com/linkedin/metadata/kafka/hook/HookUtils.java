@@ -1,12 +1,22 @@
 package com.linkedin.metadata.kafka.hook;
 
+import static com.linkedin.metadata.Constants.MDC_ASPECT_NAME;
+import static com.linkedin.metadata.Constants.MDC_CHANGE_TYPE;
+import static com.linkedin.metadata.Constants.MDC_ENTITY_TYPE;
+import static com.linkedin.metadata.Constants.MDC_ENTITY_URN;
+
 import com.linkedin.common.urn.Urn;
+import com.linkedin.events.metadata.ChangeType;
 import com.linkedin.metadata.models.EntitySpec;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.utils.EntityKeyUtils;
 import com.linkedin.mxe.MetadataChangeLog;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Optional;
 import javax.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
 
 @Slf4j
 public class HookUtils {
@@ -29,5 +39,35 @@ public class HookUtils {
     return EntityKeyUtils.getUrnFromLog(event, entitySpec.getKeyAspectSpec());
   }
 
+  /**
+   * Returns an id for this instance, used by hooks that need every instance to see every event and
+   * therefore a consumer group per instance.
+   */
+  public static String getInstanceId() {
+    return Optional.ofNullable(System.getenv("HOSTNAME"))
+        .orElseGet(
+            () -> {
+              try {
+                return InetAddress.getLocalHost().getHostName();
+              } catch (UnknownHostException e) {
+                log.warn("Unable to determine host name for instance consumer group", e);
+                return "unknown";
+              }
+            });
+  }
+
+  /** Puts the event's urn, aspect, entity type and change type in the logging MDC */
+  public static void putEventMDC(@Nonnull final MetadataChangeLog event) {
+    MDC.put(
+        MDC_ENTITY_URN, Optional.ofNullable(event.getEntityUrn()).map(Urn::toString).orElse(""));
+    MDC.put(MDC_ASPECT_NAME, event.hasAspectName() ? event.getAspectName() : null);
+    MDC.put(MDC_ENTITY_TYPE, event.hasEntityType() ? event.getEntityType() : null);
+    MDC.put(
+        MDC_CHANGE_TYPE,
+        Optional.ofNullable(event.hasChangeType() ? event.getChangeType() : null)
+            .map(ChangeType::toString)
+            .orElse(""));
+  }
+
   private HookUtils() {}
 }
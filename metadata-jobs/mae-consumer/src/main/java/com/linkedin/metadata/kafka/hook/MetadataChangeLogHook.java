@@ -2,7 +2,11 @@ package com.linkedin.metadata.kafka.hook;
 
 import com.linkedin.mxe.MetadataChangeLog;
 import io.datahubproject.metadata.context.OperationContext;
+import java.util.List;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 
 /**
  * Custom hook which is invoked on receiving a new {@link MetadataChangeLog} event.
@@ -26,6 +30,18 @@ public interface MetadataChangeLogHook {
   @Nonnull
   String getConsumerGroupSuffix();
 
+  /**
+   * Overrides auto.offset.reset for the hook's consumer group. Hooks using a consumer group per
+   * instance should return "latest", a new instance has nothing to catch up on and would otherwise
+   * replay the topics from the start.
+   *
+   * @return the offset reset policy, or null for the configured default
+   */
+  @Nullable
+  default String getAutoOffsetReset() {
+    return null;
+  }
+
   /**
    * Return whether the hook is enabled or not. If not enabled, the below invoke method is not
    * triggered
@@ -35,6 +51,36 @@ public interface MetadataChangeLogHook {
   /** Invoke the hook when a MetadataChangeLog is received */
   void invoke(@Nonnull MetadataChangeLog log) throws Exception;
 
+  /**
+   * Invoke the hook for a batch of MetadataChangeLogs received in a single poll. Events are
+   * provided in offset order. The default implementation invokes the hook for each event in turn,
+   * with the event in the logging MDC, skipping (and logging) events which fail so that a single
+   * bad event does not fail the batch.
+   *
+   * @param logs the events in the batch
+   * @return the number of events which failed
+   */
+  default int invokeBatch(@Nonnull List<MetadataChangeLog> logs) {
+    int failures = 0;
+    for (MetadataChangeLog log : logs) {
+      try {
+        HookUtils.putEventMDC(log);
+        invoke(log);
+      } catch (Exception e) {
+        failures++;
+        LoggerFactory.getLogger(getClass())
+            .error(
+                "Failed to execute MCL hook {} for urn: {}",
+                getClass().getSimpleName(),
+                log.getEntityUrn(),
+                e);
+      } finally {
+        MDC.clear();
+      }
+    }
+    return failures;
+  }
+
   /**
    * Controls hook execution ordering
    *
@@ -43,4 +89,15 @@ public interface MetadataChangeLogHook {
   default int executionOrder() {
     return 100;
   }
+
+  /**
+   * Whether, in batch mode, the hook may run concurrently with the other hooks of the same {@link
+   * #executionOrder()} which also allow it. Those run together ahead of the hooks which do not opt
+   * in, which run one after the other.
+   *
+   * @return true if the hook does not depend on the effects of other hooks
+   */
+  default boolean allowsConcurrentExecution() {
+    return false;
+  }
 }
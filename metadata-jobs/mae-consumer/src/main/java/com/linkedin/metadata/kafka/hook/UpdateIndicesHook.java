@@ -63,6 +63,12 @@ public class UpdateIndicesHook implements MetadataChangeLogHook {
     return isEnabled;
   }
 
+  /** Only writes the indices for the events it is given, nothing else in its group reads them. */
+  @Override
+  public boolean allowsConcurrentExecution() {
+    return true;
+  }
+
   @Override
   public UpdateIndicesHook init(@javax.annotation.Nonnull OperationContext systemOperationContext) {
     this.systemOperationContext = systemOperationContext;
@@ -0,0 +1,98 @@
+package com.linkedin.metadata.kafka.hook.cache;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.entity.AspectDao;
+import com.linkedin.metadata.entity.CachingAspectDao;
+import com.linkedin.metadata.kafka.hook.HookUtils;
+import com.linkedin.metadata.kafka.hook.MetadataChangeLogHook;
+import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.mxe.MetadataChangeLog;
+import io.datahubproject.metadata.context.OperationContext;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * This hook evicts entries from the local {@link CachingAspectDao} when aspects are written by
+ * another node.
+ *
+ * <p>Every node holding an aspect cache must see every MetadataChangeLog, so the consumer group
+ * suffix is made unique per instance by appending the host name. A new instance starts with an
+ * empty cache, so the group starts from the latest offset rather than replaying the topics. The
+ * hook is only enabled when the aspect cache is enabled and the local aspect dao is a {@link
+ * CachingAspectDao}.
+ */
+@Slf4j
+@Component
+public class AspectCacheInvalidationHook implements MetadataChangeLogHook {
+
+  @Nullable private final CachingAspectDao cachingAspectDao;
+  private final boolean isEnabled;
+  @Getter private final String consumerGroupSuffix;
+
+  private OperationContext systemOperationContext;
+
+  @Autowired
+  public AspectCacheInvalidationHook(
+      @Nullable @Qualifier("entityAspectDao") AspectDao aspectDao,
+      @Nonnull @Value("${cache.aspect.enabled:false}") Boolean isEnabled,
+      @Nonnull @Value("${cache.aspect.consumerGroupSuffix:aspect-cache-invalidation}")
+          String consumerGroupSuffix) {
+    this(
+        aspectDao instanceof CachingAspectDao ? (CachingAspectDao) aspectDao : null,
+        isEnabled,
+        String.join("-", consumerGroupSuffix, HookUtils.getInstanceId()));
+  }
+
+  @VisibleForTesting
+  public AspectCacheInvalidationHook(
+      @Nullable CachingAspectDao cachingAspectDao,
+      @Nonnull Boolean isEnabled,
+      @Nonnull String consumerGroupSuffix) {
+    this.cachingAspectDao = cachingAspectDao;
+    this.isEnabled = isEnabled && cachingAspectDao != null;
+    this.consumerGroupSuffix = consumerGroupSuffix;
+  }
+
+  @Override
+  public AspectCacheInvalidationHook init(@Nonnull OperationContext systemOperationContext) {
+    this.systemOperationContext = systemOperationContext;
+    return this;
+  }
+
+  @Override
+  public String getAutoOffsetReset() {
+    return "latest";
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return isEnabled;
+  }
+
+  @Override
+  public void invoke(@Nonnull MetadataChangeLog event) {
+    if (!isEnabled || !event.hasAspectName()) {
+      return;
+    }
+
+    final Urn urn = HookUtils.getUrnFromEvent(event, systemOperationContext.getEntityRegistry());
+    final EntitySpec entitySpec =
+        systemOperationContext.getEntityRegistry().getEntitySpec(event.getEntityType());
+
+    if (ChangeType.DELETE.equals(event.getChangeType())
+        && entitySpec.getKeyAspectName().equals(event.getAspectName())) {
+      // key aspect deletion removes every aspect of the entity
+      cachingAspectDao.invalidateUrn(urn.toString());
+    } else {
+      cachingAspectDao.invalidate(urn.toString(), event.getAspectName());
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package com.linkedin.metadata.kafka.hook.cache;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.entity.client.EntityClientCache;
+import com.linkedin.entity.client.SystemEntityClient;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.kafka.hook.HookUtils;
+import com.linkedin.metadata.kafka.hook.MetadataChangeLogHook;
+import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.mxe.MetadataChangeLog;
+import io.datahubproject.metadata.context.OperationContext;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * This hook evicts entries from the local {@link EntityClientCache} when aspects are written by
+ * any node, which lets the cache run with long TTLs.
+ *
+ * <p>Every node holding an entity client cache must see every MetadataChangeLog, so the consumer
+ * group suffix is made unique per instance by appending the host name, and starts from the latest
+ * offset since a new instance starts with an empty cache. Writes made by GMS itself are also
+ * evicted directly through an {@link com.linkedin.metadata.entity.AspectChangeListener}, this hook
+ * covers the other instances.
+ */
+@Component
+public class EntityClientCacheInvalidationHook implements MetadataChangeLogHook {
+
+  @Nullable private final EntityClientCache entityClientCache;
+  private final boolean isEnabled;
+  @Getter private final String consumerGroupSuffix;
+
+  private OperationContext systemOperationContext;
+
+  @Autowired
+  public EntityClientCacheInvalidationHook(
+      @Nonnull @Qualifier("systemEntityClient") SystemEntityClient systemEntityClient,
+      @Nonnull @Value("${cache.client.entityClient.enabled:false}") Boolean isCacheEnabled,
+      @Nonnull @Value("${cache.client.entityClient.invalidationEnabled:false}")
+          Boolean isInvalidationEnabled,
+      @Nonnull
+          @Value(
+              "${cache.client.entityClient.invalidationConsumerGroupSuffix:entity-client-cache-invalidation}")
+          String consumerGroupSuffix) {
+    this(
+        systemEntityClient.getEntityClientCache(),
+        isCacheEnabled && isInvalidationEnabled,
+        String.join("-", consumerGroupSuffix, HookUtils.getInstanceId()));
+  }
+
+  @VisibleForTesting
+  public EntityClientCacheInvalidationHook(
+      @Nullable EntityClientCache entityClientCache,
+      @Nonnull Boolean isEnabled,
+      @Nonnull String consumerGroupSuffix) {
+    this.entityClientCache = entityClientCache;
+    this.isEnabled = isEnabled && entityClientCache != null;
+    this.consumerGroupSuffix = consumerGroupSuffix;
+  }
+
+  @Override
+  public EntityClientCacheInvalidationHook init(@Nonnull OperationContext systemOperationContext) {
+    this.systemOperationContext = systemOperationContext;
+    return this;
+  }
+
+  @Override
+  public String getAutoOffsetReset() {
+    return "latest";
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return isEnabled;
+  }
+
+  @Override
+  public void invoke(@Nonnull MetadataChangeLog event) {
+    if (!isEnabled || !event.hasAspectName()) {
+      return;
+    }
+
+    final Urn urn = HookUtils.getUrnFromEvent(event, systemOperationContext.getEntityRegistry());
+    final EntitySpec entitySpec =
+        systemOperationContext.getEntityRegistry().getEntitySpec(event.getEntityType());
+
+    if (ChangeType.DELETE.equals(event.getChangeType())
+        && entitySpec.getKeyAspectName().equals(event.getAspectName())) {
+      // key aspect deletion removes every aspect of the entity
+      entityClientCache.invalidateUrn(urn);
+    } else {
+      entityClientCache.invalidate(urn, event.getAspectName());
+    }
+  }
+}
@@ -129,6 +129,12 @@ public class EntityChangeEventGeneratorHook implements MetadataChangeLogHook {
     return isEnabled;
   }
 
+  /** Change events are computed from the MCL alone and only produced to Kafka. */
+  @Override
+  public boolean allowsConcurrentExecution() {
+    return true;
+  }
+
   @Override
   public void invoke(@Nonnull final MetadataChangeLog logEvent) throws Exception {
     if (isEligibleForProcessing(logEvent)) {
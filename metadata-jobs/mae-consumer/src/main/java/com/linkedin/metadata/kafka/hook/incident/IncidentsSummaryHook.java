@@ -97,6 +97,12 @@ public class IncidentsSummaryHook implements MetadataChangeLogHook {
     return isEnabled;
   }
 
+  /** Reads incidents and writes summaries through the entity service, never the search indices. */
+  @Override
+  public boolean allowsConcurrentExecution() {
+    return true;
+  }
+
   @Override
   public void invoke(@Nonnull final MetadataChangeLog event) {
     if (isEnabled && isEligibleForProcessing(event)) {
@@ -56,6 +56,12 @@ public class IngestionSchedulerHook implements MetadataChangeLogHook {
     return isEnabled;
   }
 
+  /** Only updates the in-memory ingestion schedule. */
+  @Override
+  public boolean allowsConcurrentExecution() {
+    return true;
+  }
+
   @Override
   public IngestionSchedulerHook init(@Nonnull OperationContext systemOperationContext) {
     this.systemOperationContext = systemOperationContext;
@@ -2,11 +2,15 @@ package com.linkedin.metadata.kafka.hydrator;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.linkedin.entity.EntityResponse;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public abstract class BaseHydrator {
 
+  /** Aspects read when hydrating, only these are fetched from GMS */
+  protected abstract Set<String> getAspectNames();
+
   /** Use values in the entity response to hydrate the document */
   protected abstract void hydrateFromEntityResponse(
       ObjectNode document, EntityResponse entityResponse);
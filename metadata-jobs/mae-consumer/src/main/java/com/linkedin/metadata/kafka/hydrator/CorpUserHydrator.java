@@ -3,11 +3,13 @@ package com.linkedin.metadata.kafka.hydrator;
 import static com.linkedin.metadata.Constants.*;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.ImmutableSet;
 import com.linkedin.datahub.graphql.types.common.mappers.util.MappingHelper;
 import com.linkedin.entity.EntityResponse;
 import com.linkedin.entity.EnvelopedAspectMap;
 import com.linkedin.identity.CorpUserInfo;
 import com.linkedin.metadata.key.CorpUserKey;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -16,6 +18,14 @@ public class CorpUserHydrator extends BaseHydrator {
   private static final String USER_NAME = "username";
   private static final String NAME = "name";
 
+  private static final Set<String> ASPECT_NAMES =
+      ImmutableSet.of(CORP_USER_INFO_ASPECT_NAME, CORP_USER_KEY_ASPECT_NAME);
+
+  @Override
+  protected Set<String> getAspectNames() {
+    return ASPECT_NAMES;
+  }
+
   @Override
   protected void hydrateFromEntityResponse(ObjectNode document, EntityResponse entityResponse) {
     EnvelopedAspectMap aspectMap = entityResponse.getAspects();
@@ -1,99 +1,119 @@
 package com.linkedin.metadata.kafka.hydrator;
 
 import static com.linkedin.metadata.Constants.*;
-import static com.linkedin.metadata.kafka.config.EntityHydratorConfig.EXCLUDED_ASPECTS;
 
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableMap;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.entity.EntityResponse;
 import com.linkedin.entity.client.SystemEntityClient;
-import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.r2.RemoteInvocationException;
 import io.datahubproject.metadata.context.OperationContext;
 import java.net.URISyntaxException;
-import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
-@RequiredArgsConstructor
 public class EntityHydrator {
 
   private final OperationContext systemOperationContext;
   private final SystemEntityClient entityClient;
-  private final ChartHydrator _chartHydrator = new ChartHydrator();
-  private final CorpUserHydrator _corpUserHydrator = new CorpUserHydrator();
-  private final DashboardHydrator _dashboardHydrator = new DashboardHydrator();
-  private final DataFlowHydrator _dataFlowHydrator = new DataFlowHydrator();
-  private final DataJobHydrator _dataJobHydrator = new DataJobHydrator();
-  private final DatasetHydrator _datasetHydrator = new DatasetHydrator();
+  private final Map<String, BaseHydrator> _hydrators =
+      ImmutableMap.<String, BaseHydrator>builder()
+          .put(CHART_ENTITY_NAME, new ChartHydrator())
+          .put(CORP_USER_ENTITY_NAME, new CorpUserHydrator())
+          .put(DASHBOARD_ENTITY_NAME, new DashboardHydrator())
+          .put(DATA_FLOW_ENTITY_NAME, new DataFlowHydrator())
+          .put(DATA_JOB_ENTITY_NAME, new DataJobHydrator())
+          .put(DATASET_ENTITY_NAME, new DatasetHydrator())
+          .build();
 
-  public Optional<ObjectNode> getHydratedEntity(String urn) {
-    final ObjectNode document = JsonNodeFactory.instance.objectNode();
-    // Hydrate fields from urn
-    Urn urnObj;
-    try {
-      urnObj = Urn.createFromString(urn);
-    } catch (URISyntaxException e) {
-      log.info("Invalid URN: {}", urn);
-      return Optional.empty();
-    }
-    // Hydrate fields from snapshot
-    EntityResponse entityResponse;
-    try {
-      Set<String> aspectNames =
-          Optional.ofNullable(
-                  systemOperationContext
-                      .getEntityRegistry()
-                      .getEntitySpecs()
-                      .get(urnObj.getEntityType()))
-              .map(
-                  spec ->
-                      spec.getAspectSpecs().stream()
-                          .map(AspectSpec::getName)
-                          .filter(aspectName -> !EXCLUDED_ASPECTS.contains(aspectName))
-                          .collect(Collectors.toSet()))
-              .orElse(Set.of());
-      entityResponse = entityClient.getV2(systemOperationContext, urnObj, aspectNames);
-    } catch (RemoteInvocationException | URISyntaxException e) {
-      log.error("Error while calling GMS to hydrate entity for urn {}", urn);
-      return Optional.empty();
-    }
+  /** Hydrated documents by urn, the same actors and entities show up in consecutive events */
+  private final Cache<String, ObjectNode> _hydratedEntityCache;
 
-    if (entityResponse == null) {
-      log.error("Could not find entity for urn {}", urn);
-      return Optional.empty();
-    }
+  public EntityHydrator(
+      OperationContext systemOperationContext,
+      SystemEntityClient entityClient,
+      int cacheTtlSeconds,
+      int cacheMaxSize) {
+    this.systemOperationContext = systemOperationContext;
+    this.entityClient = entityClient;
+    this._hydratedEntityCache =
+        CacheBuilder.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+            .maximumSize(cacheMaxSize)
+            .build();
+  }
 
-    switch (entityResponse.getEntityName()) {
-      case CHART_ENTITY_NAME:
-        _chartHydrator.hydrateFromEntityResponse(document, entityResponse);
-        break;
-      case CORP_USER_ENTITY_NAME:
-        _corpUserHydrator.hydrateFromEntityResponse(document, entityResponse);
-        break;
-      case DASHBOARD_ENTITY_NAME:
-        _dashboardHydrator.hydrateFromEntityResponse(document, entityResponse);
-        break;
-      case DATA_FLOW_ENTITY_NAME:
-        _dataFlowHydrator.hydrateFromEntityResponse(document, entityResponse);
-        break;
-      case DATA_JOB_ENTITY_NAME:
-        _dataJobHydrator.hydrateFromEntityResponse(document, entityResponse);
-        break;
-      case DATASET_ENTITY_NAME:
-        _datasetHydrator.hydrateFromEntityResponse(document, entityResponse);
-        break;
-      default:
+  /**
+   * Hydrates a batch of urns, fetching only the aspects read by the hydrators with one call per
+   * entity type. Returned documents are shared with the cache and must not be modified.
+   *
+   * @param urns the urns to hydrate
+   * @return hydrated documents by urn, urns which could not be hydrated are absent
+   */
+  public Map<String, ObjectNode> getHydratedEntities(Collection<String> urns) {
+    final Map<String, ObjectNode> result = new HashMap<>(_hydratedEntityCache.getAllPresent(urns));
+
+    // Group the remaining urns by entity type
+    final Map<String, Map<Urn, String>> urnsByEntityType = new HashMap<>();
+    for (String urn : urns) {
+      if (result.containsKey(urn)) {
+        continue;
+      }
+      Urn urnObj;
+      try {
+        urnObj = Urn.createFromString(urn);
+      } catch (URISyntaxException e) {
+        log.info("Invalid URN: {}", urn);
+        continue;
+      }
+      if (!_hydrators.containsKey(urnObj.getEntityType())) {
         log.error(
             "Unable to find valid hydrator for entity type: {} urn: {}",
-            entityResponse.getEntityName(),
+            urnObj.getEntityType(),
             urn);
-        return Optional.empty();
+        continue;
+      }
+      urnsByEntityType
+          .computeIfAbsent(urnObj.getEntityType(), k -> new HashMap<>())
+          .put(urnObj, urn);
     }
-    return Optional.of(document);
+
+    urnsByEntityType.forEach(
+        (entityType, entityUrns) -> {
+          final BaseHydrator hydrator = _hydrators.get(entityType);
+          final Map<Urn, EntityResponse> entityResponses;
+          try {
+            entityResponses =
+                entityClient.batchGetV2(
+                    systemOperationContext, entityUrns.keySet(), hydrator.getAspectNames());
+          } catch (RemoteInvocationException | URISyntaxException | RuntimeException e) {
+            log.error(
+                "Error while calling GMS to hydrate entities for urns {}", entityUrns.values(), e);
+            return;
+          }
+
+          entityUrns.forEach(
+              (urnObj, urn) -> {
+                final EntityResponse entityResponse = entityResponses.get(urnObj);
+                if (entityResponse == null) {
+                  log.error("Could not find entity for urn {}", urn);
+                  return;
+                }
+                final ObjectNode document = JsonNodeFactory.instance.objectNode();
+                hydrator.hydrateFromEntityResponse(document, entityResponse);
+                _hydratedEntityCache.put(urn, document);
+                result.put(urn, document);
+              });
+        });
+
+    return result;
   }
 }
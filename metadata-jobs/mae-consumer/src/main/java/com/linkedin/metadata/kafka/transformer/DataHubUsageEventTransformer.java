@@ -11,8 +11,14 @@ import com.google.common.collect.ImmutableSet;
 import com.linkedin.metadata.datahubusage.DataHubUsageEventType;
 import com.linkedin.metadata.kafka.hydrator.EntityHydrator;
 import com.linkedin.metadata.kafka.hydrator.EntityType;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -53,14 +59,55 @@ public class DataHubUsageEventTransformer {
     this._entityHydrator = entityHydrator;
   }
 
-  public Optional<TransformedDocument> transformDataHubUsageEvent(String dataHubUsageEvent) {
-    ObjectNode usageEvent;
+  /**
+   * Transforms a batch of usage events. The actors and entities referenced by the batch are
+   * hydrated together, so a poll costs one GMS call per entity type rather than one per event.
+   *
+   * @param dataHubUsageEvents serialized usage events
+   * @return the transformed documents, in the order of the input events
+   */
+  public List<Optional<TransformedDocument>> transformDataHubUsageEvents(
+      List<String> dataHubUsageEvents) {
+    final List<ObjectNode> usageEvents =
+        dataHubUsageEvents.stream().map(this::parseUsageEvent).collect(Collectors.toList());
+
+    final Set<String> urns = new HashSet<>();
+    usageEvents.stream().filter(Objects::nonNull).forEach(event -> addUrnsToHydrate(event, urns));
+    final Map<String, ObjectNode> hydratedEntities = _entityHydrator.getHydratedEntities(urns);
+
+    return usageEvents.stream()
+        .map(
+            usageEvent ->
+                usageEvent == null
+                    ? Optional.<TransformedDocument>empty()
+                    : transformDataHubUsageEvent(usageEvent, hydratedEntities))
+        .collect(Collectors.toList());
+  }
+
+  @Nullable
+  private ObjectNode parseUsageEvent(String dataHubUsageEvent) {
     try {
-      usageEvent = (ObjectNode) OBJECT_MAPPER.readTree(dataHubUsageEvent);
+      return (ObjectNode) OBJECT_MAPPER.readTree(dataHubUsageEvent);
     } catch (Exception e) {
       log.info("Failed to parse event: {}", dataHubUsageEvent);
-      return Optional.empty();
+      return null;
     }
+  }
+
+  private void addUrnsToHydrate(ObjectNode usageEvent, Set<String> urns) {
+    if (usageEvent.has(ACTOR_URN)) {
+      urns.add(usageEvent.get(ACTOR_URN).asText());
+    }
+    if (usageEvent.has(TYPE)
+        && EVENTS_WITH_ENTITY_URN.contains(
+            DataHubUsageEventType.getType(usageEvent.get(TYPE).asText()))
+        && usageEvent.has(ENTITY_URN)) {
+      urns.add(usageEvent.get(ENTITY_URN).asText());
+    }
+  }
+
+  private Optional<TransformedDocument> transformDataHubUsageEvent(
+      ObjectNode usageEvent, Map<String, ObjectNode> hydratedEntities) {
     // Search event inherits all fields from the usage event
     ObjectNode eventDocument = usageEvent.deepCopy();
     // Type is required
@@ -73,19 +120,20 @@ public class DataHubUsageEventTransformer {
       return Optional.empty();
     }
 
-    // Timestamp is required
-    if (!usageEvent.has(TIMESTAMP)) {
+    // Timestamp and actor are required
+    if (!usageEvent.has(TIMESTAMP) || !usageEvent.has(ACTOR_URN)) {
       return Optional.empty();
     }
     // Set @timestamp
     eventDocument.put("@timestamp", usageEvent.get(TIMESTAMP).asLong());
 
     // Hydrate actor fields
-    setFieldsForEntity(EntityType.CORP_USER, usageEvent.get(ACTOR_URN).asText(), eventDocument);
+    setFieldsForEntity(
+        EntityType.CORP_USER, usageEvent.get(ACTOR_URN).asText(), eventDocument, hydratedEntities);
 
     // Hydrate entity fields for events with entity URN
     if (EVENTS_WITH_ENTITY_URN.contains(eventType)) {
-      setFieldsForEntity(usageEvent, eventDocument);
+      setFieldsForEntity(usageEvent, eventDocument, hydratedEntities);
     }
 
     try {
@@ -98,7 +146,8 @@ public class DataHubUsageEventTransformer {
     }
   }
 
-  private void setFieldsForEntity(ObjectNode recordObject, ObjectNode searchObject) {
+  private void setFieldsForEntity(
+      ObjectNode recordObject, ObjectNode searchObject, Map<String, ObjectNode> hydratedEntities) {
     if (!recordObject.has(ENTITY_TYPE) || !recordObject.has(ENTITY_URN)) {
       return;
     }
@@ -112,11 +161,15 @@ public class DataHubUsageEventTransformer {
       return;
     }
 
-    setFieldsForEntity(type, recordObject.get(ENTITY_URN).asText(), searchObject);
+    setFieldsForEntity(type, recordObject.get(ENTITY_URN).asText(), searchObject, hydratedEntities);
   }
 
-  private void setFieldsForEntity(EntityType entityType, String urn, ObjectNode searchObject) {
-    Optional<ObjectNode> entityObject = _entityHydrator.getHydratedEntity(urn);
+  private void setFieldsForEntity(
+      EntityType entityType,
+      String urn,
+      ObjectNode searchObject,
+      Map<String, ObjectNode> hydratedEntities) {
+    Optional<ObjectNode> entityObject = Optional.ofNullable(hydratedEntities.get(urn));
     if (!entityObject.isPresent()) {
       log.info("No matches for urn {}", urn);
       return;
@@ -0,0 +1,185 @@
+package com.linkedin.metadata.kafka;
+
+import static com.linkedin.metadata.Constants.MDC_ENTITY_URN;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.kafka.hook.MCLProcessingTestDataGenerator;
+import com.linkedin.metadata.kafka.hook.MetadataChangeLogHook;
+import com.linkedin.mxe.MetadataChangeLog;
+import io.datahubproject.metadata.context.OperationContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.mockito.InOrder;
+import org.slf4j.MDC;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+public class MCLKafkaListenerTest {
+
+  private final ExecutorService hookExecutor = Executors.newFixedThreadPool(2);
+
+  @AfterClass
+  public void cleanup() {
+    hookExecutor.shutdownNow();
+  }
+
+  @Test
+  public void testConsumeBatchInvokesEachHookOncePerBatch() throws Exception {
+    MetadataChangeLogHook first = mockHook(1, true);
+    MetadataChangeLogHook secondA = mockHook(2, true);
+    MetadataChangeLogHook secondB = mockHook(2, true);
+
+    MCLKafkaListener listener =
+        new MCLKafkaListener(
+            mock(OperationContext.class),
+            "test-group",
+            List.of(first, secondA, secondB),
+            hookExecutor);
+
+    listener.consumeBatch(List.of(record(0), record(1), record(2)));
+
+    InOrder firstThenSecond = inOrder(first, secondA);
+    firstThenSecond.verify(first, times(1)).invokeBatch(anyList());
+    firstThenSecond.verify(secondA, times(1)).invokeBatch(anyList());
+    verify(secondB, times(1)).invokeBatch(anyList());
+  }
+
+  @Test
+  public void testConsumeBatchKeepsHooksSequentialByDefault() throws Exception {
+    MetadataChangeLogHook first = mockHook(1);
+    MetadataChangeLogHook second = mockHook(1);
+    MetadataChangeLogHook third = mockHook(1);
+
+    MCLKafkaListener listener =
+        new MCLKafkaListener(
+            mock(OperationContext.class),
+            "test-group",
+            List.of(first, second, third),
+            hookExecutor);
+
+    listener.consumeBatch(List.of(record(0), record(1)));
+
+    InOrder inOrder = inOrder(first, second, third);
+    inOrder.verify(first, times(1)).invokeBatch(anyList());
+    inOrder.verify(second, times(1)).invokeBatch(anyList());
+    inOrder.verify(third, times(1)).invokeBatch(anyList());
+  }
+
+  @Test(timeOut = 10000)
+  public void testConsumeBatchRunsOptedInHooksConcurrently() throws Exception {
+    // both hooks have to be running at the same time to get past the barrier
+    CyclicBarrier barrier = new CyclicBarrier(2);
+    AtomicInteger overlapped = new AtomicInteger();
+    MetadataChangeLogHook concurrentA = mockHook(1, true);
+    MetadataChangeLogHook sequential = mockHook(1);
+    MetadataChangeLogHook concurrentB = mockHook(1, true);
+    for (MetadataChangeLogHook hook : List.of(concurrentA, concurrentB)) {
+      doAnswer(
+              invocation -> {
+                barrier.await(5, TimeUnit.SECONDS);
+                overlapped.incrementAndGet();
+                return 0;
+              })
+          .when(hook)
+          .invokeBatch(anyList());
+    }
+
+    MCLKafkaListener listener =
+        new MCLKafkaListener(
+            mock(OperationContext.class),
+            "test-group",
+            List.of(concurrentA, sequential, concurrentB),
+            hookExecutor);
+
+    listener.consumeBatch(List.of(record(0), record(1)));
+
+    assertEquals(overlapped.get(), 2);
+    InOrder concurrentFirst = inOrder(concurrentB, sequential);
+    concurrentFirst.verify(concurrentB, times(1)).invokeBatch(anyList());
+    concurrentFirst.verify(sequential, times(1)).invokeBatch(anyList());
+  }
+
+  @Test
+  public void testConsumeBatchContinuesAfterHookFailure() throws Exception {
+    MetadataChangeLogHook failing = mockHook(1);
+    doThrow(new RuntimeException("boom")).when(failing).invokeBatch(anyList());
+    MetadataChangeLogHook next = mockHook(1);
+
+    MCLKafkaListener listener =
+        new MCLKafkaListener(
+            mock(OperationContext.class), "test-group", List.of(failing, next), null);
+
+    listener.consumeBatch(List.of(record(0), record(1)));
+
+    verify(next, times(1)).invokeBatch(anyList());
+  }
+
+  @Test
+  public void testDefaultInvokeBatchSkipsFailedEvents() throws Exception {
+    MetadataChangeLogHook hook = mock(MetadataChangeLogHook.class);
+    when(hook.invokeBatch(anyList())).thenCallRealMethod();
+    doThrow(new RuntimeException("boom")).doNothing().when(hook).invoke(any());
+
+    MetadataChangeLog event = MCLProcessingTestDataGenerator.createBaseChangeLog();
+    int failures = hook.invokeBatch(List.of(event, event));
+
+    assertEquals(failures, 1);
+    verify(hook, times(2)).invoke(any());
+  }
+
+  @Test
+  public void testDefaultInvokeBatchSetsEventMDC() throws Exception {
+    MetadataChangeLogHook hook = mock(MetadataChangeLogHook.class);
+    when(hook.invokeBatch(anyList())).thenCallRealMethod();
+    List<String> mdcUrns = new ArrayList<>();
+    doAnswer(invocation -> mdcUrns.add(MDC.get(MDC_ENTITY_URN))).when(hook).invoke(any());
+
+    MetadataChangeLog event = MCLProcessingTestDataGenerator.createBaseChangeLog();
+    hook.invokeBatch(List.of(event));
+
+    assertEquals(mdcUrns, List.of(event.getEntityUrn().toString()));
+    assertNull(MDC.get(MDC_ENTITY_URN));
+  }
+
+  private static MetadataChangeLogHook mockHook(int executionOrder) {
+    return mockHook(executionOrder, false);
+  }
+
+  private static MetadataChangeLogHook mockHook(
+      int executionOrder, boolean allowsConcurrentExecution) {
+    MetadataChangeLogHook hook = mock(MetadataChangeLogHook.class);
+    when(hook.executionOrder()).thenReturn(executionOrder);
+    when(hook.allowsConcurrentExecution()).thenReturn(allowsConcurrentExecution);
+    when(hook.isEnabled()).thenReturn(true);
+    when(hook.getConsumerGroupSuffix()).thenReturn("");
+    return hook;
+  }
+
+  private static ConsumerRecord<String, GenericRecord> record(long offset) throws Exception {
+    MetadataChangeLog event = MCLProcessingTestDataGenerator.createBaseChangeLog();
+    return new ConsumerRecord<>(
+        "MetadataChangeLog_Versioned_v1",
+        0,
+        offset,
+        event.getEntityUrn().toString(),
+        EventUtils.pegasusToAvroMCL(event));
+  }
+}
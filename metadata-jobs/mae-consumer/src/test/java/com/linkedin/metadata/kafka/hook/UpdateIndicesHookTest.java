@@ -112,6 +112,10 @@ public class UpdateIndicesHookTest {
   public void setupTest() {
     actorUrn = UrnUtils.getUrn(TEST_ACTOR_URN);
     mockGraphService = mock(ElasticSearchGraphService.class);
+    // the batch methods delegate to the single edge methods verified below
+    Mockito.doCallRealMethod().when(mockGraphService).addEdges(any());
+    Mockito.doCallRealMethod().when(mockGraphService).upsertEdges(any());
+    Mockito.doCallRealMethod().when(mockGraphService).removeEdges(any());
     mockEntitySearchService = mock(EntitySearchService.class);
     mockTimeseriesAspectService = mock(TimeseriesAspectService.class);
     mockSystemMetadataService = mock(SystemMetadataService.class);
@@ -0,0 +1,83 @@
+package com.linkedin.metadata.kafka.hook.cache;
+
+import static com.linkedin.metadata.Constants.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.entity.client.EntityClientCache;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.mxe.MetadataChangeLog;
+import io.datahubproject.metadata.context.OperationContext;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class EntityClientCacheInvalidationHookTest {
+  private static final Urn TEST_DATASET_URN =
+      UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,name,PROD)");
+
+  private OperationContext opContext;
+  private EntityClientCache entityClientCache;
+
+  @BeforeMethod
+  public void setup() {
+    opContext = TestOperationContexts.systemContextNoSearchAuthorization();
+    entityClientCache = mock(EntityClientCache.class);
+  }
+
+  @Test
+  public void testInvokeNotEnabled() {
+    EntityClientCacheInvalidationHook hook =
+        new EntityClientCacheInvalidationHook(entityClientCache, false, "test").init(opContext);
+    hook.invoke(buildMetadataChangeLog(OWNERSHIP_ASPECT_NAME, ChangeType.UPSERT));
+
+    assertFalse(hook.isEnabled());
+    verify(entityClientCache, never()).invalidate(any(), anyString());
+    verify(entityClientCache, never()).invalidateUrn(any());
+  }
+
+  @Test
+  public void testInvokeAspectChange() {
+    EntityClientCacheInvalidationHook hook =
+        new EntityClientCacheInvalidationHook(entityClientCache, true, "test").init(opContext);
+    hook.invoke(buildMetadataChangeLog(OWNERSHIP_ASPECT_NAME, ChangeType.UPSERT));
+    hook.invoke(buildMetadataChangeLog(DATASET_KEY_ASPECT_NAME, ChangeType.UPSERT));
+
+    verify(entityClientCache).invalidate(TEST_DATASET_URN, OWNERSHIP_ASPECT_NAME);
+    verify(entityClientCache).invalidate(TEST_DATASET_URN, DATASET_KEY_ASPECT_NAME);
+    verify(entityClientCache, never()).invalidateUrn(any());
+  }
+
+  @Test
+  public void testInvokeKeyAspectDelete() {
+    EntityClientCacheInvalidationHook hook =
+        new EntityClientCacheInvalidationHook(entityClientCache, true, "test").init(opContext);
+    hook.invoke(buildMetadataChangeLog(DATASET_KEY_ASPECT_NAME, ChangeType.DELETE));
+
+    verify(entityClientCache).invalidateUrn(TEST_DATASET_URN);
+    verify(entityClientCache, never()).invalidate(any(), anyString());
+  }
+
+  @Test
+  public void testConsumesFromLatest() {
+    assertEquals(
+        new EntityClientCacheInvalidationHook(entityClientCache, true, "test").getAutoOffsetReset(),
+        "latest");
+  }
+
+  private static MetadataChangeLog buildMetadataChangeLog(
+      String aspectName, ChangeType changeType) {
+    return new MetadataChangeLog()
+        .setEntityUrn(TEST_DATASET_URN)
+        .setEntityType(DATASET_ENTITY_NAME)
+        .setAspectName(aspectName)
+        .setChangeType(changeType);
+  }
+}
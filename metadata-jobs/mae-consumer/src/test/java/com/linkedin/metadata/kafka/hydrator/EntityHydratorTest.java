@@ -0,0 +1,95 @@
+package com.linkedin.metadata.kafka.hydrator;
+
+import static com.linkedin.metadata.Constants.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.linkedin.common.FabricType;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.entity.Aspect;
+import com.linkedin.entity.EntityResponse;
+import com.linkedin.entity.EnvelopedAspect;
+import com.linkedin.entity.EnvelopedAspectMap;
+import com.linkedin.entity.client.SystemEntityClient;
+import com.linkedin.metadata.key.CorpUserKey;
+import com.linkedin.metadata.key.DatasetKey;
+import io.datahubproject.metadata.context.OperationContext;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.testng.annotations.Test;
+
+public class EntityHydratorTest {
+
+  private static final Urn USER_URN = UrnUtils.getUrn("urn:li:corpuser:datahub");
+  private static final Urn DATASET_URN =
+      UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,test,PROD)");
+
+  @Test
+  public void testBatchHydrationFetchesHydratorAspectsOnce() throws Exception {
+    OperationContext opContext = TestOperationContexts.systemContextNoSearchAuthorization();
+    SystemEntityClient entityClient = mock(SystemEntityClient.class);
+    when(entityClient.batchGetV2(
+            any(OperationContext.class),
+            eq(Set.of(USER_URN)),
+            eq(Set.of(CORP_USER_INFO_ASPECT_NAME, CORP_USER_KEY_ASPECT_NAME))))
+        .thenReturn(
+            Map.of(
+                USER_URN,
+                entityResponse(
+                    USER_URN,
+                    CORP_USER_KEY_ASPECT_NAME,
+                    new Aspect(new CorpUserKey().setUsername("datahub").data()))));
+    when(entityClient.batchGetV2(
+            any(OperationContext.class),
+            eq(Set.of(DATASET_URN)),
+            eq(Set.of(DATASET_KEY_ASPECT_NAME))))
+        .thenReturn(
+            Map.of(
+                DATASET_URN,
+                entityResponse(
+                    DATASET_URN,
+                    DATASET_KEY_ASPECT_NAME,
+                    new Aspect(
+                        new DatasetKey()
+                            .setPlatform(UrnUtils.getUrn("urn:li:dataPlatform:hive"))
+                            .setName("test")
+                            .setOrigin(FabricType.PROD)
+                            .data()))));
+
+    EntityHydrator entityHydrator = new EntityHydrator(opContext, entityClient, 60, 100);
+    List<String> urns = List.of(USER_URN.toString(), DATASET_URN.toString(), "urn:li:tag:test");
+
+    Map<String, ObjectNode> first = entityHydrator.getHydratedEntities(urns);
+    Map<String, ObjectNode> second = entityHydrator.getHydratedEntities(urns);
+
+    assertEquals(first.size(), 2);
+    assertEquals(first.get(USER_URN.toString()).get("username").asText(), "datahub");
+    assertEquals(first.get(DATASET_URN.toString()).get("name").asText(), "test");
+    assertFalse(first.containsKey("urn:li:tag:test"));
+    assertEquals(second, first);
+
+    // The second lookup is served from the hydration cache
+    verify(entityClient, times(1))
+        .batchGetV2(any(OperationContext.class), eq(Set.of(USER_URN)), any());
+    verify(entityClient, times(1))
+        .batchGetV2(any(OperationContext.class), eq(Set.of(DATASET_URN)), any());
+  }
+
+  private static EntityResponse entityResponse(Urn urn, String aspectName, Aspect aspect) {
+    return new EntityResponse()
+        .setUrn(urn)
+        .setEntityName(urn.getEntityType())
+        .setAspects(
+            new EnvelopedAspectMap(Map.of(aspectName, new EnvelopedAspect().setValue(aspect))));
+  }
+}
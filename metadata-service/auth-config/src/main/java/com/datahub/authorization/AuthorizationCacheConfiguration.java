@@ -0,0 +1,25 @@
+package com.datahub.authorization;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Caching of authorization decisions and of the lookups made while evaluating policies. */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AuthorizationCacheConfiguration {
+  /** Whether authorization decisions and ownership/role lookups are cached. */
+  private boolean enabled;
+
+  /** How long a cached decision or lookup is served before it is re-evaluated. */
+  private int ttlSeconds;
+
+  /** Maximum number of (actor, privilege, resource) decisions to cache. */
+  private int decisionMaxSize;
+
+  /** Maximum number of resource ownership and actor role lookups to cache. */
+  private int lookupMaxSize;
+}
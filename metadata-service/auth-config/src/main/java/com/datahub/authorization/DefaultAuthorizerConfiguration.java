@@ -9,4 +9,7 @@ public class DefaultAuthorizerConfiguration {
 
   /** The duration between policies cache refreshes. */
   private int cacheRefreshIntervalSecs;
+
+  /** Caching of authorization decisions between policy cache refreshes. */
+  private AuthorizationCacheConfiguration decisionCache;
 }
@@ -3,16 +3,18 @@ package com.datahub.authorization;
 import com.datahub.authentication.Authentication;
 import com.datahub.plugins.auth.authorization.Authorizer;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.entity.client.EntityClient;
 import com.linkedin.metadata.authorization.PoliciesConfig;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.policy.DataHubPolicyInfo;
 import io.datahubproject.metadata.context.OperationContext;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -22,11 +24,12 @@ import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -52,17 +55,17 @@ public class DataHubAuthorizer implements Authorizer {
     ALLOW_ALL
   }
 
-  // Maps privilege name to the associated set of policies for fast access.
-  // Not concurrent data structure because writes are always against the entire thing.
-  protected final Map<String, List<DataHubPolicyInfo>> policyCache =
-      new HashMap<>(); // Shared Policy Cache.
-  protected final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
-  protected final Lock readLock = readWriteLock.readLock();
+  // All policies, by privilege and compiled for candidate selection, swapped in after each refresh.
+  private volatile PolicyIndex policyIndex = PolicyIndex.EMPTY;
 
   private final ScheduledExecutorService refreshExecutorService =
       Executors.newScheduledThreadPool(1);
   private final PolicyRefreshRunnable policyRefreshRunnable;
   private final PolicyEngine policyEngine;
+  // Decisions keyed by (actor, privilege, resource), cleared whenever the policies change.
+  @Nullable private final Cache<AuthorizationRequest, AuthorizationResult> decisionCache;
+  // Bumped on every invalidation so in-flight evaluations against old policies are not cached.
+  private final AtomicLong decisionCacheGeneration = new AtomicLong();
   private EntitySpecResolver entitySpecResolver;
   private AuthorizationMode mode;
   @Getter private final OperationContext systemOpContext;
@@ -76,17 +79,43 @@ public class DataHubAuthorizer implements Authorizer {
       final int refreshIntervalSeconds,
       final AuthorizationMode mode,
       final int policyFetchSize) {
+    this(
+        systemOpContext,
+        entityClient,
+        delayIntervalSeconds,
+        refreshIntervalSeconds,
+        mode,
+        policyFetchSize,
+        null);
+  }
+
+  public DataHubAuthorizer(
+      @Nonnull final OperationContext systemOpContext,
+      final EntityClient entityClient,
+      final int delayIntervalSeconds,
+      final int refreshIntervalSeconds,
+      final AuthorizationMode mode,
+      final int policyFetchSize,
+      @Nullable final AuthorizationCacheConfiguration cacheConfiguration) {
     this.systemOpContext = systemOpContext;
     this.mode = Objects.requireNonNull(mode);
-    policyEngine = new PolicyEngine(Objects.requireNonNull(entityClient));
+    policyEngine = new PolicyEngine(Objects.requireNonNull(entityClient), cacheConfiguration);
+    if (cacheConfiguration != null && cacheConfiguration.isEnabled()) {
+      decisionCache =
+          CacheBuilder.newBuilder()
+              .maximumSize(cacheConfiguration.getDecisionMaxSize())
+              .expireAfterWrite(cacheConfiguration.getTtlSeconds(), TimeUnit.SECONDS)
+              .build();
+    } else {
+      decisionCache = null;
+    }
     if (refreshIntervalSeconds > 0) {
       policyRefreshRunnable =
           new PolicyRefreshRunnable(
               systemOpContext,
               new PolicyFetcher(entityClient),
-              policyCache,
-              readWriteLock.writeLock(),
-              policyFetchSize);
+              policyFetchSize,
+              this::onPoliciesRefreshed);
       refreshExecutorService.scheduleAtFixedRate(
           policyRefreshRunnable, delayIntervalSeconds, refreshIntervalSeconds, TimeUnit.SECONDS);
     } else {
@@ -107,36 +136,85 @@ public class DataHubAuthorizer implements Authorizer {
       return new AuthorizationResult(request, AuthorizationResult.Type.ALLOW, null);
     }
 
-    Optional<ResolvedEntitySpec> resolvedResourceSpec =
+    if (decisionCache == null) {
+      return evaluate(request);
+    }
+
+    final AuthorizationResult cached = decisionCache.getIfPresent(request);
+    if (cached != null) {
+      MetricUtils.counter(this.getClass(), "decision_cache_hit").inc();
+      return cached;
+    }
+    MetricUtils.counter(this.getClass(), "decision_cache_miss").inc();
+
+    final long generation = decisionCacheGeneration.get();
+    final AuthorizationResult result = evaluate(request);
+    if (generation == decisionCacheGeneration.get()) {
+      decisionCache.put(request, result);
+    }
+    return result;
+  }
+
+  private AuthorizationResult evaluate(@Nonnull final AuthorizationRequest request) {
+    final PolicyIndex index = policyIndex;
+    final List<DataHubPolicyInfo> defaultPolicies =
+        PoliciesConfig.getDefaultPolicies(UrnUtils.getUrn(request.getActorUrn()));
+
+    if (AuthorizationMode.ALLOW_ALL.equals(mode())) {
+      // Any policy listing the privilege grants it.
+      Optional<DataHubPolicyInfo> policy =
+          Stream.concat(
+                  index.getPolicies(request.getPrivilege()).stream(), defaultPolicies.stream())
+              .findFirst();
+      if (policy.isPresent()) {
+        return granted(request, policy.get());
+      }
+      return new AuthorizationResult(request, AuthorizationResult.Type.DENY, null);
+    }
+
+    Optional<Urn> actorUrn = getUrnFromRequestActor(request.getActorUrn());
+    if (actorUrn.isEmpty()) {
+      return new AuthorizationResult(request, AuthorizationResult.Type.DENY, null);
+    }
+    final ResolvedEntitySpec resolvedActorSpec =
+        entitySpecResolver.resolve(
+            new EntitySpec(actorUrn.get().getEntityType(), request.getActorUrn()));
+    final Optional<ResolvedEntitySpec> resolvedResourceSpec =
         request.getResourceSpec().map(entitySpecResolver::resolve);
 
-    // 1. Fetch the policies relevant to the requested privilege.
-    final List<DataHubPolicyInfo> policiesToEvaluate =
-        new LinkedList<>(getOrDefault(request.getPrivilege(), new ArrayList<>()));
-    policiesToEvaluate.addAll(
-        PoliciesConfig.getDefaultPolicies(UrnUtils.getUrn(request.getActorUrn())));
+    // 1. Evaluate the indexed policies that may grant the privilege to this actor and resource.
+    for (PolicyIndex.CompiledPolicy policy :
+        index.getCandidates(request.getPrivilege(), resolvedActorSpec, resolvedResourceSpec)) {
+      if (isRequestGranted(policy, request, resolvedActorSpec, resolvedResourceSpec)) {
+        // Short circuit if policy has granted privileges to this actor.
+        return granted(request, policy.getPolicy());
+      }
+    }
 
-    // 2. Evaluate each policy.
-    for (DataHubPolicyInfo policy : policiesToEvaluate) {
+    // 2. Evaluate the default policies.
+    for (DataHubPolicyInfo policy : defaultPolicies) {
       if (isRequestGranted(policy, request, resolvedResourceSpec)) {
-        // Short circuit if policy has granted privileges to this actor.
-        return new AuthorizationResult(
-            request,
-            AuthorizationResult.Type.ALLOW,
-            String.format("Granted by policy with type: %s", policy.getType()));
+        return granted(request, policy);
       }
     }
     return new AuthorizationResult(request, AuthorizationResult.Type.DENY, null);
   }
 
+  private static AuthorizationResult granted(
+      final AuthorizationRequest request, final DataHubPolicyInfo policy) {
+    return new AuthorizationResult(
+        request,
+        AuthorizationResult.Type.ALLOW,
+        String.format("Granted by policy with type: %s", policy.getType()));
+  }
+
   public List<String> getGrantedPrivileges(
       final String actor, final Optional<EntitySpec> resourceSpec) {
 
     Urn actorUrn = UrnUtils.getUrn(actor);
 
     // 1. Fetch all policies
-    final List<DataHubPolicyInfo> policiesToEvaluate =
-        new LinkedList<>(getOrDefault(ALL, new ArrayList<>()));
+    final List<DataHubPolicyInfo> policiesToEvaluate = new LinkedList<>(policyIndex.getPolicies());
     policiesToEvaluate.addAll(PoliciesConfig.getDefaultPolicies(actorUrn));
 
     final ResolvedEntitySpec resolvedActorSpec =
@@ -152,8 +230,7 @@ public class DataHubAuthorizer implements Authorizer {
   @Override
   public Set<DataHubPolicyInfo> getActorPolicies(@Nonnull Urn actorUrn) {
     // 1. Fetch all policies
-    final List<DataHubPolicyInfo> policiesToEvaluate =
-        new LinkedList<>(getOrDefault(ALL, new ArrayList<>()));
+    final List<DataHubPolicyInfo> policiesToEvaluate = new LinkedList<>(policyIndex.getPolicies());
     policiesToEvaluate.addAll(PoliciesConfig.getDefaultPolicies(actorUrn));
 
     // 2. Actor identity
@@ -205,7 +282,7 @@ public class DataHubAuthorizer implements Authorizer {
     boolean allGroups = false;
 
     // Step 1: Find policies granting the privilege.
-    final List<DataHubPolicyInfo> policiesToEvaluate = getOrDefault(privilege, new ArrayList<>());
+    final List<DataHubPolicyInfo> policiesToEvaluate = policyIndex.getPolicies(privilege);
 
     Optional<ResolvedEntitySpec> resolvedResourceSpec =
         resourceSpec.map(entitySpecResolver::resolve);
@@ -253,6 +330,26 @@ public class DataHubAuthorizer implements Authorizer {
 
   public void setMode(final AuthorizationMode mode) {
     this.mode = mode;
+    invalidateDecisions();
+  }
+
+  /** Swaps in the policies fetched by the latest refresh, replacing all previous policies. */
+  protected void onPoliciesRefreshed(@Nonnull final PolicyIndex index) {
+    policyIndex = index;
+    invalidateDecisions();
+  }
+
+  /**
+   * Drops all cached authorization decisions and ownership/role lookups. Invoked after every policy
+   * cache refresh.
+   */
+  @VisibleForTesting
+  void invalidateDecisions() {
+    decisionCacheGeneration.incrementAndGet();
+    if (decisionCache != null) {
+      decisionCache.invalidateAll();
+    }
+    policyEngine.invalidateLookups();
   }
 
   /**
@@ -264,6 +361,25 @@ public class DataHubAuthorizer implements Authorizer {
     return systemAuthentication.getActor().toUrnStr().equals(request.getActorUrn());
   }
 
+  /** Returns true if an indexed policy grants the requested privilege to the resolved actor. */
+  private boolean isRequestGranted(
+      final PolicyIndex.CompiledPolicy policy,
+      final AuthorizationRequest request,
+      final ResolvedEntitySpec resolvedActorSpec,
+      final Optional<ResolvedEntitySpec> resourceSpec) {
+    try {
+      return policyEngine
+          .evaluatePolicy(systemOpContext, policy, resolvedActorSpec, resourceSpec)
+          .isGranted();
+    } catch (RuntimeException e) {
+      log.error(
+          "Error evaluating policy {} for request {}",
+          policy.getPolicy().getDisplayName(),
+          request);
+      throw e;
+    }
+  }
+
   /** Returns true if a policy grants the requested privilege for a given actor and resource. */
   private boolean isRequestGranted(
       final DataHubPolicyInfo policy,
@@ -305,16 +421,6 @@ public class DataHubAuthorizer implements Authorizer {
     }
   }
 
-  private List<DataHubPolicyInfo> getOrDefault(String key, List<DataHubPolicyInfo> defaultValue) {
-    readLock.lock();
-    try {
-      return policyCache.getOrDefault(key, defaultValue);
-    } finally {
-      // To unlock the acquired read thread
-      readLock.unlock();
-    }
-  }
-
   /**
    * A {@link Runnable} used to periodically fetch a new instance of the policies Cache.
    *
@@ -327,15 +433,14 @@ public class DataHubAuthorizer implements Authorizer {
 
     private final OperationContext systemOpContext;
     private final PolicyFetcher policyFetcher;
-    private final Map<String, List<DataHubPolicyInfo>> policyCache;
-    private final Lock writeLock;
     private final int count;
+    private final Consumer<PolicyIndex> onRefresh;
 
     @Override
     public void run() {
       try {
-        // Populate new cache and swap.
-        Map<String, List<DataHubPolicyInfo>> newCache = new HashMap<>();
+        // Populate new index and swap.
+        List<DataHubPolicyInfo> newPolicies = new ArrayList<>();
         Integer total = null;
         String scrollId = null;
 
@@ -344,7 +449,9 @@ public class DataHubAuthorizer implements Authorizer {
             final PolicyFetcher.PolicyFetchResult policyFetchResult =
                 policyFetcher.fetchPolicies(systemOpContext, count, scrollId, null);
 
-            addPoliciesToCache(newCache, policyFetchResult.getPolicies());
+            policyFetchResult.getPolicies().stream()
+                .map(PolicyFetcher.Policy::getPolicyInfo)
+                .forEach(newPolicies::add);
 
             total = policyFetchResult.getTotal();
             scrollId = policyFetchResult.getScrollId();
@@ -358,14 +465,7 @@ public class DataHubAuthorizer implements Authorizer {
           }
         }
 
-        writeLock.lock();
-        try {
-          policyCache.clear();
-          policyCache.putAll(newCache);
-        } finally {
-          // To unlock the acquired write thread
-          writeLock.unlock();
-        }
+        onRefresh.accept(new PolicyIndex(newPolicies));
 
         log.debug(String.format("Successfully fetched %s policies.", total));
       } catch (Exception e) {
@@ -374,28 +474,5 @@ public class DataHubAuthorizer implements Authorizer {
             e);
       }
     }
-
-    private void addPoliciesToCache(
-        final Map<String, List<DataHubPolicyInfo>> cache,
-        final List<PolicyFetcher.Policy> policies) {
-      policies.forEach(policy -> addPolicyToCache(cache, policy.getPolicyInfo()));
-    }
-
-    private void addPolicyToCache(
-        final Map<String, List<DataHubPolicyInfo>> cache, final DataHubPolicyInfo policy) {
-      final List<String> privileges = policy.getPrivileges();
-      for (String privilege : privileges) {
-        List<DataHubPolicyInfo> existingPolicies =
-            cache.containsKey(privilege)
-                ? new ArrayList<>(cache.get(privilege))
-                : new ArrayList<>();
-        existingPolicies.add(policy);
-        cache.put(privilege, existingPolicies);
-      }
-      List<DataHubPolicyInfo> existingPolicies =
-          cache.containsKey(ALL) ? new ArrayList<>(cache.get(ALL)) : new ArrayList<>();
-      existingPolicies.add(policy);
-      cache.put(ALL, existingPolicies);
-    }
   }
 }
@@ -2,13 +2,14 @@ package com.datahub.authorization;
 
 import static com.linkedin.metadata.Constants.*;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableSet;
 import com.linkedin.common.Owner;
 import com.linkedin.common.Ownership;
 import com.linkedin.common.UrnArray;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
-import com.linkedin.data.template.StringArray;
 import com.linkedin.entity.EntityResponse;
 import com.linkedin.entity.EnvelopedAspect;
 import com.linkedin.entity.EnvelopedAspectMap;
@@ -21,10 +22,6 @@ import com.linkedin.metadata.authorization.PoliciesConfig;
 import com.linkedin.policy.DataHubActorFilter;
 import com.linkedin.policy.DataHubPolicyInfo;
 import com.linkedin.policy.DataHubResourceFilter;
-import com.linkedin.policy.PolicyMatchCondition;
-import com.linkedin.policy.PolicyMatchCriterion;
-import com.linkedin.policy.PolicyMatchCriterionArray;
-import com.linkedin.policy.PolicyMatchFilter;
 import io.datahubproject.metadata.context.OperationContext;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -34,22 +31,60 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
-import lombok.RequiredArgsConstructor;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
-@RequiredArgsConstructor
 public class PolicyEngine {
 
   private final EntityClient _entityClient;
 
+  // Lookups shared across evaluations, only present when the decision cache is enabled.
+  @Nullable private final Cache<Urn, List<Owner>> _ownersCache;
+  @Nullable private final Cache<String, Set<Urn>> _actorRolesCache;
+
+  public PolicyEngine(final EntityClient entityClient) {
+    this(entityClient, null);
+  }
+
+  public PolicyEngine(
+      final EntityClient entityClient,
+      @Nullable final AuthorizationCacheConfiguration cacheConfiguration) {
+    _entityClient = entityClient;
+    if (cacheConfiguration != null && cacheConfiguration.isEnabled()) {
+      _ownersCache = buildLookupCache(cacheConfiguration);
+      _actorRolesCache = buildLookupCache(cacheConfiguration);
+    } else {
+      _ownersCache = null;
+      _actorRolesCache = null;
+    }
+  }
+
+  private static <K, V> Cache<K, V> buildLookupCache(
+      final AuthorizationCacheConfiguration cacheConfiguration) {
+    return CacheBuilder.newBuilder()
+        .maximumSize(cacheConfiguration.getLookupMaxSize())
+        .expireAfterWrite(cacheConfiguration.getTtlSeconds(), TimeUnit.SECONDS)
+        .build();
+  }
+
+  /** Drops cached ownership and role lookups. */
+  public void invalidateLookups() {
+    if (_ownersCache != null) {
+      _ownersCache.invalidateAll();
+    }
+    if (_actorRolesCache != null) {
+      _actorRolesCache.invalidateAll();
+    }
+  }
+
   public PolicyEvaluationResult evaluatePolicy(
       @Nonnull OperationContext opContext,
       final DataHubPolicyInfo policy,
@@ -82,6 +117,29 @@ public class PolicyEngine {
     return PolicyEvaluationResult.GRANTED;
   }
 
+  /**
+   * Evaluates a policy selected from a {@link PolicyIndex}. The index only holds active policies
+   * granting the privilege, so only the pre-built resource matcher and the actor are checked.
+   */
+  public PolicyEvaluationResult evaluatePolicy(
+      @Nonnull OperationContext opContext,
+      final PolicyIndex.CompiledPolicy policy,
+      final ResolvedEntitySpec resolvedActorSpec,
+      final Optional<ResolvedEntitySpec> resource) {
+    if (!policy.getResourceMatcher().matches(resource)) {
+      return PolicyEvaluationResult.DENIED;
+    }
+    if (!isActorMatch(
+        opContext,
+        resolvedActorSpec,
+        policy.getPolicy().getActors(),
+        resource,
+        new PolicyEvaluationContext())) {
+      return PolicyEvaluationResult.DENIED;
+    }
+    return PolicyEvaluationResult.GRANTED;
+  }
+
   public PolicyActors getMatchingActors(
       final DataHubPolicyInfo policy, final Optional<ResolvedEntitySpec> resource) {
     final List<Urn> users = new ArrayList<>();
@@ -186,81 +244,7 @@ public class PolicyEngine {
       final String policyType,
       final @Nullable DataHubResourceFilter policyResourceFilter,
       final Optional<ResolvedEntitySpec> requestResource) {
-    if (PoliciesConfig.PLATFORM_POLICY_TYPE.equals(policyType)) {
-      // Currently, platform policies have no associated resource.
-      return true;
-    }
-    if (policyResourceFilter == null) {
-      // No resource defined on the policy.
-      return true;
-    }
-    if (requestResource.isEmpty()) {
-      // Resource filter present in policy, but no resource spec provided.
-      log.debug("Resource filter present in policy, but no resource spec provided.");
-      return false;
-    }
-    final PolicyMatchFilter filter = getFilter(policyResourceFilter);
-    return checkFilter(filter, requestResource.get());
-  }
-
-  /**
-   * Get filter object from policy resource filter. Make sure it is backward compatible by
-   * constructing PolicyMatchFilter object from other fields if the filter field is not set
-   */
-  private PolicyMatchFilter getFilter(DataHubResourceFilter policyResourceFilter) {
-    if (policyResourceFilter.hasFilter()) {
-      return policyResourceFilter.getFilter();
-    }
-    PolicyMatchCriterionArray criteria = new PolicyMatchCriterionArray();
-    if (policyResourceFilter.hasType()) {
-      criteria.add(
-          new PolicyMatchCriterion()
-              .setField(EntityFieldType.TYPE.name())
-              .setValues(
-                  new StringArray(Collections.singletonList(policyResourceFilter.getType()))));
-    }
-    if (policyResourceFilter.hasType()
-        && policyResourceFilter.hasResources()
-        && !policyResourceFilter.isAllResources()) {
-      criteria.add(
-          new PolicyMatchCriterion()
-              .setField(EntityFieldType.URN.name())
-              .setValues(policyResourceFilter.getResources()));
-    }
-    return new PolicyMatchFilter().setCriteria(criteria);
-  }
-
-  private boolean checkFilter(final PolicyMatchFilter filter, final ResolvedEntitySpec resource) {
-    return filter.getCriteria().stream().allMatch(criterion -> checkCriterion(criterion, resource));
-  }
-
-  private boolean checkCriterion(
-      final PolicyMatchCriterion criterion, final ResolvedEntitySpec resource) {
-    EntityFieldType entityFieldType;
-    try {
-      entityFieldType = EntityFieldType.valueOf(criterion.getField().toUpperCase());
-    } catch (IllegalArgumentException e) {
-      log.error("Unsupported field type {}", criterion.getField());
-      return false;
-    }
-
-    Set<String> fieldValues = resource.getFieldValues(entityFieldType);
-    return criterion.getValues().stream()
-        .anyMatch(
-            filterValue -> checkCondition(fieldValues, filterValue, criterion.getCondition()));
-  }
-
-  private boolean checkCondition(
-      Set<String> fieldValues, String filterValue, PolicyMatchCondition condition) {
-    switch (condition) {
-      case EQUALS:
-        return fieldValues.contains(filterValue);
-      case STARTS_WITH:
-        return fieldValues.stream().anyMatch(v -> v.startsWith(filterValue));
-      default:
-        log.error("Unsupported condition {}", condition);
-        return false;
-    }
+    return PolicyResourceMatcher.compile(policyType, policyResourceFilter).matches(requestResource);
   }
 
   /**
@@ -345,25 +329,17 @@ public class PolicyEngine {
       return Set.of();
     } else {
       Urn entityUrn = UrnUtils.getUrn(resourceSpec.getEntity());
-      EnvelopedAspect ownershipAspect;
-      try {
-        EntityResponse response =
-            _entityClient.getV2(
-                opContext,
-                entityUrn.getEntityType(),
-                entityUrn,
-                Collections.singleton(Constants.OWNERSHIP_ASPECT_NAME));
-        if (response == null
-            || !response.getAspects().containsKey(Constants.OWNERSHIP_ASPECT_NAME)) {
+      List<Owner> owners = _ownersCache == null ? null : _ownersCache.getIfPresent(entityUrn);
+      if (owners == null) {
+        owners = fetchOwners(opContext, entityUrn);
+        if (owners == null) {
           return Collections.emptySet();
         }
-        ownershipAspect = response.getAspects().get(Constants.OWNERSHIP_ASPECT_NAME);
-      } catch (Exception e) {
-        log.error("Error while retrieving ownership aspect for urn {}", entityUrn, e);
-        return Collections.emptySet();
+        if (_ownersCache != null) {
+          _ownersCache.put(entityUrn, owners);
+        }
       }
-      Ownership ownership = new Ownership(ownershipAspect.getValue().data());
-      Stream<Owner> ownersStream = ownership.getOwners().stream();
+      Stream<Owner> ownersStream = owners.stream();
       if (ownershipTypes != null) {
         ownersStream = ownersStream.filter(owner -> ownershipTypes.contains(owner.getTypeUrn()));
       }
@@ -371,6 +347,28 @@ public class PolicyEngine {
     }
   }
 
+  /** Returns the owners of the entity, or null if they could not be retrieved. */
+  @Nullable
+  private List<Owner> fetchOwners(@Nonnull OperationContext opContext, @Nonnull Urn entityUrn) {
+    EnvelopedAspect ownershipAspect;
+    try {
+      EntityResponse response =
+          _entityClient.getV2(
+              opContext,
+              entityUrn.getEntityType(),
+              entityUrn,
+              Collections.singleton(Constants.OWNERSHIP_ASPECT_NAME));
+      if (response == null || !response.getAspects().containsKey(Constants.OWNERSHIP_ASPECT_NAME)) {
+        return Collections.emptyList();
+      }
+      ownershipAspect = response.getAspects().get(Constants.OWNERSHIP_ASPECT_NAME);
+    } catch (Exception e) {
+      log.error("Error while retrieving ownership aspect for urn {}", entityUrn, e);
+      return null;
+    }
+    return new Ownership(ownershipAspect.getValue().data()).getOwners();
+  }
+
   private boolean isActorOwner(
       @Nonnull OperationContext opContext,
       final ResolvedEntitySpec resolvedActorSpec,
@@ -417,6 +415,13 @@ public class PolicyEngine {
     }
 
     String actor = resolvedActorSpec.getSpec().getEntity();
+    if (_actorRolesCache != null) {
+      Set<Urn> cachedRoles = _actorRolesCache.getIfPresent(actor);
+      if (cachedRoles != null) {
+        context.setRoles(cachedRoles);
+        return cachedRoles;
+      }
+    }
 
     Set<Urn> roles = new HashSet<>();
     final EnvelopedAspectMap aspectMap;
@@ -466,9 +471,17 @@ public class PolicyEngine {
     if (!groups.isEmpty()) {
       GroupMembership memberships = new GroupMembership();
       memberships.setGroups(new UrnArray(groups));
-      roles.addAll(getRolesFromGroups(opContext, memberships));
+      Optional<Set<Urn>> groupRoles = getRolesFromGroups(opContext, memberships);
+      if (groupRoles.isEmpty()) {
+        // Group roles could not be resolved, do not cache a partial result.
+        return roles;
+      }
+      roles.addAll(groupRoles.get());
     }
 
+    if (_actorRolesCache != null) {
+      _actorRolesCache.put(actor, Collections.unmodifiableSet(roles));
+    }
     if (!roles.isEmpty()) {
       context.setRoles(roles);
     }
@@ -476,7 +489,7 @@ public class PolicyEngine {
     return roles;
   }
 
-  private Set<Urn> getRolesFromGroups(
+  private Optional<Set<Urn>> getRolesFromGroups(
       @Nonnull OperationContext opContext, final GroupMembership groupMembership) {
 
     HashSet<Urn> groups = new HashSet<>(groupMembership.getGroups());
@@ -488,24 +501,27 @@ public class PolicyEngine {
               groups,
               ImmutableSet.of(ROLE_MEMBERSHIP_ASPECT_NAME));
 
-      return responseMap.keySet().stream()
-          .filter(Objects::nonNull)
-          .filter(key -> responseMap.get(key) != null)
-          .filter(key -> responseMap.get(key).hasAspects())
-          .map(key -> responseMap.get(key).getAspects())
-          .filter(aspectMap -> aspectMap.containsKey(ROLE_MEMBERSHIP_ASPECT_NAME))
-          .map(
-              aspectMap ->
-                  new RoleMembership(aspectMap.get(ROLE_MEMBERSHIP_ASPECT_NAME).getValue().data()))
-          .filter(RoleMembership::hasRoles)
-          .map(RoleMembership::getRoles)
-          .flatMap(List::stream)
-          .collect(Collectors.toSet());
+      Set<Urn> roles =
+          responseMap.keySet().stream()
+              .filter(Objects::nonNull)
+              .filter(key -> responseMap.get(key) != null)
+              .filter(key -> responseMap.get(key).hasAspects())
+              .map(key -> responseMap.get(key).getAspects())
+              .filter(aspectMap -> aspectMap.containsKey(ROLE_MEMBERSHIP_ASPECT_NAME))
+              .map(
+                  aspectMap ->
+                      new RoleMembership(
+                          aspectMap.get(ROLE_MEMBERSHIP_ASPECT_NAME).getValue().data()))
+              .filter(RoleMembership::hasRoles)
+              .map(RoleMembership::getRoles)
+              .flatMap(List::stream)
+              .collect(Collectors.toSet());
+      return Optional.of(roles);
 
     } catch (Exception e) {
       log.error(
           String.format("Failed to fetch %s for urns %s", ROLE_MEMBERSHIP_ASPECT_NAME, groups), e);
-      return new HashSet<>();
+      return Optional.empty();
     }
   }
 
@@ -0,0 +1,205 @@
+package com.datahub.authorization;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.authorization.PoliciesConfig;
+import com.linkedin.policy.DataHubActorFilter;
+import com.linkedin.policy.DataHubPolicyInfo;
+import com.linkedin.policy.PolicyMatchCondition;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import lombok.Getter;
+
+/**
+ * Active policies compiled for candidate selection, rebuilt every time the policy cache refreshes.
+ *
+ * <p>Policies are indexed by privilege, then by resource (an urn or entity type taken from an
+ * {@code EQUALS} criterion of the resource filter, or "any resource" otherwise), then by actor
+ * (user or group listed on the policy, or "any actor" for all users / all groups / resource owners
+ * / roles). Selecting candidates for a request is a handful of hash lookups, and only the selected
+ * policies are evaluated, using their pre-built {@link PolicyResourceMatcher}.
+ *
+ * <p>Candidates are a superset of the matching policies, every candidate must still be evaluated.
+ * Inactive policies are never indexed.
+ */
+public class PolicyIndex {
+  public static final PolicyIndex EMPTY = new PolicyIndex(Collections.emptyList());
+
+  private final List<DataHubPolicyInfo> policies;
+  private final Map<String, PrivilegeIndex> privilegeIndexes = new HashMap<>();
+  private final Map<String, List<DataHubPolicyInfo>> policiesByPrivilege = new HashMap<>();
+
+  public PolicyIndex(@Nonnull final Collection<DataHubPolicyInfo> policies) {
+    this.policies = Collections.unmodifiableList(new ArrayList<>(policies));
+    int ordinal = 0;
+    for (DataHubPolicyInfo policy : policies) {
+      for (String privilege : policy.getPrivileges()) {
+        policiesByPrivilege.computeIfAbsent(privilege, key -> new ArrayList<>()).add(policy);
+      }
+      if (PoliciesConfig.INACTIVE_POLICY_STATE.equals(policy.getState())
+          || policy.getActors() == null) {
+        continue;
+      }
+      final CompiledPolicy compiled = new CompiledPolicy(policy, ordinal++);
+      for (String privilege : new LinkedHashSet<>(policy.getPrivileges())) {
+        privilegeIndexes.computeIfAbsent(privilege, key -> new PrivilegeIndex()).add(compiled);
+      }
+    }
+  }
+
+  /** All policies, active or not, in refresh order. */
+  @Nonnull
+  public List<DataHubPolicyInfo> getPolicies() {
+    return policies;
+  }
+
+  /** All policies listing the privilege, active or not, in refresh order. */
+  @Nonnull
+  public List<DataHubPolicyInfo> getPolicies(@Nonnull final String privilege) {
+    return policiesByPrivilege.getOrDefault(privilege, Collections.emptyList());
+  }
+
+  /**
+   * Returns the active policies granting the privilege that may match the actor and resource, in
+   * refresh order.
+   */
+  @Nonnull
+  public List<CompiledPolicy> getCandidates(
+      @Nonnull final String privilege,
+      @Nonnull final ResolvedEntitySpec resolvedActorSpec,
+      @Nonnull final Optional<ResolvedEntitySpec> resource) {
+    final PrivilegeIndex privilegeIndex = privilegeIndexes.get(privilege);
+    if (privilegeIndex == null) {
+      return Collections.emptyList();
+    }
+    final Set<CompiledPolicy> candidates = new LinkedHashSet<>();
+    privilegeIndex.anyResource.collect(resolvedActorSpec, candidates);
+    if (resource.isPresent()) {
+      for (String urn : resource.get().getFieldValues(EntityFieldType.URN)) {
+        ActorIndex actorIndex = privilegeIndex.byUrn.get(urn);
+        if (actorIndex != null) {
+          actorIndex.collect(resolvedActorSpec, candidates);
+        }
+      }
+      for (String type : resource.get().getFieldValues(EntityFieldType.TYPE)) {
+        ActorIndex actorIndex = privilegeIndex.byType.get(type);
+        if (actorIndex != null) {
+          actorIndex.collect(resolvedActorSpec, candidates);
+        }
+      }
+    }
+    final List<CompiledPolicy> result = new ArrayList<>(candidates);
+    result.sort(Comparator.comparingInt(CompiledPolicy::getOrdinal));
+    return result;
+  }
+
+  /** A policy with its resource matcher pre-built. */
+  @Getter
+  public static class CompiledPolicy {
+    private final DataHubPolicyInfo policy;
+    private final PolicyResourceMatcher resourceMatcher;
+    private final int ordinal;
+
+    CompiledPolicy(final DataHubPolicyInfo policy, final int ordinal) {
+      this.policy = policy;
+      this.resourceMatcher = PolicyResourceMatcher.compile(policy.getType(), policy.getResources());
+      this.ordinal = ordinal;
+    }
+  }
+
+  private static class PrivilegeIndex {
+    private final ActorIndex anyResource = new ActorIndex();
+    private final Map<String, ActorIndex> byUrn = new HashMap<>();
+    private final Map<String, ActorIndex> byType = new HashMap<>();
+
+    void add(final CompiledPolicy policy) {
+      final PolicyResourceMatcher matcher = policy.getResourceMatcher();
+      if (matcher.isMatchAll()) {
+        anyResource.add(policy);
+        return;
+      }
+      // Every criterion must match, so indexing under the values of any single EQUALS criterion
+      // is sufficient. Prefer urns as the most selective.
+      Optional<PolicyResourceMatcher.CompiledCriterion> urnCriterion =
+          findEqualsCriterion(matcher, EntityFieldType.URN, EntityFieldType.RESOURCE_URN);
+      if (urnCriterion.isPresent()) {
+        urnCriterion
+            .get()
+            .getValues()
+            .forEach(urn -> byUrn.computeIfAbsent(urn, key -> new ActorIndex()).add(policy));
+        return;
+      }
+      Optional<PolicyResourceMatcher.CompiledCriterion> typeCriterion =
+          findEqualsCriterion(matcher, EntityFieldType.TYPE, EntityFieldType.RESOURCE_TYPE);
+      if (typeCriterion.isPresent()) {
+        typeCriterion
+            .get()
+            .getValues()
+            .forEach(type -> byType.computeIfAbsent(type, key -> new ActorIndex()).add(policy));
+        return;
+      }
+      anyResource.add(policy);
+    }
+
+    private static Optional<PolicyResourceMatcher.CompiledCriterion> findEqualsCriterion(
+        final PolicyResourceMatcher matcher, final EntityFieldType... fieldTypes) {
+      return matcher.getCriteria().stream()
+          .filter(criterion -> PolicyMatchCondition.EQUALS.equals(criterion.getCondition()))
+          .filter(criterion -> List.of(fieldTypes).contains(criterion.getFieldType()))
+          .findFirst();
+    }
+  }
+
+  private static class ActorIndex {
+    private final List<CompiledPolicy> anyActor = new ArrayList<>();
+    private final Map<String, List<CompiledPolicy>> byUser = new HashMap<>();
+    private final Map<String, List<CompiledPolicy>> byGroup = new HashMap<>();
+
+    void add(final CompiledPolicy policy) {
+      final DataHubActorFilter actors = policy.getPolicy().getActors();
+      if (actors.isAllUsers()
+          || actors.isAllGroups()
+          || actors.isResourceOwners()
+          || (actors.hasRoles() && !actors.getRoles().isEmpty())) {
+        // Ownership and roles require lookups, they are resolved when the policy is evaluated.
+        anyActor.add(policy);
+        return;
+      }
+      if (actors.hasUsers()) {
+        for (Urn user : actors.getUsers()) {
+          byUser.computeIfAbsent(user.toString(), key -> new ArrayList<>()).add(policy);
+        }
+      }
+      if (actors.hasGroups()) {
+        for (Urn group : actors.getGroups()) {
+          byGroup.computeIfAbsent(group.toString(), key -> new ArrayList<>()).add(policy);
+        }
+      }
+      // Policies without any actor never match and are dropped.
+    }
+
+    void collect(final ResolvedEntitySpec resolvedActorSpec, final Set<CompiledPolicy> into) {
+      into.addAll(anyActor);
+      List<CompiledPolicy> userPolicies = byUser.get(resolvedActorSpec.getSpec().getEntity());
+      if (userPolicies != null) {
+        into.addAll(userPolicies);
+      }
+      if (!byGroup.isEmpty()) {
+        for (String group : resolvedActorSpec.getGroupMembership()) {
+          List<CompiledPolicy> groupPolicies = byGroup.get(group);
+          if (groupPolicies != null) {
+            into.addAll(groupPolicies);
+          }
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,147 @@
+package com.datahub.authorization;
+
+import com.linkedin.data.template.StringArray;
+import com.linkedin.metadata.authorization.PoliciesConfig;
+import com.linkedin.policy.DataHubResourceFilter;
+import com.linkedin.policy.PolicyMatchCondition;
+import com.linkedin.policy.PolicyMatchCriterion;
+import com.linkedin.policy.PolicyMatchCriterionArray;
+import com.linkedin.policy.PolicyMatchFilter;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The resource portion of a DataHub policy, compiled once so that matching a resource does not
+ * re-derive the {@link PolicyMatchFilter} or re-parse field names on every evaluation.
+ */
+@Slf4j
+public class PolicyResourceMatcher {
+  private static final PolicyResourceMatcher MATCH_ALL =
+      new PolicyResourceMatcher(true, Collections.emptyList());
+
+  /** True if the policy applies to any resource, including no resource at all. */
+  @Getter private final boolean matchAll;
+
+  @Getter private final List<CompiledCriterion> criteria;
+
+  private PolicyResourceMatcher(boolean matchAll, List<CompiledCriterion> criteria) {
+    this.matchAll = matchAll;
+    this.criteria = criteria;
+  }
+
+  @Nonnull
+  public static PolicyResourceMatcher compile(
+      final String policyType, @Nullable final DataHubResourceFilter policyResourceFilter) {
+    if (PoliciesConfig.PLATFORM_POLICY_TYPE.equals(policyType)) {
+      // Currently, platform policies have no associated resource.
+      return MATCH_ALL;
+    }
+    if (policyResourceFilter == null) {
+      // No resource defined on the policy.
+      return MATCH_ALL;
+    }
+    return new PolicyResourceMatcher(
+        false,
+        getFilter(policyResourceFilter).getCriteria().stream()
+            .map(CompiledCriterion::compile)
+            .collect(Collectors.toList()));
+  }
+
+  /** Returns true if the resource matches, false otherwise. */
+  public boolean matches(final Optional<ResolvedEntitySpec> requestResource) {
+    if (matchAll) {
+      return true;
+    }
+    if (requestResource.isEmpty()) {
+      // Resource filter present in policy, but no resource spec provided.
+      log.debug("Resource filter present in policy, but no resource spec provided.");
+      return false;
+    }
+    for (CompiledCriterion criterion : criteria) {
+      if (!criterion.matches(requestResource.get())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Get filter object from policy resource filter. Make sure it is backward compatible by
+   * constructing PolicyMatchFilter object from other fields if the filter field is not set
+   */
+  private static PolicyMatchFilter getFilter(DataHubResourceFilter policyResourceFilter) {
+    if (policyResourceFilter.hasFilter()) {
+      return policyResourceFilter.getFilter();
+    }
+    PolicyMatchCriterionArray criteria = new PolicyMatchCriterionArray();
+    if (policyResourceFilter.hasType()) {
+      criteria.add(
+          new PolicyMatchCriterion()
+              .setField(EntityFieldType.TYPE.name())
+              .setValues(
+                  new StringArray(Collections.singletonList(policyResourceFilter.getType()))));
+    }
+    if (policyResourceFilter.hasType()
+        && policyResourceFilter.hasResources()
+        && !policyResourceFilter.isAllResources()) {
+      criteria.add(
+          new PolicyMatchCriterion()
+              .setField(EntityFieldType.URN.name())
+              .setValues(policyResourceFilter.getResources()));
+    }
+    return new PolicyMatchFilter().setCriteria(criteria);
+  }
+
+  /** A single criterion with its field type resolved and its values in a set. */
+  @Getter
+  public static class CompiledCriterion {
+    /** Null if the field is not supported, in which case the criterion never matches. */
+    @Nullable private final EntityFieldType fieldType;
+
+    private final PolicyMatchCondition condition;
+    private final Set<String> values;
+
+    private CompiledCriterion(
+        @Nullable EntityFieldType fieldType, PolicyMatchCondition condition, Set<String> values) {
+      this.fieldType = fieldType;
+      this.condition = condition;
+      this.values = values;
+    }
+
+    static CompiledCriterion compile(final PolicyMatchCriterion criterion) {
+      EntityFieldType entityFieldType;
+      try {
+        entityFieldType = EntityFieldType.valueOf(criterion.getField().toUpperCase());
+      } catch (IllegalArgumentException e) {
+        log.error("Unsupported field type {}", criterion.getField());
+        entityFieldType = null;
+      }
+      return new CompiledCriterion(
+          entityFieldType, criterion.getCondition(), Set.copyOf(criterion.getValues()));
+    }
+
+    boolean matches(final ResolvedEntitySpec resource) {
+      if (fieldType == null) {
+        return false;
+      }
+      Set<String> fieldValues = resource.getFieldValues(fieldType);
+      switch (condition) {
+        case EQUALS:
+          return fieldValues.stream().anyMatch(values::contains);
+        case STARTS_WITH:
+          return fieldValues.stream()
+              .anyMatch(fieldValue -> values.stream().anyMatch(fieldValue::startsWith));
+        default:
+          log.error("Unsupported condition {}", condition);
+          return false;
+      }
+    }
+  }
+}
@@ -11,6 +11,8 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
@@ -490,6 +492,60 @@ public class DataHubAuthorizerTest {
     assertEquals(_dataHubAuthorizer.authorize(request).getType(), AuthorizationResult.Type.ALLOW);
   }
 
+  @Test
+  public void testDecisionCache() throws Exception {
+    final DataHubAuthorizer cachingAuthorizer =
+        new DataHubAuthorizer(
+            systemOpContext,
+            _entityClient,
+            10,
+            10,
+            DataHubAuthorizer.AuthorizationMode.DEFAULT,
+            1,
+            AuthorizationCacheConfiguration.builder()
+                .enabled(true)
+                .ttlSeconds(60)
+                .decisionMaxSize(100)
+                .lookupMaxSize(100)
+                .build());
+    cachingAuthorizer.init(
+        Collections.emptyMap(), createAuthorizerContext(systemOpContext, _entityClient));
+    cachingAuthorizer.invalidateCache();
+    Thread.sleep(500); // Sleep so the runnable can execute. (not ideal)
+
+    EntitySpec resourceSpec = new EntitySpec("dataset", "urn:li:dataset:test");
+    AuthorizationRequest request =
+        new AuthorizationRequest(
+            USER_WITH_ADMIN_ROLE.toString(), "EDIT_USER_PROFILE", Optional.of(resourceSpec));
+
+    assertEquals(cachingAuthorizer.authorize(request).getType(), AuthorizationResult.Type.ALLOW);
+    assertEquals(cachingAuthorizer.authorize(request).getType(), AuthorizationResult.Type.ALLOW);
+    verify(_entityClient, times(1))
+        .batchGetV2(
+            any(OperationContext.class),
+            eq(CORP_USER_ENTITY_NAME),
+            eq(Collections.singleton(USER_WITH_ADMIN_ROLE)),
+            eq(
+                ImmutableSet.of(
+                    ROLE_MEMBERSHIP_ASPECT_NAME,
+                    GROUP_MEMBERSHIP_ASPECT_NAME,
+                    NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME)));
+
+    // Refreshing the policies drops cached decisions and lookups.
+    cachingAuthorizer.invalidateDecisions();
+    assertEquals(cachingAuthorizer.authorize(request).getType(), AuthorizationResult.Type.ALLOW);
+    verify(_entityClient, times(2))
+        .batchGetV2(
+            any(OperationContext.class),
+            eq(CORP_USER_ENTITY_NAME),
+            eq(Collections.singleton(USER_WITH_ADMIN_ROLE)),
+            eq(
+                ImmutableSet.of(
+                    ROLE_MEMBERSHIP_ASPECT_NAME,
+                    GROUP_MEMBERSHIP_ASPECT_NAME,
+                    NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME)));
+  }
+
   @Test
   public void testAuthorizationOnDomainWithPrivilegeIsAllowed() {
     EntitySpec resourceSpec = new EntitySpec("dataset", "urn:li:dataset:test");
@@ -0,0 +1,167 @@
+package com.datahub.authorization;
+
+import static com.datahub.authorization.PolicyEngineTest.buildEntityResolvers;
+import static com.linkedin.metadata.Constants.CORP_USER_ENTITY_NAME;
+import static com.linkedin.metadata.authorization.PoliciesConfig.ACTIVE_POLICY_STATE;
+import static com.linkedin.metadata.authorization.PoliciesConfig.INACTIVE_POLICY_STATE;
+import static com.linkedin.metadata.authorization.PoliciesConfig.METADATA_POLICY_TYPE;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.common.UrnArray;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.policy.DataHubActorFilter;
+import com.linkedin.policy.DataHubPolicyInfo;
+import com.linkedin.policy.DataHubResourceFilter;
+import com.linkedin.policy.PolicyMatchCondition;
+import com.linkedin.policy.PolicyMatchCriterion;
+import com.linkedin.policy.PolicyMatchCriterionArray;
+import com.linkedin.policy.PolicyMatchFilter;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.testng.annotations.Test;
+
+public class PolicyIndexTest {
+  private static final String PRIVILEGE = "EDIT_ENTITY_TAGS";
+  private static final String USER = "urn:li:corpuser:user";
+  private static final String GROUP = "urn:li:corpGroup:group";
+  private static final String DATASET = "urn:li:dataset:(urn:li:dataPlatform:hive,a,PROD)";
+  private static final String OTHER_DATASET = "urn:li:dataset:(urn:li:dataPlatform:hive,b,PROD)";
+
+  @Test
+  public void testCandidateSelection() {
+    DataHubPolicyInfo allUsersAnyResource = policy("allUsers", allUsers(), null);
+    DataHubPolicyInfo userOnDataset =
+        policy("userOnDataset", users(USER), filter("URN", PolicyMatchCondition.EQUALS, DATASET));
+    DataHubPolicyInfo userOnOtherDataset =
+        policy(
+            "userOnOtherDataset",
+            users(USER),
+            filter("URN", PolicyMatchCondition.EQUALS, OTHER_DATASET));
+    DataHubPolicyInfo groupOnDatasets =
+        policy(
+            "groupOnDatasets",
+            groups(GROUP),
+            filter("TYPE", PolicyMatchCondition.EQUALS, "dataset"));
+    DataHubPolicyInfo otherUserOnDatasets =
+        policy(
+            "otherUserOnDatasets",
+            users("urn:li:corpuser:other"),
+            filter("TYPE", PolicyMatchCondition.EQUALS, "dataset"));
+    DataHubPolicyInfo userOnPrefix =
+        policy(
+            "userOnPrefix",
+            users(USER),
+            filter("URN", PolicyMatchCondition.STARTS_WITH, "urn:li:dataset:"));
+    DataHubPolicyInfo inactive =
+        policy("inactive", allUsers(), null).setState(INACTIVE_POLICY_STATE);
+
+    PolicyIndex index =
+        new PolicyIndex(
+            List.of(
+                allUsersAnyResource,
+                userOnDataset,
+                userOnOtherDataset,
+                groupOnDatasets,
+                otherUserOnDatasets,
+                userOnPrefix,
+                inactive));
+
+    ResolvedEntitySpec actor =
+        buildEntityResolvers(
+            CORP_USER_ENTITY_NAME,
+            USER,
+            Collections.emptySet(),
+            Collections.emptySet(),
+            Set.of(GROUP),
+            Collections.emptySet());
+    ResolvedEntitySpec resource = buildEntityResolvers("dataset", DATASET);
+
+    assertEquals(
+        names(index.getCandidates(PRIVILEGE, actor, Optional.of(resource))),
+        List.of("allUsers", "userOnDataset", "groupOnDatasets", "userOnPrefix"));
+    assertEquals(
+        names(index.getCandidates(PRIVILEGE, actor, Optional.empty())),
+        List.of("allUsers", "userOnPrefix"));
+    assertTrue(index.getCandidates("EDIT_ENTITY_OWNERS", actor, Optional.of(resource)).isEmpty());
+
+    // All policies listing the privilege are still available, including inactive ones.
+    assertEquals(index.getPolicies(PRIVILEGE).size(), 7);
+    assertEquals(index.getPolicies().size(), 7);
+  }
+
+  @Test
+  public void testCompiledResourceMatcher() {
+    ResolvedEntitySpec resource = buildEntityResolvers("dataset", DATASET);
+
+    assertTrue(
+        PolicyResourceMatcher.compile(
+                METADATA_POLICY_TYPE, filter("URN", PolicyMatchCondition.STARTS_WITH, "urn:li:"))
+            .matches(Optional.of(resource)));
+    assertTrue(
+        !PolicyResourceMatcher.compile(
+                METADATA_POLICY_TYPE, filter("URN", PolicyMatchCondition.EQUALS, OTHER_DATASET))
+            .matches(Optional.of(resource)));
+    assertTrue(
+        !PolicyResourceMatcher.compile(
+                METADATA_POLICY_TYPE, filter("unknown", PolicyMatchCondition.EQUALS, DATASET))
+            .matches(Optional.of(resource)));
+    assertTrue(
+        !PolicyResourceMatcher.compile(
+                METADATA_POLICY_TYPE, filter("TYPE", PolicyMatchCondition.EQUALS, "dataset"))
+            .matches(Optional.empty()));
+    assertTrue(PolicyResourceMatcher.compile(METADATA_POLICY_TYPE, null).matches(Optional.empty()));
+  }
+
+  private static List<String> names(List<PolicyIndex.CompiledPolicy> policies) {
+    return policies.stream()
+        .map(policy -> policy.getPolicy().getDisplayName())
+        .collect(Collectors.toList());
+  }
+
+  private static DataHubPolicyInfo policy(
+      String name, DataHubActorFilter actors, DataHubResourceFilter resources) {
+    DataHubPolicyInfo policy =
+        new DataHubPolicyInfo()
+            .setDisplayName(name)
+            .setDescription(name)
+            .setState(ACTIVE_POLICY_STATE)
+            .setType(METADATA_POLICY_TYPE)
+            .setPrivileges(new StringArray(PRIVILEGE))
+            .setEditable(true)
+            .setActors(actors);
+    if (resources != null) {
+      policy.setResources(resources);
+    }
+    return policy;
+  }
+
+  private static DataHubActorFilter allUsers() {
+    return new DataHubActorFilter().setAllUsers(true);
+  }
+
+  private static DataHubActorFilter users(String user) {
+    return new DataHubActorFilter().setUsers(new UrnArray(UrnUtils.getUrn(user)));
+  }
+
+  private static DataHubActorFilter groups(String group) {
+    return new DataHubActorFilter().setGroups(new UrnArray(UrnUtils.getUrn(group)));
+  }
+
+  private static DataHubResourceFilter filter(
+      String field, PolicyMatchCondition condition, String value) {
+    return new DataHubResourceFilter()
+        .setFilter(
+            new PolicyMatchFilter()
+                .setCriteria(
+                    new PolicyMatchCriterionArray(
+                        new PolicyMatchCriterion()
+                            .setField(field)
+                            .setCondition(condition)
+                            .setValues(new StringArray(value)))));
+  }
+}
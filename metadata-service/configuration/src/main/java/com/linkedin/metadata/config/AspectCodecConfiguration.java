@@ -0,0 +1,18 @@
+package com.linkedin.metadata.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AspectCodecConfiguration {
+  /** Codec used for newly written aspects, i.e. json, pson, json+gzip, pson+snappy */
+  private String defaultCodec;
+
+  /** Comma separated per-aspect overrides, i.e. schemaMetadata:pson+snappy */
+  private String aspectOverrides;
+}
@@ -53,6 +53,9 @@ public class DataHubAppConfiguration {
   /** Ebean related configuration */
   private EbeanConfiguration ebean;
 
+  /** Entity Service configuration */
+  private EntityServiceConfiguration entityService;
+
   /** GraphQL Configurations */
   private GraphQLConfiguration graphQL;
 
@@ -61,4 +64,7 @@ public class DataHubAppConfiguration {
 
   /** Timeseries Aspect Service configuration */
   private TimeseriesAspectServiceConfig timeseriesAspectService;
+
+  /** Bounded executors for parallel remote calls */
+  private ExecutorsConfiguration executors;
 }
@@ -37,6 +37,12 @@ public class EbeanConfiguration {
     private long durationSeconds;
     private long maximumLocks;
 
+    /** One of local (default), striped or database. */
+    private String provider;
+
+    /** Number of locks used by the striped provider. */
+    private int stripes;
+
     public static final LockingConfiguration testDefault =
         LockingConfiguration.builder()
             .enabled(true)
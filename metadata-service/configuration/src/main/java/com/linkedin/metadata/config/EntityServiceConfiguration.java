@@ -0,0 +1,9 @@
+package com.linkedin.metadata.config;
+
+import lombok.Data;
+
+@Data
+public class EntityServiceConfiguration {
+  private String impl;
+  private AspectCodecConfiguration aspectCodec;
+}
@@ -0,0 +1,16 @@
+package com.linkedin.metadata.config;
+
+import lombok.Data;
+
+/** Bounded thread pools for parallel remote calls, one per subsystem */
+@Data
+public class ExecutorsConfiguration {
+  /** Feature extraction while re-ranking search results */
+  private ExecutorServiceConfig searchRanker = ExecutorServiceConfig.builder().build();
+
+  /** Per entity type document counts for the homepage and search */
+  private ExecutorServiceConfig entityDocCount = ExecutorServiceConfig.builder().build();
+
+  /** Candidate sources of recommendation modules */
+  private ExecutorServiceConfig recommendations = ExecutorServiceConfig.builder().build();
+}
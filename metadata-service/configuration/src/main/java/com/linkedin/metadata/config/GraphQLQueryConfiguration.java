@@ -7,4 +7,7 @@ public class GraphQLQueryConfiguration {
   private int complexityLimit;
   private int depthLimit;
   private boolean introspectionEnabled;
+
+  /** Maximum number of parsed & validated query documents to cache, 0 disables the cache. */
+  private int documentCacheSize;
 }
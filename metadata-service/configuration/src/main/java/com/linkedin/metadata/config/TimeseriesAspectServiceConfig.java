@@ -10,5 +10,35 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 public class TimeseriesAspectServiceConfig {
-  @Builder.Default private ExecutorServiceConfig query = ExecutorServiceConfig.builder().build();
+  @Builder.Default private QueryConfig query = QueryConfig.builder().build();
+
+  @Builder.Default
+  private LatestBatchConfig latestBatch = LatestBatchConfig.builder().build();
+
+  @Data
+  @Builder(toBuilder = true)
+  @AllArgsConstructor
+  @NoArgsConstructor
+  public static class QueryConfig {
+    /** Maximum number of latest value searches of one multi search run in parallel by ES */
+    @Builder.Default private int concurrency = 2;
+
+    /** No longer used, latest value lookups do not run on a query thread pool */
+    @Deprecated @Builder.Default private int queueSize = 500;
+
+    /** No longer used, latest value lookups do not run on a query thread pool */
+    @Deprecated @Builder.Default private int threadKeepAlive = 60;
+  }
+
+  @Data
+  @Builder(toBuilder = true)
+  @AllArgsConstructor
+  @NoArgsConstructor
+  public static class LatestBatchConfig {
+    /** How long a latest value lookup waits for concurrent lookups to join it, 0 to not wait */
+    @Builder.Default private int windowMillis = 0;
+
+    /** Maximum number of urn and aspect pairs in one shared lookup, and of urns in one search */
+    @Builder.Default private int maxBatchSize = 1000;
+  }
 }
@@ -0,0 +1,12 @@
+package com.linkedin.metadata.config.cache;
+
+import lombok.Data;
+
+@Data
+public class AspectCacheConfiguration {
+  boolean enabled;
+  long ttlSeconds;
+  long maxSize;
+  boolean statsEnabled;
+  String consumerGroupSuffix;
+}
@@ -9,4 +9,6 @@ public class CacheConfiguration {
   HomepageCacheConfiguration homepage;
   SearchCacheConfiguration search;
   ClientCacheConfiguration client;
+  AspectCacheConfiguration aspect;
+  RecommendationsCacheConfiguration recommendations;
 }
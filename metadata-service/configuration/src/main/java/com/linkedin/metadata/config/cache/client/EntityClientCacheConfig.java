@@ -11,6 +11,10 @@ public class EntityClientCacheConfig implements ClientCacheConfig {
   private int defaultTTLSeconds;
   private int maxBytes;
 
+  // evict changed aspects on writes and, through the MCL topic, on every other instance
+  private boolean invalidationEnabled;
+  private String invalidationConsumerGroupSuffix;
+
   // entityName -> aspectName -> cache ttl override
   private Map<String, Map<String, Integer>> entityAspectTTLSeconds;
 }
@@ -20,5 +20,12 @@ public class QueryFilterRewriterConfiguration {
     boolean enabled;
     private int pageSize;
     private int limit;
+
+    /** How long expanded urns are reused across requests, 0 walks the graph for every request */
+    private int cacheTtlSeconds;
+
+    public ExpansionRewriterConfiguration(boolean enabled, int pageSize, int limit) {
+      this(enabled, pageSize, limit, 0);
+    }
   }
 }
@@ -1,5 +1,6 @@
 package com.linkedin.gms.factory.auth;
 
+import com.datahub.authorization.AuthorizationCacheConfiguration;
 import com.datahub.authorization.DataHubAuthorizer;
 import com.linkedin.entity.client.SystemEntityClient;
 import io.datahubproject.metadata.context.OperationContext;
@@ -22,6 +23,18 @@ public class DataHubAuthorizerFactory {
   @Value("${authorization.defaultAuthorizer.enabled:true}")
   private Boolean policiesEnabled;
 
+  @Value("${authorization.defaultAuthorizer.decisionCache.enabled:false}")
+  private Boolean decisionCacheEnabled;
+
+  @Value("${authorization.defaultAuthorizer.decisionCache.ttlSeconds:30}")
+  private Integer decisionCacheTtlSeconds;
+
+  @Value("${authorization.defaultAuthorizer.decisionCache.decisionMaxSize:100000}")
+  private Integer decisionCacheMaxSize;
+
+  @Value("${authorization.defaultAuthorizer.decisionCache.lookupMaxSize:10000}")
+  private Integer decisionCacheLookupMaxSize;
+
   @Bean(name = "dataHubAuthorizer")
   @Scope("singleton")
   @Nonnull
@@ -40,6 +53,12 @@ public class DataHubAuthorizerFactory {
         10,
         policyCacheRefreshIntervalSeconds,
         mode,
-        policyCacheFetchSize);
+        policyCacheFetchSize,
+        AuthorizationCacheConfiguration.builder()
+            .enabled(decisionCacheEnabled)
+            .ttlSeconds(decisionCacheTtlSeconds)
+            .decisionMaxSize(decisionCacheMaxSize)
+            .lookupMaxSize(decisionCacheLookupMaxSize)
+            .build());
   }
 }
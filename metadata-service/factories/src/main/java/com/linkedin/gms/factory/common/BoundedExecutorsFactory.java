@@ -0,0 +1,37 @@
+package com.linkedin.gms.factory.common;
+
+import com.linkedin.gms.factory.config.ConfigurationProvider;
+import com.linkedin.metadata.config.ExecutorServiceConfig;
+import com.linkedin.metadata.utils.BoundedExecutors;
+import java.util.concurrent.ExecutorService;
+import javax.annotation.Nonnull;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** Separate bounded pools so that a slow backend only starves the subsystem that calls it. */
+@Configuration
+public class BoundedExecutorsFactory {
+
+  @Bean(name = "searchRankerExecutor", destroyMethod = "shutdown")
+  @Nonnull
+  protected ExecutorService searchRankerExecutor(ConfigurationProvider configurationProvider) {
+    return create("searchRanker", configurationProvider.getExecutors().getSearchRanker());
+  }
+
+  @Bean(name = "entityDocCountExecutor", destroyMethod = "shutdown")
+  @Nonnull
+  protected ExecutorService entityDocCountExecutor(ConfigurationProvider configurationProvider) {
+    return create("entityDocCount", configurationProvider.getExecutors().getEntityDocCount());
+  }
+
+  @Bean(name = "recommendationsExecutor", destroyMethod = "shutdown")
+  @Nonnull
+  protected ExecutorService recommendationsExecutor(ConfigurationProvider configurationProvider) {
+    return create("recommendations", configurationProvider.getExecutors().getRecommendations());
+  }
+
+  private static ExecutorService create(String name, ExecutorServiceConfig config) {
+    return BoundedExecutors.newBoundedExecutor(
+        name, config.getConcurrency(), config.getQueueSize(), config.getKeepAlive());
+  }
+}
@@ -26,11 +26,14 @@ public class Neo4jGraphServiceFactory {
   @Value("${neo4j.database}")
   private String neo4jDatabase;
 
+  @Value("${neo4j.edgeBatchSize:1000}")
+  private int edgeBatchSize;
+
   @Bean(name = "graphService")
   @Nonnull
   protected GraphService getInstance(final EntityRegistry entityRegistry) {
     LineageRegistry lineageRegistry = new LineageRegistry(entityRegistry);
     return new Neo4jGraphService(
-        lineageRegistry, neo4jDriver, SessionConfig.forDatabase(neo4jDatabase));
+        lineageRegistry, neo4jDriver, SessionConfig.forDatabase(neo4jDatabase), edgeBatchSize);
   }
 }
@@ -2,12 +2,16 @@ package com.linkedin.gms.factory.entity;
 
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.linkedin.gms.factory.config.ConfigurationProvider;
+import com.linkedin.metadata.config.cache.AspectCacheConfiguration;
 import com.linkedin.metadata.entity.AspectDao;
+import com.linkedin.metadata.entity.CachingAspectDao;
+import com.linkedin.metadata.entity.codec.AspectMetadataCodecProvider;
 import com.linkedin.metadata.entity.cassandra.CassandraAspectDao;
 import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
 import io.ebean.Database;
 import javax.annotation.Nonnull;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -22,14 +26,42 @@ public class EntityAspectDaoFactory {
   protected AspectDao createEbeanInstance(
       @Qualifier("ebeanServer") final Database server,
       final ConfigurationProvider configurationProvider) {
-    return new EbeanAspectDao(server, configurationProvider.getEbean());
+    return withCache(
+        new EbeanAspectDao(
+            server, configurationProvider.getEbean(), codecProvider(configurationProvider)),
+        configurationProvider);
   }
 
   @Bean(name = "entityAspectDao")
   @DependsOn({"cassandraSession"})
   @ConditionalOnProperty(name = "entityService.impl", havingValue = "cassandra")
   @Nonnull
-  protected AspectDao createCassandraInstance(CqlSession session) {
-    return new CassandraAspectDao(session);
+  protected AspectDao createCassandraInstance(
+      CqlSession session,
+      final ConfigurationProvider configurationProvider,
+      @Value("${cassandra.maxConcurrentReads:32}") final int maxConcurrentReads) {
+    return withCache(
+        new CassandraAspectDao(session, codecProvider(configurationProvider), maxConcurrentReads),
+        configurationProvider);
+  }
+
+  private static AspectMetadataCodecProvider codecProvider(
+      @Nonnull ConfigurationProvider configurationProvider) {
+    return AspectMetadataCodecProvider.fromConfig(
+        configurationProvider.getEntityService() != null
+            ? configurationProvider.getEntityService().getAspectCodec()
+            : null);
+  }
+
+  private static AspectDao withCache(
+      @Nonnull AspectDao aspectDao, @Nonnull ConfigurationProvider configurationProvider) {
+    AspectCacheConfiguration cacheConfiguration =
+        configurationProvider.getCache() != null
+            ? configurationProvider.getCache().getAspect()
+            : null;
+    if (cacheConfiguration != null && cacheConfiguration.isEnabled()) {
+      return new CachingAspectDao(aspectDao, cacheConfiguration);
+    }
+    return aspectDao;
   }
 }
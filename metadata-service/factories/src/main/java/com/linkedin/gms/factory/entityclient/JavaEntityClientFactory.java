@@ -1,6 +1,7 @@
 package com.linkedin.gms.factory.entityclient;
 
 import com.linkedin.entity.client.EntityClient;
+import com.linkedin.entity.client.EntityClientCache;
 import com.linkedin.entity.client.EntityClientConfig;
 import com.linkedin.entity.client.SystemEntityClient;
 import com.linkedin.metadata.client.JavaEntityClient;
@@ -68,17 +69,32 @@ public class JavaEntityClientFactory {
       final RollbackService rollbackService,
       final EntityClientCacheConfig entityClientCacheConfig,
       final EntityClientConfig entityClientConfig) {
-    return new SystemJavaEntityClient(
-        _entityService,
-        _deleteEntityService,
-        _entitySearchService,
-        _cachingEntitySearchService,
-        _searchService,
-        _lineageSearchService,
-        _timeseriesAspectService,
-        rollbackService,
-        _eventProducer,
-        entityClientCacheConfig,
-        entityClientConfig);
+    final SystemJavaEntityClient systemEntityClient =
+        new SystemJavaEntityClient(
+            _entityService,
+            _deleteEntityService,
+            _entitySearchService,
+            _cachingEntitySearchService,
+            _searchService,
+            _lineageSearchService,
+            _timeseriesAspectService,
+            rollbackService,
+            _eventProducer,
+            entityClientCacheConfig,
+            entityClientConfig);
+
+    if (entityClientCacheConfig.isEnabled() && entityClientCacheConfig.isInvalidationEnabled()) {
+      // writes from other instances are evicted by the MCL invalidation hook
+      final EntityClientCache cache = systemEntityClient.getEntityClientCache();
+      _entityService.addAspectChangeListener(
+          (urn, aspectName, entityDeleted) -> {
+            if (entityDeleted) {
+              cache.invalidateUrn(urn);
+            } else {
+              cache.invalidate(urn, aspectName);
+            }
+          });
+    }
+    return systemEntityClient;
   }
 }
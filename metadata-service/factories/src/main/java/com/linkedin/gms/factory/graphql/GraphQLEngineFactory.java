@@ -256,6 +256,8 @@ public class GraphQLEngineFactory {
     args.setGraphQLQueryIntrospectionEnabled(
         configProvider.getGraphQL().getQuery().isIntrospectionEnabled());
     args.setGraphQLQueryDepthLimit(configProvider.getGraphQL().getQuery().getDepthLimit());
+    args.setGraphQLDocumentCacheSize(
+        configProvider.getGraphQL().getQuery().getDocumentCacheSize());
     args.setBusinessAttributeService(businessAttributeService);
     args.setEntityVersioningService(entityVersioningService);
     args.setConnectionService(_connectionService);
@@ -1,12 +1,16 @@
 package com.linkedin.gms.factory.recommendation;
 
 import com.google.common.collect.ImmutableList;
+import com.linkedin.gms.factory.common.BoundedExecutorsFactory;
+import com.linkedin.gms.factory.config.ConfigurationProvider;
 import com.linkedin.gms.factory.recommendation.candidatesource.DomainsCandidateSourceFactory;
 import com.linkedin.gms.factory.recommendation.candidatesource.MostPopularCandidateSourceFactory;
 import com.linkedin.gms.factory.recommendation.candidatesource.RecentlyEditedCandidateSourceFactory;
 import com.linkedin.gms.factory.recommendation.candidatesource.TopPlatformsCandidateSourceFactory;
 import com.linkedin.gms.factory.recommendation.candidatesource.TopTagsCandidateSourceFactory;
 import com.linkedin.gms.factory.recommendation.candidatesource.TopTermsCandidateSourceFactory;
+import com.linkedin.metadata.config.cache.RecommendationsCacheConfiguration;
+import com.linkedin.metadata.recommendation.RecommendationCandidateCache;
 import com.linkedin.metadata.recommendation.RecommendationsService;
 import com.linkedin.metadata.recommendation.candidatesource.DomainsCandidateSource;
 import com.linkedin.metadata.recommendation.candidatesource.MostPopularSource;
@@ -19,6 +23,7 @@ import com.linkedin.metadata.recommendation.candidatesource.TopTagsSource;
 import com.linkedin.metadata.recommendation.candidatesource.TopTermsSource;
 import com.linkedin.metadata.recommendation.ranker.SimpleRecommendationRanker;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import javax.annotation.Nonnull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -28,6 +33,7 @@ import org.springframework.context.annotation.Import;
 
 @Configuration
 @Import({
+  BoundedExecutorsFactory.class,
   TopPlatformsCandidateSourceFactory.class,
   RecentlyEditedCandidateSourceFactory.class,
   MostPopularCandidateSourceFactory.class,
@@ -71,7 +77,9 @@ public class RecommendationServiceFactory {
 
   @Bean(name = "recommendationsService")
   @Nonnull
-  protected RecommendationsService getInstance() {
+  protected RecommendationsService getInstance(
+      final ConfigurationProvider configurationProvider,
+      @Qualifier("recommendationsExecutor") final ExecutorService recommendationsExecutor) {
     // TODO: Make this class-name pluggable to minimize merge conflict potential.
     // This is where you can add new recommendation modules.
     final List<RecommendationSource> candidateSources =
@@ -84,6 +92,16 @@ public class RecommendationServiceFactory {
             topTagsCandidateSource,
             topTermsCandidateSource,
             recentlySearchedCandidateSource);
-    return new RecommendationsService(candidateSources, new SimpleRecommendationRanker());
+    final RecommendationsCacheConfiguration cacheConfiguration =
+        configurationProvider.getCache().getRecommendations();
+    final RecommendationCandidateCache candidateCache =
+        cacheConfiguration != null && cacheConfiguration.isEnabled()
+            ? new RecommendationCandidateCache(cacheConfiguration, recommendationsExecutor)
+            : null;
+    return new RecommendationsService(
+        candidateSources,
+        new SimpleRecommendationRanker(),
+        recommendationsExecutor,
+        candidateCache);
   }
 }
@@ -42,6 +42,18 @@ public class ElasticSearchBulkProcessorFactory {
   @Value("${elasticsearch.bulkProcessor.refreshPolicy}")
   private String refreshPolicy;
 
+  @Value("${elasticsearch.bulkProcessor.adaptive.enabled:false}")
+  private boolean adaptive;
+
+  @Value("${elasticsearch.bulkProcessor.adaptive.bulkSizeBytes:5242880}")
+  private Long bulkSizeBytes;
+
+  @Value("${elasticsearch.bulkProcessor.adaptive.maxConcurrentRequests:8}")
+  private Integer maxConcurrentRequests;
+
+  @Value("${elasticsearch.bulkProcessor.adaptive.targetLatencyMs:1000}")
+  private Long targetLatencyMillis;
+
   @Bean(name = "elasticSearchBulkProcessor")
   @Nonnull
   protected ESBulkProcessor getInstance() {
@@ -52,6 +64,10 @@ public class ElasticSearchBulkProcessorFactory {
         .retryInterval(retryInterval)
         .numRetries(numRetries)
         .batchDelete(enableBatchDelete)
+        .adaptive(adaptive)
+        .bulkSizeBytes(bulkSizeBytes)
+        .maxConcurrentRequests(maxConcurrentRequests)
+        .targetLatencyMillis(targetLatencyMillis)
         .writeRequestRefreshPolicy(WriteRequest.RefreshPolicy.valueOf(refreshPolicy))
         .build();
   }
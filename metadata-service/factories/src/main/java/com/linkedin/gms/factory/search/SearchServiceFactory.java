@@ -1,5 +1,6 @@
 package com.linkedin.gms.factory.search;
 
+import com.linkedin.gms.factory.common.BoundedExecutorsFactory;
 import com.linkedin.gms.factory.config.ConfigurationProvider;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.search.EntitySearchService;
@@ -7,14 +8,17 @@ import com.linkedin.metadata.search.SearchService;
 import com.linkedin.metadata.search.cache.EntityDocCountCache;
 import com.linkedin.metadata.search.client.CachingEntitySearchService;
 import com.linkedin.metadata.search.ranker.SearchRanker;
+import java.util.concurrent.ExecutorService;
 import javax.annotation.Nonnull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Primary;
 
 @Configuration
+@Import(BoundedExecutorsFactory.class)
 public class SearchServiceFactory {
 
   @Autowired
@@ -36,12 +40,15 @@ public class SearchServiceFactory {
   @Bean(name = "searchService")
   @Primary
   @Nonnull
-  protected SearchService getInstance(ConfigurationProvider configurationProvider) {
+  protected SearchService getInstance(
+      ConfigurationProvider configurationProvider,
+      @Qualifier("entityDocCountExecutor") final ExecutorService entityDocCountExecutor) {
     return new SearchService(
         new EntityDocCountCache(
             entityRegistry,
             entitySearchService,
-            configurationProvider.getCache().getHomepage().getEntityCounts()),
+            configurationProvider.getCache().getHomepage().getEntityCounts(),
+            entityDocCountExecutor),
         cachingEntitySearchService,
         searchRanker);
   }
@@ -1,19 +1,25 @@
 package com.linkedin.gms.factory.search.ranker;
 
+import com.linkedin.gms.factory.common.BoundedExecutorsFactory;
 import com.linkedin.metadata.search.ranker.SearchRanker;
 import com.linkedin.metadata.search.ranker.SimpleRanker;
+import java.util.concurrent.ExecutorService;
 import javax.annotation.Nonnull;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Primary;
 
 @Configuration
+@Import(BoundedExecutorsFactory.class)
 public class SearchRankerFactory {
 
   @Bean(name = "searchRanker")
   @Primary
   @Nonnull
-  protected SearchRanker getInstance() {
-    return new SimpleRanker();
+  protected SearchRanker getInstance(
+      @Qualifier("searchRankerExecutor") final ExecutorService searchRankerExecutor) {
+    return new SimpleRanker(searchRankerExecutor);
   }
 }
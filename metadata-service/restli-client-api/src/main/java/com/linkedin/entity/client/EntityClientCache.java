@@ -14,9 +14,12 @@ import com.linkedin.metadata.config.cache.client.EntityClientCacheConfig;
 import com.linkedin.util.Pair;
 import io.datahubproject.metadata.context.OperationContext;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -27,12 +30,26 @@ import lombok.Data;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Caches aspects fetched by a {@link SystemEntityClient}, keyed by operation context, urn and
+ * aspect.
+ *
+ * <p>Every key also carries the current generation of its urn and of its (urn, aspect) pair, read
+ * from striped counters. {@link #invalidate(Urn, String)} and {@link #invalidateUrn(Urn)} bump the
+ * counters, so entries cached for any context before the change are no longer reachable and age
+ * out under the weight limit. This includes values from loads that were still in flight when the
+ * change happened, which would otherwise be cached after the eviction.
+ */
 @Slf4j
 @Builder
 public class EntityClientCache {
+  private static final int INVALIDATION_STRIPES = 1 << 16;
+
   @NonNull private EntityClientCacheConfig config;
   @NonNull private final ClientCache<Key, EnvelopedAspect, EntityClientCacheConfig> cache;
   @NonNull private final Function<CollectionKey, Map<Urn, EntityResponse>> loadFunction;
+  private final AtomicLongArray urnGenerations = new AtomicLongArray(INVALIDATION_STRIPES);
+  private final AtomicLongArray aspectGenerations = new AtomicLongArray(INVALIDATION_STRIPES);
 
   public EntityResponse getV2(
       @Nonnull OperationContext opContext,
@@ -75,6 +92,8 @@ public class EntityClientCache {
                                       .contextId(opContext.getEntityContextId())
                                       .urn(urn)
                                       .aspectName(a)
+                                      .urnGeneration(urnGenerations.get(stripe(urn)))
+                                      .aspectGeneration(aspectGenerations.get(stripe(urn, a)))
                                       .build()))
               .collect(Collectors.toSet());
       Map<Key, EnvelopedAspect> envelopedAspects = cache.getAll(keys);
@@ -107,6 +126,20 @@ public class EntityClientCache {
     return response;
   }
 
+  /** Evicts an aspect of an entity for every context. */
+  public void invalidate(@Nonnull final Urn urn, @Nonnull final String aspectName) {
+    aspectGenerations.incrementAndGet(stripe(urn, aspectName));
+  }
+
+  /** Evicts every aspect of an entity for every context, e.g. once the entity is deleted. */
+  public void invalidateUrn(@Nonnull final Urn urn) {
+    urnGenerations.incrementAndGet(stripe(urn));
+  }
+
+  private static int stripe(Object... parts) {
+    return Math.floorMod(Objects.hash(parts), INVALIDATION_STRIPES);
+  }
+
   @VisibleForTesting
   ClientCache<Key, EnvelopedAspect, EntityClientCacheConfig> getCache() {
     return this.cache;
@@ -205,50 +238,26 @@ public class EntityClientCache {
       Map<String, Set<Key>> keysByEntity,
       Function<CollectionKey, Map<Urn, EntityResponse>> loadFunction) {
 
-    Map<Key, EnvelopedAspect> result =
-        keysByEntity.entrySet().stream()
-            .flatMap(
-                entry -> {
-                  Set<Urn> urns =
-                      entry.getValue().stream().map(Key::getUrn).collect(Collectors.toSet());
-                  Set<String> aspects =
-                      entry.getValue().stream().map(Key::getAspectName).collect(Collectors.toSet());
-                  return loadFunction
-                      .apply(
-                          CollectionKey.builder()
-                              .contextId(contextId)
-                              .urns(urns)
-                              .aspectNames(aspects)
-                              .build())
-                      .entrySet()
-                      .stream();
-                })
-            .flatMap(
-                resp ->
-                    resp.getValue().getAspects().values().stream()
-                        .map(
-                            envAspect -> {
-                              Key key =
-                                  Key.builder()
-                                      .contextId(contextId)
-                                      .urn(resp.getKey())
-                                      .aspectName(envAspect.getName())
-                                      .build();
-                              return Map.entry(key, envAspect);
-                            }))
-            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-    /*
-     * Traditionally responses from the API omit non-existent aspects. For the cache,
-     * we re-introduce the missing keys.
-     */
-    Map<Key, EnvelopedAspect> missingAspects =
-        keysByEntity.values().stream()
-            .flatMap(Set::stream)
-            .filter(key -> !result.containsKey(key))
-            .map(missingKey -> Map.entry(missingKey, NullEnvelopedAspect.NULL))
-            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-    result.putAll(missingAspects);
+    final Map<Key, EnvelopedAspect> result = new HashMap<>();
+    for (Set<Key> keys : keysByEntity.values()) {
+      Set<Urn> urns = keys.stream().map(Key::getUrn).collect(Collectors.toSet());
+      Set<String> aspects = keys.stream().map(Key::getAspectName).collect(Collectors.toSet());
+      Map<Urn, EntityResponse> responses =
+          loadFunction.apply(
+              CollectionKey.builder().contextId(contextId).urns(urns).aspectNames(aspects).build());
+
+      /*
+       * Traditionally responses from the API omit non-existent aspects. For the cache,
+       * we re-introduce the missing keys.
+       */
+      for (Key key : keys) {
+        EnvelopedAspect envelopedAspect =
+            Optional.ofNullable(responses.get(key.getUrn()))
+                .map(response -> response.getAspects().get(key.getAspectName()))
+                .orElse(NullEnvelopedAspect.NULL);
+        result.put(key, envelopedAspect);
+      }
+    }
 
     return result;
   }
@@ -259,6 +268,8 @@ public class EntityClientCache {
     private final String contextId;
     private final Urn urn;
     private final String aspectName;
+    private final long urnGeneration;
+    private final long aspectGeneration;
 
     public String getEntityName() {
       return urn.getEntityType();
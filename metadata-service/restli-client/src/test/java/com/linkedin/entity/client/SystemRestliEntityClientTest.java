@@ -319,6 +319,74 @@ public class SystemRestliEntityClientTest {
         "Expected null object for the non-existent cache entry");
   }
 
+  @Test
+  public void testCacheInvalidation() throws RemoteInvocationException, URISyntaxException {
+    Client mockRestliClient = mock(Client.class);
+
+    EntityClientCacheConfig cacheConfig = new EntityClientCacheConfig();
+    cacheConfig.setEnabled(true);
+    cacheConfig.setMaxBytes(10000);
+    cacheConfig.setDefaultTTLSeconds(3600);
+
+    SystemRestliEntityClient cacheTest =
+        new SystemRestliEntityClient(
+            mockRestliClient,
+            EntityClientConfig.builder()
+                .backoffPolicy(new ConstantBackoff(0))
+                .retryCount(0)
+                .batchGetV2Size(1)
+                .batchGetV2Concurrency(2)
+                .build(),
+            cacheConfig);
+
+    com.linkedin.entity.EntityResponse responseStatusTrue = buildStatusResponse(true);
+    com.linkedin.entity.EntityResponse responseStatusFalse = buildStatusResponse(false);
+
+    mockResponse(mockRestliClient, responseStatusTrue);
+    assertEquals(
+        cacheTest.getV2(
+            TestOperationContexts.systemContextNoSearchAuthorization(),
+            TEST_URN.getEntityType(),
+            TEST_URN,
+            Set.of(STATUS_ASPECT_NAME)),
+        responseStatusTrue);
+
+    // an unrelated aspect does not evict the cached status
+    mockResponse(mockRestliClient, responseStatusFalse);
+    cacheTest.getEntityClientCache().invalidate(TEST_URN, DATASET_PROPERTIES_ASPECT_NAME);
+    assertEquals(
+        cacheTest.getV2(
+            TestOperationContexts.systemContextNoSearchAuthorization(),
+            TEST_URN.getEntityType(),
+            TEST_URN,
+            Set.of(STATUS_ASPECT_NAME)),
+        responseStatusTrue,
+        "Expected CACHED Status.removed=true result");
+
+    cacheTest.getEntityClientCache().invalidate(TEST_URN, STATUS_ASPECT_NAME);
+    assertEquals(
+        cacheTest.getV2(
+            TestOperationContexts.systemContextNoSearchAuthorization(),
+            TEST_URN.getEntityType(),
+            TEST_URN,
+            Set.of(STATUS_ASPECT_NAME)),
+        responseStatusFalse,
+        "Expected reloaded Status.removed=false result after invalidation");
+
+    mockResponse(mockRestliClient, responseStatusTrue);
+    cacheTest.getEntityClientCache().invalidateUrn(TEST_URN);
+    assertEquals(
+        cacheTest.getV2(
+            TestOperationContexts.systemContextNoSearchAuthorization(),
+            TEST_URN.getEntityType(),
+            TEST_URN,
+            Set.of(STATUS_ASPECT_NAME)),
+        responseStatusTrue,
+        "Expected reloaded Status.removed=true result after entity invalidation");
+
+    verify(mockRestliClient, times(3)).sendRequest(any(Request.class));
+  }
+
   private static com.linkedin.entity.EntityResponse buildStatusResponse(boolean value) {
     EnvelopedAspectMap aspects = new EnvelopedAspectMap();
     aspects.put(
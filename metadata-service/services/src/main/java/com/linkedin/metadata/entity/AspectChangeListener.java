@@ -0,0 +1,20 @@
+package com.linkedin.metadata.entity;
+
+import com.linkedin.common.urn.Urn;
+import javax.annotation.Nonnull;
+
+/**
+ * Notified by the {@link EntityService} after an aspect change has been committed, before its
+ * MetadataChangeLog is produced. Only changes made by this instance are reported.
+ */
+@FunctionalInterface
+public interface AspectChangeListener {
+
+  /**
+   * @param urn the entity that changed
+   * @param aspectName the aspect that changed
+   * @param entityDeleted whether the change deleted the key aspect, and with it every aspect of the
+   *     entity
+   */
+  void onAspectChange(@Nonnull Urn urn, @Nonnull String aspectName, boolean entityDeleted);
+}
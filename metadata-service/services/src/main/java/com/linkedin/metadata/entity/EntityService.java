@@ -551,4 +551,10 @@ public interface EntityService<U extends ChangeMCP> {
   SearchIndicesService getUpdateIndicesService();
 
   void setUpdateIndicesService(@Nullable SearchIndicesService updateIndicesService);
+
+  /**
+   * Registers a listener for aspect changes committed by this instance, e.g. to evict local caches
+   * without waiting for the MetadataChangeLog.
+   */
+  void addAspectChangeListener(@Nonnull AspectChangeListener listener);
 }
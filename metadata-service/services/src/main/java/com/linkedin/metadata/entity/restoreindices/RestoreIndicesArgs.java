@@ -28,6 +28,8 @@ public class RestoreIndicesArgs implements Cloneable {
   public Boolean urnBasedPagination = false;
   public String lastUrn = "";
   public String lastAspect = "";
+  /** Optional exclusive upper bound on the urns read, used to split the keyspace into ranges. */
+  public String urnUpperBound;
 
   @Override
   public RestoreIndicesArgs clone() {
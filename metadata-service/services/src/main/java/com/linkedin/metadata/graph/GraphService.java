@@ -44,6 +44,29 @@ public interface GraphService {
    */
   void removeEdge(final Edge edge);
 
+  /**
+   * Adds edges to the graph, see {@link #addEdge(Edge)}. Implementations may write them in batches.
+   */
+  default void addEdges(@Nonnull final List<Edge> edges) {
+    edges.forEach(this::addEdge);
+  }
+
+  /**
+   * Adds or updates edges in the graph, see {@link #upsertEdge(Edge)}. Implementations may write
+   * them in batches.
+   */
+  default void upsertEdges(@Nonnull final List<Edge> edges) {
+    edges.forEach(this::upsertEdge);
+  }
+
+  /**
+   * Removes edges from the graph, see {@link #removeEdge(Edge)}. Implementations may write them in
+   * batches.
+   */
+  default void removeEdges(@Nonnull final List<Edge> edges) {
+    edges.forEach(this::removeEdge);
+  }
+
   /**
    * Find related entities (nodes) connected to a source entity via edges of given relationship
    * types. Related entities can be filtered by source and destination type (use `null` for any
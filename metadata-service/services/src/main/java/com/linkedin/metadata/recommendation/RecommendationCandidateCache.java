@@ -0,0 +1,156 @@
+package com.linkedin.metadata.recommendation;
+
+import com.codahale.metrics.Gauge;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalListener;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.config.cache.RecommendationsCacheConfiguration;
+import com.linkedin.metadata.query.filter.Filter;
+import com.linkedin.metadata.recommendation.candidatesource.RecommendationSource;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import io.datahubproject.metadata.context.OperationContext;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+
+/**
+ * Serves recommendation modules from memory based on the {@link RecommendationSource.CacheScope}
+ * of their source.
+ *
+ * <p>Shared modules are keyed by the search context, which captures the policies that affect what
+ * a user can see, so users with the same access share one entry. Once an entry is older than the
+ * refresh interval the next request triggers a reload on the refresh executor while the current
+ * value keeps being served. Entries nobody asked for within the expiry window are dropped.
+ *
+ * <p>User modules are keyed by actor and expire shortly after they are computed.
+ *
+ * <p>Concurrent requests for a missing entry wait on a single load, so a burst of home page loads
+ * results in one query per module rather than one per request.
+ */
+public class RecommendationCandidateCache {
+  private final Cache<CacheKey, Optional<RecommendationModule>> sharedModules;
+  private final Cache<CacheKey, Optional<RecommendationModule>> userModules;
+
+  /**
+   * Context of the most recent request for each shared entry. Background refreshes run with it
+   * rather than with the context of whoever first loaded the entry, whose session may long be over.
+   */
+  private final ConcurrentMap<CacheKey, OperationContext> sharedRefreshContexts =
+      new ConcurrentHashMap<>();
+
+  public RecommendationCandidateCache(
+      @Nonnull RecommendationsCacheConfiguration config, @Nonnull Executor refreshExecutor) {
+    final CacheLoader<CacheKey, Optional<RecommendationModule>> loader =
+        CacheLoader.from(
+            key -> key.load(sharedRefreshContexts.getOrDefault(key, key.getOpContext())));
+    final RemovalListener<CacheKey, Optional<RecommendationModule>> removalListener =
+        notification -> {
+          if (notification.getCause() != RemovalCause.REPLACED) {
+            sharedRefreshContexts.remove(notification.getKey());
+          }
+        };
+    this.sharedModules =
+        CacheBuilder.newBuilder()
+            .maximumSize(config.getMaxSize())
+            .refreshAfterWrite(config.getRefreshIntervalSeconds(), TimeUnit.SECONDS)
+            .expireAfterAccess(config.getExpireAfterAccessSeconds(), TimeUnit.SECONDS)
+            .removalListener(removalListener)
+            .recordStats()
+            .build(CacheLoader.asyncReloading(loader, refreshExecutor));
+    this.userModules =
+        CacheBuilder.newBuilder()
+            .maximumSize(config.getMaxSize())
+            .expireAfterWrite(config.getUserTtlSeconds(), TimeUnit.SECONDS)
+            .recordStats()
+            .build();
+
+    MetricUtils.gauge(
+        RecommendationCandidateCache.class,
+        "sharedHitRate",
+        () -> (Gauge<Double>) () -> sharedModules.stats().hitRate());
+    MetricUtils.gauge(
+        RecommendationCandidateCache.class,
+        "userHitRate",
+        () -> (Gauge<Double>) () -> userModules.stats().hitRate());
+  }
+
+  @Nonnull
+  public Optional<RecommendationModule> getRecommendationModule(
+      @Nonnull OperationContext opContext,
+      @Nonnull RecommendationSource source,
+      @Nonnull RecommendationRequestContext requestContext,
+      @Nullable Filter filter) {
+    switch (source.getCacheScope(opContext)) {
+      case SHARED:
+        final CacheKey sharedKey =
+            new CacheKey(
+                source.getModuleId(),
+                opContext.getSearchContextId(),
+                null,
+                requestContext,
+                filter,
+                source,
+                opContext);
+        // recorded before the lookup so a refresh triggered by this request runs as this request
+        sharedRefreshContexts.put(sharedKey, opContext);
+        try {
+          return get(sharedModules, sharedKey);
+        } catch (RuntimeException e) {
+          // nothing was cached, so no removal will clean up after this request
+          sharedRefreshContexts.remove(sharedKey, opContext);
+          throw e;
+        }
+      case USER:
+        return get(
+            userModules,
+            new CacheKey(
+                source.getModuleId(),
+                opContext.getSearchContextId(),
+                opContext.getSessionActorContext().getActorUrn(),
+                requestContext,
+                filter,
+                source,
+                opContext));
+      default:
+        return source.getRecommendationModule(opContext, requestContext, filter);
+    }
+  }
+
+  private static Optional<RecommendationModule> get(
+      Cache<CacheKey, Optional<RecommendationModule>> cache, CacheKey key) {
+    try {
+      return cache.get(key, () -> key.load(key.getOpContext()));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new RuntimeException(e.getCause());
+    }
+  }
+
+  /** The source and context used to load an entry are carried along but are not part of the key */
+  @Value
+  private static class CacheKey {
+    String moduleId;
+    String searchContextId;
+    @Nullable Urn actorUrn;
+    RecommendationRequestContext requestContext;
+    @Nullable Filter filter;
+    @EqualsAndHashCode.Exclude RecommendationSource source;
+    @EqualsAndHashCode.Exclude OperationContext opContext;
+
+    Optional<RecommendationModule> load(@Nonnull OperationContext loadContext) {
+      return source.getRecommendationModule(loadContext, requestContext, filter);
+    }
+  }
+}
@@ -9,6 +9,8 @@ import io.opentelemetry.extension.annotations.WithSpan;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -19,13 +21,32 @@ public class RecommendationsService {
 
   private final List<RecommendationSource> _candidateSources;
   private final RecommendationModuleRanker _moduleRanker;
+  private final Executor _candidateExecutor;
+  @Nullable private final RecommendationCandidateCache _candidateCache;
 
   public RecommendationsService(
       final List<RecommendationSource> candidateSources,
       final RecommendationModuleRanker moduleRanker) {
+    this(candidateSources, moduleRanker, ForkJoinPool.commonPool());
+  }
+
+  public RecommendationsService(
+      final List<RecommendationSource> candidateSources,
+      final RecommendationModuleRanker moduleRanker,
+      final Executor candidateExecutor) {
+    this(candidateSources, moduleRanker, candidateExecutor, null);
+  }
+
+  public RecommendationsService(
+      final List<RecommendationSource> candidateSources,
+      final RecommendationModuleRanker moduleRanker,
+      final Executor candidateExecutor,
+      @Nullable final RecommendationCandidateCache candidateCache) {
     validateRecommendationSources(candidateSources);
     _candidateSources = candidateSources;
     _moduleRanker = moduleRanker;
+    _candidateExecutor = candidateExecutor;
+    _candidateCache = candidateCache;
   }
 
   private void validateRecommendationSources(final List<RecommendationSource> candidateSources) {
@@ -68,12 +89,14 @@ public class RecommendationsService {
                 _candidateSources.stream()
                     .filter(source -> source.isEligible(opContext, requestContext))
                     .collect(Collectors.toList()),
-                source -> source.getRecommendationModule(opContext, requestContext, filter),
+                source -> getRecommendationModule(opContext, source, requestContext, filter),
                 (source, exception) -> {
                   log.error(
                       "Error while fetching candidate modules from source {}", source, exception);
                   return Optional.<RecommendationModule>empty();
-                })
+                },
+                Collectors.toList(),
+                _candidateExecutor)
             .stream()
             .filter(Optional::isPresent)
             .map(Optional::get)
@@ -82,4 +105,15 @@ public class RecommendationsService {
     // Rank recommendation modules, which determines their ordering during rendering
     return _moduleRanker.rank(opContext, requestContext, candidateModules, limit);
   }
+
+  private Optional<RecommendationModule> getRecommendationModule(
+      @Nonnull OperationContext opContext,
+      @Nonnull RecommendationSource source,
+      @Nonnull RecommendationRequestContext requestContext,
+      @Nullable Filter filter) {
+    if (_candidateCache == null) {
+      return source.getRecommendationModule(opContext, requestContext, filter);
+    }
+    return _candidateCache.getRecommendationModule(opContext, source, requestContext, filter);
+  }
 }
@@ -72,6 +72,12 @@ public abstract class EntitySearchAggregationSource implements RecommendationSou
     return isValidCandidateValue(candidate.toString());
   }
 
+  /** Aggregations span all entities, so the module only depends on the search context */
+  @Override
+  public CacheScope getCacheScope(@Nonnull OperationContext opContext) {
+    return CacheScope.SHARED;
+  }
+
   @Override
   @WithSpan
   public List<RecommendationContent> getRecommendations(
@@ -61,6 +61,11 @@ public class RecentlySearchedSource implements RecommendationSource {
     return RecommendationRenderType.SEARCH_QUERY_LIST;
   }
 
+  @Override
+  public CacheScope getCacheScope(@Nonnull OperationContext opContext) {
+    return CacheScope.USER;
+  }
+
   @Override
   public boolean isEligible(
       @Nonnull OperationContext opContext, @Nonnull RecommendationRequestContext requestContext) {
@@ -35,6 +35,17 @@ public interface RecommendationSource {
   boolean isEligible(
       @Nonnull OperationContext opContext, @Nonnull RecommendationRequestContext requestContext);
 
+  /**
+   * How the modules from this source may be cached. Defaults to {@link CacheScope#NONE} so that
+   * sources are only cached when they opt in.
+   *
+   * @param opContext User's context requesting recommendations
+   * @return the scope the module may be shared in
+   */
+  default CacheScope getCacheScope(@Nonnull OperationContext opContext) {
+    return CacheScope.NONE;
+  }
+
   /**
    * Get recommended items (candidates / content) provided the context
    *
@@ -88,4 +99,14 @@ public interface RecommendationSource {
       @Nonnull OperationContext opContext, @Nonnull RecommendationRequestContext requestContext) {
     return getRecommendationModule(opContext, requestContext);
   }
+
+  /** Scope in which a recommendation module may be cached */
+  enum CacheScope {
+    /** Computed on every request */
+    NONE,
+    /** Same for every user with the same search context, e.g. global aggregations */
+    SHARED,
+    /** Specific to the requesting user */
+    USER
+  }
 }
@@ -0,0 +1,83 @@
+package com.linkedin.metadata.utils;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nonnull;
+
+/**
+ * Named, bounded thread pools for parallel work that blocks on remote calls, so that each subsystem
+ * gets its own bulkhead instead of sharing the common ForkJoinPool.
+ *
+ * <p>Each pool reports its queue depth and active threads as gauges and counts rejected tasks under
+ * {@code <name>_queueDepth}, {@code <name>_activeThreads} and {@code <name>_rejected}. A rejected
+ * task runs on the submitting thread, which slows the caller down rather than failing the request.
+ */
+public class BoundedExecutors {
+  private BoundedExecutors() {}
+
+  @Nonnull
+  public static ExecutorService newBoundedExecutor(
+      @Nonnull String name, int concurrency, int queueSize, int keepAliveSeconds) {
+    final int threads =
+        concurrency < 0 ? Runtime.getRuntime().availableProcessors() * 2 : concurrency;
+    final Counter rejected = MetricUtils.counter(BoundedExecutors.class, name + "_rejected");
+    final ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            keepAliveSeconds,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, queueSize)),
+            new NamedThreadFactory(name),
+            new CountingCallerRunsPolicy(rejected));
+    executor.allowCoreThreadTimeOut(true);
+
+    MetricUtils.gauge(
+        BoundedExecutors.class,
+        name + "_queueDepth",
+        () -> (Gauge<Integer>) () -> executor.getQueue().size());
+    MetricUtils.gauge(
+        BoundedExecutors.class,
+        name + "_activeThreads",
+        () -> (Gauge<Integer>) executor::getActiveCount);
+    return executor;
+  }
+
+  private static class NamedThreadFactory implements ThreadFactory {
+    private final String name;
+    private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+    private NamedThreadFactory(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public Thread newThread(@Nonnull Runnable runnable) {
+      final Thread thread = new Thread(runnable, name + "-" + threadNumber.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+
+  private static class CountingCallerRunsPolicy extends ThreadPoolExecutor.CallerRunsPolicy {
+    private final Counter rejected;
+
+    private CountingCallerRunsPolicy(Counter rejected) {
+      this.rejected = rejected;
+    }
+
+    @Override
+    public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+      rejected.inc();
+      super.rejectedExecution(runnable, executor);
+    }
+  }
+}
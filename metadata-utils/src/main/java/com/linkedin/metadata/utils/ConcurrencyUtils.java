@@ -4,6 +4,8 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -29,8 +31,21 @@ public class ConcurrencyUtils {
       Collection<O> originalCollection,
       Function<O, T> transformer,
       Collector<T, ?, OUTPUT> collector) {
+    return transformAndCollectAsync(
+        originalCollection, transformer, collector, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Transforms original list into the final list using the function transformer, running each
+   * element transform on the given executor and joining them at the end
+   */
+  public static <O, T, OUTPUT> OUTPUT transformAndCollectAsync(
+      Collection<O> originalCollection,
+      Function<O, T> transformer,
+      Collector<T, ?, OUTPUT> collector,
+      Executor executor) {
     return originalCollection.stream()
-        .map(element -> CompletableFuture.supplyAsync(() -> transformer.apply(element)))
+        .map(element -> CompletableFuture.supplyAsync(() -> transformer.apply(element), executor))
         .collect(
             Collectors.collectingAndThen(
                 Collectors.toList(),
@@ -62,10 +77,24 @@ public class ConcurrencyUtils {
       Function<O, T> transformer,
       BiFunction<O, Throwable, ? extends T> exceptionHandler,
       Collector<T, ?, OUTPUT> collector) {
+    return transformAndCollectAsync(
+        originalCollection, transformer, exceptionHandler, collector, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Transforms original list into the final list using the function transformer, running each
+   * element transform on the given executor with exceptions handled by the input exceptionHandler
+   */
+  public static <O, T, OUTPUT> OUTPUT transformAndCollectAsync(
+      Collection<O> originalCollection,
+      Function<O, T> transformer,
+      BiFunction<O, Throwable, ? extends T> exceptionHandler,
+      Collector<T, ?, OUTPUT> collector,
+      Executor executor) {
     return originalCollection.stream()
         .map(
             element ->
-                CompletableFuture.supplyAsync(() -> transformer.apply(element))
+                CompletableFuture.supplyAsync(() -> transformer.apply(element), executor)
                     .exceptionally(e -> exceptionHandler.apply(element, e)))
         .filter(Objects::nonNull)
         .collect(
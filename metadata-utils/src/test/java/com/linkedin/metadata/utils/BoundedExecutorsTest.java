@@ -0,0 +1,65 @@
+package com.linkedin.metadata.utils;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.testng.annotations.Test;
+
+public class BoundedExecutorsTest {
+
+  @Test
+  public void testTransformRunsOnNamedThreads() {
+    ExecutorService executor = BoundedExecutors.newBoundedExecutor("testNamed", 2, 10, 60);
+    try {
+      Set<String> threadNames =
+          ConcurrencyUtils.transformAndCollectAsync(
+              List.of(1, 2, 3, 4),
+              i -> Thread.currentThread().getName(),
+              Collectors.toSet(),
+              executor);
+
+      assertTrue(threadNames.stream().allMatch(name -> name.startsWith("testNamed-")));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testRejectedTasksRunOnCaller() throws Exception {
+    ExecutorService executor = BoundedExecutors.newBoundedExecutor("testRejected", 1, 1, 60);
+    CountDownLatch release = new CountDownLatch(1);
+    try {
+      // occupy the only thread and the only queue slot
+      executor.execute(() -> awaitQuietly(release));
+      executor.execute(() -> awaitQuietly(release));
+
+      String caller = Thread.currentThread().getName();
+      List<String> threadNames =
+          ConcurrencyUtils.transformAndCollectAsync(
+              List.of(1), i -> Thread.currentThread().getName(), Collectors.toList(), executor);
+
+      assertEquals(threadNames, List.of(caller));
+      assertEquals(
+          MetricUtils.counter(BoundedExecutors.class, "testRejected_rejected").getCount(), 1);
+    } finally {
+      release.countDown();
+      executor.shutdown();
+      executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}